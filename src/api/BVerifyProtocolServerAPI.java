@@ -2,6 +2,7 @@ package api;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.security.PublicKey;
 import java.util.List;
 
 /**
@@ -16,9 +17,19 @@ public interface BVerifyProtocolServerAPI extends Remote {
 		
 	public byte[] proveADSRoot(byte[] adsRootRequest) throws RemoteException;
 	
+	public byte[] proveADSRoots(byte[] adsRootsRequest) throws RemoteException;
+	
 	public byte[] getADSProofUpdates(byte[] proofUpdatesRequest) throws RemoteException;
 	
 	// for testing only - these should be witnessed to Bitcoin using Catena!
 	public List<byte[]> commitments() throws RemoteException;
 	
+	public byte[] getCommitmentHistory(byte[] commitmentHistoryRequest) throws RemoteException;
+	
+	public byte[] proveCommitment(byte[] commitmentRequest) throws RemoteException;
+	
+	// the key used to sign checkpoint proofs (null if the 
+	// server does not create checkpoints)
+	public PublicKey serverPublicKey() throws RemoteException;
+	
 }
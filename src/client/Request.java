@@ -1,6 +1,7 @@
 package client;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -9,29 +10,41 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import crpyto.CryptographicDigest;
 import crpyto.CryptographicSignature;
+import crpyto.CryptographicUtils;
 import pki.Account;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSModification;
 import serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest;
 import serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest;
+import serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.ModificationProof;
 import serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest;
 import serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateResponse;
 import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest;
 import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse;
 import serialization.generated.BVerifyAPIMessageSerialization.Update;
+import server.ADSIdTable;
 import server.StartingData;
 
 public class Request {
 	
-	private final Map<ByteBuffer, List<Account>> adsIdToOwners;
+	// each ADS ID is mapped to a handle (see ADSIdTable)
+	private final ADSIdTable adsIds;
+	// handle -> (sorted) [owners]
+	private final List<List<Account>> adsOwners;
 	
 	public Request(StartingData initialData) {
-		this.adsIdToOwners = new HashMap<>();
 		Map<ByteBuffer, Set<Account>> toOwners = new HashMap<>();
 		for(Account a : initialData.getPKI().getAllAccounts()) {
 			Set<byte[]> adsIds = a.getADSKeys();
@@ -45,25 +58,36 @@ public class Request {
 				toOwners.put(key, accs);
 			}
 		}
-		//  create a mapping from ADS_ID -> (sorted) [owners]
-		for(Map.Entry<ByteBuffer, Set<Account>> entry : toOwners.entrySet()) {
-			List<Account> owners = entry.getValue().stream().collect(Collectors.toList());
+		// we sort the ADS IDs so that the handles are deterministic
+		List<ByteBuffer> sortedAdsIds = toOwners.keySet().stream().collect(Collectors.toList());
+		Collections.sort(sortedAdsIds);
+		this.adsIds = new ADSIdTable(sortedAdsIds.stream()
+				.map(x -> x.array())
+				.collect(Collectors.toList()), CryptographicDigest.getSizeBytes());
+		//  create a mapping from handle -> (sorted) [owners]
+		this.adsOwners = new ArrayList<>();
+		for(ByteBuffer adsId : sortedAdsIds) {
+			List<Account> owners = toOwners.get(adsId).stream().collect(Collectors.toList());
 			Collections.sort(owners);
-			this.adsIdToOwners.put(entry.getKey(), owners);
+			this.adsOwners.add(owners);
 		}
 	}
 	
 	public List<byte[]> getADSIds(){
-		// we sort this so that it is deterministic
-		List<ByteBuffer> result = this.adsIdToOwners.keySet().stream().collect(Collectors.toList());
-		Collections.sort(result);
-		return result.stream().map(x -> x.array()).collect(Collectors.toList());
+		// sorted, so that it is deterministic
+		return IntStream.range(0, this.adsIds.size())
+				.mapToObj(handle -> this.adsIds.getADSId(handle))
+				.collect(Collectors.toList());
+	}
+	
+	private List<Account> getOwners(byte[] adsId) {
+		return this.adsOwners.get(this.adsIds.getHandle(adsId));
 	}
 	
 	public List<Account> getAccountsThatMustSign(List<Map.Entry<byte[], byte[]>> adsModifications){
 		Set<Account> accounts = new HashSet<>();
 		for(Map.Entry<byte[], byte[]> adsModification : adsModifications) {
-			accounts.addAll(this.adsIdToOwners.get(ByteBuffer.wrap(adsModification.getKey())));
+			accounts.addAll(this.getOwners(adsModification.getKey()));
 		}
 		List<Account> result = accounts.stream().collect(Collectors.toList());
 		Collections.sort(result);
@@ -73,7 +97,7 @@ public class Request {
 	public List<Account> getAccountsThatMustSignFromList(List<byte[]> adsIds){
 		Set<Account> accounts = new HashSet<>();
 		for(byte[] adsId : adsIds) {
-			accounts.addAll(this.adsIdToOwners.get(ByteBuffer.wrap(adsId)));
+			accounts.addAll(this.getOwners(adsId));
 		}
 		List<Account> result = accounts.stream().collect(Collectors.toList());
 		Collections.sort(result);
@@ -82,8 +106,14 @@ public class Request {
 	
 	public PerformUpdateRequest createPerformUpdateRequest(List<Map.Entry<byte[], byte[]>> adsModifications,
 			int validAt, boolean requireSignatures) {
+		return this.createPerformUpdateRequest(adsModifications, validAt, requireSignatures, false);
+	}
+	
+	public PerformUpdateRequest createPerformUpdateRequest(List<Map.Entry<byte[], byte[]>> adsModifications,
+			int validAt, boolean requireSignatures, boolean merkleModifications) {
 		Update.Builder update = Update.newBuilder()
-				.setValidAtCommitmentNumber(validAt);
+				.setValidAtCommitmentNumber(validAt)
+				.setMerkleModifications(merkleModifications);
 		// if include signatures, need to calculate signers, the witness
 		// and actually have each person sign
 		if(requireSignatures) {
@@ -94,7 +124,7 @@ public class Request {
 						.setNewValue(ByteString.copyFrom(adsModification.getValue()))
 						.build();
 				update.addModifications(modification);
-				accounts.addAll(this.adsIdToOwners.get(ByteBuffer.wrap(adsModification.getKey())));
+				accounts.addAll(this.getOwners(adsModification.getKey()));
 			}
 			PerformUpdateRequest request = calculateAndAddSignatures(update.build(), 
 					accounts.stream().collect(Collectors.toList()));
@@ -120,7 +150,7 @@ public class Request {
 	
 	public static PerformUpdateRequest calculateAndAddSignatures(Update update, List<Account> accounts) {
 		// calculate the witness
-		byte[] witness = CryptographicDigest.hash(update.toByteArray());
+		byte[] witness = Request.witnessUpdate(update);
 		Collections.sort(accounts);
   		PerformUpdateRequest.Builder request = PerformUpdateRequest.newBuilder()
 				.setUpdate(update);
@@ -131,9 +161,110 @@ public class Request {
 		return request.build();
 	}
 	
+	/**
+	 * The witness signed by the owners of the ADSes: the hash 
+	 * of the entire update or, for an update with Merkle-ized 
+	 * modifications, a commitment to the Merkle root over 
+	 * the modifications (see CryptographicUtils.witnessUpdate)
+	 * @param update
+	 * @return
+	 */
+	public static byte[] witnessUpdate(Update update) {
+		if(update.getMerkleModifications()) {
+			byte[] modificationsRoot = CryptographicUtils.merkleRoot(
+					Request.getModificationLeaves(update.getModificationsList()));
+			return CryptographicUtils.witnessUpdate(modificationsRoot, update.getValidAtCommitmentNumber());
+		}
+		return CryptographicDigest.hash(update.toByteArray());
+	}
+	
+	/**
+	 * The witness signed by the owners of the ADSes, calculated 
+	 * from the proof of a single modification
+	 * @param modificationProof
+	 * @return the witness (or null if the proof is malformed)
+	 */
+	public static byte[] witnessUpdate(ModificationProof modificationProof) {
+		ADSModification modification = modificationProof.getModification();
+		byte[] leaf = CryptographicUtils.witnessKeyAndValue(modification.getAdsId().toByteArray(), 
+				modification.getNewValue().toByteArray());
+		byte[] modificationsRoot = CryptographicUtils.merkleRoot(leaf, modificationProof.getIndex(), 
+				modificationProof.getNumberOfModifications(), 
+				modificationProof.getPathList().stream()
+					.map(x -> x.toByteArray())
+					.collect(Collectors.toList()));
+		if(modificationsRoot == null) {
+			return null;
+		}
+		return CryptographicUtils.witnessUpdate(modificationsRoot, modificationProof.getValidAtCommitmentNumber());
+	}
+	
+	/**
+	 * Create the proof of the modification for an ADS 
+	 * in an update with Merkle-ized modifications
+	 * @param approvedUpdate
+	 * @param adsId
+	 * @return
+	 */
+	public static ModificationProof createModificationProof(PerformUpdateRequest approvedUpdate, byte[] adsId) {
+		Update update = approvedUpdate.getUpdate();
+		List<ADSModification> modifications = update.getModificationsList();
+		int index = 0;
+		while(!Arrays.equals(modifications.get(index).getAdsId().toByteArray(), adsId)) {
+			index++;
+		}
+		List<byte[]> path = CryptographicUtils.merklePath(Request.getModificationLeaves(modifications), index);
+		return Request.createModificationProof(approvedUpdate, index, path);
+	}
+	
+	/**
+	 * Create the proofs of all of the modifications in an 
+	 * update with Merkle-ized modifications at once
+	 * @param approvedUpdate
+	 * @return the proofs, in the order of the modifications
+	 */
+	public static List<ModificationProof> createModificationProofs(PerformUpdateRequest approvedUpdate) {
+		List<List<byte[]>> paths = CryptographicUtils.merklePaths(
+				Request.getModificationLeaves(approvedUpdate.getUpdate().getModificationsList()));
+		List<ModificationProof> proofs = new ArrayList<>(paths.size());
+		for(int index = 0; index < paths.size(); index++) {
+			proofs.add(Request.createModificationProof(approvedUpdate, index, paths.get(index)));
+		}
+		return proofs;
+	}
+	
+	private static ModificationProof createModificationProof(PerformUpdateRequest approvedUpdate, 
+			int index, List<byte[]> path) {
+		Update update = approvedUpdate.getUpdate();
+		return ModificationProof.newBuilder()
+				.setModification(update.getModifications(index))
+				.setIndex(index)
+				.setNumberOfModifications(update.getModificationsCount())
+				.addAllPath(path.stream()
+						.map(x -> ByteString.copyFrom(x))
+						.collect(Collectors.toList()))
+				.setValidAtCommitmentNumber(update.getValidAtCommitmentNumber())
+				.addAllSignatures(approvedUpdate.getSignaturesList())
+				.build();
+	}
+	
+	private static List<byte[]> getModificationLeaves(List<ADSModification> modifications) {
+		return modifications.stream()
+				.map(x -> CryptographicUtils.witnessKeyAndValue(x.getAdsId().toByteArray(), 
+						x.getNewValue().toByteArray()))
+				.collect(Collectors.toList());
+	}
+	
 	public static ProveADSRootRequest createProveADSRootRequest(byte[] adsId) {
 		return ProveADSRootRequest.newBuilder().setAdsId(ByteString.copyFrom(adsId)).build();
 	}
+
+	public static ProveADSRootRequest createProveADSRootRequest(byte[] adsId, int asOfCommitment) {
+		return ProveADSRootRequest.newBuilder()
+				.setAdsId(ByteString.copyFrom(adsId))
+				.setAsOfCommitment(asOfCommitment)
+				.build();
+	}
 	
 	public static ProveADSRootResponse parseProveADSResponse(byte[] adsRootProof) {
 		try {
@@ -146,6 +277,67 @@ public class Request {
 		}
 	}
 	
+	public static ProveADSRootsRequest createProveADSRootsRequest(List<byte[]> adsIds) {
+		return ProveADSRootsRequest.newBuilder()
+				.addAllAdsIds(adsIds.stream()
+						.map(x -> ByteString.copyFrom(x))
+						.collect(Collectors.toList()))
+				.build();
+	}
+	
+	public static ProveADSRootsRequest createProveADSRootsRequest(String accountId) {
+		return ProveADSRootsRequest.newBuilder()
+				.setAccountId(accountId)
+				.build();
+	}
+	
+	public static ProveADSRootsResponse parseProveADSRootsResponse(byte[] adsRootsProof) {
+		try {
+			return ProveADSRootsResponse.parseFrom(adsRootsProof);
+		} catch (InvalidProtocolBufferException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	public static GetCommitmentHistoryRequest createGetCommitmentHistoryRequest(int fromCommitment) {
+		return GetCommitmentHistoryRequest.newBuilder()
+				.setFromCommitment(fromCommitment)
+				.build();
+	}
+	
+	public static GetCommitmentHistoryResponse parseGetCommitmentHistoryResponse(byte[] history) {
+		try {
+			return GetCommitmentHistoryResponse.parseFrom(history);
+		} catch (InvalidProtocolBufferException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	public static ProveCommitmentRequest createProveCommitmentRequest(int commitmentNumber) {
+		return ProveCommitmentRequest.newBuilder()
+				.setCommitmentNumber(commitmentNumber)
+				.build();
+	}
+	
+	public static ProveCommitmentRequest createProveCommitmentRequest(int commitmentNumber, 
+			int numberOfCommitments) {
+		return ProveCommitmentRequest.newBuilder()
+				.setCommitmentNumber(commitmentNumber)
+				.setNumberOfCommitments(numberOfCommitments)
+				.build();
+	}
+	
+	public static ProveCommitmentResponse parseProveCommitmentResponse(byte[] commitmentProof) {
+		try {
+			return ProveCommitmentResponse.parseFrom(commitmentProof);
+		} catch (InvalidProtocolBufferException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
 	public static boolean parsePerformUpdateResponse(byte[] response) {
 		try {
 			return PerformUpdateResponse.parseFrom(response).getAccepted();
@@ -162,6 +354,15 @@ public class Request {
 				.build();
 	}
 	
+	public static GetADSProofUpdatesRequest createGetProofUpdatesRequest(List<byte[]> adsIds, int fromCmt) {
+		return GetADSProofUpdatesRequest.newBuilder()
+				.addAllAdsIds(adsIds.stream()
+						.map(x -> ByteString.copyFrom(x))
+						.collect(Collectors.toList()))
+				.setFromCommitment(fromCmt)
+				.build();
+	}
+	
 	public static GetADSProofUpdatesResponse parseGetProofUpdatesResponse(byte[] requestBytes) {
 		try {
 			return GetADSProofUpdatesResponse.parseFrom(requestBytes);
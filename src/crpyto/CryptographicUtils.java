@@ -1,6 +1,8 @@
 package crpyto;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -33,19 +35,242 @@ public class CryptographicUtils {
 	}
 	
 	/**
-	 * TODO - need to finalize what this will look like
+	 * Commits to a key, a value and the version of the value
+	 * (the commitment number at which it was last changed)
+	 * using the following commitment
+	 *
+	 * H(key||value||version)
+	 *
+	 * where the version is encoded as 4 big-endian bytes
+	 *
+	 * @param key
+	 * @param value
+	 * @param version
+	 * @return
+	 */
+	public static byte[] witnessKeyValueAndVersion(byte[] key, byte[] value, int version) {
+		byte[] witnessPreImage = new byte[key.length + value.length + 4];
+		System.arraycopy(key, 0, witnessPreImage, 0, key.length);
+		System.arraycopy(value, 0, witnessPreImage, key.length, value.length);
+		int offset = key.length + value.length;
+		witnessPreImage[offset] = (byte) (version >>> 24);
+		witnessPreImage[offset+1] = (byte) (version >>> 16);
+		witnessPreImage[offset+2] = (byte) (version >>> 8);
+		witnessPreImage[offset+3] = (byte) version;
+		byte[] witness = CryptographicDigest.hash(witnessPreImage);
+		return witness;
+	}
+
+	/**
+	 * Commits to a checkpoint: the claim that the ADS root stored 
+	 * for an ADS ID has not changed between the commitment at which
+	 * it was last updated and the checkpoint commitment 
 	 * 
-	 * Used to calculate the witness for a server update
+	 * H(adsId||lastUpdateCommitmentNumber||checkpointCommitmentNumber||checkpointCommitment)
 	 * 
-	 * @param authRoot
-	 *            - the root of the authentication ADS, required in case of
-	 *            coordinating commits across multiple ADSes.
+	 * where the commitment numbers are encoded as 4 big-endian bytes
+	 * 
+	 * @param adsId
+	 * @param lastUpdateCommitmentNumber
+	 * @param checkpointCommitmentNumber
+	 * @param checkpointCommitment
 	 * @return
 	 */
-	public static byte[] witnessUpdate(byte[] authRoot) {
-		byte[] witness = CryptographicDigest.hash(authRoot);
+	public static byte[] witnessCheckpoint(byte[] adsId, int lastUpdateCommitmentNumber, 
+			int checkpointCommitmentNumber, byte[] checkpointCommitment) {
+		byte[] witnessPreImage = ByteBuffer.allocate(adsId.length + 8 + checkpointCommitment.length)
+				.put(adsId)
+				.putInt(lastUpdateCommitmentNumber)
+				.putInt(checkpointCommitmentNumber)
+				.put(checkpointCommitment)
+				.array();
+		byte[] witness = CryptographicDigest.hash(witnessPreImage);
 		return witness;
 	}
+
+	/**
+	 * Used to calculate the witness (signed by the owners of the ADSes) 
+	 * for an update with Merkle-ized modifications
+	 * 
+	 * H(modificationsRoot||validAtCommitmentNumber)
+	 * 
+	 * where the commitment number is encoded as 4 big-endian bytes
+	 * 
+	 * @param modificationsRoot
+	 *            - the Merkle root over the modifications (see merkleRoot)
+	 * @param validAtCommitmentNumber
+	 * @return
+	 */
+	public static byte[] witnessUpdate(byte[] modificationsRoot, int validAtCommitmentNumber) {
+		byte[] witnessPreImage = ByteBuffer.allocate(modificationsRoot.length + 4)
+				.put(modificationsRoot)
+				.putInt(validAtCommitmentNumber)
+				.array();
+		byte[] witness = CryptographicDigest.hash(witnessPreImage);
+		return witness;
+	}
+	
+	// leaves and interior nodes of a Merkle tree are hashed 
+	// with different prefixes (as in RFC 6962), so that an 
+	// interior node can never be passed off as a leaf
+	// (also used by MerkleMountainRange)
+	private static final byte[] MERKLE_LEAF_PREFIX = new byte[] {0x00};
+	private static final byte[] MERKLE_NODE_PREFIX = new byte[] {0x01};
+	
+	static byte[] merkleLeafHash(byte[] leaf) {
+		return CryptographicDigest.hash(Arrays.asList(MERKLE_LEAF_PREFIX, leaf));
+	}
+	
+	static byte[] merkleNodeHash(byte[] left, byte[] right) {
+		return CryptographicDigest.hash(Arrays.asList(MERKLE_NODE_PREFIX, left, right));
+	}
+	
+	private static List<byte[]> merkleLeafHashes(List<byte[]> leaves) {
+		List<byte[]> hashes = new ArrayList<>(leaves.size());
+		for(byte[] leaf : leaves) {
+			hashes.add(CryptographicUtils.merkleLeafHash(leaf));
+		}
+		return hashes;
+	}
+	
+	/**
+	 * Calculates the root of a Merkle tree over the leaves. 
+	 * Each leaf is hashed as 
+	 * 
+	 * H(0x00||leaf)
+	 * 
+	 * and each level hashes pairs of adjacent nodes 
+	 * 
+	 * H(0x01||left||right) 
+	 * 
+	 * and a last node without a pair is carried up unchanged
+	 * 
+	 * @param leaves
+	 * @return
+	 */
+	public static byte[] merkleRoot(List<byte[]> leaves) {
+		if(leaves.isEmpty()) {
+			return CryptographicDigest.hash(new byte[0]);
+		}
+		List<byte[]> level = CryptographicUtils.merkleLeafHashes(leaves);
+		while(level.size() > 1) {
+			List<byte[]> nextLevel = new ArrayList<>((level.size()+1)/2);
+			for(int i = 0; i < level.size(); i += 2) {
+				if(i+1 < level.size()) {
+					nextLevel.add(CryptographicUtils.merkleNodeHash(level.get(i), level.get(i+1)));
+				}else {
+					nextLevel.add(level.get(i));
+				}
+			}
+			level = nextLevel;
+		}
+		return level.get(0);
+	}
+	
+	/**
+	 * Calculates the path (the sibling hashes, starting at the leaf)
+	 * from a leaf to the Merkle root (see merkleRoot)
+	 * 
+	 * @param leaves
+	 * @param index
+	 *            - the index of the leaf
+	 * @return
+	 */
+	public static List<byte[]> merklePath(List<byte[]> leaves, int index) {
+		List<byte[]> path = new ArrayList<>();
+		List<byte[]> level = CryptographicUtils.merkleLeafHashes(leaves);
+		while(level.size() > 1) {
+			int sibling = index % 2 == 0 ? index+1 : index-1;
+			if(sibling < level.size()) {
+				path.add(level.get(sibling));
+			}
+			List<byte[]> nextLevel = new ArrayList<>((level.size()+1)/2);
+			for(int i = 0; i < level.size(); i += 2) {
+				if(i+1 < level.size()) {
+					nextLevel.add(CryptographicUtils.merkleNodeHash(level.get(i), level.get(i+1)));
+				}else {
+					nextLevel.add(level.get(i));
+				}
+			}
+			level = nextLevel;
+			index = index / 2;
+		}
+		return path;
+	}
+	
+	/**
+	 * Calculates the paths (see merklePath) from every leaf 
+	 * to the Merkle root, building the tree only once
+	 * 
+	 * @param leaves
+	 * @return the path for each leaf, in the order of the leaves
+	 */
+	public static List<List<byte[]>> merklePaths(List<byte[]> leaves) {
+		List<List<byte[]>> paths = new ArrayList<>(leaves.size());
+		for(int i = 0; i < leaves.size(); i++) {
+			paths.add(new ArrayList<>());
+		}
+		List<byte[]> level = CryptographicUtils.merkleLeafHashes(leaves);
+		// the leaves below each node of the current level
+		int width = 1;
+		while(level.size() > 1) {
+			for(int i = 0; i < leaves.size(); i++) {
+				int index = i / width;
+				int sibling = index % 2 == 0 ? index+1 : index-1;
+				if(sibling < level.size()) {
+					paths.get(i).add(level.get(sibling));
+				}
+			}
+			List<byte[]> nextLevel = new ArrayList<>((level.size()+1)/2);
+			for(int i = 0; i < level.size(); i += 2) {
+				if(i+1 < level.size()) {
+					nextLevel.add(CryptographicUtils.merkleNodeHash(level.get(i), level.get(i+1)));
+				}else {
+					nextLevel.add(level.get(i));
+				}
+			}
+			level = nextLevel;
+			width = width * 2;
+		}
+		return paths;
+	}
+	
+	/**
+	 * Calculates the Merkle root from a leaf and its path 
+	 * (see merklePath)
+	 * 
+	 * @param leaf
+	 * @param index
+	 *            - the index of the leaf
+	 * @param numberOfLeaves
+	 * @param path
+	 * @return the root (or null if the index is out of range 
+	 * or the path does not have the right length)
+	 */
+	public static byte[] merkleRoot(byte[] leaf, int index, int numberOfLeaves, List<byte[]> path) {
+		if(index < 0 || index >= numberOfLeaves) {
+			return null;
+		}
+		byte[] node = CryptographicUtils.merkleLeafHash(leaf);
+		int next = 0;
+		while(numberOfLeaves > 1) {
+			if(index % 2 == 1 || index+1 < numberOfLeaves) {
+				if(next == path.size()) {
+					return null;
+				}
+				byte[] sibling = path.get(next);
+				next++;
+				node = index % 2 == 1 ? CryptographicUtils.merkleNodeHash(sibling, node) :
+					CryptographicUtils.merkleNodeHash(node, sibling);
+			}
+			index = index / 2;
+			numberOfLeaves = (numberOfLeaves+1) / 2;
+		}
+		if(next != path.size()) {
+			return null;
+		}
+		return node;
+	}
 	
 	/**
 	 * This method provides a deterministic mapping from a list of accounts to an
@@ -0,0 +1,201 @@
+package crpyto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An append-only accumulator (a Merkle Mountain Range) over
+ * a list of hashes (leaves). The leaves are split into complete
+ * Merkle trees, one for each bit set in the number of leaves,
+ * largest first. The roots of these trees are the peaks and
+ * the root of the accumulator is the hash of the peaks
+ *
+ * 		H(peak_1||peak_2||...||peak_k)
+ *
+ * As in CryptographicUtils.merkleRoot, leaves are hashed as
+ * H(0x00||leaf) and interior nodes as H(0x01||left||right), so
+ * an interior node can never be passed off as a leaf.
+ *
+ * Appending a leaf only merges the smallest trees, so the
+ * trees (and every hash in them) are never changed afterwards.
+ * This means the peaks (at most log(n)) are enough to append
+ * to the accumulator and a leaf can be proven to be in the
+ * accumulator - as of any number of leaves - with a path
+ * in its tree and the other peaks.
+ *
+ * @author henryaspegren
+ *
+ */
+public class MerkleMountainRange {
+
+	// nodes.get(h) are the roots of the complete trees of
+	// height h, in order (nodes.get(0) are the leaf hashes)
+	private final List<List<byte[]>> nodes;
+
+	public MerkleMountainRange() {
+		this.nodes = new ArrayList<>();
+		this.nodes.add(new ArrayList<>());
+	}
+
+	public void append(byte[] leaf) {
+		byte[] node = CryptographicUtils.merkleLeafHash(leaf);
+		int height = 0;
+		while(true) {
+			List<byte[]> level = this.nodes.get(height);
+			level.add(node);
+			if(level.size() % 2 == 1) {
+				return;
+			}
+			node = CryptographicUtils.merkleNodeHash(level.get(level.size()-2), node);
+			height++;
+			if(height == this.nodes.size()) {
+				this.nodes.add(new ArrayList<>());
+			}
+		}
+	}
+
+	public int size() {
+		return this.nodes.get(0).size();
+	}
+
+	/**
+	 * The peaks of the accumulator over the first numberOfLeaves leaves
+	 * @param numberOfLeaves
+	 * @return the peaks, largest tree first
+	 */
+	public List<byte[]> getPeaks(int numberOfLeaves) {
+		List<byte[]> peaks = new ArrayList<>();
+		for(int height = 31; height >= 0; height--) {
+			if((numberOfLeaves & (1 << height)) != 0) {
+				peaks.add(this.nodes.get(height).get((numberOfLeaves >> height)-1));
+			}
+		}
+		return peaks;
+	}
+
+	/**
+	 * The root of the accumulator over the first numberOfLeaves leaves
+	 * @param numberOfLeaves
+	 * @return
+	 */
+	public byte[] getRoot(int numberOfLeaves) {
+		return MerkleMountainRange.root(this.getPeaks(numberOfLeaves));
+	}
+
+	/**
+	 * The path (the sibling hashes, starting at the leaf) from a
+	 * leaf to the peak of its tree in the accumulator over the
+	 * first numberOfLeaves leaves
+	 * @param index - the index of the leaf
+	 * @param numberOfLeaves
+	 * @return
+	 */
+	public List<byte[]> getPath(int index, int numberOfLeaves) {
+		int height = MerkleMountainRange.getPeakHeight(index, numberOfLeaves);
+		List<byte[]> path = new ArrayList<>();
+		for(int level = 0; level < height; level++) {
+			path.add(this.nodes.get(level).get((index >> level) ^ 1));
+		}
+		return path;
+	}
+
+	/**
+	 * The peaks other than the peak of the tree with the leaf
+	 * (see calculateRoot)
+	 * @param index - the index of the leaf
+	 * @param numberOfLeaves
+	 * @return
+	 */
+	public List<byte[]> getOtherPeaks(int index, int numberOfLeaves) {
+		List<byte[]> peaks = this.getPeaks(numberOfLeaves);
+		peaks.remove(MerkleMountainRange.getPeakIndex(index, numberOfLeaves));
+		return peaks;
+	}
+
+	/**
+	 * The root of an accumulator with the given peaks
+	 * @param peaks
+	 * @return
+	 */
+	public static byte[] root(List<byte[]> peaks) {
+		return CryptographicDigest.hash(peaks);
+	}
+
+	/**
+	 * Append leaves to an accumulator, using only its peaks
+	 * @param peaks - the peaks of the accumulator
+	 * @param numberOfLeaves - the number of leaves in the accumulator
+	 * @param leaves - the leaves to append
+	 * @return the new peaks (or null if there are not the
+	 * right number of peaks)
+	 */
+	public static List<byte[]> append(List<byte[]> peaks, int numberOfLeaves, List<byte[]> leaves) {
+		if(peaks.size() != Integer.bitCount(numberOfLeaves)) {
+			return null;
+		}
+		List<byte[]> newPeaks = new ArrayList<>(peaks);
+		for(byte[] leaf : leaves) {
+			byte[] node = CryptographicUtils.merkleLeafHash(leaf);
+			// merge with the peaks of the smallest trees
+			for(int height = 0; (numberOfLeaves & (1 << height)) != 0; height++) {
+				byte[] left = newPeaks.remove(newPeaks.size()-1);
+				node = CryptographicUtils.merkleNodeHash(left, node);
+			}
+			newPeaks.add(node);
+			numberOfLeaves++;
+		}
+		return newPeaks;
+	}
+
+	/**
+	 * Calculates the root of the accumulator from a leaf,
+	 * the path from the leaf to the peak of its tree
+	 * and the other peaks (see getPath and getOtherPeaks)
+	 * @param leaf
+	 * @param index - the index of the leaf
+	 * @param numberOfLeaves
+	 * @param path
+	 * @param otherPeaks
+	 * @return the root (or null if the index is out of range or
+	 * the path or peaks do not have the right length)
+	 */
+	public static byte[] calculateRoot(byte[] leaf, int index, int numberOfLeaves,
+			List<byte[]> path, List<byte[]> otherPeaks) {
+		if(index < 0 || index >= numberOfLeaves) {
+			return null;
+		}
+		int height = MerkleMountainRange.getPeakHeight(index, numberOfLeaves);
+		if(path.size() != height || otherPeaks.size() != Integer.bitCount(numberOfLeaves)-1) {
+			return null;
+		}
+		byte[] node = CryptographicUtils.merkleLeafHash(leaf);
+		for(int level = 0; level < height; level++) {
+			node = ((index >> level) & 1) == 1 ? CryptographicUtils.merkleNodeHash(path.get(level), node) :
+				CryptographicUtils.merkleNodeHash(node, path.get(level));
+		}
+		List<byte[]> peaks = new ArrayList<>(otherPeaks);
+		peaks.add(MerkleMountainRange.getPeakIndex(index, numberOfLeaves), node);
+		return MerkleMountainRange.root(peaks);
+	}
+
+	// the height of the tree with the leaf
+	private static int getPeakHeight(int index, int numberOfLeaves) {
+		int start = 0;
+		for(int height = 31; height >= 0; height--) {
+			if((numberOfLeaves & (1 << height)) != 0) {
+				start += 1 << height;
+				if(index < start) {
+					return height;
+				}
+			}
+		}
+		throw new RuntimeException("leaf "+index+" is not in an accumulator with "+numberOfLeaves+" leaves");
+	}
+
+	// the index of the peak of the tree with the leaf
+	private static int getPeakIndex(int index, int numberOfLeaves) {
+		int height = MerkleMountainRange.getPeakHeight(index, numberOfLeaves);
+		return Integer.bitCount(numberOfLeaves >>> height)-1;
+	}
+
+}
@@ -40,7 +40,24 @@ public class InteriorNode implements Node {
 		this.changed = true;
 		this.recalculateHash = true;
 	}
-	
+
+	/**
+	 * Create an interior node with a known hash (e.g. when copying
+	 * a node whose hash has already been calculated), so that
+	 * the hash does not need to be recalculated.
+	 * The caller is responsible for ensuring the hash is correct.
+	 * @param leftChild
+	 * @param rightChild
+	 * @param hash - H(leftChild.getHash()||rightChild.getHash())
+	 */
+	public InteriorNode(Node leftChild, Node rightChild, byte[] hash) {
+		this.leftChild = leftChild;
+		this.rightChild = rightChild;
+		this.changed = true;
+		this.hash = hash;
+		this.recalculateHash = false;
+	}
+
 	public MptSerialization.Node serialize() {
 		MptSerialization.InteriorNode.Builder builder = MptSerialization.InteriorNode.newBuilder();
 		serialization.generated.MptSerialization.Node leftChildSerialized = this.leftChild.serialize();
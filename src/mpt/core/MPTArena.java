@@ -0,0 +1,386 @@
+package mpt.core;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import crpyto.CryptographicDigest;
+
+/**
+ * IMMUTABLE (safe for concurrent use)
+ *
+ * A compact, read-only partial Merkle Prefix Trie (MPT) decoded
+ * from its protobuf wire encoding.
+ *
+ * Instead of one Node object per node (plus a copy of every key,
+ * value and stub hash) the entire trie is stored in a single int array
+ * with a fixed number of entries per node. Keys, values and stub
+ * hashes are referenced by their offset in the serialized bytes,
+ * which are kept (NOT copied) by the arena, so the caller must not
+ * modify them afterwards. Hashes are calculated once, the first
+ * time a hash is needed, into a single byte array.
+ *
+ * Subclasses define the leaves (see MPTDictionaryArena). Compacted
+ * deltas (see MPTDictionaryDeltaArena) and proofs that are only
+ * read (see MPTDictionaryPartialArena) are stored this way.
+ *
+ * @author henryaspegren
+ *
+ */
+public abstract class MPTArena {
+
+	protected static final int HASH_SIZE = CryptographicDigest.getSizeBytes();
+
+	// the root is at level 0 and a leaf can be at
+	// most at the level of the last bit of the key
+	private static final int MAX_LEVELS = CryptographicDigest.getSizeBits() + 1;
+
+	private static final byte[] EMPTY_HASH = new byte[HASH_SIZE];
+
+	// node types are the protobuf field numbers
+	protected static final int INTERIOR_NODE = MptWireReader.NODE_INTERIOR_NODE;
+	protected static final int LEAF = MptWireReader.NODE_LEAF;
+	protected static final int STUB = MptWireReader.NODE_STUB;
+	protected static final int EMPTY_LEAF = MptWireReader.NODE_EMPTYLEAF;
+	protected static final int VERSIONED_LEAF = MptWireReader.NODE_VERSIONED_LEAF;
+
+	// layout of each node in the node array
+	private static final int FIELDS = 6;
+	private static final int TYPE = 0;
+	// interior nodes
+	private static final int LEFT = 1;
+	private static final int RIGHT = 2;
+	// stubs
+	private static final int HASH_OFFSET = 1;
+	// leaves
+	private static final int KEY_OFFSET = 1;
+	private static final int KEY_LENGTH = 2;
+	private static final int VALUE_OFFSET = 3;
+	private static final int VALUE_LENGTH = 4;
+	private static final int VERSION = 5;
+
+	protected final byte[] buffer;
+	private int[] nodes;
+	private int numberOfNodes;
+
+	// hashes of the nodes, calculated lazily 
+	// (volatile so it is safely published to other threads)
+	private volatile byte[] hashes;
+
+	/**
+	 * Decode a serialized MPT. The root is always node 0.
+	 * @param buffer - a protobuf encoded MPT, which is referenced
+	 * by the arena and must not be changed
+	 * @throws InvalidSerializationException - if it cannot be decoded
+	 */
+	protected MPTArena(final byte[] buffer) throws InvalidSerializationException {
+		this.buffer = buffer;
+		// roughly the size of a node on the wire
+		this.nodes = new int[Math.max(16, buffer.length / 16) * FIELDS];
+		this.numberOfNodes = 0;
+		MptWireReader reader = new MptWireReader(buffer);
+		boolean hasRoot = false;
+		while(reader.hasRemaining(buffer.length)) {
+			int tag = reader.readTag(buffer.length);
+			if(MptWireReader.getFieldNumber(tag) == MptWireReader.TRIE_ROOT &&
+					MptWireReader.isLengthDelimited(tag)) {
+				if(hasRoot) {
+					throw new InvalidSerializationException("more than one root");
+				}
+				int end = reader.readLength(buffer.length);
+				this.decodeNode(reader, end, 0);
+				hasRoot = true;
+			}else {
+				reader.skipField(tag, buffer.length);
+			}
+		}
+		if(!hasRoot) {
+			throw new InvalidSerializationException("no root included");
+		}
+		if(this.getType(0) != INTERIOR_NODE) {
+			throw new InvalidSerializationException("root is not an interior node!");
+		}
+	}
+
+	/**
+	 * Decode a serialized MPT along with its precalculated 
+	 * hashes (see getNodeHashes())
+	 * @param buffer - a protobuf encoded MPT, which is referenced
+	 * by the arena and must not be changed
+	 * @param hashes - the hashes of the nodes, which are also referenced
+	 * @throws InvalidSerializationException - if it cannot be decoded or 
+	 * the number of hashes does not match the number of nodes
+	 */
+	protected MPTArena(final byte[] buffer, final byte[] hashes) throws InvalidSerializationException {
+		this(buffer);
+		if(hashes.length != this.numberOfNodes*HASH_SIZE) {
+			throw new InvalidSerializationException("wrong number of hashes");
+		}
+		this.hashes = hashes;
+	}
+
+	private int decodeNode(final MptWireReader reader, final int end, final int level)
+			throws InvalidSerializationException {
+		int node = this.allocate();
+		int base = node*FIELDS;
+		int nodeType = -1;
+		while(reader.hasRemaining(end)) {
+			int tag = reader.readTag(end);
+			int field = MptWireReader.getFieldNumber(tag);
+			if(field < INTERIOR_NODE || field > VERSIONED_LEAF || !MptWireReader.isLengthDelimited(tag)) {
+				reader.skipField(tag, end);
+				continue;
+			}
+			if(nodeType != -1) {
+				throw new InvalidSerializationException("node has more than one type");
+			}
+			nodeType = field;
+			int nodeEnd = reader.readLength(end);
+			switch(field) {
+			case INTERIOR_NODE:
+				if(level >= MAX_LEVELS - 1) {
+					throw new InvalidSerializationException("interior node is too deep");
+				}
+				int left = -1;
+				int right = -1;
+				while(reader.hasRemaining(nodeEnd)) {
+					int childTag = reader.readTag(nodeEnd);
+					int childField = MptWireReader.getFieldNumber(childTag);
+					if(MptWireReader.isLengthDelimited(childTag) && childField == MptWireReader.INTERIOR_NODE_LEFT) {
+						if(left != -1) {
+							throw new InvalidSerializationException("interior node has more than one left child");
+						}
+						left = this.decodeNode(reader, reader.readLength(nodeEnd), level+1);
+					}else if(MptWireReader.isLengthDelimited(childTag) && childField == MptWireReader.INTERIOR_NODE_RIGHT) {
+						if(right != -1) {
+							throw new InvalidSerializationException("interior node has more than one right child");
+						}
+						right = this.decodeNode(reader, reader.readLength(nodeEnd), level+1);
+					}else {
+						reader.skipField(childTag, nodeEnd);
+					}
+				}
+				if(left == -1 || right == -1) {
+					throw new InvalidSerializationException("interior node does not have both children");
+				}
+				this.nodes[base+LEFT] = left;
+				this.nodes[base+RIGHT] = right;
+				break;
+			case LEAF:
+			case VERSIONED_LEAF:
+				reader.readLeaf(nodeEnd, field == VERSIONED_LEAF);
+				this.nodes[base+KEY_OFFSET] = reader.getKeyOffset();
+				this.nodes[base+KEY_LENGTH] = reader.getKeyLength();
+				this.nodes[base+VALUE_OFFSET] = reader.getValueOffset();
+				this.nodes[base+VALUE_LENGTH] = reader.getValueLength();
+				this.nodes[base+VERSION] = reader.getVersion();
+				break;
+			case STUB:
+				this.nodes[base+HASH_OFFSET] = reader.readStub(nodeEnd);
+				break;
+			case EMPTY_LEAF:
+				reader.setPosition(nodeEnd);
+				break;
+			default:
+				throw new InvalidSerializationException("?????");
+			}
+		}
+		if(nodeType == -1) {
+			throw new InvalidSerializationException("no node included - fatal error");
+		}
+		this.nodes[base+TYPE] = nodeType;
+		if(nodeType == LEAF || nodeType == VERSIONED_LEAF) {
+			this.checkLeaf(node);
+		}
+		return node;
+	}
+
+	private int allocate() {
+		if((this.numberOfNodes+1)*FIELDS > this.nodes.length) {
+			this.nodes = Arrays.copyOf(this.nodes, this.nodes.length*2);
+		}
+		return this.numberOfNodes++;
+	}
+
+	/**
+	 * Check that a decoded leaf is valid
+	 * @param leaf
+	 * @throws InvalidSerializationException
+	 */
+	protected abstract void checkLeaf(int leaf) throws InvalidSerializationException;
+
+	/**
+	 * Calculate the hash of a leaf and write it to out[outOffset:outOffset+HASH_SIZE]
+	 * @param leaf
+	 * @param digest - a digest that can be used to calculate the hash
+	 * @param out
+	 * @param outOffset
+	 */
+	protected abstract void hashLeaf(int leaf, MessageDigest digest, byte[] out, int outOffset);
+
+	/**
+	 * Returns a short cryptographic commitment to the MPT
+	 * (the hash of the root). Identical to the commitment
+	 * of the same MPT decoded as a partial MPT.
+	 * @return
+	 */
+	public byte[] commitment() {
+		return Arrays.copyOfRange(this.getNodeHashes(), 0, HASH_SIZE);
+	}
+
+	/**
+	 * Returns the hashes of all nodes (in the order they are decoded), 
+	 * NOT copied. These can be stored with the serialized MPT to 
+	 * avoid recalculating them.
+	 * @return
+	 */
+	protected byte[] getNodeHashes() {
+		if(this.hashes == null) {
+			MessageDigest digest;
+			try {
+				digest = MessageDigest.getInstance(CryptographicDigest.getHashFunction());
+			} catch (NoSuchAlgorithmException e) {
+				throw new RuntimeException(e);
+			}
+			byte[] hashes = new byte[this.numberOfNodes*HASH_SIZE];
+			this.hashHelper(0, digest, hashes);
+			this.hashes = hashes;
+		}
+		return this.hashes;
+	}
+
+	/**
+	 * Returns the hash of any node
+	 * @param node
+	 * @return
+	 */
+	protected byte[] getHash(final int node) {
+		switch(this.getType(node)) {
+		case STUB:
+			int hashOffset = this.nodes[node*FIELDS+HASH_OFFSET];
+			return Arrays.copyOfRange(this.buffer, hashOffset, hashOffset+HASH_SIZE);
+		case EMPTY_LEAF:
+			return EMPTY_HASH.clone();
+		default:
+			return Arrays.copyOfRange(this.getNodeHashes(), node*HASH_SIZE, (node+1)*HASH_SIZE);
+		}
+	}
+
+	private void hashHelper(final int node, final MessageDigest digest, final byte[] hashes) {
+		int base = node*FIELDS;
+		switch(this.nodes[base+TYPE]) {
+		case INTERIOR_NODE:
+			int left = this.nodes[base+LEFT];
+			int right = this.nodes[base+RIGHT];
+			this.hashHelper(left, digest, hashes);
+			this.hashHelper(right, digest, hashes);
+			// commitment: H(leftChildHash || rightChildHash)
+			this.updateWithHash(left, digest, hashes);
+			this.updateWithHash(right, digest, hashes);
+			try {
+				digest.digest(hashes, node*HASH_SIZE, HASH_SIZE);
+			} catch (DigestException e) {
+				throw new RuntimeException(e);
+			}
+			return;
+		case LEAF:
+		case VERSIONED_LEAF:
+			this.hashLeaf(node, digest, hashes, node*HASH_SIZE);
+			return;
+		default:
+			// stubs and empty leaves are never copied
+			return;
+		}
+	}
+
+	private void updateWithHash(final int node, final MessageDigest digest, final byte[] hashes) {
+		switch(this.getType(node)) {
+		case STUB:
+			digest.update(this.buffer, this.nodes[node*FIELDS+HASH_OFFSET], HASH_SIZE);
+			return;
+		case EMPTY_LEAF:
+			digest.update(EMPTY_HASH);
+			return;
+		default:
+			digest.update(hashes, node*HASH_SIZE, HASH_SIZE);
+		}
+	}
+
+	/**
+	 * Follows the path of the key and returns the
+	 * leaf (or empty leaf) at the end of the path
+	 * @param key
+	 * @return
+	 * @throws InsufficientAuthenticationDataException - if a
+	 * stub is encountered on the path
+	 */
+	protected int findLeaf(final byte[] key) throws InsufficientAuthenticationDataException {
+		int node = 0;
+		int currentBitIndex = -1;
+		while(this.getType(node) == INTERIOR_NODE) {
+			boolean bit = Utils.getBit(key, currentBitIndex + 1);
+			node = this.nodes[node*FIELDS+(bit ? RIGHT : LEFT)];
+			currentBitIndex++;
+		}
+		if(this.getType(node) == STUB) {
+			throw new InsufficientAuthenticationDataException(
+					"stub encountered at: " + Utils.byteArrayPrefixAsBitString(key, currentBitIndex));
+		}
+		return node;
+	}
+
+	protected int getType(final int node) {
+		return this.nodes[node*FIELDS+TYPE];
+	}
+
+	protected int getLeftChild(final int node) {
+		return this.nodes[node*FIELDS+LEFT];
+	}
+
+	protected int getRightChild(final int node) {
+		return this.nodes[node*FIELDS+RIGHT];
+	}
+
+	protected int getKeyOffset(final int leaf) {
+		return this.nodes[leaf*FIELDS+KEY_OFFSET];
+	}
+
+	protected int getKeyLength(final int leaf) {
+		return this.nodes[leaf*FIELDS+KEY_LENGTH];
+	}
+
+	protected int getValueOffset(final int leaf) {
+		return this.nodes[leaf*FIELDS+VALUE_OFFSET];
+	}
+
+	protected int getValueLength(final int leaf) {
+		return this.nodes[leaf*FIELDS+VALUE_LENGTH];
+	}
+
+	protected int getVersion(final int leaf) {
+		return this.nodes[leaf*FIELDS+VERSION];
+	}
+
+	protected boolean bytesEqual(final int offset, final int length, final byte[] other) {
+		if(length != other.length) {
+			return false;
+		}
+		for(int i = 0; i < length; i++) {
+			if(this.buffer[offset+i] != other[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the total number of nodes
+	 * of any kind in the MPT
+	 * @return
+	 */
+	public int countNodes() {
+		return this.numberOfNodes;
+	}
+
+}
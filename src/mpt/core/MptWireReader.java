@@ -0,0 +1,286 @@
+package mpt.core;
+
+import crpyto.CryptographicDigest;
+
+/**
+ * Reads the protobuf wire encoding of a (full or partial)
+ * Merkle Prefix Trie directly from a byte array.
+ *
+ * The generated protobuf classes copy every bytes field
+ * into a new object. This reader instead exposes the location
+ * of keys, values and hashes as offsets into the
+ * serialized bytes, so that they can be hashed or compared
+ * in place. The field numbers must match mpt.proto.
+ *
+ * A reader can be reused by calling reset(). NOT THREAD SAFE.
+ *
+ * @author henryaspegren
+ *
+ */
+public final class MptWireReader {
+
+	// MerklePrefixTrie
+	public static final int TRIE_ROOT = 1;
+	// Node (oneof)
+	public static final int NODE_INTERIOR_NODE = 1;
+	public static final int NODE_LEAF = 2;
+	public static final int NODE_STUB = 3;
+	public static final int NODE_EMPTYLEAF = 4;
+	public static final int NODE_VERSIONED_LEAF = 5;
+	// InteriorNode
+	public static final int INTERIOR_NODE_LEFT = 1;
+	public static final int INTERIOR_NODE_RIGHT = 2;
+	// Leaf and VersionedLeaf
+	public static final int LEAF_KEY = 1;
+	public static final int LEAF_VALUE = 2;
+	public static final int LEAF_VERSION = 3;
+	// Stub
+	public static final int STUB_HASH = 1;
+
+	// protobuf wire types
+	public static final int WIRETYPE_VARINT = 0;
+	public static final int WIRETYPE_FIXED64 = 1;
+	public static final int WIRETYPE_LENGTH_DELIMITED = 2;
+	public static final int WIRETYPE_FIXED32 = 5;
+
+	private byte[] buffer;
+	private int position;
+
+	// the last leaf read by readLeaf
+	private int keyOffset;
+	private int keyLength;
+	private int valueOffset;
+	private int valueLength;
+	private int version;
+
+	public MptWireReader() {
+		this.reset(null);
+	}
+
+	public MptWireReader(byte[] buffer) {
+		this.reset(buffer);
+	}
+
+	/**
+	 * Start reading a new buffer from the beginning
+	 * @param buffer
+	 */
+	public void reset(byte[] buffer) {
+		this.buffer = buffer;
+		this.position = 0;
+	}
+
+	public byte[] getBuffer() {
+		return this.buffer;
+	}
+
+	public int getPosition() {
+		return this.position;
+	}
+
+	public void setPosition(int position) {
+		this.position = position;
+	}
+
+	public boolean hasRemaining(final int end) {
+		return this.position < end;
+	}
+
+	public static int getFieldNumber(final int tag) {
+		return tag >>> 3;
+	}
+
+	public static boolean isLengthDelimited(final int tag) {
+		return (tag & 7) == WIRETYPE_LENGTH_DELIMITED;
+	}
+
+	public int readTag(final int end) throws InvalidSerializationException {
+		long tag = this.readVarint(end);
+		if(tag <= 0 || tag > Integer.MAX_VALUE) {
+			throw new InvalidSerializationException("invalid tag");
+		}
+		return (int) tag;
+	}
+
+	/**
+	 * Reads a length prefix and returns the
+	 * end of the length delimited field. The position is
+	 * left at the start of the field.
+	 */
+	public int readLength(final int end) throws InvalidSerializationException {
+		long length = this.readVarint(end);
+		if(length < 0 || length > end - this.position) {
+			throw new InvalidSerializationException("truncated message");
+		}
+		return this.position + (int) length;
+	}
+
+	public long readVarint(final int end) throws InvalidSerializationException {
+		long result = 0;
+		for(int shift = 0; shift < 64; shift += 7) {
+			if(this.position >= end) {
+				throw new InvalidSerializationException("truncated message");
+			}
+			byte b = this.buffer[this.position++];
+			result |= (long) (b & 0x7f) << shift;
+			if((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new InvalidSerializationException("malformed varint");
+	}
+
+	public void skipField(final int tag, final int end) throws InvalidSerializationException {
+		switch(tag & 7) {
+		case WIRETYPE_VARINT:
+			this.readVarint(end);
+			return;
+		case WIRETYPE_FIXED64:
+			this.skipBytes(8, end);
+			return;
+		case WIRETYPE_LENGTH_DELIMITED:
+			this.position = this.readLength(end);
+			return;
+		case WIRETYPE_FIXED32:
+			this.skipBytes(4, end);
+			return;
+		default:
+			throw new InvalidSerializationException("unsupported wire type");
+		}
+	}
+
+	private void skipBytes(final int n, final int end) throws InvalidSerializationException {
+		if(n > end - this.position) {
+			throw new InvalidSerializationException("truncated message");
+		}
+		this.position += n;
+	}
+
+	/**
+	 * Reads the body of a Leaf or VersionedLeaf ending at end.
+	 * The location of the key and value can then be retrieved
+	 * with getKeyOffset() etc. Missing fields have length zero.
+	 * @param end
+	 * @param versioned - true if this is a VersionedLeaf
+	 * @throws InvalidSerializationException - if a field is repeated
+	 */
+	public void readLeaf(final int end, final boolean versioned) throws InvalidSerializationException {
+		this.keyOffset = this.position;
+		this.keyLength = 0;
+		this.valueOffset = this.position;
+		this.valueLength = 0;
+		long leafVersion = versioned ? 0 : VersionedDictionaryLeafNode.NO_VERSION;
+		boolean hasKey = false;
+		boolean hasValue = false;
+		boolean hasVersion = false;
+		while(this.position < end) {
+			int tag = this.readTag(end);
+			int field = tag >>> 3;
+			if(isLengthDelimited(tag) && field == LEAF_KEY) {
+				if(hasKey) {
+					throw new InvalidSerializationException("leaf has more than one key");
+				}
+				hasKey = true;
+				int fieldEnd = this.readLength(end);
+				this.keyOffset = this.position;
+				this.keyLength = fieldEnd - this.position;
+				this.position = fieldEnd;
+			}else if(isLengthDelimited(tag) && field == LEAF_VALUE) {
+				if(hasValue) {
+					throw new InvalidSerializationException("leaf has more than one value");
+				}
+				hasValue = true;
+				int fieldEnd = this.readLength(end);
+				this.valueOffset = this.position;
+				this.valueLength = fieldEnd - this.position;
+				this.position = fieldEnd;
+			}else if(versioned && (tag & 7) == WIRETYPE_VARINT && field == LEAF_VERSION) {
+				if(hasVersion) {
+					throw new InvalidSerializationException("leaf has more than one version");
+				}
+				hasVersion = true;
+				leafVersion = this.readVarint(end);
+				// int32 fields are sign extended on the wire
+				if(leafVersion != (int) leafVersion || leafVersion < 0) {
+					throw new InvalidSerializationException("leaf version must be non-negative");
+				}
+			}else {
+				this.skipField(tag, end);
+			}
+		}
+		this.version = (int) leafVersion;
+	}
+
+	/**
+	 * Reads the body of a Stub ending at end and returns
+	 * the offset of the hash in the buffer
+	 * @param end
+	 * @return
+	 * @throws InvalidSerializationException - if the stub does not
+	 * contain exactly one hash of the correct size
+	 */
+	public int readStub(final int end) throws InvalidSerializationException {
+		int hashOffset = -1;
+		int hashLength = 0;
+		while(this.position < end) {
+			int tag = this.readTag(end);
+			if((tag >>> 3) == STUB_HASH && isLengthDelimited(tag)) {
+				if(hashOffset != -1) {
+					throw new InvalidSerializationException("stub has more than one hash");
+				}
+				int fieldEnd = this.readLength(end);
+				hashOffset = this.position;
+				hashLength = fieldEnd - this.position;
+				this.position = fieldEnd;
+			}else {
+				this.skipField(tag, end);
+			}
+		}
+		if(hashLength != CryptographicDigest.getSizeBytes()) {
+			throw new InvalidSerializationException("stub doesn't have a hash");
+		}
+		return hashOffset;
+	}
+
+	public int getKeyOffset() {
+		return this.keyOffset;
+	}
+
+	public int getKeyLength() {
+		return this.keyLength;
+	}
+
+	public int getValueOffset() {
+		return this.valueOffset;
+	}
+
+	public int getValueLength() {
+		return this.valueLength;
+	}
+
+	/**
+	 * Returns the version of the last leaf read, or
+	 * VersionedDictionaryLeafNode.NO_VERSION if it is not versioned
+	 * @return
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Compares length bytes of the buffer starting at offset
+	 * with the given array
+	 */
+	public boolean bytesEqual(final int offset, final int length, final byte[] other) {
+		if(length != other.length) {
+			return false;
+		}
+		for(int i = 0; i < length; i++) {
+			if(this.buffer[offset+i] != other[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,216 @@
+package mpt.core;
+
+import java.util.Arrays;
+
+import com.google.protobuf.ByteString;
+
+import crpyto.CryptographicUtils;
+import serialization.generated.MptSerialization;
+
+/**
+ * MUTABLE
+ *
+ * Represents a leaf node in a Merkle Prefix Trie (MPT) dictionary
+ * that, in addition to the key and value, commits to a version:
+ * the commitment number at which the value was last changed.
+ *
+ * Because the version is part of the hash, a single path to this
+ * leaf in the current commitment shows that the value has not
+ * changed since the commitment given by the version, without
+ * needing a proof for each commitment in between.
+ *
+ * @author henryaspegren
+ *
+ */
+public class VersionedDictionaryLeafNode implements Node {
+
+	// used to indicate that there is no versioned
+	// leaf for a key
+	public static final int NO_VERSION = -1;
+
+	private final byte[] key;
+	private byte[] value;
+	private int version;
+
+	private boolean changed;
+
+	// the commitment is a witness to the key,
+	// the value and the version: H(key||value||version)
+	private byte[] commitmentHash;
+	private boolean recalculateHash;
+
+	public VersionedDictionaryLeafNode(byte[] key, byte[] value, int version){
+		assert version >= 0;
+		this.key = key.clone();
+		this.value = value.clone();
+		this.version = version;
+		this.changed = true;
+		this.recalculateHash = true;
+	}
+
+	public MptSerialization.Node serialize(){
+		MptSerialization.Node node = MptSerialization.Node
+				.newBuilder()
+				.setVersionedLeaf(MptSerialization.VersionedLeaf.newBuilder()
+						.setKey(ByteString.copyFrom(this.key))
+						.setValue(ByteString.copyFrom(this.value))
+						.setVersion(this.version)
+						.build())
+				.build();
+		return node;
+	}
+
+	@Override
+	public byte[] getValue() {
+		return this.value.clone();
+	}
+
+	/**
+	 * Get the version: the commitment number at which
+	 * the value stored in this leaf was last changed
+	 * @return
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	@Override
+	public byte[] getHash() {
+		if(this.recalculateHash) {
+			// witness
+			this.commitmentHash = CryptographicUtils.witnessKeyValueAndVersion(this.key, this.value,
+					this.version);
+			this.recalculateHash = false;
+		}
+		return this.commitmentHash.clone();
+	}
+
+	@Override
+	public Node getLeftChild() {
+		return null;
+	}
+
+	@Override
+	public Node getRightChild() {
+		return null;
+	}
+
+	@Override
+	public boolean isLeaf() {
+		return true;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return new String("<VersionedDictionaryLeaf K: "+ Utils.byteArrayAsHexString(this.key) +
+				" V: "+ Utils.byteArrayAsHexString(this.value) +
+				" Version: "+ this.version + ">");
+	}
+
+	@Override
+	public byte[] getKey() {
+		return this.key.clone();
+	}
+
+	@Override
+	public boolean equals(Object arg0) {
+		if(arg0 instanceof VersionedDictionaryLeafNode) {
+			VersionedDictionaryLeafNode ln = (VersionedDictionaryLeafNode) arg0;
+			return Arrays.equals(this.key, ln.key) && Arrays.equals(this.value, ln.value)
+					&& this.version == ln.version;
+		}
+		return false;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31*(31*Arrays.hashCode(this.key) + Arrays.hashCode(this.value)) + this.version;
+	}
+
+	@Override
+	public boolean isStub() {
+		return false;
+	}
+
+	@Override
+	public void setValue(byte[] value) {
+		throw new RuntimeException("the value of a versioned leaf must be set along with a version");
+	}
+
+	/**
+	 * Set the value stored at this leaf along with
+	 * the version (the commitment number at which
+	 * the value is changed)
+	 * @param value
+	 * @param version
+	 */
+	public void setValue(byte[] value, int version) {
+		assert version >= 0;
+		if(!Arrays.equals(this.value, value) || this.version != version) {
+			// update the value, the version and the witness
+			this.value = value.clone();
+			this.version = version;
+			this.changed = true;
+			this.recalculateHash = true;
+		}
+	}
+
+	@Override
+	public void setLeftChild(Node leftChild) {
+		throw new RuntimeException("cannot set child of a leaf node");
+	}
+
+	@Override
+	public void setRightChild(Node rightChild) {
+		throw new RuntimeException("cannot set child of a leaf node");
+	}
+
+	@Override
+	public boolean changed() {
+		return this.changed;
+	}
+
+	@Override
+	public void markChangedAll() {
+		this.changed = true;
+	}
+
+	@Override
+	public void markUnchangedAll() {
+		this.changed = false;
+	}
+
+	@Override
+	public int countHashesRequiredForGetHash() {
+		if(this.recalculateHash) {
+			return 1;
+		}
+		return 0;
+	}
+
+	@Override
+	public int nodesInSubtree() {
+		return 1;
+	}
+
+	@Override
+	public int interiorNodesInSubtree() {
+		return 0;
+	}
+
+	@Override
+	public int emptyLeafNodesInSubtree() {
+		return 0;
+	}
+
+	@Override
+	public int nonEmptyLeafNodesInSubtree() {
+		return 1;
+	}
+
+}
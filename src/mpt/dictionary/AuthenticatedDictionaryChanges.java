@@ -2,6 +2,8 @@ package mpt.dictionary;
 
 import java.util.List;
 
+import com.google.protobuf.ByteString;
+
 import serialization.generated.MptSerialization;
 
 /**
@@ -40,6 +42,18 @@ public interface AuthenticatedDictionaryChanges {
 	 */
 	public MptSerialization.MerklePrefixTrie getUpdates(final byte[] key);
 	
+	/**
+	 * The same updates as getUpdates(key), but serialized. 
+	 * Implementations that keep the updates for a key can 
+	 * return the serialized updates without serializing 
+	 * them again. 
+	 * @param key - a fixed length byte array representing the key
+	 * @return the serialized updates (a MerklePrefixTrie)
+	 */
+	public default ByteString getSerializedUpdates(final byte[] key) {
+		return this.getUpdates(key).toByteString();
+	}
+	
 	
 	/**
 	 * Given a set of keys, this method calculates 
@@ -60,4 +74,20 @@ public interface AuthenticatedDictionaryChanges {
 	 * by the client
 	 */
 	public MptSerialization.MerklePrefixTrie getUpdates(final List<byte[]> keys);
+	
+	/**
+	 * Given a set of keys whose entire paths have changed 
+	 * (e.g. the keys modified by an update at this commitment),
+	 * this method returns the paths to these keys as of the 
+	 * commitment. Unlike the updates, unchanged nodes next to 
+	 * the paths are included (as stubs), so the paths are 
+	 * a proof by themselves. 
+	 * 
+	 * The result is the same as a partial MPT for the keys
+	 * copied from the full MPT at the commitment.
+	 * @param keys - an array of keys, the entire path to each 
+	 * key must have changed
+	 * @return a protobuf encoded representation of the paths
+	 */
+	public MptSerialization.MerklePrefixTrie getPaths(final List<byte[]> keys);
 }
@@ -1,5 +1,7 @@
 package mpt.dictionary;
 
+import java.util.List;
+
 import mpt.core.InsufficientAuthenticationDataException;
 import mpt.core.InvalidSerializationException;
 import serialization.generated.MptSerialization;
@@ -50,7 +52,23 @@ public interface AuthenticatedDictionaryClient {
 	 * in the authenticated dictionary
 	 */
 	public byte[] get(final byte[] key) throws InsufficientAuthenticationDataException;
-	
+
+	/**
+	 * Get the (key, value) mappings for many keys at once. The lookups
+	 * share a single traversal of the authenticated dictionary, so
+	 * a client can check a large batch of keys (for example that
+	 * none of them are mapped to anything) against a single
+	 * proof containing the paths for all of them.
+	 *
+	 * @param keys - a list of fixed length byte arrays representing the keys
+	 * @return a list of the same length as keys, where the i-th entry is the
+	 * value mapped to the i-th key or null if the key is not mapped to any value
+	 * @throws InsufficientAuthenticationDataException - if there is not
+	 * enough authentication information to determine the mapping of any of
+	 * the keys
+	 */
+	public List<byte[]> get(final List<byte[]> keys) throws InsufficientAuthenticationDataException;
+
 	/**
 	 * Returns a short cryptographic commitment to the entire set of 
 	 * (key,value) mappings in the full authenticated dictionary.
@@ -0,0 +1,52 @@
+package mpt.dictionary;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+
+import mpt.core.InvalidSerializationException;
+import mpt.core.MPTArena;
+
+/**
+ * An arena (see MPTArena) whose leaves are dictionary leaves: 
+ * H(key||value) or, for versioned leaves, H(key||value||version).
+ * 
+ * @author henryaspegren
+ *
+ */
+abstract class MPTDictionaryArena extends MPTArena {
+
+	protected MPTDictionaryArena(byte[] asbytes) throws InvalidSerializationException {
+		super(asbytes);
+	}
+
+	protected MPTDictionaryArena(byte[] asbytes, byte[] hashes) throws InvalidSerializationException {
+		super(asbytes, hashes);
+	}
+
+	@Override
+	protected void checkLeaf(int leaf) throws InvalidSerializationException {
+		if(this.getKeyLength(leaf) == 0 || this.getValueLength(leaf) == 0) {
+			throw new InvalidSerializationException("leaf doesn't have required keyhash and value");
+		}
+	}
+
+	@Override
+	protected void hashLeaf(int leaf, MessageDigest digest, byte[] out, int outOffset) {
+		// witness: H(key||value) or H(key||value||version)
+		digest.update(this.buffer, this.getKeyOffset(leaf), this.getKeyLength(leaf));
+		digest.update(this.buffer, this.getValueOffset(leaf), this.getValueLength(leaf));
+		if(this.getType(leaf) == VERSIONED_LEAF) {
+			int version = this.getVersion(leaf);
+			digest.update((byte) (version >>> 24));
+			digest.update((byte) (version >>> 16));
+			digest.update((byte) (version >>> 8));
+			digest.update((byte) version);
+		}
+		try {
+			digest.digest(out, outOffset, HASH_SIZE);
+		} catch (DigestException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
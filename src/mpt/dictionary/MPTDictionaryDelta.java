@@ -1,11 +1,19 @@
 package mpt.dictionary;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
 
-import mpt.core.DictionaryLeafNode;
+import crpyto.CryptographicDigest;
 import mpt.core.EmptyLeafNode;
 import mpt.core.InteriorNode;
 import mpt.core.Node;
@@ -28,10 +36,23 @@ public class MPTDictionaryDelta implements AuthenticatedDictionaryChanges {
 	
 	protected InteriorNode root;
 	
+	// optionally the updates are precomputed (see precomputeUpdates()):
+	// each changed node is serialized once, both as it is sent when 
+	// it is next to a path (offPath, a stub or an empty leaf) and, 
+	// for the nodes at which a path leaves the changed part 
+	// of the delta, as it is sent at the end of a path (onPath).
+	// The update for a key is assembled from these segments
+	private Map<Node, byte[]> offPath;
+	private Map<Node, byte[]> onPath;
+	
 	/**
 	 * Construct a MerklePrefixTrieDelta from a full MPT. It only copies
 	 * the changes the from the MPT (where changes are defined as any nodes
 	 * altered by inserts or deletes since the last call to mpt.reset())
+	 * 
+	 * The hashes of the copied nodes are taken from the MPT, 
+	 * so if the MPT has already been committed the delta does 
+	 * not recalculate any hashes and is safe for concurrent use.
 	 * @param mpt - The MPT to copy changes from
 	 */
 	public MPTDictionaryDelta(MPTDictionaryFull mpt) {
@@ -40,12 +61,61 @@ public class MPTDictionaryDelta implements AuthenticatedDictionaryChanges {
 		this.root = copiedRootOnlyChanges;
 	}
 	
+	/**
+	 * Construct a MerklePrefixTrieDelta containing the differences 
+	 * between two full MPTs (e.g. two committed snapshots). 
+	 * The updates from this delta take a client view of
+	 * from to a view of to, just as if the changes had been 
+	 * made to from directly. Since only the subtrees whose 
+	 * hashes differ are visited, the cost is proportional 
+	 * to the size of the difference, not to the size of the MPTs.
+	 * This can span any number of commitments at once.
+	 * @param from - the older MPT
+	 * @param to - the newer MPT
+	 */
+	public MPTDictionaryDelta(MPTDictionaryFull from, MPTDictionaryFull to) {
+		Node leftChild = MPTDictionaryDelta.copyDifferencesHelper(from.root.getLeftChild(), 
+				to.root.getLeftChild());
+		Node rightChild = MPTDictionaryDelta.copyDifferencesHelper(from.root.getRightChild(), 
+				to.root.getRightChild());
+		this.root = new InteriorNode(leftChild, rightChild);
+	}
+	
+	private static Node copyDifferencesHelper(final Node fromNode, final Node toNode) {
+		byte[] toHash = toNode.getHash();
+		// unchanged subtrees are just stubs
+		if(Arrays.equals(fromNode.getHash(), toHash)) {
+			return new Stub(toHash);
+		}
+		// only descend if the structure is the same, 
+		// otherwise the entire subtree is new
+		if(!fromNode.isLeaf() && !toNode.isLeaf()) {
+			Node leftChild = MPTDictionaryDelta.copyDifferencesHelper(fromNode.getLeftChild(), 
+					toNode.getLeftChild());
+			Node rightChild = MPTDictionaryDelta.copyDifferencesHelper(fromNode.getRightChild(), 
+					toNode.getRightChild());
+			return new InteriorNode(leftChild, rightChild);
+		}
+		return MPTDictionaryDelta.copyAllHelper(toNode);
+	}
+	
+	private static Node copyAllHelper(final Node currentNode) {
+		if(currentNode.isLeaf()) {
+			if(currentNode.isEmpty()) {
+				return new EmptyLeafNode();
+			}
+			return MPTDictionaryFull.copyLeaf(currentNode);
+		}
+		return new InteriorNode(MPTDictionaryDelta.copyAllHelper(currentNode.getLeftChild()), 
+				MPTDictionaryDelta.copyAllHelper(currentNode.getRightChild()));
+	}
+	
 	//here we assume that this is a root node, i.e. an InteriorNode!
 	private static Node copyChangesOnlyHelperRoot(final Node currentNode) {
 		
 		Node leftChild = MPTDictionaryDelta.copyChangesOnlyHelper(currentNode.getLeftChild());
 		Node rightChild = MPTDictionaryDelta.copyChangesOnlyHelper(currentNode.getRightChild());
-		return new InteriorNode(leftChild, rightChild);
+		return new InteriorNode(leftChild, rightChild, currentNode.getHash());
 		
 	}
 
@@ -60,22 +130,231 @@ public class MPTDictionaryDelta implements AuthenticatedDictionaryChanges {
 				return new EmptyLeafNode();
 			}
 			if (currentNode.changed()) {
-				return new DictionaryLeafNode(currentNode.getKey(), currentNode.getValue());
+				return MPTDictionaryFull.copyLeaf(currentNode);
 			}
 			return new Stub(currentNode.getHash());
 		}
 		Node leftChild = MPTDictionaryDelta.copyChangesOnlyHelper(currentNode.getLeftChild());
 		Node rightChild = MPTDictionaryDelta.copyChangesOnlyHelper(currentNode.getRightChild());
-		return new InteriorNode(leftChild, rightChild);
+		// reuse the hash from the MPT
+		return new InteriorNode(leftChild, rightChild, currentNode.getHash());
+	}
+
+	/**
+	 * Precompute the updates for every key. 
+	 * 
+	 * The update for a key is the path of the key through the changed
+	 * part of the delta, with the (serialized) siblings along the path,
+	 * ending where the path leaves the changed part: at a leaf 
+	 * or at an unchanged subtree (a stub). Every changed node 
+	 * is serialized once here, so the paths of all of the keys 
+	 * share the serialized nodes on their common prefix. getUpdates(key) 
+	 * then just follows the path and concatenates the serialized 
+	 * siblings (with the headers of the interior nodes) instead of 
+	 * re-creating the update with protobuf builders. 
+	 * 
+	 * The memory needed is proportional to the size of the delta 
+	 * (not to the number of keys times the length of a path). 
+	 * The serialized updates are the same as getUpdates(key).toByteString()
+	 * 
+	 * This should be called before the delta is used concurrently.
+	 */
+	public void precomputeUpdates() {
+		// calculate all hashes up front
+		this.root.getHash();
+		Map<Node, byte[]> offPath = new IdentityHashMap<>();
+		Map<Node, byte[]> onPath = new IdentityHashMap<>();
+		MPTDictionaryDelta.precomputeUpdatesHelper(this.root.getLeftChild(), offPath, onPath);
+		MPTDictionaryDelta.precomputeUpdatesHelper(this.root.getRightChild(), offPath, onPath);
+		this.offPath = offPath;
+		this.onPath = onPath;
+	}
+	
+	private static void precomputeUpdatesHelper(final Node currentNode, 
+			final Map<Node, byte[]> offPath, final Map<Node, byte[]> onPath) {
+		// (unchanged stubs are omitted, so nothing is stored)
+		if(currentNode.isStub()) {
+			return;
+		}
+		offPath.put(currentNode, MPTDictionaryDelta.serializeOffPath(currentNode));
+		if(currentNode.isLeaf()) {
+			onPath.put(currentNode, MPTDictionaryDelta.serializeOnPath(currentNode));
+			return;
+		}
+		MPTDictionaryDelta.precomputeUpdatesHelper(currentNode.getLeftChild(), offPath, onPath);
+		MPTDictionaryDelta.precomputeUpdatesHelper(currentNode.getRightChild(), offPath, onPath);
+	}
+	
+	// a changed node that is not on the path (see getUpdatesHelper)
+	private static byte[] serializeOffPath(final Node node) {
+		if(node.isStub()) {
+			return null;
+		}
+		if(node.isEmpty()) {
+			return EMPTY_LEAF;
+		}
+		return MptSerialization.Node.newBuilder()
+				.setStub(MptSerialization.Stub.newBuilder()
+						.setHash(ByteString.copyFrom(node.getHash())))
+				.build().toByteArray();
+	}
+	
+	// the node at which a path leaves the delta (see getUpdatesHelper)
+	private static byte[] serializeOnPath(final Node node) {
+		if(node.isStub()) {
+			return null;
+		}
+		if(node.isEmpty()) {
+			return EMPTY_LEAF;
+		}
+		return node.serialize().toByteArray();
+	}
+	
+	private static final byte[] EMPTY_LEAF = MptSerialization.Node.newBuilder()
+			.setEmptyleaf(MptSerialization.EmptyLeaf.newBuilder())
+			.build().toByteArray();
+	
+	// assemble the update for a key from the precomputed segments
+	private ByteString assembleUpdate(final byte[] key) {
+		int maxDepth = CryptographicDigest.getSizeBytes()*8;
+		boolean[] wentRight = new boolean[maxDepth];
+		byte[][] siblings = new byte[maxDepth][];
+		Node currentNode = this.root;
+		int depth = 0;
+		while(!currentNode.isStub() && !currentNode.isLeaf()) {
+			boolean bit = Utils.getBit(key, depth);
+			Node sibling = bit ? currentNode.getLeftChild() : currentNode.getRightChild();
+			wentRight[depth] = bit;
+			siblings[depth] = this.offPath.get(sibling);
+			currentNode = bit ? currentNode.getRightChild() : currentNode.getLeftChild();
+			depth++;
+		}
+		return MPTDictionaryDelta.serializeUpdate(depth, wentRight, siblings, this.onPath.get(currentNode));
+	}
+	
+	/**
+	 * Serialize the MerklePrefixTrie for a path of interior nodes
+	 * ending at the exit (omitted if null):
+	 * 		root {interior_node {left: ..., right: ...}} 
+	 * 
+	 * Fields are written in field number order, as protobuf does, so the 
+	 * on-path child comes before the sibling when the path goes left 
+	 * and after it when the path goes right. 
+	 */
+	private static ByteString serializeUpdate(final int length, final boolean[] wentRight, 
+			final byte[][] siblings, final byte[] exit) {
+		// the size of each interior node and each Node message, bottom up
+		int[] interiorSizes = new int[length];
+		int[] nodeSizes = new int[length];
+		int childSize = exit == null ? -1 : exit.length;
+		for(int depth = length-1; depth >= 0; depth--) {
+			interiorSizes[depth] = MPTDictionaryDelta.fieldSize(childSize) + 
+					MPTDictionaryDelta.fieldSize(siblings[depth] == null ? -1 : siblings[depth].length);
+			nodeSizes[depth] = MPTDictionaryDelta.fieldSize(interiorSizes[depth]);
+			childSize = nodeSizes[depth];
+		}
+		byte[] asbytes = new byte[MPTDictionaryDelta.fieldSize(nodeSizes[0])];
+		try {
+			CodedOutputStream out = CodedOutputStream.newInstance(asbytes);
+			// MerklePrefixTrie.root
+			out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+			out.writeUInt32NoTag(nodeSizes[0]);
+			for(int depth = 0; depth < length; depth++) {
+				// Node.interior_node
+				out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+				out.writeUInt32NoTag(interiorSizes[depth]);
+				int onPathField = 1;
+				if(wentRight[depth]) {
+					MPTDictionaryDelta.writeField(out, 1, siblings[depth]);
+					onPathField = 2;
+				}
+				if(depth+1 < length) {
+					out.writeTag(onPathField, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+					out.writeUInt32NoTag(nodeSizes[depth+1]);
+				}else {
+					MPTDictionaryDelta.writeField(out, onPathField, exit);
+				}
+			}
+			// the siblings to the right, bottom up
+			for(int depth = length-1; depth >= 0; depth--) {
+				if(!wentRight[depth]) {
+					MPTDictionaryDelta.writeField(out, 2, siblings[depth]);
+				}
+			}
+			out.checkNoSpaceLeft();
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+		return UnsafeByteOperations.unsafeWrap(asbytes);
+	}
+	
+	// the size of a length delimited field (with a field 
+	// number < 16) or 0 if it is omitted (size is negative)
+	private static int fieldSize(final int size) {
+		if(size < 0) {
+			return 0;
+		}
+		return 1 + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+	}
+	
+	private static void writeField(final CodedOutputStream out, final int fieldNumber, 
+			final byte[] message) throws IOException {
+		if(message == null) {
+			return;
+		}
+		out.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+		out.writeUInt32NoTag(message.length);
+		out.writeRawBytes(message);
+	}
+	
+	/**
+	 * Returns true if the entire path to the key has changed,
+	 * in which case the delta contains the path (with stubs for 
+	 * the unchanged subtrees next to it) and can be used to 
+	 * create a proof for the key at the commitment 
+	 * (see MPTDictionaryPartial(MPTDictionaryDelta, List))
+	 * @param key
+	 * @return
+	 */
+	public boolean containsPath(final byte[] key) {
+		return !this.findExit(key).isStub();
+	}
+	
+	private Node findExit(final byte[] key) {
+		Node currentNode = this.root;
+		int currentBitIndex = -1;
+		while(!currentNode.isStub() && !currentNode.isLeaf()) {
+			boolean bit = Utils.getBit(key, currentBitIndex + 1);
+			currentNode = bit ? currentNode.getRightChild() : currentNode.getLeftChild();
+			currentBitIndex++;
+		}
+		return currentNode;
 	}
 
 	@Override
 	public MptSerialization.MerklePrefixTrie getUpdates(final byte[] key) {
+		if(this.onPath != null) {
+			try {
+				return MptSerialization.MerklePrefixTrie.parseFrom(this.assembleUpdate(key));
+			} catch (InvalidProtocolBufferException e) {
+				e.printStackTrace();
+				throw new RuntimeException(e.getMessage());
+			}
+		}
 		List<byte[]> keys = new ArrayList<byte[]>();
 		keys.add(key);
 		return this.getUpdates(keys);
 	}
 	
+	@Override
+	public ByteString getSerializedUpdates(final byte[] key) {
+		if(this.onPath != null) {
+			return this.assembleUpdate(key);
+		}
+		return this.getUpdates(key).toByteString();
+	}
+	
 	@Override
 	public MptSerialization.MerklePrefixTrie getUpdates(final List<byte[]> keys) {
 		MptSerialization.Node root = MPTDictionaryDelta.getUpdatesHelper(keys, -1, this.root);
@@ -85,6 +364,11 @@ public class MPTDictionaryDelta implements AuthenticatedDictionaryChanges {
 		return tree;
 	}
 	
+	@Override
+	public MptSerialization.MerklePrefixTrie getPaths(final List<byte[]> keys) {
+		return new MPTDictionaryPartial(this, keys).serialize();
+	}
+	
 	private static MptSerialization.Node getUpdatesHelper(final List<byte[]> matchingKeys, 
 			final int currentBitIndex, final Node currentNode){
 		// case: stub - this location has not changed 
@@ -115,11 +399,7 @@ public class MPTDictionaryDelta implements AuthenticatedDictionaryChanges {
 						MptSerialization.EmptyLeaf.newBuilder()).build();
 			}
 			// if non-empty send entire leaf (since value needed)
-			return MptSerialization.Node.newBuilder().setLeaf(
-						MptSerialization.Leaf.newBuilder()
-							.setKey(ByteString.copyFrom(currentNode.getKey()))
-							.setValue(ByteString.copyFrom(currentNode.getValue())))
-					.build();
+			return currentNode.serialize();
 		}
 		// subcase: have a matching leaf and at intermediate node
 		
@@ -0,0 +1,254 @@
+package mpt.dictionary;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+
+import mpt.core.EmptyLeafNode;
+import mpt.core.InvalidSerializationException;
+import mpt.core.Utils;
+import serialization.generated.MptSerialization;
+
+/**
+ * IMMUTABLE (safe for concurrent use)
+ *
+ * A compacted MPTDictionaryDelta stored in an arena (see MPTArena).
+ *
+ * A delta is kept by the server for every commitment so that it
+ * can create freshness proofs, but only recent deltas are
+ * used often. Old deltas can be compacted: the serialized delta
+ * is stored in a single byte array, along with an int array
+ * describing the nodes and the precalculated hashes, instead of
+ * an object for every node.
+ *
+ * The updates are identical to those of the original delta.
+ *
+ * @author henryaspegren
+ *
+ */
+public class MPTDictionaryDeltaArena extends MPTDictionaryArena implements AuthenticatedDictionaryChanges {
+
+	private MPTDictionaryDeltaArena(byte[] asbytes) throws InvalidSerializationException {
+		super(asbytes);
+	}
+
+	private MPTDictionaryDeltaArena(byte[] asbytes, byte[] hashes) throws InvalidSerializationException {
+		super(asbytes, hashes);
+	}
+
+	/**
+	 * Compact a delta. The hashes are calculated up front, so
+	 * creating updates does not modify the compacted delta.
+	 * @param delta - the delta to compact
+	 * @return
+	 */
+	public static MPTDictionaryDeltaArena compact(MPTDictionaryDelta delta) {
+		MptSerialization.MerklePrefixTrie serialized = MptSerialization.MerklePrefixTrie.newBuilder()
+				.setRoot(delta.root.serialize())
+				.build();
+		try {
+			MPTDictionaryDeltaArena compacted = new MPTDictionaryDeltaArena(serialized.toByteArray());
+			compacted.commitment();
+			return compacted;
+		} catch (InvalidSerializationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Serialize the compacted delta along with the 
+	 * precalculated hashes, so that they do not need to 
+	 * be recalculated when it is deserialized. The format is
+	 * [length of the serialized delta (4 bytes) || serialized delta || hashes]
+	 * @return
+	 */
+	public byte[] serialize() {
+		byte[] hashes = this.getNodeHashes();
+		return ByteBuffer.allocate(4 + this.buffer.length + hashes.length)
+				.putInt(this.buffer.length)
+				.put(this.buffer)
+				.put(hashes)
+				.array();
+	}
+
+	/**
+	 * Deserialize a compacted delta (see serialize())
+	 * @param asbytes
+	 * @return
+	 * @throws InvalidSerializationException - if it cannot be decoded
+	 */
+	public static MPTDictionaryDeltaArena deserialize(byte[] asbytes) throws InvalidSerializationException {
+		if(asbytes.length < 4) {
+			throw new InvalidSerializationException("truncated delta");
+		}
+		int length = ByteBuffer.wrap(asbytes).getInt();
+		if(length < 0 || length > asbytes.length - 4) {
+			throw new InvalidSerializationException("truncated delta");
+		}
+		byte[] serialized = Arrays.copyOfRange(asbytes, 4, 4+length);
+		byte[] hashes = Arrays.copyOfRange(asbytes, 4+length, asbytes.length);
+		return new MPTDictionaryDeltaArena(serialized, hashes);
+	}
+
+	@Override
+	public MptSerialization.MerklePrefixTrie getUpdates(final byte[] key) {
+		List<byte[]> keys = new ArrayList<byte[]>();
+		keys.add(key);
+		return this.getUpdates(keys);
+	}
+
+	@Override
+	public MptSerialization.MerklePrefixTrie getUpdates(final List<byte[]> keys) {
+		MptSerialization.Node root = this.getUpdatesHelper(keys, -1, 0);
+		MptSerialization.MerklePrefixTrie tree = MptSerialization.MerklePrefixTrie.newBuilder()
+				.setRoot(root)
+				.build();
+		return tree;
+	}
+
+	private MptSerialization.Node getUpdatesHelper(final List<byte[]> matchingKeys,
+			final int currentBitIndex, final int currentNode) {
+		int type = this.getType(currentNode);
+		// case: stub - this location has not changed
+		// 				--> avoid re-transmitting it by caching it on the client
+		if(type == STUB) {
+			return null;
+		}
+		// case: non-stub - this location has changed
+		// subcase: no matching keys - value is not needed
+		if(matchingKeys.size() == 0) {
+			// if empty, just send empty node
+			if(type == EMPTY_LEAF) {
+				return MptSerialization.Node.newBuilder()
+						.setEmptyleaf(MptSerialization.EmptyLeaf.newBuilder())
+						.build();
+			}
+			// if non-empty send stub
+			return MptSerialization.Node.newBuilder()
+					.setStub(MptSerialization.Stub.newBuilder()
+							.setHash(ByteString.copyFrom(this.getHash(currentNode))))
+					.build();
+		}
+		// subcase: have a matching key and at end of path
+		if(type == EMPTY_LEAF) {
+			return MptSerialization.Node.newBuilder().setEmptyleaf(
+					MptSerialization.EmptyLeaf.newBuilder()).build();
+		}
+		if(type != INTERIOR_NODE) {
+			// if non-empty send entire leaf (since value needed)
+			return this.serializeLeaf(currentNode);
+		}
+		// subcase: have a matching leaf and at intermediate node
+
+		// divide up keys into those that match the right prefix (...1)
+		// and those that match the left prefix (...0)
+		List<byte[]> matchRight = new ArrayList<byte[]>();
+		List<byte[]> matchLeft = new ArrayList<byte[]>();
+		for(byte[] key : matchingKeys) {
+			final boolean bit = Utils.getBit(key, currentBitIndex + 1);
+			if(bit) {
+				matchRight.add(key);
+			}else {
+				matchLeft.add(key);
+			}
+		}
+		MptSerialization.Node left = this.getUpdatesHelper(matchLeft, currentBitIndex+1,
+				this.getLeftChild(currentNode));
+		MptSerialization.Node right = this.getUpdatesHelper(matchRight, currentBitIndex+1,
+				this.getRightChild(currentNode));
+
+		// create an interior node to return
+		MptSerialization.InteriorNode.Builder interiorBuilder = MptSerialization.InteriorNode.newBuilder();
+		// omit unchanged stubs since they are cached on the client
+		if(right != null) {
+			interiorBuilder.setRight(right);
+		}
+		if(left != null) {
+			interiorBuilder.setLeft(left);
+		}
+		return MptSerialization.Node.newBuilder().setInteriorNode(interiorBuilder).build();
+	}
+
+	@Override
+	public MptSerialization.MerklePrefixTrie getPaths(final List<byte[]> keys) {
+		MptSerialization.Node root = this.getPathsHelper(keys, -1, 0);
+		return MptSerialization.MerklePrefixTrie.newBuilder()
+				.setRoot(root)
+				.build();
+	}
+
+	// (see MPTDictionaryPartial.copyMultiplePaths)
+	private MptSerialization.Node getPathsHelper(final List<byte[]> matchingKeys,
+			final int currentBitIndex, final int currentNode) {
+		int type = this.getType(currentNode);
+		if(type == EMPTY_LEAF) {
+			return MptSerialization.Node.newBuilder()
+					.setEmptyleaf(MptSerialization.EmptyLeaf.newBuilder())
+					.build();
+		}
+		// case: not on the path to any key
+		if(matchingKeys.size() == 0) {
+			byte[] hash = this.getHash(currentNode);
+			// (a delta has stubs for unchanged empty leaves)
+			if(type == STUB && Arrays.equals(hash, EmptyLeafNode.EMPTY_HASH)) {
+				return MptSerialization.Node.newBuilder()
+						.setEmptyleaf(MptSerialization.EmptyLeaf.newBuilder())
+						.build();
+			}
+			return MptSerialization.Node.newBuilder()
+					.setStub(MptSerialization.Stub.newBuilder()
+							.setHash(ByteString.copyFrom(hash)))
+					.build();
+		}
+		if(type == STUB) {
+			throw new RuntimeException("the path has not changed");
+		}
+		if(type != INTERIOR_NODE) {
+			return this.serializeLeaf(currentNode);
+		}
+		List<byte[]> matchRight = new ArrayList<byte[]>();
+		List<byte[]> matchLeft = new ArrayList<byte[]>();
+		for(byte[] key : matchingKeys) {
+			final boolean bit = Utils.getBit(key, currentBitIndex + 1);
+			if(bit) {
+				matchRight.add(key);
+			}else {
+				matchLeft.add(key);
+			}
+		}
+		return MptSerialization.Node.newBuilder()
+				.setInteriorNode(MptSerialization.InteriorNode.newBuilder()
+						.setLeft(this.getPathsHelper(matchLeft, currentBitIndex+1, 
+								this.getLeftChild(currentNode)))
+						.setRight(this.getPathsHelper(matchRight, currentBitIndex+1, 
+								this.getRightChild(currentNode))))
+				.build();
+	}
+
+	private MptSerialization.Node serializeLeaf(final int leaf) {
+		ByteString key = ByteString.copyFrom(this.buffer, this.getKeyOffset(leaf), this.getKeyLength(leaf));
+		ByteString value = ByteString.copyFrom(this.buffer, this.getValueOffset(leaf), this.getValueLength(leaf));
+		if(this.getType(leaf) == VERSIONED_LEAF) {
+			return MptSerialization.Node.newBuilder()
+					.setVersionedLeaf(MptSerialization.VersionedLeaf.newBuilder()
+							.setKey(key)
+							.setValue(value)
+							.setVersion(this.getVersion(leaf)))
+					.build();
+		}
+		return MptSerialization.Node.newBuilder()
+				.setLeaf(MptSerialization.Leaf.newBuilder()
+						.setKey(key)
+						.setValue(value))
+				.build();
+	}
+
+	@Override
+	public String toString() {
+		return "<MPTDictionaryDeltaArena nodes: "+this.countNodes()+">";
+	}
+
+}
@@ -1,6 +1,11 @@
 package mpt.dictionary;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -14,6 +19,7 @@ import mpt.core.InteriorNode;
 import mpt.core.InvalidSerializationException;
 import mpt.core.Node;
 import mpt.core.Utils;
+import mpt.core.VersionedDictionaryLeafNode;
 import serialization.generated.MptSerialization;
 
 /**
@@ -60,7 +66,29 @@ public class MPTDictionaryFull implements AuthenticatedDictionaryServer {
 		assert value.length == CryptographicDigest.getSizeBytes();
 		LOGGER.log(Level.FINE,
 				"insert(" + Utils.byteArrayAsHexString(key) +") = " + Utils.byteArrayAsHexString(value));
-		MPTDictionaryFull.insertHelper(key, value, -1, this.root);
+		MPTDictionaryFull.insertHelper(key, value, VersionedDictionaryLeafNode.NO_VERSION, -1, this.root);
+	}
+
+	/**
+	 * Insert a key-value mapping into a versioned leaf. In addition
+	 * to the key and value the leaf commits to the version - the 
+	 * commitment number at which the value was set. A proof of the 
+	 * leaf in any later commitment shows that the value has not 
+	 * changed since that version.
+	 * 
+	 * @param key
+	 * @param value
+	 * @param version - the commitment number at which this mapping 
+	 * will be committed, must be non-negative
+	 */
+	public void insert(final byte[] key, final byte[] value, final int version) {
+		assert key.length == CryptographicDigest.getSizeBytes();
+		assert value.length == CryptographicDigest.getSizeBytes();
+		assert version >= 0;
+		LOGGER.log(Level.FINE,
+				"insert(" + Utils.byteArrayAsHexString(key) +") = " + Utils.byteArrayAsHexString(value)+
+				" @ version "+version);
+		MPTDictionaryFull.insertHelper(key, value, version, -1, this.root);
 	}
 
 	/**
@@ -74,52 +102,87 @@ public class MPTDictionaryFull implements AuthenticatedDictionaryServer {
 	 * 
 	 * @param key
 	 * @param value
+	 * @param version - the version of a versioned leaf or
+	 * VersionedDictionaryLeafNode.NO_VERSION for a plain leaf
 	 * @param currentBitIndex
 	 * @param currentNode the 
 	 * @return
 	 */
-	private static Node insertHelper(final byte[] key, final byte[] value, 
+	static Node insertHelper(final byte[] key, final byte[] value, final int version,
 			final int currentBitIndex, final Node currentNode) {
 		// when we hit a leaf we know where we need to insert
 		if (currentNode.isLeaf()) {
 			// this key is already in the tree, update existing mapping
 			if (Arrays.equals(currentNode.getKey(), key)) {
-				// update the value
-				currentNode.setValue(value);
-				return currentNode;
+				if (currentNode instanceof VersionedDictionaryLeafNode && 
+						version != VersionedDictionaryLeafNode.NO_VERSION) {
+					// update the value and the version
+					((VersionedDictionaryLeafNode) currentNode).setValue(value, version);
+					return currentNode;
+				}
+				if (currentNode instanceof DictionaryLeafNode && 
+						version == VersionedDictionaryLeafNode.NO_VERSION) {
+					// update the value
+					currentNode.setValue(value);
+					return currentNode;
+				}
+				// the kind of leaf changes, so replace it
+				return MPTDictionaryFull.newLeaf(key, value, version);
 			}
 			// if the key is not in the tree add it
-			DictionaryLeafNode nodeToAdd = new DictionaryLeafNode(key, value);
+			Node nodeToAdd = MPTDictionaryFull.newLeaf(key, value, version);
 			if (currentNode.isEmpty()) {
 				// if the current leaf is empty, just replace it
 				return nodeToAdd;
 			}
 			// otherwise we need to "split"
-			DictionaryLeafNode currentLeafNode = (DictionaryLeafNode) currentNode;
 			// mark the current node as "changed" even though 
 			// its value hasn't since it is now in a new location 
 			// in the MPT
-			currentLeafNode.markChangedAll();
-			return MPTDictionaryFull.split(currentLeafNode, nodeToAdd, currentBitIndex);
+			currentNode.markChangedAll();
+			return MPTDictionaryFull.split(currentNode, nodeToAdd, currentBitIndex);
 		}
 		boolean bit = Utils.getBit(key, currentBitIndex + 1);
 		/*
 		 * Encoding: if bit is 1 -> go right if bit is 0 -> go left
 		 */
 		if (bit) {
-			Node newRightChild = MPTDictionaryFull.insertHelper(key, value, currentBitIndex + 1,
+			Node newRightChild = MPTDictionaryFull.insertHelper(key, value, version, currentBitIndex + 1,
 					currentNode.getRightChild());
 			// update the right child
 			currentNode.setRightChild(newRightChild);
 			return currentNode;
 
 		}
-		Node newLeftChild = MPTDictionaryFull.insertHelper(key, value, currentBitIndex + 1, currentNode.getLeftChild());
+		Node newLeftChild = MPTDictionaryFull.insertHelper(key, value, version, currentBitIndex + 1, 
+				currentNode.getLeftChild());
 		currentNode.setLeftChild(newLeftChild);
 		return currentNode;
 	}
 
-	private static Node split(final DictionaryLeafNode a, final DictionaryLeafNode b, final int currentBitIndex) {
+	private static Node newLeaf(final byte[] key, final byte[] value, final int version) {
+		if (version == VersionedDictionaryLeafNode.NO_VERSION) {
+			return new DictionaryLeafNode(key, value);
+		}
+		return new VersionedDictionaryLeafNode(key, value, version);
+	}
+
+	/**
+	 * Returns a new copy of a non-empty dictionary leaf 
+	 * (versioned or not)
+	 * @param leaf
+	 * @return
+	 */
+	static Node copyLeaf(final Node leaf) {
+		assert leaf.isLeaf() && !leaf.isEmpty();
+		if (leaf instanceof VersionedDictionaryLeafNode) {
+			return new VersionedDictionaryLeafNode(leaf.getKey(), leaf.getValue(), 
+					((VersionedDictionaryLeafNode) leaf).getVersion());
+		}
+		return new DictionaryLeafNode(leaf.getKey(), leaf.getValue());
+	}
+
+	private static Node split(final Node a, final Node b, final int currentBitIndex) {
 		assert !Arrays.equals(a.getKey(), b.getKey());
 		boolean bitA = Utils.getBit(a.getKey(), currentBitIndex + 1);
 		boolean bitB = Utils.getBit(b.getKey(), currentBitIndex + 1);
@@ -151,7 +214,7 @@ public class MPTDictionaryFull implements AuthenticatedDictionaryServer {
 		return MPTDictionaryFull.getHelper(this.root, key, -1);
 	}
 
-	private static byte[] getHelper(final Node currentNode, final byte[] key, final int currentBitIndex) {
+	static byte[] getHelper(final Node currentNode, final byte[] key, final int currentBitIndex) {
 		if (currentNode.isLeaf()) {
 			if (!currentNode.isEmpty()) {
 				// if the current node is NonEmpty and matches the Key
@@ -176,7 +239,7 @@ public class MPTDictionaryFull implements AuthenticatedDictionaryServer {
 		MPTDictionaryFull.deleteHelper(key, -1, this.root, true);
 	}
 
-	private static Node deleteHelper(final byte[] key, final int currentBitIndex, final Node currentNode, 
+	static Node deleteHelper(final byte[] key, final int currentBitIndex, final Node currentNode, 
 			final boolean isRoot) {
 		if (currentNode.isLeaf()) {
 			if (!currentNode.isEmpty()) {
@@ -225,6 +288,61 @@ public class MPTDictionaryFull implements AuthenticatedDictionaryServer {
 		return currentNode;
 	};
 
+	/**
+	 * Returns the keys whose mapping differs between two MPTs: 
+	 * keys that were inserted, deleted or mapped to a new value
+	 * (or version). Only subtrees whose hashes differ are visited, 
+	 * so the cost is proportional to the size of the difference.
+	 * @param a
+	 * @param b
+	 * @return the changed keys, in no particular order
+	 */
+	public static List<byte[]> changedKeys(final MPTDictionaryFull a, final MPTDictionaryFull b) {
+		Map<ByteBuffer, Node> leavesA = new HashMap<>();
+		Map<ByteBuffer, Node> leavesB = new HashMap<>();
+		MPTDictionaryFull.changedLeavesHelper(a.root, b.root, leavesA, leavesB);
+		List<byte[]> changed = new ArrayList<>();
+		for(Map.Entry<ByteBuffer, Node> entry : leavesA.entrySet()) {
+			Node leafB = leavesB.get(entry.getKey());
+			// a leaf that has only moved is unchanged
+			if(leafB == null || !Arrays.equals(entry.getValue().getHash(), leafB.getHash())) {
+				changed.add(entry.getKey().array());
+			}
+		}
+		for(ByteBuffer key : leavesB.keySet()) {
+			if(!leavesA.containsKey(key)) {
+				changed.add(key.array());
+			}
+		}
+		return changed;
+	}
+	
+	private static void changedLeavesHelper(final Node a, final Node b, 
+			final Map<ByteBuffer, Node> leavesA, final Map<ByteBuffer, Node> leavesB) {
+		if(Arrays.equals(a.getHash(), b.getHash())) {
+			return;
+		}
+		if(!a.isLeaf() && !b.isLeaf()) {
+			MPTDictionaryFull.changedLeavesHelper(a.getLeftChild(), b.getLeftChild(), leavesA, leavesB);
+			MPTDictionaryFull.changedLeavesHelper(a.getRightChild(), b.getRightChild(), leavesA, leavesB);
+			return;
+		}
+		// the structure differs, so collect all the leaves on each side
+		MPTDictionaryFull.collectLeavesHelper(a, leavesA);
+		MPTDictionaryFull.collectLeavesHelper(b, leavesB);
+	}
+	
+	private static void collectLeavesHelper(final Node currentNode, final Map<ByteBuffer, Node> leaves) {
+		if(currentNode.isLeaf()) {
+			if(!currentNode.isEmpty()) {
+				leaves.put(ByteBuffer.wrap(currentNode.getKey()), currentNode);
+			}
+			return;
+		}
+		MPTDictionaryFull.collectLeavesHelper(currentNode.getLeftChild(), leaves);
+		MPTDictionaryFull.collectLeavesHelper(currentNode.getRightChild(), leaves);
+	}
+
 	@Override
 	public byte[] commitment() {
 		return this.root.getHash();
@@ -261,6 +379,16 @@ public class MPTDictionaryFull implements AuthenticatedDictionaryServer {
 				throw new InvalidSerializationException("dictionary leaf must have key and value");
 			}
 			return new DictionaryLeafNode(leaf.getKey().toByteArray(), leaf.getValue().toByteArray());
+		case VERSIONED_LEAF:
+			MptSerialization.VersionedLeaf versionedLeaf = nodeSerialization.getVersionedLeaf();
+			if (versionedLeaf.getKey().isEmpty() || versionedLeaf.getValue().isEmpty()) {
+				throw new InvalidSerializationException("dictionary leaf must have key and value");
+			}
+			if (versionedLeaf.getVersion() < 0) {
+				throw new InvalidSerializationException("version must be non-negative");
+			}
+			return new VersionedDictionaryLeafNode(versionedLeaf.getKey().toByteArray(), 
+					versionedLeaf.getValue().toByteArray(), versionedLeaf.getVersion());
 		case EMPTYLEAF:
 			return new EmptyLeafNode();
 		case NODE_NOT_SET:
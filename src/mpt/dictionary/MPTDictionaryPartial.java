@@ -15,6 +15,7 @@ import mpt.core.DictionaryLeafNode;
 import mpt.core.Node;
 import mpt.core.Stub;
 import mpt.core.Utils;
+import mpt.core.VersionedDictionaryLeafNode;
 import serialization.generated.MptSerialization;
 
 /**
@@ -65,12 +66,19 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 	}
 	
 	/**
-	 * Create a partial MPT from the full MPT such that 
-	 * the partial contains the specified key mappings 
-	 * (if the key exists and a path to a leaf if it does not) 
-	 * along with the required authentication information. 
-	 * @param fullMPT - the full MPT to copy mappings and authentication 
-	 * information from 
+	 * Create a partial MPT from the full MPT such that
+	 * the partial contains the specified key mappings
+	 * (if the key exists and a path to a leaf if it does not)
+	 * along with the required authentication information.
+	 *
+	 * Paths that share a prefix are only copied once, so this
+	 * is a single (deduplicated) multiproof for all of the keys.
+	 * In particular for a batch of keys that are not in the
+	 * dictionary it contains exactly the empty leaves and
+	 * divergent leaves that witness their absence, which
+	 * can be checked with get(List).
+	 * @param fullMPT - the full MPT to copy mappings and authentication
+	 * information from
 	 * @param keys - the key mappings to copy
 	 */
 	public MPTDictionaryPartial(MPTDictionaryFull fullMPT, List<byte[]> keys) {
@@ -83,6 +91,39 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 		this.root = root;
 	}
 	
+	/**
+	 * Create a partial MPT from a delta, for keys whose entire 
+	 * path has changed (see MPTDictionaryDelta.containsPath). 
+	 * The result is the same as creating the partial MPT from
+	 * the full MPT at the commitment of the delta, so a
+	 * delta can stand in for a snapshot of the full MPT.
+	 * @param delta - the delta to copy mappings and authentication
+	 * information from
+	 * @param keys - the key mappings to copy, all paths must be contained
+	 * in the delta
+	 */
+	public MPTDictionaryPartial(MPTDictionaryDelta delta, List<byte[]> keys) {
+		for(byte[] key : keys) {
+			assert delta.containsPath(key);
+		}
+		Node root = MPTDictionaryPartial.copyMultiplePaths(keys, delta.root, -1);
+		this.root = root;
+	}
+	
+	/**
+	 * Create a partial MPT with only some of the key mappings of 
+	 * a (larger) partial MPT, e.g. to give the proof for a single 
+	 * key from a proof for many keys. 
+	 * @param partialMPT - the partial MPT to copy mappings and 
+	 * authentication information from
+	 * @param keys - the key mappings to copy, all must be contained 
+	 * in the partial MPT
+	 */
+	public MPTDictionaryPartial(MPTDictionaryPartial partialMPT, List<byte[]> keys) {
+		Node root = MPTDictionaryPartial.copyMultiplePaths(keys, partialMPT.root, -1);
+		this.root = root;
+	}
+	
 	private MPTDictionaryPartial(InteriorNode root) {
 		this.root = root;
 	}
@@ -93,7 +134,12 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 			if(copyNode.isEmpty()) {
 				return new EmptyLeafNode();
 			}
-			return new Stub(copyNode.getHash());
+			byte[] hash = copyNode.getHash();
+			// (a delta has stubs for unchanged empty leaves)
+			if(copyNode.isStub() && Arrays.equals(hash, EmptyLeafNode.EMPTY_HASH)) {
+				return new EmptyLeafNode();
+			}
+			return new Stub(hash);
 		}
 		// case: if this is on the path to a key hash
 		// subcase: if we are at the end of a path
@@ -101,7 +147,7 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 			if(copyNode.isEmpty()) {
 				return new EmptyLeafNode();
 			}
-			return new DictionaryLeafNode(copyNode.getKey(), copyNode.getValue());
+			return MPTDictionaryFull.copyLeaf(copyNode);
 		}
 		// subcase: intermediate node
 		
@@ -130,6 +176,15 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 
 	private static byte[] getHelper(final Node currentNode, final byte[] key, final int currentBitIndex) 
 			throws InsufficientAuthenticationDataException {
+		Node leaf = MPTDictionaryPartial.getLeafHelper(currentNode, key, currentBitIndex);
+		if (leaf == null) {
+			return null;
+		}
+		return leaf.getValue();
+	}
+
+	private static Node getLeafHelper(final Node currentNode, final byte[] key, final int currentBitIndex) 
+			throws InsufficientAuthenticationDataException {
 		if (currentNode.isStub()) {
 			throw new InsufficientAuthenticationDataException(
 					"stub encountered at: " + Utils.byteArrayPrefixAsBitString(key, currentBitIndex));
@@ -138,7 +193,7 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 			if (!currentNode.isEmpty()) {
 				// if the current node is NonEmpty and matches the Key
 				if (Arrays.equals(currentNode.getKey(), key)) {
-					return currentNode.getValue();
+					return currentNode;
 				}
 			}
 			// otherwise key not in the MPT - return null;
@@ -146,11 +201,85 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 		}
 		boolean bit = Utils.getBit(key, currentBitIndex + 1);
 		if (bit) {
-			return MPTDictionaryPartial.getHelper(currentNode.getRightChild(), key, currentBitIndex + 1);
+			return MPTDictionaryPartial.getLeafHelper(currentNode.getRightChild(), key, currentBitIndex + 1);
 		}
-		return MPTDictionaryPartial.getHelper(currentNode.getLeftChild(), key, currentBitIndex + 1);
+		return MPTDictionaryPartial.getLeafHelper(currentNode.getLeftChild(), key, currentBitIndex + 1);
 	}
-	
+
+	/**
+	 * Returns the version of the value mapped to by the key - the 
+	 * commitment number at which the value was last changed. 
+	 * Since the version is part of the commitment, this shows 
+	 * that the value has not changed between the version and 
+	 * the commitment of this partial MPT.
+	 * @param key - a fixed length byte array representing the key
+	 * @return the version, or VersionedDictionaryLeafNode.NO_VERSION if 
+	 * the key is not in the MPT or is not stored in a versioned leaf
+	 * @throws InsufficientAuthenticationDataException - thrown if 
+	 * there is not enough authentication information to determine 
+	 * the version
+	 */
+	public int getVersion(final byte[] key) throws InsufficientAuthenticationDataException {
+		assert key.length == CryptographicDigest.getSizeBytes();
+		Node leaf = MPTDictionaryPartial.getLeafHelper(this.root, key, -1);
+		if (leaf instanceof VersionedDictionaryLeafNode) {
+			return ((VersionedDictionaryLeafNode) leaf).getVersion();
+		}
+		return VersionedDictionaryLeafNode.NO_VERSION;
+	}
+
+	@Override
+	public List<byte[]> get(final List<byte[]> keys) throws InsufficientAuthenticationDataException {
+		List<Integer> indexes = new ArrayList<>(keys.size());
+		for(int i = 0; i < keys.size(); i++) {
+			assert keys.get(i).length == CryptographicDigest.getSizeBytes();
+			indexes.add(i);
+		}
+		byte[][] values = new byte[keys.size()][];
+		MPTDictionaryPartial.getMultipleHelper(this.root, keys, indexes, values, -1);
+		return Arrays.asList(values);
+	}
+
+	private static void getMultipleHelper(final Node currentNode, final List<byte[]> keys,
+			final List<Integer> matchingIndexes, final byte[][] values, final int currentBitIndex)
+			throws InsufficientAuthenticationDataException {
+		// no keys are on this path
+		if(matchingIndexes.size() == 0) {
+			return;
+		}
+		if (currentNode.isStub()) {
+			throw new InsufficientAuthenticationDataException(
+					"stub encountered at: " +
+					Utils.byteArrayPrefixAsBitString(keys.get(matchingIndexes.get(0)), currentBitIndex));
+		}
+		if (currentNode.isLeaf()) {
+			if (!currentNode.isEmpty()) {
+				// a non-empty leaf is the value of at most one key,
+				// every other key on this path is not in the MPT
+				byte[] leafKey = currentNode.getKey();
+				for(int index : matchingIndexes) {
+					if (Arrays.equals(leafKey, keys.get(index))) {
+						values[index] = currentNode.getValue();
+					}
+				}
+			}
+			return;
+		}
+		// divide up keys into those that match the right prefix (...1)
+		// and those that match the left prefix (...0)
+		List<Integer> matchRight = new ArrayList<>();
+		List<Integer> matchLeft = new ArrayList<>();
+		for(int index : matchingIndexes) {
+			if(Utils.getBit(keys.get(index), currentBitIndex + 1)) {
+				matchRight.add(index);
+			}else {
+				matchLeft.add(index);
+			}
+		}
+		MPTDictionaryPartial.getMultipleHelper(currentNode.getLeftChild(), keys, matchLeft, values, currentBitIndex + 1);
+		MPTDictionaryPartial.getMultipleHelper(currentNode.getRightChild(), keys, matchRight, values, currentBitIndex + 1);
+	}
+
 	public byte[] commitment() {
 		return this.root.getHash();
 	}
@@ -201,7 +330,65 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 		//this.root = (InteriorNode) newRoot;
 		this.root = newRoot;
 	}
-	
+
+	/**
+	 * Merge another partial MPT with the same commitment into
+	 * this one. Afterwards this partial MPT contains the
+	 * union of the paths in both.
+	 *
+	 * A client tracking many keys can keep a single merged
+	 * partial MPT instead of one per key, so that nodes
+	 * shared by the paths (in particular near the root)
+	 * are only stored once and each update (see getUpdates(List))
+	 * is processed in a single pass.
+	 * @param other - a partial MPT with the same commitment. It
+	 * is not modified, but its nodes may be shared with this
+	 * partial MPT so it should not be used afterwards.
+	 * @throws InvalidSerializationException - if the commitments
+	 * do not match
+	 */
+	public void merge(MPTDictionaryPartial other) throws InvalidSerializationException {
+		if(!Arrays.equals(this.commitment(), other.commitment())) {
+			throw new InvalidSerializationException("cannot merge partial MPTs with different commitments");
+		}
+		this.root = MPTDictionaryPartial.mergeHelper(this.root, other.root);
+	}
+
+	/**
+	 * Merge a list of partial MPTs with the same commitment
+	 * into a single partial MPT
+	 * @param partials - the partial MPTs to merge (must be non-empty).
+	 * These should not be used afterwards.
+	 * @return
+	 * @throws InvalidSerializationException - if the commitments
+	 * do not match
+	 */
+	public static MPTDictionaryPartial merge(List<MPTDictionaryPartial> partials)
+			throws InvalidSerializationException {
+		MPTDictionaryPartial merged = new MPTDictionaryPartial((InteriorNode) partials.get(0).root);
+		for(int i = 1; i < partials.size(); i++) {
+			merged.merge(partials.get(i));
+		}
+		return merged;
+	}
+
+	private static Node mergeHelper(Node currentNode, Node otherNode) {
+		// since the hashes match, a stub in one
+		// is the same subtree as the node in the other
+		if(currentNode.isStub()) {
+			return otherNode;
+		}
+		if(otherNode.isStub() || currentNode.isLeaf()) {
+			return currentNode;
+		}
+		Node left = MPTDictionaryPartial.mergeHelper(currentNode.getLeftChild(), otherNode.getLeftChild());
+		Node right = MPTDictionaryPartial.mergeHelper(currentNode.getRightChild(), otherNode.getRightChild());
+		if(left == currentNode.getLeftChild() && right == currentNode.getRightChild()) {
+			return currentNode;
+		}
+		return new InteriorNode(left, right);
+	}
+
 	private static Node parseNode(MptSerialization.Node nodeSerialization) throws InvalidSerializationException {
 		switch (nodeSerialization.getNodeCase()) {
 		case INTERIOR_NODE:
@@ -224,6 +411,8 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 				throw new InvalidSerializationException("leaf doesn't have required keyhash and value");
 			}
 			return new DictionaryLeafNode(leaf.getKey().toByteArray(), leaf.getValue().toByteArray());
+		case VERSIONED_LEAF:
+			return MPTDictionaryPartial.parseVersionedLeaf(nodeSerialization.getVersionedLeaf());
 		case EMPTYLEAF:
 			return new EmptyLeafNode();
 		case NODE_NOT_SET:
@@ -239,7 +428,7 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 		case EMPTYLEAF:
 			//System.out.println(updatedNode);
 			//System.out.println("is empty leaf");
-			return new EmptyLeafNode();
+			return MPTDictionaryPartial.reuseCachedNode(currentNode, new EmptyLeafNode());
 		case INTERIOR_NODE:
 			//System.out.println(updatedNode);
 			//System.out.println("is interior node");
@@ -253,23 +442,36 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 				left = currentNode.getLeftChild();
 				right = currentNode.getRightChild();	
 			}
+			Node newLeft = left;
+			Node newRight = right;
 			if(interiorNode.hasLeft()) {
-				left = MPTDictionaryPartial.parseNodeUsingCachedValues(left, interiorNode.getLeft());
+				newLeft = MPTDictionaryPartial.parseNodeUsingCachedValues(left, interiorNode.getLeft());
 			}
 			if(interiorNode.hasRight()) {
-				right = MPTDictionaryPartial.parseNodeUsingCachedValues(right, interiorNode.getRight());
+				newRight = MPTDictionaryPartial.parseNodeUsingCachedValues(right, interiorNode.getRight());
 			}
-			return new InteriorNode(left, right);
+			// if neither child has changed the current node (and its 
+			// cached hash) can be reused, so that only the hashes 
+			// on the changed paths are recalculated
+			if(newLeft == left && newRight == right && currentNode != null && 
+					!currentNode.isLeaf() && !currentNode.isStub()) {
+				return currentNode;
+			}
+			return new InteriorNode(newLeft, newRight);
 		case LEAF:
 			//System.out.println(updatedNode);
 			//System.out.println("is leaf");
 			MptSerialization.Leaf leaf = updatedNode.getLeaf();
-			return new DictionaryLeafNode(leaf.getKey().toByteArray(), leaf.getValue().toByteArray());
+			return MPTDictionaryPartial.reuseCachedNode(currentNode, 
+					new DictionaryLeafNode(leaf.getKey().toByteArray(), leaf.getValue().toByteArray()));
+		case VERSIONED_LEAF:
+			return MPTDictionaryPartial.reuseCachedNode(currentNode, 
+					MPTDictionaryPartial.parseVersionedLeaf(updatedNode.getVersionedLeaf()));
 		case STUB:
 			//System.out.println(updatedNode);
 			//System.out.println("is STUB");
 			MptSerialization.Stub stub = updatedNode.getStub();
-			return new Stub(stub.getHash().toByteArray());
+			return MPTDictionaryPartial.reuseCachedNode(currentNode, new Stub(stub.getHash().toByteArray()));
 		case NODE_NOT_SET:
 			throw new InvalidSerializationException("tried to use a cached node that is not present");
 		default:
@@ -277,6 +479,30 @@ public class MPTDictionaryPartial implements AuthenticatedDictionaryClient {
 		}
 	}
 	
+	/**
+	 * Returns the cached node if it is identical to the updated 
+	 * node, since the cached node may already have calculated 
+	 * its hash
+	 */
+	private static Node reuseCachedNode(Node currentNode, Node updatedNode) {
+		if(updatedNode.equals(currentNode)) {
+			return currentNode;
+		}
+		return updatedNode;
+	}
+	
+	private static Node parseVersionedLeaf(MptSerialization.VersionedLeaf leaf) 
+			throws InvalidSerializationException {
+		if (leaf.getKey().isEmpty() || leaf.getValue().isEmpty()) {
+			throw new InvalidSerializationException("leaf doesn't have required keyhash and value");
+		}
+		if (leaf.getVersion() < 0) {
+			throw new InvalidSerializationException("leaf version must be non-negative");
+		}
+		return new VersionedDictionaryLeafNode(leaf.getKey().toByteArray(), leaf.getValue().toByteArray(), 
+				leaf.getVersion());
+	}
+	
 	@Override
 	public MptSerialization.MerklePrefixTrie serialize() {
 		MptSerialization.Node rootSerialization = this.root.serialize();
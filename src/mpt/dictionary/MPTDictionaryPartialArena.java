@@ -0,0 +1,90 @@
+package mpt.dictionary;
+
+import java.util.Arrays;
+
+import crpyto.CryptographicDigest;
+import mpt.core.InsufficientAuthenticationDataException;
+import mpt.core.InvalidSerializationException;
+import mpt.core.VersionedDictionaryLeafNode;
+
+/**
+ * A read-only partial Merkle Prefix Trie (MPT) dictionary stored 
+ * in an arena (see MPTArena). Decoding a proof into an arena 
+ * allocates a few arrays rather than an object for every node 
+ * and a copy of every key, value and hash, so it is suited
+ * to verifying large numbers of proofs. 
+ * 
+ * Lookups and commitments are identical to those of 
+ * the same proof deserialized as a MPTDictionaryPartial,
+ * except that stubs must contain a hash of the correct size.
+ * To apply updates, use MPTDictionaryPartial instead.
+ * 
+ * @author henryaspegren
+ *
+ */
+public class MPTDictionaryPartialArena extends MPTDictionaryArena {
+	
+	private MPTDictionaryPartialArena(byte[] asbytes) throws InvalidSerializationException {
+		super(asbytes);
+	}
+	
+	/**
+	 * Decode a partial MPT from bytes. The bytes are NOT copied
+	 * and must not be changed afterwards.
+	 * @param asbytes
+	 * @return
+	 * @throws InvalidSerializationException - if the serialization cannot be decoded
+	 */
+	public static MPTDictionaryPartialArena deserialize(byte[] asbytes) throws InvalidSerializationException {
+		return new MPTDictionaryPartialArena(asbytes);
+	}
+
+	private int findMatchingLeaf(final byte[] key) throws InsufficientAuthenticationDataException {
+		assert key.length == CryptographicDigest.getSizeBytes();
+		int leaf = this.findLeaf(key);
+		if(this.getType(leaf) == EMPTY_LEAF || 
+				!this.bytesEqual(this.getKeyOffset(leaf), this.getKeyLength(leaf), key)) {
+			return -1;
+		}
+		return leaf;
+	}
+	
+	/**
+	 * Get the value mapped to by the key or null if the 
+	 * key is not mapped to anything.
+	 * @param key - a fixed length byte array representing the key
+	 * @return
+	 * @throws InsufficientAuthenticationDataException - if there is not 
+	 * enough authentication information to determine the mapping
+	 */
+	public byte[] get(final byte[] key) throws InsufficientAuthenticationDataException {
+		int leaf = this.findMatchingLeaf(key);
+		if(leaf == -1) {
+			return null;
+		}
+		int valueOffset = this.getValueOffset(leaf);
+		return Arrays.copyOfRange(this.buffer, valueOffset, valueOffset + this.getValueLength(leaf));
+	}
+	
+	/**
+	 * Returns the version of the value mapped to by the key
+	 * @param key - a fixed length byte array representing the key
+	 * @return the version or VersionedDictionaryLeafNode.NO_VERSION if 
+	 * the key is not in the MPT or is not stored in a versioned leaf
+	 * @throws InsufficientAuthenticationDataException - if there is not 
+	 * enough authentication information to determine the version
+	 */
+	public int getVersion(final byte[] key) throws InsufficientAuthenticationDataException {
+		int leaf = this.findMatchingLeaf(key);
+		if(leaf == -1 || this.getType(leaf) != VERSIONED_LEAF) {
+			return VersionedDictionaryLeafNode.NO_VERSION;
+		}
+		return this.getVersion(leaf);
+	}
+
+	@Override
+	public String toString() {
+		return "<MPTDictionaryPartialArena nodes: "+this.countNodes()+">";
+	}
+
+}
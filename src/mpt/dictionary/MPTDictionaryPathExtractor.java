@@ -0,0 +1,308 @@
+package mpt.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.google.protobuf.ByteString;
+
+import mpt.core.EmptyLeafNode;
+import mpt.core.Node;
+import mpt.core.Utils;
+import serialization.generated.MptSerialization;
+
+/**
+ * Extracts the (serialized) paths for many groups of keys at once.
+ *
+ * The result for each group of keys is identical to
+ * new MPTDictionaryPartial(mpt, keys).serialize(), but instead
+ * of walking the trie from the root once per group,
+ * the trie is traversed once for all of the groups: the keys
+ * (tagged with their group) are split at each node, so the upper
+ * levels shared by all of the paths are only visited once.
+ * The serialized subtrees are immutable and shared between the
+ * groups wherever they are the same (e.g. leaves and stubs).
+ *
+ * Large subtrees are traversed in parallel.
+ *
+ * The path to a single key as of an earlier commitment can 
+ * also be reconstructed from the deltas (see extractPath).
+ *
+ * @author henryaspegren
+ *
+ */
+public class MPTDictionaryPathExtractor {
+
+	// subtrees with fewer keys are traversed sequentially
+	private static final int PARALLEL_THRESHOLD = 512;
+
+	private static final MptSerialization.Node EMPTY_LEAF = MptSerialization.Node.newBuilder()
+			.setEmptyleaf(MptSerialization.EmptyLeaf.newBuilder())
+			.build();
+
+	/**
+	 * Extract the paths for each group of keys from a (committed) full MPT
+	 * @param fullMPT - the MPT to copy from
+	 * @param keyGroups - the groups of keys
+	 * @return the serialized partial MPT for each group, in the same order
+	 */
+	public static List<MptSerialization.MerklePrefixTrie> extractPaths(MPTDictionaryFull fullMPT,
+			List<List<byte[]>> keyGroups) {
+		return MPTDictionaryPathExtractor.extractPathsHelper(fullMPT.root, keyGroups);
+	}
+
+	/**
+	 * Extract the paths for each group of keys from a delta. The
+	 * entire path to each key must be contained in the delta
+	 * (see MPTDictionaryDelta.containsPath)
+	 * @param delta - the delta to copy from
+	 * @param keyGroups - the groups of keys
+	 * @return the serialized partial MPT for each group, in the same order
+	 */
+	public static List<MptSerialization.MerklePrefixTrie> extractPaths(MPTDictionaryDelta delta,
+			List<List<byte[]>> keyGroups) {
+		for(List<byte[]> keys : keyGroups) {
+			for(byte[] key : keys) {
+				assert delta.containsPath(key);
+			}
+		}
+		return MPTDictionaryPathExtractor.extractPathsHelper(delta.root, keyGroups);
+	}
+
+	/**
+	 * Reconstruct the path to a key as of an earlier commitment 
+	 * from the changes (deltas) for the commitments up to it, 
+	 * without a copy of the MPT at that commitment.
+	 * 
+	 * Starting with the most recent change, each node on the path 
+	 * (and next to it) is taken from the most recent change to that 
+	 * node, so only the changes back to the last change of every 
+	 * node on the path are used. The result is identical to 
+	 * new MPTDictionaryPartial(mpt, key).serialize() for the MPT 
+	 * at the commitment of the last change. 
+	 * @param key - the key
+	 * @param changes - the changes for consecutive commitments,
+	 * ending at the commitment for the path
+	 * @return the serialized path (or null if the changes do not 
+	 * go back far enough)
+	 */
+	public static MptSerialization.MerklePrefixTrie extractPath(byte[] key,
+			List<? extends AuthenticatedDictionaryChanges> changes) {
+		// siblings[d] is the node next to the path at depth d 
+		// and the path ends at depth endDepth
+		MptSerialization.Node[] siblings = new MptSerialization.Node[key.length*8+1];
+		MptSerialization.Node end = null;
+		int endDepth = -1;
+		for(int i = changes.size()-1; i >= 0; i--) {
+			MptSerialization.Node node = changes.get(i).getUpdates(key).getRoot();
+			int depth = 0;
+			boolean changed = true;
+			while(node.hasInteriorNode()) {
+				MptSerialization.InteriorNode interiorNode = node.getInteriorNode();
+				boolean bit = Utils.getBit(key, depth);
+				depth++;
+				// (unchanged nodes are omitted from the updates)
+				if(siblings[depth] == null && (bit ? interiorNode.hasLeft() : interiorNode.hasRight())) {
+					siblings[depth] = bit ? interiorNode.getLeft() : interiorNode.getRight();
+				}
+				if(!(bit ? interiorNode.hasRight() : interiorNode.hasLeft())) {
+					// the rest of the path is unchanged
+					changed = false;
+					break;
+				}
+				node = bit ? interiorNode.getRight() : interiorNode.getLeft();
+			}
+			if(changed && end == null) {
+				end = node;
+				endDepth = depth;
+			}
+			if(end != null && MPTDictionaryPathExtractor.isComplete(siblings, endDepth)) {
+				// build the path from the end
+				MptSerialization.Node path = end;
+				for(int d = endDepth; d > 0; d--) {
+					boolean bit = Utils.getBit(key, d-1);
+					MptSerialization.InteriorNode.Builder interiorNode = MptSerialization.InteriorNode.newBuilder()
+							.setLeft(bit ? siblings[d] : path)
+							.setRight(bit ? path : siblings[d]);
+					path = MptSerialization.Node.newBuilder()
+							.setInteriorNode(interiorNode)
+							.build();
+				}
+				return MptSerialization.MerklePrefixTrie.newBuilder()
+						.setRoot(path)
+						.build();
+			}
+		}
+		return null;
+	}
+	
+	private static boolean isComplete(MptSerialization.Node[] siblings, int endDepth) {
+		for(int d = 1; d <= endDepth; d++) {
+			if(siblings[d] == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<MptSerialization.MerklePrefixTrie> extractPathsHelper(Node root,
+			List<List<byte[]>> keyGroups) {
+		// tag each key with its group, in order of the groups
+		List<KeyInGroup> keys = new ArrayList<>();
+		for(int group = 0; group < keyGroups.size(); group++) {
+			for(byte[] key : keyGroups.get(group)) {
+				keys.add(new KeyInGroup(key, group));
+			}
+		}
+		Paths paths = ForkJoinPool.commonPool().invoke(new ExtractPathsTask(keys, root, -1));
+		List<MptSerialization.MerklePrefixTrie> result = new ArrayList<>(keyGroups.size());
+		int next = 0;
+		for(int group = 0; group < keyGroups.size(); group++) {
+			MptSerialization.Node rootSerialization;
+			if(next < paths.groups.length && paths.groups[next] == group) {
+				rootSerialization = paths.nodes[next];
+				next++;
+			}else {
+				// no keys in the group
+				rootSerialization = MPTDictionaryPathExtractor.serializeOffPath(root);
+			}
+			result.add(MptSerialization.MerklePrefixTrie.newBuilder()
+					.setRoot(rootSerialization)
+					.build());
+		}
+		return result;
+	}
+
+	private static MptSerialization.Node serializeOffPath(Node node) {
+		if(node.isEmpty()) {
+			return EMPTY_LEAF;
+		}
+		byte[] hash = node.getHash();
+		// (a delta has stubs for unchanged empty leaves)
+		if(node.isStub() && Arrays.equals(hash, EmptyLeafNode.EMPTY_HASH)) {
+			return EMPTY_LEAF;
+		}
+		return MptSerialization.Node.newBuilder()
+				.setStub(MptSerialization.Stub.newBuilder()
+						.setHash(ByteString.copyFrom(hash)))
+				.build();
+	}
+
+	private static class KeyInGroup {
+		private final byte[] key;
+		private final int group;
+
+		private KeyInGroup(byte[] key, int group) {
+			this.key = key;
+			this.group = group;
+		}
+	}
+
+	/**
+	 * The serialized subtree for each group with
+	 * keys in the subtree, in order of the groups
+	 */
+	private static class Paths {
+		private final int[] groups;
+		private final MptSerialization.Node[] nodes;
+
+		private Paths(int[] groups, MptSerialization.Node[] nodes) {
+			this.groups = groups;
+			this.nodes = nodes;
+		}
+	}
+
+	private static class ExtractPathsTask extends RecursiveTask<Paths> {
+		private static final long serialVersionUID = 1L;
+
+		// keys in the subtree, in order of their groups
+		private final List<KeyInGroup> matchingKeys;
+		private final Node currentNode;
+		private final int currentBitIndex;
+
+		private ExtractPathsTask(List<KeyInGroup> matchingKeys, Node currentNode, int currentBitIndex) {
+			this.matchingKeys = matchingKeys;
+			this.currentNode = currentNode;
+			this.currentBitIndex = currentBitIndex;
+		}
+
+		@Override
+		protected Paths compute() {
+			if(this.matchingKeys.isEmpty()) {
+				return new Paths(new int[0], new MptSerialization.Node[0]);
+			}
+			// (keys are in order of their groups)
+			int[] groups = new int[this.matchingKeys.size()];
+			int nGroups = 0;
+			for(KeyInGroup key : this.matchingKeys) {
+				if(nGroups == 0 || groups[nGroups-1] != key.group) {
+					groups[nGroups] = key.group;
+					nGroups++;
+				}
+			}
+			groups = Arrays.copyOf(groups, nGroups);
+			MptSerialization.Node[] nodes = new MptSerialization.Node[groups.length];
+			// at the end of the paths
+			if(this.currentNode.isLeaf()) {
+				MptSerialization.Node leaf = this.currentNode.isEmpty() ? EMPTY_LEAF :
+					this.currentNode.serialize();
+				Arrays.fill(nodes, leaf);
+				return new Paths(groups, nodes);
+			}
+			// divide up keys into those that match the right prefix (...1)
+			// and those that match the left prefix (...0)
+			List<KeyInGroup> matchRight = new ArrayList<>();
+			List<KeyInGroup> matchLeft = new ArrayList<>();
+			for(KeyInGroup key : this.matchingKeys) {
+				final boolean bit = Utils.getBit(key.key, this.currentBitIndex + 1);
+				if(bit) {
+					matchRight.add(key);
+				}else {
+					matchLeft.add(key);
+				}
+			}
+			ExtractPathsTask leftTask = new ExtractPathsTask(matchLeft, this.currentNode.getLeftChild(),
+					this.currentBitIndex+1);
+			ExtractPathsTask rightTask = new ExtractPathsTask(matchRight, this.currentNode.getRightChild(),
+					this.currentBitIndex+1);
+			Paths leftPaths;
+			Paths rightPaths;
+			if(matchLeft.size() >= PARALLEL_THRESHOLD && matchRight.size() >= PARALLEL_THRESHOLD) {
+				leftTask.fork();
+				rightPaths = rightTask.compute();
+				leftPaths = leftTask.join();
+			}else {
+				leftPaths = leftTask.compute();
+				rightPaths = rightTask.compute();
+			}
+			// groups without keys in a subtree just get a stub
+			MptSerialization.Node leftOffPath = MPTDictionaryPathExtractor.serializeOffPath(
+					this.currentNode.getLeftChild());
+			MptSerialization.Node rightOffPath = MPTDictionaryPathExtractor.serializeOffPath(
+					this.currentNode.getRightChild());
+			int nextLeft = 0;
+			int nextRight = 0;
+			for(int i = 0; i < groups.length; i++) {
+				MptSerialization.Node left = leftOffPath;
+				if(nextLeft < leftPaths.groups.length && leftPaths.groups[nextLeft] == groups[i]) {
+					left = leftPaths.nodes[nextLeft];
+					nextLeft++;
+				}
+				MptSerialization.Node right = rightOffPath;
+				if(nextRight < rightPaths.groups.length && rightPaths.groups[nextRight] == groups[i]) {
+					right = rightPaths.nodes[nextRight];
+					nextRight++;
+				}
+				nodes[i] = MptSerialization.Node.newBuilder()
+						.setInteriorNode(MptSerialization.InteriorNode.newBuilder()
+								.setLeft(left)
+								.setRight(right))
+						.build();
+			}
+			return new Paths(groups, nodes);
+		}
+	}
+
+}
@@ -0,0 +1,293 @@
+package mpt.dictionary;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import crpyto.CryptographicDigest;
+import mpt.core.InsufficientAuthenticationDataException;
+import mpt.core.InvalidSerializationException;
+import mpt.core.MptWireReader;
+import mpt.core.Utils;
+import mpt.core.VersionedDictionaryLeafNode;
+import serialization.generated.MptSerialization;
+
+/**
+ * Verifies a serialized partial Merkle Prefix Trie (MPT) dictionary
+ * without deserializing it.
+ *
+ * MPTDictionaryPartial.deserialize builds a node for every entry
+ * in the proof and then hashes the nodes recursively, copying the
+ * hashes at every step. Instead this verifier walks the protobuf
+ * wire encoding of the proof once and calculates the commitment
+ * and looks up the value of a key in the same pass. The bytes of
+ * keys, values and stubs are hashed in place and the hashes of the
+ * children of each level are kept in a single reusable buffer,
+ * so no objects are created while verifying.
+ *
+ * The commitment and value are identical to what
+ * MPTDictionaryPartial would calculate for the same proof, except
+ * that stubs must contain a hash of the correct length and fields
+ * must not be repeated (protobuf would merge repeated fields, so 
+ * a repeated child could hide a leaf that is not hashed).
+ *
+ * NOT THREAD SAFE: a verifier can be reused for any number of
+ * proofs, but only by one thread at a time.
+ *
+ * @author henryaspegren
+ *
+ */
+public class MPTDictionaryProofVerifier {
+
+	private static final int HASH_SIZE = CryptographicDigest.getSizeBytes();
+
+	// the root is at level 0 and a leaf can be at
+	// most at the level of the last bit of the key
+	private static final int MAX_LEVELS = CryptographicDigest.getSizeBits() + 1;
+
+	private final MessageDigest digest;
+	private final MptWireReader reader;
+
+	// for each level, the hashes of the left and right child
+	// of the interior node at that level: [left || right]
+	private final byte[] childHashes;
+	private final byte[] versionBytes;
+	private final byte[] commitment;
+
+	// state of the current verification
+	private byte[] key;
+	// the value is copied out of the proof if the key is found
+	private byte[] value;
+	private int version;
+
+	public MPTDictionaryProofVerifier() {
+		try {
+			this.digest = MessageDigest.getInstance(CryptographicDigest.getHashFunction());
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+		this.reader = new MptWireReader();
+		this.childHashes = new byte[MAX_LEVELS*2*HASH_SIZE];
+		this.versionBytes = new byte[4];
+		this.commitment = new byte[HASH_SIZE];
+	}
+
+	/**
+	 * Verify a proof. Calculates the commitment of the
+	 * MPT and looks up the value mapped to by the key.
+	 * @param proof - a protobuf encoded partial MPT
+	 * @param key - the key to look up, or null to only
+	 * calculate the commitment
+	 * @return the commitment of the MPT, which should be compared
+	 * against a witnessed commitment
+	 * @throws InvalidSerializationException - if the proof cannot be decoded
+	 * @throws InsufficientAuthenticationDataException - if the
+	 * proof does not contain the path to the key
+	 */
+	public byte[] verify(final byte[] proof, final byte[] key)
+			throws InvalidSerializationException, InsufficientAuthenticationDataException {
+		assert key == null || key.length == CryptographicDigest.getSizeBytes();
+		this.reader.reset(proof);
+		this.key = key;
+		this.value = null;
+		this.version = VersionedDictionaryLeafNode.NO_VERSION;
+		this.digest.reset();
+		try {
+			boolean hasRoot = false;
+			while(this.reader.hasRemaining(proof.length)) {
+				int tag = this.reader.readTag(proof.length);
+				if(MptWireReader.getFieldNumber(tag) == MptWireReader.TRIE_ROOT && 
+						MptWireReader.isLengthDelimited(tag)) {
+					if(hasRoot) {
+						throw new InvalidSerializationException("more than one root");
+					}
+					int end = this.reader.readLength(proof.length);
+					this.parseNode(end, 0, key != null, this.commitment, 0);
+					hasRoot = true;
+				}else {
+					this.reader.skipField(tag, proof.length);
+				}
+			}
+			if(!hasRoot) {
+				throw new InvalidSerializationException("no root included");
+			}
+		} finally {
+			this.reader.reset(null);
+		}
+		return this.commitment.clone();
+	}
+
+	/**
+	 * Verify a proof. Calculates the commitment of the
+	 * MPT and looks up the value mapped to by the key.
+	 * @param proof - a partial MPT
+	 * @param key - the key to look up, or null to only
+	 * calculate the commitment
+	 * @return the commitment of the MPT
+	 * @throws InvalidSerializationException - if the proof cannot be decoded
+	 * @throws InsufficientAuthenticationDataException - if the
+	 * proof does not contain the path to the key
+	 */
+	public byte[] verify(final MptSerialization.MerklePrefixTrie proof, final byte[] key)
+			throws InvalidSerializationException, InsufficientAuthenticationDataException {
+		return this.verify(proof.toByteArray(), key);
+	}
+
+	/**
+	 * Returns the value mapped to by the key in the last
+	 * verified proof, or null if the key is not in the MPT
+	 * @return
+	 */
+	public byte[] getValue() {
+		if(this.value == null) {
+			return null;
+		}
+		return this.value.clone();
+	}
+
+	/**
+	 * Returns the version of the value mapped to by the key
+	 * in the last verified proof, or VersionedDictionaryLeafNode.NO_VERSION
+	 * if the key is not in the MPT or is not stored in a versioned leaf
+	 * @return
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Parses the node ending at end located at the given level
+	 * and writes its hash to out[outOffset:outOffset+HASH_SIZE]
+	 */
+	private void parseNode(final int end, final int level, final boolean onPath,
+			final byte[] out, final int outOffset)
+					throws InvalidSerializationException, InsufficientAuthenticationDataException {
+		int nodeType = -1;
+		while(this.reader.hasRemaining(end)) {
+			int tag = this.reader.readTag(end);
+			int field = MptWireReader.getFieldNumber(tag);
+			if(field < MptWireReader.NODE_INTERIOR_NODE || field > MptWireReader.NODE_VERSIONED_LEAF ||
+					!MptWireReader.isLengthDelimited(tag)) {
+				this.reader.skipField(tag, end);
+				continue;
+			}
+			if(nodeType != -1) {
+				throw new InvalidSerializationException("node has more than one type");
+			}
+			nodeType = field;
+			if(level == 0 && field != MptWireReader.NODE_INTERIOR_NODE) {
+				throw new InvalidSerializationException("root is not an interior node!");
+			}
+			int nodeEnd = this.reader.readLength(end);
+			switch(field) {
+			case MptWireReader.NODE_INTERIOR_NODE:
+				this.parseInteriorNode(nodeEnd, level, onPath, out, outOffset);
+				break;
+			case MptWireReader.NODE_LEAF:
+				this.parseLeaf(nodeEnd, false, onPath, out, outOffset);
+				break;
+			case MptWireReader.NODE_VERSIONED_LEAF:
+				this.parseLeaf(nodeEnd, true, onPath, out, outOffset);
+				break;
+			case MptWireReader.NODE_STUB:
+				int hashOffset = this.reader.readStub(nodeEnd);
+				System.arraycopy(this.reader.getBuffer(), hashOffset, out, outOffset, HASH_SIZE);
+				if(onPath) {
+					throw new InsufficientAuthenticationDataException(
+							"stub encountered at: " + Utils.byteArrayPrefixAsBitString(this.key, level - 1));
+				}
+				break;
+			case MptWireReader.NODE_EMPTYLEAF:
+				// empty leaf - hash is all zeros
+				this.reader.setPosition(nodeEnd);
+				Arrays.fill(out, outOffset, outOffset+HASH_SIZE, (byte) 0);
+				break;
+			default:
+				throw new InvalidSerializationException("?????");
+			}
+		}
+		if(nodeType == -1) {
+			throw new InvalidSerializationException("no node included - fatal error");
+		}
+	}
+
+	private void parseInteriorNode(final int end, final int level, final boolean onPath,
+			final byte[] out, final int outOffset)
+					throws InvalidSerializationException, InsufficientAuthenticationDataException {
+		if(level >= MAX_LEVELS - 1) {
+			throw new InvalidSerializationException("interior node is too deep");
+		}
+		// the key (if on the path) goes right if the bit is 1
+		boolean bit = onPath && Utils.getBit(this.key, level);
+		int leftOffset = level*2*HASH_SIZE;
+		int rightOffset = leftOffset+HASH_SIZE;
+		boolean hasLeft = false;
+		boolean hasRight = false;
+		while(this.reader.hasRemaining(end)) {
+			int tag = this.reader.readTag(end);
+			int field = MptWireReader.getFieldNumber(tag);
+			if(MptWireReader.isLengthDelimited(tag) && field == MptWireReader.INTERIOR_NODE_LEFT) {
+				if(hasLeft) {
+					throw new InvalidSerializationException("interior node has more than one left child");
+				}
+				int childEnd = this.reader.readLength(end);
+				this.parseNode(childEnd, level+1, onPath && !bit, this.childHashes, leftOffset);
+				hasLeft = true;
+			}else if(MptWireReader.isLengthDelimited(tag) && field == MptWireReader.INTERIOR_NODE_RIGHT) {
+				if(hasRight) {
+					throw new InvalidSerializationException("interior node has more than one right child");
+				}
+				int childEnd = this.reader.readLength(end);
+				this.parseNode(childEnd, level+1, onPath && bit, this.childHashes, rightOffset);
+				hasRight = true;
+			}else {
+				this.reader.skipField(tag, end);
+			}
+		}
+		if(!hasLeft || !hasRight) {
+			throw new InvalidSerializationException("interior node does not have both children");
+		}
+		// commitment: H(leftChildHash || rightChildHash)
+		this.digest.update(this.childHashes, leftOffset, 2*HASH_SIZE);
+		this.digestInto(out, outOffset);
+	}
+
+	private void parseLeaf(final int end, final boolean versioned, final boolean onPath,
+			final byte[] out, final int outOffset) throws InvalidSerializationException {
+		this.reader.readLeaf(end, versioned);
+		int keyOffset = this.reader.getKeyOffset();
+		int keyLength = this.reader.getKeyLength();
+		int valueOffset = this.reader.getValueOffset();
+		int valueLength = this.reader.getValueLength();
+		if(keyLength == 0 || valueLength == 0) {
+			throw new InvalidSerializationException("leaf doesn't have required keyhash and value");
+		}
+		byte[] proof = this.reader.getBuffer();
+		if(onPath && this.reader.bytesEqual(keyOffset, keyLength, this.key)) {
+			this.value = Arrays.copyOfRange(proof, valueOffset, valueOffset+valueLength);
+			this.version = this.reader.getVersion();
+		}
+		// witness: H(key||value) or H(key||value||version)
+		this.digest.update(proof, keyOffset, keyLength);
+		this.digest.update(proof, valueOffset, valueLength);
+		if(versioned) {
+			int v = this.reader.getVersion();
+			this.versionBytes[0] = (byte) (v >>> 24);
+			this.versionBytes[1] = (byte) (v >>> 16);
+			this.versionBytes[2] = (byte) (v >>> 8);
+			this.versionBytes[3] = (byte) v;
+			this.digest.update(this.versionBytes);
+		}
+		this.digestInto(out, outOffset);
+	}
+
+	private void digestInto(final byte[] out, final int outOffset) {
+		try {
+			this.digest.digest(out, outOffset, HASH_SIZE);
+		} catch (DigestException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -0,0 +1,489 @@
+package mpt.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import crpyto.CryptographicDigest;
+import mpt.core.EmptyLeafNode;
+import mpt.core.InteriorNode;
+import mpt.core.Node;
+import mpt.core.VersionedDictionaryLeafNode;
+import serialization.generated.MptSerialization;
+
+/**
+ * A Full Merkle Prefix Trie (MPT) that is split by the
+ * first k bits of the key into 2^k independent subtries ("shards").
+ *
+ * Each shard is owned by exactly one worker thread. Inserts and
+ * deletes are buffered per shard and handed off to the worker that 
+ * owns the shard as a single batch, where they are applied in order,
+ * so the shards never share any state and no locking is required. 
+ * A failed change (e.g. a key of the wrong size) stops the shard and 
+ * is rethrown by the next call that waits for the workers.
+ * When a commitment is requested each
+ * worker calculates the hash of its own subtrie in parallel and
+ * the top k levels of the trie are then rebuilt from the subroots,
+ * collapsing subtrees with less than two entries exactly as a
+ * MPTDictionaryFull does.
+ *
+ * The result is an ordinary MPTDictionaryFull: the commitment, the
+ * serialization and the changes tracked since the last reset are
+ * identical to those of a MPTDictionaryFull with the same mappings,
+ * so deltas, partials and paths (MPTDictionaryDelta,
+ * MPTDictionaryPartial, MPTDictionaryPathExtractor) can be created
+ * from it. Since changes are applied asynchronously, these must only
+ * be created after a call to commitment() (or any other method of
+ * this class) and before the next change.
+ *
+ * Worker threads are daemon threads; call shutdown()
+ * to release them once the dictionary is no longer needed.
+ *
+ * @author henryaspegren
+ *
+ */
+public class MPTDictionarySharded extends MPTDictionaryFull {
+
+	private static final Logger LOGGER = Logger.getLogger(MPTDictionarySharded.class.getName());
+
+	// sharding on more than 16 bits would mean more threads
+	// than is sensible for a single machine
+	public static final int MAX_PREFIX_BITS = 16;
+
+	// buffered changes are handed off once a shard has
+	// this many, so that the workers start applying them
+	// while further changes are still being made
+	private static final int MAX_PENDING_CHANGES = 1024;
+
+	private final int prefixBits;
+	private final Shard[] shards;
+
+	/**
+	 * A single insert (or a delete if value is null)
+	 */
+	private static class Change {
+		private final byte[] key;
+		private final byte[] value;
+		private final int version;
+
+		private Change(final byte[] key, final byte[] value, final int version) {
+			this.key = key;
+			this.value = value;
+			this.version = version;
+		}
+	}
+
+	/**
+	 * A single subtrie. Except for the pending changes the 
+	 * fields are only ever accessed from the worker thread 
+	 * that owns the shard.
+	 */
+	private static class Shard {
+		// the subtrie is rooted at depth prefixBits, so the root
+		// can be an empty leaf, a leaf or an interior node
+		// (an interior node always has at least two entries below it)
+		private Node root;
+		// if the subtrie has been modified since the
+		// top levels were last rebuilt
+		private boolean modified;
+		private Throwable failure;
+		private final ExecutorService worker;
+		// changes not yet handed off to the worker
+		private List<Change> pending;
+
+		private Shard(final int shardIndex) {
+			this.root = new EmptyLeafNode();
+			this.pending = new ArrayList<>();
+			this.worker = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "mpt-shard-"+shardIndex);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * Create an empty sharded Merkle Prefix Trie
+	 * @param prefixBits - the number of key bits (k) used to select
+	 * a shard, this creates 2^k shards each with its own worker thread
+	 */
+	public MPTDictionarySharded(int prefixBits) {
+		super();
+		if(prefixBits < 1 || prefixBits > MAX_PREFIX_BITS) {
+			throw new IllegalArgumentException("prefix bits must be between 1 and "+MAX_PREFIX_BITS);
+		}
+		this.prefixBits = prefixBits;
+		this.shards = new Shard[1 << prefixBits];
+		for(int i = 0; i < this.shards.length; i++) {
+			this.shards[i] = new Shard(i);
+		}
+		LOGGER.log(Level.FINE, "created "+this.shards.length+" shards");
+	}
+
+	private Shard getShard(final byte[] key) {
+		int prefix = ((key[0] & 0xff) << 8) | (key[1] & 0xff);
+		return this.shards[prefix >>> (MAX_PREFIX_BITS - this.prefixBits)];
+	}
+
+	@Override
+	public void insert(final byte[] key, final byte[] value) {
+		assert key.length == CryptographicDigest.getSizeBytes();
+		assert value.length == CryptographicDigest.getSizeBytes();
+		this.submitChange(key, value, VersionedDictionaryLeafNode.NO_VERSION);
+	}
+
+	@Override
+	public void insert(final byte[] key, final byte[] value, final int version) {
+		assert key.length == CryptographicDigest.getSizeBytes();
+		assert value.length == CryptographicDigest.getSizeBytes();
+		assert version >= 0;
+		this.submitChange(key, value, version);
+	}
+
+	@Override
+	public void delete(final byte[] key) {
+		assert key.length == CryptographicDigest.getSizeBytes();
+		this.submitChange(key, null, VersionedDictionaryLeafNode.NO_VERSION);
+	}
+
+	/**
+	 * Buffer an insert (or a delete if value is null)
+	 * for the shard that owns the key
+	 */
+	private void submitChange(final byte[] key, final byte[] value, final int version) {
+		final Shard shard = this.getShard(key);
+		shard.pending.add(new Change(key.clone(), value == null ? null : value.clone(), version));
+		if(shard.pending.size() >= MAX_PENDING_CHANGES) {
+			this.handOff(shard);
+		}
+	}
+
+	/**
+	 * Hand off all buffered changes for the shard to its
+	 * worker as a single task
+	 */
+	private void handOff(final Shard shard) {
+		if(shard.pending.isEmpty()) {
+			return;
+		}
+		final List<Change> changes = shard.pending;
+		shard.pending = new ArrayList<>();
+		shard.worker.execute(() -> {
+			if(shard.failure != null) {
+				return;
+			}
+			shard.modified = true;
+			try {
+				for(Change change : changes) {
+					if(change.value == null) {
+						shard.root = MPTDictionaryFull.deleteHelper(change.key, this.prefixBits - 1,
+								shard.root, false);
+					}else {
+						shard.root = MPTDictionaryFull.insertHelper(change.key, change.value, 
+								change.version, this.prefixBits - 1, shard.root);
+					}
+				}
+			}catch(Throwable t) {
+				// (including assertion errors) rethrown when
+				// the workers are next waited on
+				shard.failure = t;
+			}
+		});
+	}
+
+	@Override
+	public byte[] get(final byte[] key) {
+		assert key.length == CryptographicDigest.getSizeBytes();
+		final byte[] keyCopy = key.clone();
+		final Shard shard = this.getShard(key);
+		this.handOff(shard);
+		// the lookup runs on the worker so it observes all
+		// previously submitted changes to the shard
+		return MPTDictionarySharded.await(shard.worker.submit(() -> {
+			MPTDictionarySharded.checkFailure(shard);
+			return MPTDictionaryFull.getHelper(shard.root, keyCopy, this.prefixBits - 1);
+		}));
+	}
+
+	@Override
+	public byte[] commitment() {
+		this.combineShards(true);
+		return super.commitment();
+	}
+
+	/**
+	 * The shards are always hashed in parallel by their
+	 * own worker threads, so the provided workers are not used.
+	 */
+	@Override
+	public byte[] commitmentParallelized(ExecutorService workers) {
+		return this.commitment();
+	}
+
+	@Override
+	public int countHashesRequiredToCommit() {
+		this.combineShards(false);
+		return super.countHashesRequiredToCommit();
+	}
+
+	@Override
+	public void reset() {
+		// (the top levels must be rebuilt first, since
+		// they only learn about the changes in the shards
+		// from the change tracking)
+		this.combineShards(false);
+		for(Future<Node> done : this.onEachShard(shard -> {
+			shard.root.markUnchangedAll();
+			return shard.root;
+		})) {
+			MPTDictionarySharded.await(done);
+		}
+		// only visits the changed top levels since
+		// the shards are now all unchanged
+		super.reset();
+	}
+
+	@Override
+	public MptSerialization.MerklePrefixTrie serialize() {
+		this.combineShards(false);
+		return super.serialize();
+	}
+
+	@Override
+	public int getMaxHeight() {
+		this.combineShards(false);
+		return super.getMaxHeight();
+	}
+
+	@Override
+	public int countNodes() {
+		this.combineShards(false);
+		return super.countNodes();
+	}
+
+	@Override
+	public int countInteriorNodes() {
+		this.combineShards(false);
+		return super.countInteriorNodes();
+	}
+
+	@Override
+	public int countEmptyLeafNodes() {
+		this.combineShards(false);
+		return super.countEmptyLeafNodes();
+	}
+
+	@Override
+	public int countNonEmptyLeafNodes() {
+		this.combineShards(false);
+		return super.countNonEmptyLeafNodes();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		this.combineShards(false);
+		return super.equals(other);
+	}
+
+	/**
+	 * Tries with the same mappings have the same commitment
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.commitment());
+	}
+
+	/**
+	 * Wait for the workers to apply all submitted changes and
+	 * rebuild the top k levels of the trie from the shard roots
+	 * @param hash - if true the workers also calculate the
+	 * hashes of their shards
+	 * @throws RuntimeException - if a change could not be applied
+	 */
+	private synchronized void combineShards(final boolean hash) {
+		List<Future<Node>> results = this.onEachShard(shard -> {
+			if(hash) {
+				shard.root.getHash();
+			}
+			return shard.root;
+		});
+		Node[] shardRoots = new Node[this.shards.length];
+		for(int i = 0; i < this.shards.length; i++) {
+			shardRoots[i] = MPTDictionarySharded.await(results.get(i));
+		}
+		// (only the parts of the top levels above modified shards 
+		// are marked as changed)
+		boolean[] modified = new boolean[this.shards.length];
+		List<Future<Boolean>> changes = this.onEachShard(shard -> {
+			boolean wasModified = shard.modified;
+			shard.modified = false;
+			return wasModified;
+		});
+		for(int i = 0; i < this.shards.length; i++) {
+			modified[i] = MPTDictionarySharded.await(changes.get(i));
+		}
+		// the root is always an interior node
+		this.combine(shardRoots, modified, 0, 0, this.shards.length, this.root);
+	}
+
+	/**
+	 * Returns the node covering shards [from, to) located at the
+	 * given depth in the top k levels of the trie. The nodes at this
+	 * location after the previous combine are reused if possible so
+	 * that unchanged parts of the top levels keep their hashes
+	 * and stay marked as unchanged.
+	 * @param modified - the shards modified since the previous combine
+	 * @param previous - the node at this location after the previous
+	 * combine, or null if there was none
+	 */
+	private Node combine(final Node[] shardRoots, final boolean[] modified, final int depth, 
+			final int from, final int to, final Node previous) {
+		if(depth == this.prefixBits) {
+			return MPTDictionarySharded.place(shardRoots[from], previous);
+		}
+		// the root is always an interior node, but below the root
+		// a subtree with less than two entries is collapsed into
+		// a single (possibly empty) leaf
+		if(depth > 0) {
+			Node leaf = MPTDictionarySharded.collapse(shardRoots, from, to, previous);
+			if(leaf != null) {
+				return MPTDictionarySharded.place(leaf, previous);
+			}
+		}
+		int mid = (from + to) >>> 1;
+		InteriorNode interior = previous instanceof InteriorNode ? (InteriorNode) previous : null;
+		Node leftChild = this.combine(shardRoots, modified, depth + 1, from, mid,
+				interior == null ? null : interior.getLeftChild());
+		Node rightChild = this.combine(shardRoots, modified, depth + 1, mid, to,
+				interior == null ? null : interior.getRightChild());
+		if(interior == null) {
+			return new InteriorNode(leftChild, rightChild);
+		}
+		// (marks the interior node as changed and 
+		// invalidates its hash)
+		if(leftChild != interior.getLeftChild() || MPTDictionarySharded.anyModified(modified, from, mid)) {
+			interior.setLeftChild(leftChild);
+		}
+		if(rightChild != interior.getRightChild() || MPTDictionarySharded.anyModified(modified, mid, to)) {
+			interior.setRightChild(rightChild);
+		}
+		return interior;
+	}
+
+	private static boolean anyModified(final boolean[] modified, final int from, final int to) {
+		for(int i = from; i < to; i++) {
+			if(modified[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Leaves (including empty leaves) that move to a new location 
+	 * are marked as changed, exactly as in MPTDictionaryFull. 
+	 * An interior shard root is always at the same location.
+	 */
+	private static Node place(final Node node, final Node previous) {
+		if(node.isLeaf() && node != previous) {
+			node.markChangedAll();
+		}
+		return node;
+	}
+
+	/**
+	 * If the shards [from, to) contain less than two entries in total
+	 * returns the leaf that replaces them: the only non-empty leaf
+	 * or an empty leaf. Otherwise returns null
+	 */
+	private static Node collapse(final Node[] shardRoots, final int from, final int to, 
+			final Node previous) {
+		Node leaf = null;
+		for(int i = from; i < to; i++) {
+			Node shardRoot = shardRoots[i];
+			if(!shardRoot.isLeaf() || (!shardRoot.isEmpty() && leaf != null)) {
+				return null;
+			}
+			if(!shardRoot.isEmpty()) {
+				leaf = shardRoot;
+			}
+		}
+		if(leaf != null) {
+			return leaf;
+		}
+		// keep an empty leaf that is already here
+		if(previous != null && previous.isLeaf() && previous.isEmpty()) {
+			return previous;
+		}
+		return new EmptyLeafNode();
+	}
+
+	/**
+	 * Stop the worker threads. Changes that have already
+	 * been submitted are still applied, but the dictionary
+	 * cannot be used afterwards.
+	 */
+	public void shutdown() {
+		for(Shard shard : this.shards) {
+			this.handOff(shard);
+			shard.worker.shutdown();
+		}
+	}
+
+	/**
+	 * Returns the number of shards (2^k)
+	 * @return
+	 */
+	public int getNumberOfShards() {
+		return this.shards.length;
+	}
+
+	private interface ShardTask<T> {
+		T run(Shard shard);
+	}
+
+	private <T> List<Future<T>> onEachShard(ShardTask<T> task) {
+		List<Future<T>> results = new ArrayList<>(this.shards.length);
+		for(Shard shard : this.shards) {
+			this.handOff(shard);
+			Callable<T> callable = () -> {
+				MPTDictionarySharded.checkFailure(shard);
+				return task.run(shard);
+			};
+			results.add(shard.worker.submit(callable));
+		}
+		return results;
+	}
+
+	private static void checkFailure(Shard shard) {
+		if(shard.failure != null) {
+			throw new RuntimeException("shard update failed", shard.failure);
+		}
+	}
+
+	private static <T> T await(Future<T> result) {
+		try {
+			return result.get();
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+
+	@Override
+	public String toString() {
+		this.combineShards(false);
+		return "<MPTDictionarySharded shards: "+this.shards.length+"\n"+
+				MPTDictionaryFull.toStringHelper("+", this.root)+"\n>";
+	}
+
+}
@@ -0,0 +1,59 @@
+package mpt.set;
+
+import java.util.List;
+
+import serialization.generated.MptSerialization;
+
+/**
+ * This is the interface the server should use for keeping 
+ * track of changes to an Authenticated Set
+ * 
+ * Inserts and deletes change the set along with
+ * the authentication information. This interface should
+ * be used for tracking these changes. It allows 
+ * the server to construct client-specific updates
+ * to the client's view of the Authenticated Set 
+ * 
+ * @author henryaspegren
+ *
+ */
+public interface AuthenticatedSetChanges {
+
+	/**
+	 * Given a specific value, this method calculates 
+	 * the updates that should be sent to a client 
+	 * whose authenticated set tracks this value. 
+	 * 
+	 * To reduce the size of the updates this method
+	 * caches unchanged values on the client and 
+	 * avoids retransmitting them.
+	 * 
+	 * The client can process this update and 
+	 * her view of the authenticated set will 
+	 * now reflect the update.
+	 * 
+	 * @param value - a fixed length byte array representing the value
+	 * (e.g. the hash of some other string)
+	 * @return a protobuf encoded representation of the
+	 * updates which can be serialized and deserialized
+	 * by the client
+	 */
+	public MptSerialization.MerklePrefixTrie getUpdates(final byte[] value);
+	
+	/**
+	 * Given a set of values, this method calculates 
+	 * the updates that should be sent to a client 
+	 * whose authenticated set tracks these 
+	 * values. 
+	 * 
+	 * To reduce the size of the updates this method
+	 * caches unchanged values on the client and 
+	 * avoids retransmitting them.
+	 * 
+	 * @param values - a list of values
+	 * @return a protobuf encoded representation of the
+	 * updates which can be serialized and deserialized
+	 * by the client
+	 */
+	public MptSerialization.MerklePrefixTrie getUpdates(final List<byte[]> values);
+}
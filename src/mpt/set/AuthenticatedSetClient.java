@@ -1,6 +1,9 @@
 package mpt.set;
 
+import java.util.List;
+
 import mpt.core.InsufficientAuthenticationDataException;
+import mpt.core.InvalidSerializationException;
 import serialization.generated.MptSerialization.MerklePrefixTrie;
 
 /**
@@ -42,7 +45,23 @@ public interface AuthenticatedSetClient {
 	 * determine if a value is in the set
 	 */
 	public boolean inSet(final byte[] value) throws InsufficientAuthenticationDataException;
-	
+
+	/**
+	 * Checks membership for many values at once. The checks
+	 * share a single traversal of the set, so a client can
+	 * verify a large batch of values (for example that none of them
+	 * are in the set) against a single proof containing
+	 * the paths for all of them.
+	 * @param values - a list of fixed length byte arrays (e.g. the output of a hash)
+	 * representing values
+	 * @return a list of the same length as values, where the i-th entry is true
+	 * if the i-th value is in the set and false if it is not
+	 * @throws InsufficientAuthenticationDataException - thrown
+	 * if there is not enough authentication information to
+	 * determine if any of the values is in the set
+	 */
+	public List<Boolean> inSet(final List<byte[]> values) throws InsufficientAuthenticationDataException;
+
 	/**
 	 * Returns a fixed length cryptographic commitment to 
 	 * the set. It is computationally hard to find 
@@ -51,6 +70,16 @@ public interface AuthenticatedSetClient {
 	 * @return
 	 */
 	public byte[] commitment();
+	
+	/**
+	 * Updates the authenticated set to reflect changes. This 
+	 * will change the commitment as values have been inserted or removed
+	 * @param updates - a protobuf representation of this update (which 
+	 * can be serialized and deserialized)
+	 * @throws InvalidSerializationException - thrown if the update cannot
+	 * be performed.
+	 */
+	public void processUpdates(MerklePrefixTrie updates) throws InvalidSerializationException;
 
 	/**
 	 * Returns a protobuf serialization of this 
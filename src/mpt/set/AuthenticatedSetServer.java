@@ -1,5 +1,7 @@
 package mpt.set;
 
+import java.util.concurrent.ExecutorService;
+
 import serialization.generated.MptSerialization.MerklePrefixTrie;
 
 /**
@@ -31,7 +33,14 @@ import serialization.generated.MptSerialization.MerklePrefixTrie;
 public interface AuthenticatedSetServer {
 
 	/**
-	 * Insert a value into the set
+	 * Insert a value into the set. Authentication information
+	 * is updated *lazily* - meaning that calculation 
+	 * of hashes is delayed until this.commitment()
+	 * is called!
+	 * 
+	 * Additionally the set records all insertions
+	 * as changes and tracks which nodes have been changed
+	 * for the purpose of calculating updates.
 	 * @param value - a fixed length byte array (e.g. the output of a hash)
 	 * representing a value to be inserted
 	 */
@@ -39,7 +48,9 @@ public interface AuthenticatedSetServer {
 	
 	/**
 	 * Delete a value from the set,
-	 * if it exists.
+	 * if it exists. As with insertions, hashes are 
+	 * recalculated lazily and the deletion is 
+	 * recorded as a change.
 	 * @param value - a fixed length byte array (e.g. the output of a hash)
 	 * representing a value to be deleted.
 	 */
@@ -63,6 +74,23 @@ public interface AuthenticatedSetServer {
 	 */
 	public byte[] commitment();
 	
+	/**
+	 * Calculates the commitment in parallel using the provided
+	 * worker threads. It only makes sense to parallelize calculation
+	 * for large sets, otherwise the overhead of coordinating 
+	 * the threads will out-weight the benefits.
+	 * @param workers
+	 * @return
+	 */
+	public byte[] commitmentParallelized(ExecutorService workers);
+	
+	/**
+	 * Resets the current state of the authenticated set
+	 * to have no changes. Changes all nodes
+	 * currently marked as "changed" to "unchanged"
+	 */
+	public void reset();
+	
 	/**
 	 * Returns a protobuf serialization of this 
 	 * data structure that can easily be 
@@ -0,0 +1,138 @@
+package mpt.set;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+
+import mpt.core.EmptyLeafNode;
+import mpt.core.InteriorNode;
+import mpt.core.Node;
+import mpt.core.SetLeafNode;
+import mpt.core.Stub;
+import mpt.core.Utils;
+import serialization.generated.MptSerialization;
+
+/**
+ * This class tracks the changes to a Merkle Prefix Trie set (a delta).
+ * This delta contains ONLY the changed nodes. Nodes that have 
+ * not been changed are represented as STUBS. 
+ * 
+ * This information can be used to construct update proofs for
+ * clients, exactly as MPTDictionaryDelta does for dictionaries
+ * 
+ * @author henryaspegren
+ *
+ */
+public class MPTSetDelta implements AuthenticatedSetChanges {
+	
+	protected InteriorNode root;
+	
+	/**
+	 * Construct a delta from a full MPT set. It only copies
+	 * the changes the from the set (where changes are defined as any nodes
+	 * altered by inserts or deletes since the last call to set.reset())
+	 * @param set - The MPT set to copy changes from
+	 */
+	public MPTSetDelta(MPTSetFull set) {
+		// the root is always an interior node
+		Node leftChild = MPTSetDelta.copyChangesOnlyHelper(set.root.getLeftChild());
+		Node rightChild = MPTSetDelta.copyChangesOnlyHelper(set.root.getRightChild());
+		this.root = new InteriorNode(leftChild, rightChild);
+	}
+
+	private static Node copyChangesOnlyHelper(final Node currentNode) {
+		if(!currentNode.changed()) {
+			return new Stub(currentNode.getHash());
+		}
+		if (currentNode.isLeaf()) {
+			if (currentNode.isEmpty()) {
+				return new EmptyLeafNode();
+			}
+			return new SetLeafNode(currentNode.getValue());
+		}
+		Node leftChild = MPTSetDelta.copyChangesOnlyHelper(currentNode.getLeftChild());
+		Node rightChild = MPTSetDelta.copyChangesOnlyHelper(currentNode.getRightChild());
+		return new InteriorNode(leftChild, rightChild);
+	}
+
+	@Override
+	public MptSerialization.MerklePrefixTrie getUpdates(final byte[] value) {
+		List<byte[]> values = new ArrayList<byte[]>();
+		values.add(value);
+		return this.getUpdates(values);
+	}
+	
+	@Override
+	public MptSerialization.MerklePrefixTrie getUpdates(final List<byte[]> values) {
+		MptSerialization.Node root = MPTSetDelta.getUpdatesHelper(values, -1, this.root);
+		MptSerialization.MerklePrefixTrie tree = MptSerialization.MerklePrefixTrie.newBuilder()
+				.setRoot(root)
+				.build();
+		return tree;
+	}
+	
+	private static MptSerialization.Node getUpdatesHelper(final List<byte[]> matchingValues, 
+			final int currentBitIndex, final Node currentNode){
+		// case: stub - this location has not changed 
+		// 				--> avoid re-transmitting it by caching it on the client 
+		if(currentNode.isStub()) {
+			return null;
+		}
+		// case: non-stub - this location has changed 
+		// subcase: no matching values - value is not needed
+		if(matchingValues.size() == 0) {
+			// if empty, just send empty node
+			if(currentNode.isEmpty()) {
+				return MptSerialization.Node.newBuilder()
+						.setEmptyleaf(MptSerialization.EmptyLeaf.newBuilder())
+						.build();
+			}
+			// if non-empty send stub
+			return MptSerialization.Node.newBuilder()
+					.setStub(MptSerialization.Stub.newBuilder()
+							.setHash(ByteString.copyFrom(currentNode.getHash())))
+					.build();
+		}
+		// subcase: have a matching value and at end of path 
+		if(currentNode.isLeaf()) {
+			// empty or set leaf - send the entire node
+			return currentNode.serialize();
+		}
+		// subcase: have a matching value and at intermediate node
+		
+		// divide up values into those that match the right prefix (...1)
+		// and those that match the left prefix (...0)
+		List<byte[]> matchRight = new ArrayList<byte[]>();
+		List<byte[]> matchLeft = new ArrayList<byte[]>();
+		for(byte[] value : matchingValues) {
+			final boolean bit = Utils.getBit(value, currentBitIndex + 1);
+			if(bit) {
+				matchRight.add(value);
+			}else {
+				matchLeft.add(value);
+			}
+		}
+		MptSerialization.Node left = MPTSetDelta.getUpdatesHelper(matchLeft, currentBitIndex+1, 
+				currentNode.getLeftChild());
+		MptSerialization.Node right = MPTSetDelta.getUpdatesHelper(matchRight, currentBitIndex+1, 
+				currentNode.getRightChild());
+		
+		// create an interior node to return
+		MptSerialization.InteriorNode.Builder interiorBuilder = MptSerialization.InteriorNode.newBuilder();
+		// omit unchanged stubs since they are cached on the client 
+		if(right != null) {
+			interiorBuilder.setRight(right);
+		}
+		if(left != null) {
+			interiorBuilder.setLeft(left);
+		}
+		return MptSerialization.Node.newBuilder().setInteriorNode(interiorBuilder).build();
+	}
+	
+	@Override
+	public String toString() {
+		return "<MPTSetDelta \n"+MPTSetFull.toStringHelper("+", this.root)+"\n>";
+	}
+
+}
@@ -1,6 +1,7 @@
 package mpt.set;
 
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -155,8 +156,6 @@ public class MPTSetFull implements AuthenticatedSetServer {
 		assert value.length == CryptographicDigest.getSizeBytes();
 		LOGGER.log(Level.FINE, "delete(" + Utils.byteArrayAsHexString(value) + ")");
 		MPTSetFull.deleteHelper(value, -1, this.root, true);
-		// force updating the hash
-		this.root.getHash();
 	}
 
 	private static Node deleteHelper(final byte[] value, final int currentBitIndex, final Node currentNode, 
@@ -213,6 +212,20 @@ public class MPTSetFull implements AuthenticatedSetServer {
 		return this.root.getHash();
 	};
 	
+	@Override
+	public byte[] commitmentParallelized(ExecutorService workers) {
+		return this.root.getHashParallel(workers);
+	}
+	
+	public int countHashesRequiredToCommit() {
+		return this.root.countHashesRequiredForGetHash();
+	}
+
+	@Override
+	public void reset() {
+		this.root.markUnchangedAll();
+	};
+	
 	private static Node parseNode(MptSerialization.Node nodeSerialization) throws InvalidSerializationException {
 		switch (nodeSerialization.getNodeCase()) {
 		case INTERIOR_NODE:
@@ -67,6 +67,12 @@ public class MPTSetPartial implements AuthenticatedSetClient {
 	 * the partial contains the specified key mappings 
 	 * (if the key exists and a path to a leaf if it does not) 
 	 * along with the required authentication information. 
+	 * 
+	 * Paths that share a prefix are only copied once, so this
+	 * is a single (deduplicated) multiproof for all of the values.
+	 * For a batch of values that are not in the set it contains 
+	 * exactly the empty leaves and divergent leaves that witness 
+	 * their absence, which can be checked with inSet(List).
 	 * @param fullMPTSet - the full MPT set 
 	 * to copy mappings and authentication information from 
 	 * @param keys - the key mappings to copy
@@ -143,6 +149,59 @@ public class MPTSetPartial implements AuthenticatedSetClient {
 		}
 		return MPTSetPartial.getHelper(currentNode.getLeftChild(), value, currentBitIndex + 1);
 	}
+
+	@Override
+	public List<Boolean> inSet(final List<byte[]> values) throws InsufficientAuthenticationDataException {
+		List<Integer> indexes = new ArrayList<>(values.size());
+		for(int i = 0; i < values.size(); i++) {
+			assert values.get(i).length == CryptographicDigest.getSizeBytes();
+			indexes.add(i);
+		}
+		Boolean[] results = new Boolean[values.size()];
+		Arrays.fill(results, Boolean.FALSE);
+		MPTSetPartial.getMultipleHelper(this.root, values, indexes, results, -1);
+		return Arrays.asList(results);
+	}
+
+	private static void getMultipleHelper(final Node currentNode, final List<byte[]> values,
+			final List<Integer> matchingIndexes, final Boolean[] results, final int currentBitIndex)
+			throws InsufficientAuthenticationDataException {
+		// no values are on this path
+		if(matchingIndexes.size() == 0) {
+			return;
+		}
+		if (currentNode.isStub()) {
+			throw new InsufficientAuthenticationDataException(
+					"stub encountered at: " +
+					Utils.byteArrayPrefixAsBitString(values.get(matchingIndexes.get(0)), currentBitIndex));
+		}
+		if (currentNode.isLeaf()) {
+			if (!currentNode.isEmpty()) {
+				// a non-empty leaf witnesses the membership of at most 
+				// one value, every other value on this path is not in the MPT
+				byte[] leafValue = currentNode.getValue();
+				for(int index : matchingIndexes) {
+					if (Arrays.equals(leafValue, values.get(index))) {
+						results[index] = Boolean.TRUE;
+					}
+				}
+			}
+			return;
+		}
+		// divide up values into those that match the right prefix (...1)
+		// and those that match the left prefix (...0)
+		List<Integer> matchRight = new ArrayList<>();
+		List<Integer> matchLeft = new ArrayList<>();
+		for(int index : matchingIndexes) {
+			if(Utils.getBit(values.get(index), currentBitIndex + 1)) {
+				matchRight.add(index);
+			}else {
+				matchLeft.add(index);
+			}
+		}
+		MPTSetPartial.getMultipleHelper(currentNode.getLeftChild(), values, matchLeft, results, currentBitIndex + 1);
+		MPTSetPartial.getMultipleHelper(currentNode.getRightChild(), values, matchRight, results, currentBitIndex + 1);
+	}
 	
 	@Override
 	public byte[] commitment() {
@@ -215,6 +274,76 @@ public class MPTSetPartial implements AuthenticatedSetClient {
 		}
 	}
 	
+	@Override
+	public void processUpdates(MerklePrefixTrie updates) throws InvalidSerializationException {
+		if(!updates.hasRoot()) {
+			throw new InvalidSerializationException("update has no root");
+		}
+		Node newRoot = MPTSetPartial.parseNodeUsingCachedValues(this.root, updates.getRoot());
+		if (!(newRoot instanceof InteriorNode)) {
+			throw new InvalidSerializationException("root is not an interior node!");
+		}
+		this.root = (InteriorNode) newRoot;
+	}
+	
+	private static Node parseNodeUsingCachedValues(Node currentNode, MptSerialization.Node updatedNode)
+			throws InvalidSerializationException {
+		switch(updatedNode.getNodeCase()) {
+		case EMPTYLEAF:
+			return MPTSetPartial.reuseCachedNode(currentNode, new EmptyLeafNode());
+		case INTERIOR_NODE:
+			// a child might be omitted, in which case the 
+			// client should use the current (cached) value
+			MptSerialization.InteriorNode interiorNode = updatedNode.getInteriorNode();
+			Node left = null;
+			Node right = null;
+			if(currentNode != null) {
+				left = currentNode.getLeftChild();
+				right = currentNode.getRightChild();	
+			}
+			Node newLeft = left;
+			Node newRight = right;
+			if(interiorNode.hasLeft()) {
+				newLeft = MPTSetPartial.parseNodeUsingCachedValues(left, interiorNode.getLeft());
+			}
+			if(interiorNode.hasRight()) {
+				newRight = MPTSetPartial.parseNodeUsingCachedValues(right, interiorNode.getRight());
+			}
+			if(newLeft == null || newRight == null) {
+				throw new InvalidSerializationException("tried to use a cached node that is not present");
+			}
+			// if neither child has changed reuse the current 
+			// node along with its cached hash
+			if(newLeft == left && newRight == right && !currentNode.isLeaf() && !currentNode.isStub()) {
+				return currentNode;
+			}
+			return new InteriorNode(newLeft, newRight);
+		case LEAF:
+			MptSerialization.Leaf leaf = updatedNode.getLeaf();
+			if (!leaf.getKey().isEmpty() || leaf.getValue().isEmpty()) {
+				throw new InvalidSerializationException("set leaf should only have a value");
+			}
+			return MPTSetPartial.reuseCachedNode(currentNode, new SetLeafNode(leaf.getValue().toByteArray()));
+		case STUB:
+			MptSerialization.Stub stub = updatedNode.getStub();
+			if (stub.getHash().isEmpty()) {
+				throw new InvalidSerializationException("stub doesn't have a hash");
+			}
+			return MPTSetPartial.reuseCachedNode(currentNode, new Stub(stub.getHash().toByteArray()));
+		case NODE_NOT_SET:
+			throw new InvalidSerializationException("tried to use a cached node that is not present");
+		default:
+			throw new InvalidSerializationException("?????");
+		}
+	}
+	
+	private static Node reuseCachedNode(Node currentNode, Node updatedNode) {
+		if(updatedNode.equals(currentNode)) {
+			return currentNode;
+		}
+		return updatedNode;
+	}
+	
 	@Override
 	public MerklePrefixTrie serialize() {
 		MptSerialization.Node rootSerialization = this.root.serialize();
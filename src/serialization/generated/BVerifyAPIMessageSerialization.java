@@ -1243,6 +1243,13 @@ public final class BVerifyAPIMessageSerialization {
      * <code>bytes ads_id = 1;</code>
      */
     com.google.protobuf.ByteString getAdsId();
+
+    /**
+     * <code>int32 as_of_commitment = 2;</code>
+     */
+    int getAsOfCommitment();
+
+    public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest.AsOfCase getAsOfCase();
   }
   /**
    * <pre>
@@ -1304,6 +1311,11 @@ public final class BVerifyAPIMessageSerialization {
               adsId_ = input.readBytes();
               break;
             }
+            case 16: {
+              asOfCase_ = 2;
+              asOf_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1328,6 +1340,42 @@ public final class BVerifyAPIMessageSerialization {
               serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest.class, serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest.Builder.class);
     }
 
+    private int asOfCase_ = 0;
+    private java.lang.Object asOf_;
+    public enum AsOfCase
+        implements com.google.protobuf.Internal.EnumLite {
+      AS_OF_COMMITMENT(2),
+      ASOF_NOT_SET(0);
+      private final int value;
+      private AsOfCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static AsOfCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static AsOfCase forNumber(int value) {
+        switch (value) {
+          case 2: return AS_OF_COMMITMENT;
+          case 0: return ASOF_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public AsOfCase
+    getAsOfCase() {
+      return AsOfCase.forNumber(
+          asOfCase_);
+    }
+
     public static final int ADS_ID_FIELD_NUMBER = 1;
     private com.google.protobuf.ByteString adsId_;
     /**
@@ -1337,6 +1385,17 @@ public final class BVerifyAPIMessageSerialization {
       return adsId_;
     }
 
+    public static final int AS_OF_COMMITMENT_FIELD_NUMBER = 2;
+    /**
+     * <code>int32 as_of_commitment = 2;</code>
+     */
+    public int getAsOfCommitment() {
+      if (asOfCase_ == 2) {
+        return (java.lang.Integer) asOf_;
+      }
+      return 0;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -1352,6 +1411,10 @@ public final class BVerifyAPIMessageSerialization {
       if (!adsId_.isEmpty()) {
         output.writeBytes(1, adsId_);
       }
+      if (asOfCase_ == 2) {
+        output.writeInt32(
+            2, (int)((java.lang.Integer) asOf_));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -1364,6 +1427,11 @@ public final class BVerifyAPIMessageSerialization {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(1, adsId_);
       }
+      if (asOfCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(
+              2, (int)((java.lang.Integer) asOf_));
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -1382,6 +1450,17 @@ public final class BVerifyAPIMessageSerialization {
       boolean result = true;
       result = result && getAdsId()
           .equals(other.getAdsId());
+      result = result && getAsOfCase().equals(
+          other.getAsOfCase());
+      if (!result) return false;
+      switch (asOfCase_) {
+        case 2:
+          result = result && (getAsOfCommitment()
+              == other.getAsOfCommitment());
+          break;
+        case 0:
+        default:
+      }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -1395,6 +1474,14 @@ public final class BVerifyAPIMessageSerialization {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + ADS_ID_FIELD_NUMBER;
       hash = (53 * hash) + getAdsId().hashCode();
+      switch (asOfCase_) {
+        case 2:
+          hash = (37 * hash) + AS_OF_COMMITMENT_FIELD_NUMBER;
+          hash = (53 * hash) + getAsOfCommitment();
+          break;
+        case 0:
+        default:
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -1534,6 +1621,8 @@ public final class BVerifyAPIMessageSerialization {
         super.clear();
         adsId_ = com.google.protobuf.ByteString.EMPTY;
 
+        asOfCase_ = 0;
+        asOf_ = null;
         return this;
       }
 
@@ -1557,6 +1646,10 @@ public final class BVerifyAPIMessageSerialization {
       public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest buildPartial() {
         serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest result = new serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest(this);
         result.adsId_ = adsId_;
+        if (asOfCase_ == 2) {
+          result.asOf_ = asOf_;
+        }
+        result.asOfCase_ = asOfCase_;
         onBuilt();
         return result;
       }
@@ -1601,6 +1694,15 @@ public final class BVerifyAPIMessageSerialization {
         if (other.getAdsId() != com.google.protobuf.ByteString.EMPTY) {
           setAdsId(other.getAdsId());
         }
+        switch (other.getAsOfCase()) {
+          case AS_OF_COMMITMENT: {
+            setAsOfCommitment(other.getAsOfCommitment());
+            break;
+          }
+          case ASOF_NOT_SET: {
+            break;
+          }
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -1627,6 +1729,21 @@ public final class BVerifyAPIMessageSerialization {
         }
         return this;
       }
+      private int asOfCase_ = 0;
+      private java.lang.Object asOf_;
+      public AsOfCase
+          getAsOfCase() {
+        return AsOfCase.forNumber(
+            asOfCase_);
+      }
+
+      public Builder clearAsOf() {
+        asOfCase_ = 0;
+        asOf_ = null;
+        onChanged();
+        return this;
+      }
+
 
       private com.google.protobuf.ByteString adsId_ = com.google.protobuf.ByteString.EMPTY;
       /**
@@ -1656,6 +1773,36 @@ public final class BVerifyAPIMessageSerialization {
         onChanged();
         return this;
       }
+
+      /**
+       * <code>int32 as_of_commitment = 2;</code>
+       */
+      public int getAsOfCommitment() {
+        if (asOfCase_ == 2) {
+          return (java.lang.Integer) asOf_;
+        }
+        return 0;
+      }
+      /**
+       * <code>int32 as_of_commitment = 2;</code>
+       */
+      public Builder setAsOfCommitment(int value) {
+        asOfCase_ = 2;
+        asOf_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 as_of_commitment = 2;</code>
+       */
+      public Builder clearAsOfCommitment() {
+        if (asOfCase_ == 2) {
+          asOfCase_ = 0;
+          asOf_ = null;
+          onChanged();
+        }
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -2301,45 +2448,64 @@ public final class BVerifyAPIMessageSerialization {
 
   }
 
-  public interface GetADSProofUpdatesRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:serialization.generated.GetADSProofUpdatesRequest)
+  public interface ProveADSRootsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.ProveADSRootsRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>bytes ads_id = 1;</code>
+     * <code>repeated bytes ads_ids = 1;</code>
      */
-    com.google.protobuf.ByteString getAdsId();
+    java.util.List<com.google.protobuf.ByteString> getAdsIdsList();
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    int getAdsIdsCount();
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    com.google.protobuf.ByteString getAdsIds(int index);
 
     /**
-     * <code>int32 from_commitment = 2;</code>
+     * <pre>
+     * the id of an account (see Account.getIdAsString)
+     * </pre>
+     *
+     * <code>string account_id = 2;</code>
      */
-    int getFromCommitment();
+    java.lang.String getAccountId();
+    /**
+     * <pre>
+     * the id of an account (see Account.getIdAsString)
+     * </pre>
+     *
+     * <code>string account_id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getAccountIdBytes();
   }
   /**
    * <pre>
    **
-   *	Request for only the Updates for a proof 
-   * 	for the specified ADS Root. This is called
-   * 	by clients with cached proofs to avoid 
-   * 	requiring the server to retransmit the entire proof.
-   *	Instead the server only sends the updates for 
-   * 	the proof starting at the from_commitment.
+   *	Request that the server prove the ADS Roots for 
+   *	many ADSes at once: either the listed ADS IDs or 
+   *	every ADS owned by an account. The response contains 
+   *	a single proof for all of them (see ADSRootsProof)
    * </pre>
    *
-   * Protobuf type {@code serialization.generated.GetADSProofUpdatesRequest}
+   * Protobuf type {@code serialization.generated.ProveADSRootsRequest}
    */
-  public  static final class GetADSProofUpdatesRequest extends
+  public  static final class ProveADSRootsRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:serialization.generated.GetADSProofUpdatesRequest)
-      GetADSProofUpdatesRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:serialization.generated.ProveADSRootsRequest)
+      ProveADSRootsRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetADSProofUpdatesRequest.newBuilder() to construct.
-    private GetADSProofUpdatesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ProveADSRootsRequest.newBuilder() to construct.
+    private ProveADSRootsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetADSProofUpdatesRequest() {
-      adsId_ = com.google.protobuf.ByteString.EMPTY;
-      fromCommitment_ = 0;
+    private ProveADSRootsRequest() {
+      adsIds_ = java.util.Collections.emptyList();
+      accountId_ = "";
     }
 
     @java.lang.Override
@@ -2347,7 +2513,7 @@ public final class BVerifyAPIMessageSerialization {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetADSProofUpdatesRequest(
+    private ProveADSRootsRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2374,13 +2540,17 @@ public final class BVerifyAPIMessageSerialization {
               break;
             }
             case 10: {
-
-              adsId_ = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                adsIds_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              adsIds_.add(input.readBytes());
               break;
             }
-            case 16: {
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              fromCommitment_ = input.readInt32();
+              accountId_ = s;
               break;
             }
           }
@@ -2391,38 +2561,88 @@ public final class BVerifyAPIMessageSerialization {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          adsIds_ = java.util.Collections.unmodifiableList(adsIds_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor;
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_fieldAccessorTable
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.class, serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.Builder.class);
+              serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest.class, serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest.Builder.class);
     }
 
-    public static final int ADS_ID_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString adsId_;
+    private int bitField0_;
+    public static final int ADS_IDS_FIELD_NUMBER = 1;
+    private java.util.List<com.google.protobuf.ByteString> adsIds_;
     /**
-     * <code>bytes ads_id = 1;</code>
+     * <code>repeated bytes ads_ids = 1;</code>
      */
-    public com.google.protobuf.ByteString getAdsId() {
-      return adsId_;
+    public java.util.List<com.google.protobuf.ByteString>
+        getAdsIdsList() {
+      return adsIds_;
+    }
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    public int getAdsIdsCount() {
+      return adsIds_.size();
+    }
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    public com.google.protobuf.ByteString getAdsIds(int index) {
+      return adsIds_.get(index);
     }
 
-    public static final int FROM_COMMITMENT_FIELD_NUMBER = 2;
-    private int fromCommitment_;
+    public static final int ACCOUNT_ID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object accountId_;
     /**
-     * <code>int32 from_commitment = 2;</code>
+     * <pre>
+     * the id of an account (see Account.getIdAsString)
+     * </pre>
+     *
+     * <code>string account_id = 2;</code>
      */
-    public int getFromCommitment() {
-      return fromCommitment_;
+    public java.lang.String getAccountId() {
+      java.lang.Object ref = accountId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        accountId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * the id of an account (see Account.getIdAsString)
+     * </pre>
+     *
+     * <code>string account_id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAccountIdBytes() {
+      java.lang.Object ref = accountId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        accountId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2437,11 +2657,11 @@ public final class BVerifyAPIMessageSerialization {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!adsId_.isEmpty()) {
-        output.writeBytes(1, adsId_);
+      for (int i = 0; i < adsIds_.size(); i++) {
+        output.writeBytes(1, adsIds_.get(i));
       }
-      if (fromCommitment_ != 0) {
-        output.writeInt32(2, fromCommitment_);
+      if (!getAccountIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, accountId_);
       }
       unknownFields.writeTo(output);
     }
@@ -2451,13 +2671,17 @@ public final class BVerifyAPIMessageSerialization {
       if (size != -1) return size;
 
       size = 0;
-      if (!adsId_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, adsId_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < adsIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(adsIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getAdsIdsList().size();
       }
-      if (fromCommitment_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, fromCommitment_);
+      if (!getAccountIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, accountId_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2469,16 +2693,16 @@ public final class BVerifyAPIMessageSerialization {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest)) {
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest)) {
         return super.equals(obj);
       }
-      serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest other = (serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest) obj;
+      serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest other = (serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest) obj;
 
       boolean result = true;
-      result = result && getAdsId()
-          .equals(other.getAdsId());
-      result = result && (getFromCommitment()
-          == other.getFromCommitment());
+      result = result && getAdsIdsList()
+          .equals(other.getAdsIdsList());
+      result = result && getAccountId()
+          .equals(other.getAccountId());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -2490,78 +2714,80 @@ public final class BVerifyAPIMessageSerialization {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ADS_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getAdsId().hashCode();
-      hash = (37 * hash) + FROM_COMMITMENT_FIELD_NUMBER;
-      hash = (53 * hash) + getFromCommitment();
+      if (getAdsIdsCount() > 0) {
+        hash = (37 * hash) + ADS_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getAdsIdsList().hashCode();
+      }
+      hash = (37 * hash) + ACCOUNT_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getAccountId().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(byte[] data)
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(java.io.InputStream input)
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseDelimitedFrom(java.io.InputStream input)
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseDelimitedFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2573,7 +2799,7 @@ public final class BVerifyAPIMessageSerialization {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest prototype) {
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -2590,33 +2816,31 @@ public final class BVerifyAPIMessageSerialization {
     /**
      * <pre>
      **
-     *	Request for only the Updates for a proof 
-     * 	for the specified ADS Root. This is called
-     * 	by clients with cached proofs to avoid 
-     * 	requiring the server to retransmit the entire proof.
-     *	Instead the server only sends the updates for 
-     * 	the proof starting at the from_commitment.
+     *	Request that the server prove the ADS Roots for 
+     *	many ADSes at once: either the listed ADS IDs or 
+     *	every ADS owned by an account. The response contains 
+     *	a single proof for all of them (see ADSRootsProof)
      * </pre>
      *
-     * Protobuf type {@code serialization.generated.GetADSProofUpdatesRequest}
+     * Protobuf type {@code serialization.generated.ProveADSRootsRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:serialization.generated.GetADSProofUpdatesRequest)
-        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:serialization.generated.ProveADSRootsRequest)
+        serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor;
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_fieldAccessorTable
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.class, serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.Builder.class);
+                serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest.class, serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest.Builder.class);
       }
 
-      // Construct using serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.newBuilder()
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2633,34 +2857,41 @@ public final class BVerifyAPIMessageSerialization {
       }
       public Builder clear() {
         super.clear();
-        adsId_ = com.google.protobuf.ByteString.EMPTY;
-
-        fromCommitment_ = 0;
+        adsIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        accountId_ = "";
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor;
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsRequest_descriptor;
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest getDefaultInstanceForType() {
-        return serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.getDefaultInstance();
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest.getDefaultInstance();
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest build() {
-        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest result = buildPartial();
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest build() {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest buildPartial() {
-        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest result = new serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest(this);
-        result.adsId_ = adsId_;
-        result.fromCommitment_ = fromCommitment_;
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest result = new serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          adsIds_ = java.util.Collections.unmodifiableList(adsIds_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.adsIds_ = adsIds_;
+        result.accountId_ = accountId_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -2692,21 +2923,29 @@ public final class BVerifyAPIMessageSerialization {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest) {
-          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest)other);
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest other) {
-        if (other == serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.getDefaultInstance()) return this;
-        if (other.getAdsId() != com.google.protobuf.ByteString.EMPTY) {
-          setAdsId(other.getAdsId());
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest.getDefaultInstance()) return this;
+        if (!other.adsIds_.isEmpty()) {
+          if (adsIds_.isEmpty()) {
+            adsIds_ = other.adsIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureAdsIdsIsMutable();
+            adsIds_.addAll(other.adsIds_);
+          }
+          onChanged();
         }
-        if (other.getFromCommitment() != 0) {
-          setFromCommitment(other.getFromCommitment());
+        if (!other.getAccountId().isEmpty()) {
+          accountId_ = other.accountId_;
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2721,11 +2960,11 @@ public final class BVerifyAPIMessageSerialization {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parsedMessage = null;
+        serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest) e.getUnfinishedMessage();
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2734,58 +2973,165 @@ public final class BVerifyAPIMessageSerialization {
         }
         return this;
       }
+      private int bitField0_;
 
-      private com.google.protobuf.ByteString adsId_ = com.google.protobuf.ByteString.EMPTY;
+      private java.util.List<com.google.protobuf.ByteString> adsIds_ = java.util.Collections.emptyList();
+      private void ensureAdsIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          adsIds_ = new java.util.ArrayList<com.google.protobuf.ByteString>(adsIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>bytes ads_id = 1;</code>
+       * <code>repeated bytes ads_ids = 1;</code>
        */
-      public com.google.protobuf.ByteString getAdsId() {
-        return adsId_;
+      public java.util.List<com.google.protobuf.ByteString>
+          getAdsIdsList() {
+        return java.util.Collections.unmodifiableList(adsIds_);
       }
       /**
-       * <code>bytes ads_id = 1;</code>
+       * <code>repeated bytes ads_ids = 1;</code>
        */
-      public Builder setAdsId(com.google.protobuf.ByteString value) {
+      public int getAdsIdsCount() {
+        return adsIds_.size();
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public com.google.protobuf.ByteString getAdsIds(int index) {
+        return adsIds_.get(index);
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public Builder setAdsIds(
+          int index, com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        adsId_ = value;
+  ensureAdsIdsIsMutable();
+        adsIds_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>bytes ads_id = 1;</code>
+       * <code>repeated bytes ads_ids = 1;</code>
        */
-      public Builder clearAdsId() {
-        
-        adsId_ = getDefaultInstance().getAdsId();
+      public Builder addAdsIds(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAdsIdsIsMutable();
+        adsIds_.add(value);
         onChanged();
         return this;
       }
-
-      private int fromCommitment_ ;
       /**
-       * <code>int32 from_commitment = 2;</code>
+       * <code>repeated bytes ads_ids = 1;</code>
        */
-      public int getFromCommitment() {
-        return fromCommitment_;
+      public Builder addAllAdsIds(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureAdsIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, adsIds_);
+        onChanged();
+        return this;
       }
       /**
-       * <code>int32 from_commitment = 2;</code>
+       * <code>repeated bytes ads_ids = 1;</code>
        */
-      public Builder setFromCommitment(int value) {
-        
-        fromCommitment_ = value;
+      public Builder clearAdsIds() {
+        adsIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
+
+      private java.lang.Object accountId_ = "";
       /**
-       * <code>int32 from_commitment = 2;</code>
+       * <pre>
+       * the id of an account (see Account.getIdAsString)
+       * </pre>
+       *
+       * <code>string account_id = 2;</code>
        */
-      public Builder clearFromCommitment() {
+      public java.lang.String getAccountId() {
+        java.lang.Object ref = accountId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          accountId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * the id of an account (see Account.getIdAsString)
+       * </pre>
+       *
+       * <code>string account_id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAccountIdBytes() {
+        java.lang.Object ref = accountId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          accountId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * the id of an account (see Account.getIdAsString)
+       * </pre>
+       *
+       * <code>string account_id = 2;</code>
+       */
+      public Builder setAccountId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        accountId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the id of an account (see Account.getIdAsString)
+       * </pre>
+       *
+       * <code>string account_id = 2;</code>
+       */
+      public Builder clearAccountId() {
         
-        fromCommitment_ = 0;
+        accountId_ = getDefaultInstance().getAccountId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the id of an account (see Account.getIdAsString)
+       * </pre>
+       *
+       * <code>string account_id = 2;</code>
+       */
+      public Builder setAccountIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        accountId_ = value;
         onChanged();
         return this;
       }
@@ -2800,82 +3146,79 @@ public final class BVerifyAPIMessageSerialization {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:serialization.generated.GetADSProofUpdatesRequest)
+      // @@protoc_insertion_point(builder_scope:serialization.generated.ProveADSRootsRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:serialization.generated.GetADSProofUpdatesRequest)
-    private static final serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:serialization.generated.ProveADSRootsRequest)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest();
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest();
     }
 
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest getDefaultInstance() {
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetADSProofUpdatesRequest>
-        PARSER = new com.google.protobuf.AbstractParser<GetADSProofUpdatesRequest>() {
-      public GetADSProofUpdatesRequest parsePartialFrom(
+    private static final com.google.protobuf.Parser<ProveADSRootsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ProveADSRootsRequest>() {
+      public ProveADSRootsRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetADSProofUpdatesRequest(input, extensionRegistry);
+        return new ProveADSRootsRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetADSProofUpdatesRequest> parser() {
+    public static com.google.protobuf.Parser<ProveADSRootsRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetADSProofUpdatesRequest> getParserForType() {
+    public com.google.protobuf.Parser<ProveADSRootsRequest> getParserForType() {
       return PARSER;
     }
 
-    public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest getDefaultInstanceForType() {
+    public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetADSProofUpdatesResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:serialization.generated.GetADSProofUpdatesResponse)
+  public interface ProveADSRootsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.ProveADSRootsResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+     * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
      */
-    boolean hasUpdates();
+    boolean hasProof();
     /**
-     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+     * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
      */
-    serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates getUpdates();
+    serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof getProof();
     /**
-     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+     * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
      */
-    serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder getUpdatesOrBuilder();
+    serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProofOrBuilder getProofOrBuilder();
   }
   /**
    * <pre>
    **
-   *	Response for a request for proof updates.
-   *	Contains the updates required for a client 
-   * 	to produce a fresh, valid proof for an 
-   * 	ADS Root.
+   *	Response from a request for many ADS Roots
    * </pre>
    *
-   * Protobuf type {@code serialization.generated.GetADSProofUpdatesResponse}
+   * Protobuf type {@code serialization.generated.ProveADSRootsResponse}
    */
-  public  static final class GetADSProofUpdatesResponse extends
+  public  static final class ProveADSRootsResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:serialization.generated.GetADSProofUpdatesResponse)
-      GetADSProofUpdatesResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:serialization.generated.ProveADSRootsResponse)
+      ProveADSRootsResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetADSProofUpdatesResponse.newBuilder() to construct.
-    private GetADSProofUpdatesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ProveADSRootsResponse.newBuilder() to construct.
+    private ProveADSRootsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetADSProofUpdatesResponse() {
+    private ProveADSRootsResponse() {
     }
 
     @java.lang.Override
@@ -2883,7 +3226,7 @@ public final class BVerifyAPIMessageSerialization {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetADSProofUpdatesResponse(
+    private ProveADSRootsResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2910,14 +3253,14 @@ public final class BVerifyAPIMessageSerialization {
               break;
             }
             case 10: {
-              serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder subBuilder = null;
-              if (updates_ != null) {
-                subBuilder = updates_.toBuilder();
+              serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.Builder subBuilder = null;
+              if (proof_ != null) {
+                subBuilder = proof_.toBuilder();
               }
-              updates_ = input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.parser(), extensionRegistry);
+              proof_ = input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(updates_);
-                updates_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(proof_);
+                proof_ = subBuilder.buildPartial();
               }
 
               break;
@@ -2936,35 +3279,35 @@ public final class BVerifyAPIMessageSerialization {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_descriptor;
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_fieldAccessorTable
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.class, serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.Builder.class);
+              serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse.class, serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse.Builder.class);
     }
 
-    public static final int UPDATES_FIELD_NUMBER = 1;
-    private serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates updates_;
+    public static final int PROOF_FIELD_NUMBER = 1;
+    private serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof proof_;
     /**
-     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+     * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
      */
-    public boolean hasUpdates() {
-      return updates_ != null;
+    public boolean hasProof() {
+      return proof_ != null;
     }
     /**
-     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+     * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
      */
-    public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates getUpdates() {
-      return updates_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.getDefaultInstance() : updates_;
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof getProof() {
+      return proof_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.getDefaultInstance() : proof_;
     }
     /**
-     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+     * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
      */
-    public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder getUpdatesOrBuilder() {
-      return getUpdates();
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProofOrBuilder getProofOrBuilder() {
+      return getProof();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2979,8 +3322,8 @@ public final class BVerifyAPIMessageSerialization {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (updates_ != null) {
-        output.writeMessage(1, getUpdates());
+      if (proof_ != null) {
+        output.writeMessage(1, getProof());
       }
       unknownFields.writeTo(output);
     }
@@ -2990,9 +3333,9 @@ public final class BVerifyAPIMessageSerialization {
       if (size != -1) return size;
 
       size = 0;
-      if (updates_ != null) {
+      if (proof_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getUpdates());
+          .computeMessageSize(1, getProof());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3004,16 +3347,16 @@ public final class BVerifyAPIMessageSerialization {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse)) {
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse)) {
         return super.equals(obj);
       }
-      serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse other = (serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse) obj;
+      serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse other = (serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse) obj;
 
       boolean result = true;
-      result = result && (hasUpdates() == other.hasUpdates());
-      if (hasUpdates()) {
-        result = result && getUpdates()
-            .equals(other.getUpdates());
+      result = result && (hasProof() == other.hasProof());
+      if (hasProof()) {
+        result = result && getProof()
+            .equals(other.getProof());
       }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
@@ -3026,78 +3369,78 @@ public final class BVerifyAPIMessageSerialization {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasUpdates()) {
-        hash = (37 * hash) + UPDATES_FIELD_NUMBER;
-        hash = (53 * hash) + getUpdates().hashCode();
+      if (hasProof()) {
+        hash = (37 * hash) + PROOF_FIELD_NUMBER;
+        hash = (53 * hash) + getProof().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(byte[] data)
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(java.io.InputStream input)
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseDelimitedFrom(java.io.InputStream input)
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseDelimitedFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3109,7 +3452,7 @@ public final class BVerifyAPIMessageSerialization {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse prototype) {
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3126,31 +3469,28 @@ public final class BVerifyAPIMessageSerialization {
     /**
      * <pre>
      **
-     *	Response for a request for proof updates.
-     *	Contains the updates required for a client 
-     * 	to produce a fresh, valid proof for an 
-     * 	ADS Root.
+     *	Response from a request for many ADS Roots
      * </pre>
      *
-     * Protobuf type {@code serialization.generated.GetADSProofUpdatesResponse}
+     * Protobuf type {@code serialization.generated.ProveADSRootsResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:serialization.generated.GetADSProofUpdatesResponse)
-        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:serialization.generated.ProveADSRootsResponse)
+        serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_descriptor;
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_fieldAccessorTable
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.class, serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.Builder.class);
+                serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse.class, serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse.Builder.class);
       }
 
-      // Construct using serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.newBuilder()
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3167,38 +3507,38 @@ public final class BVerifyAPIMessageSerialization {
       }
       public Builder clear() {
         super.clear();
-        if (updatesBuilder_ == null) {
-          updates_ = null;
+        if (proofBuilder_ == null) {
+          proof_ = null;
         } else {
-          updates_ = null;
-          updatesBuilder_ = null;
+          proof_ = null;
+          proofBuilder_ = null;
         }
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_descriptor;
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveADSRootsResponse_descriptor;
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse getDefaultInstanceForType() {
-        return serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.getDefaultInstance();
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse.getDefaultInstance();
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse build() {
-        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse result = buildPartial();
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse build() {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse buildPartial() {
-        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse result = new serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse(this);
-        if (updatesBuilder_ == null) {
-          result.updates_ = updates_;
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse result = new serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse(this);
+        if (proofBuilder_ == null) {
+          result.proof_ = proof_;
         } else {
-          result.updates_ = updatesBuilder_.build();
+          result.proof_ = proofBuilder_.build();
         }
         onBuilt();
         return result;
@@ -3231,18 +3571,18 @@ public final class BVerifyAPIMessageSerialization {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse) {
-          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse)other);
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse other) {
-        if (other == serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.getDefaultInstance()) return this;
-        if (other.hasUpdates()) {
-          mergeUpdates(other.getUpdates());
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse.getDefaultInstance()) return this;
+        if (other.hasProof()) {
+          mergeProof(other.getProof());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3257,11 +3597,11 @@ public final class BVerifyAPIMessageSerialization {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parsedMessage = null;
+        serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse) e.getUnfinishedMessage();
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3271,121 +3611,121 @@ public final class BVerifyAPIMessageSerialization {
         return this;
       }
 
-      private serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates updates_ = null;
+      private serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof proof_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
-          serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder> updatesBuilder_;
+          serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof, serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProofOrBuilder> proofBuilder_;
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
-      public boolean hasUpdates() {
-        return updatesBuilder_ != null || updates_ != null;
+      public boolean hasProof() {
+        return proofBuilder_ != null || proof_ != null;
       }
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates getUpdates() {
-        if (updatesBuilder_ == null) {
-          return updates_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.getDefaultInstance() : updates_;
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof getProof() {
+        if (proofBuilder_ == null) {
+          return proof_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.getDefaultInstance() : proof_;
         } else {
-          return updatesBuilder_.getMessage();
+          return proofBuilder_.getMessage();
         }
       }
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
-      public Builder setUpdates(serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates value) {
-        if (updatesBuilder_ == null) {
+      public Builder setProof(serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof value) {
+        if (proofBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          updates_ = value;
+          proof_ = value;
           onChanged();
         } else {
-          updatesBuilder_.setMessage(value);
+          proofBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
-      public Builder setUpdates(
-          serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder builderForValue) {
-        if (updatesBuilder_ == null) {
-          updates_ = builderForValue.build();
+      public Builder setProof(
+          serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.Builder builderForValue) {
+        if (proofBuilder_ == null) {
+          proof_ = builderForValue.build();
           onChanged();
         } else {
-          updatesBuilder_.setMessage(builderForValue.build());
+          proofBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
-      public Builder mergeUpdates(serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates value) {
-        if (updatesBuilder_ == null) {
-          if (updates_ != null) {
-            updates_ =
-              serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.newBuilder(updates_).mergeFrom(value).buildPartial();
+      public Builder mergeProof(serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof value) {
+        if (proofBuilder_ == null) {
+          if (proof_ != null) {
+            proof_ =
+              serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.newBuilder(proof_).mergeFrom(value).buildPartial();
           } else {
-            updates_ = value;
+            proof_ = value;
           }
           onChanged();
         } else {
-          updatesBuilder_.mergeFrom(value);
+          proofBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
-      public Builder clearUpdates() {
-        if (updatesBuilder_ == null) {
-          updates_ = null;
+      public Builder clearProof() {
+        if (proofBuilder_ == null) {
+          proof_ = null;
           onChanged();
         } else {
-          updates_ = null;
-          updatesBuilder_ = null;
+          proof_ = null;
+          proofBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder getUpdatesBuilder() {
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.Builder getProofBuilder() {
         
         onChanged();
-        return getUpdatesFieldBuilder().getBuilder();
+        return getProofFieldBuilder().getBuilder();
       }
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder getUpdatesOrBuilder() {
-        if (updatesBuilder_ != null) {
-          return updatesBuilder_.getMessageOrBuilder();
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProofOrBuilder getProofOrBuilder() {
+        if (proofBuilder_ != null) {
+          return proofBuilder_.getMessageOrBuilder();
         } else {
-          return updates_ == null ?
-              serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.getDefaultInstance() : updates_;
+          return proof_ == null ?
+              serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.getDefaultInstance() : proof_;
         }
       }
       /**
-       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
+       * <code>.serialization.generated.ADSRootsProof proof = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder> 
-          getUpdatesFieldBuilder() {
-        if (updatesBuilder_ == null) {
-          updatesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder>(
-                  getUpdates(),
+          serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof, serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProofOrBuilder> 
+          getProofFieldBuilder() {
+        if (proofBuilder_ == null) {
+          proofBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof, serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProofOrBuilder>(
+                  getProof(),
                   getParentForChildren(),
                   isClean());
-          updates_ = null;
+          proof_ = null;
         }
-        return updatesBuilder_;
+        return proofBuilder_;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -3398,97 +3738,115 @@ public final class BVerifyAPIMessageSerialization {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:serialization.generated.GetADSProofUpdatesResponse)
+      // @@protoc_insertion_point(builder_scope:serialization.generated.ProveADSRootsResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:serialization.generated.GetADSProofUpdatesResponse)
-    private static final serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:serialization.generated.ProveADSRootsResponse)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse();
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse();
     }
 
-    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse getDefaultInstance() {
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetADSProofUpdatesResponse>
-        PARSER = new com.google.protobuf.AbstractParser<GetADSProofUpdatesResponse>() {
-      public GetADSProofUpdatesResponse parsePartialFrom(
+    private static final com.google.protobuf.Parser<ProveADSRootsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ProveADSRootsResponse>() {
+      public ProveADSRootsResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetADSProofUpdatesResponse(input, extensionRegistry);
+        return new ProveADSRootsResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetADSProofUpdatesResponse> parser() {
+    public static com.google.protobuf.Parser<ProveADSRootsResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetADSProofUpdatesResponse> getParserForType() {
+    public com.google.protobuf.Parser<ProveADSRootsResponse> getParserForType() {
       return PARSER;
     }
 
-    public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse getDefaultInstanceForType() {
+    public serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface UpdateOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:serialization.generated.Update)
+  public interface GetADSProofUpdatesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.GetADSProofUpdatesRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
-     */
-    java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> 
-        getModificationsList();
-    /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     * <code>bytes ads_id = 1;</code>
      */
-    serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModifications(int index);
+    com.google.protobuf.ByteString getAdsId();
+
     /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     * <code>int32 from_commitment = 2;</code>
      */
-    int getModificationsCount();
+    int getFromCommitment();
+
     /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     * <pre>
+     * a client tracking many ADSes can instead ask for 
+     * the updates for all of them at once: each update 
+     * then contains the paths for every ADS 
+     * </pre>
+     *
+     * <code>repeated bytes ads_ids = 3;</code>
      */
-    java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
-        getModificationsOrBuilderList();
+    java.util.List<com.google.protobuf.ByteString> getAdsIdsList();
     /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     * <pre>
+     * a client tracking many ADSes can instead ask for 
+     * the updates for all of them at once: each update 
+     * then contains the paths for every ADS 
+     * </pre>
+     *
+     * <code>repeated bytes ads_ids = 3;</code>
      */
-    serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationsOrBuilder(
-        int index);
-
+    int getAdsIdsCount();
     /**
-     * <code>int32 valid_at_commitment_number = 2;</code>
+     * <pre>
+     * a client tracking many ADSes can instead ask for 
+     * the updates for all of them at once: each update 
+     * then contains the paths for every ADS 
+     * </pre>
+     *
+     * <code>repeated bytes ads_ids = 3;</code>
      */
-    int getValidAtCommitmentNumber();
+    com.google.protobuf.ByteString getAdsIds(int index);
   }
   /**
    * <pre>
    **
-   *	An Update
+   *	Request for only the Updates for a proof 
+   * 	for the specified ADS Root. This is called
+   * 	by clients with cached proofs to avoid 
+   * 	requiring the server to retransmit the entire proof.
+   *	Instead the server only sends the updates for 
+   * 	the proof starting at the from_commitment.
    * </pre>
    *
-   * Protobuf type {@code serialization.generated.Update}
+   * Protobuf type {@code serialization.generated.GetADSProofUpdatesRequest}
    */
-  public  static final class Update extends
+  public  static final class GetADSProofUpdatesRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:serialization.generated.Update)
-      UpdateOrBuilder {
+      // @@protoc_insertion_point(message_implements:serialization.generated.GetADSProofUpdatesRequest)
+      GetADSProofUpdatesRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Update.newBuilder() to construct.
-    private Update(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetADSProofUpdatesRequest.newBuilder() to construct.
+    private GetADSProofUpdatesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Update() {
-      modifications_ = java.util.Collections.emptyList();
-      validAtCommitmentNumber_ = 0;
+    private GetADSProofUpdatesRequest() {
+      adsId_ = com.google.protobuf.ByteString.EMPTY;
+      fromCommitment_ = 0;
+      adsIds_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -3496,7 +3854,7 @@ public final class BVerifyAPIMessageSerialization {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Update(
+    private GetADSProofUpdatesRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3523,17 +3881,21 @@ public final class BVerifyAPIMessageSerialization {
               break;
             }
             case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                modifications_ = new java.util.ArrayList<serialization.generated.BVerifyAPIMessageSerialization.ADSModification>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              modifications_.add(
-                  input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.ADSModification.parser(), extensionRegistry));
+
+              adsId_ = input.readBytes();
               break;
             }
             case 16: {
 
-              validAtCommitmentNumber_ = input.readInt32();
+              fromCommitment_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                adsIds_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              adsIds_.add(input.readBytes());
               break;
             }
           }
@@ -3544,8 +3906,8 @@ public final class BVerifyAPIMessageSerialization {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          modifications_ = java.util.Collections.unmodifiableList(modifications_);
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          adsIds_ = java.util.Collections.unmodifiableList(adsIds_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -3553,59 +3915,73 @@ public final class BVerifyAPIMessageSerialization {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_descriptor;
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_fieldAccessorTable
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              serialization.generated.BVerifyAPIMessageSerialization.Update.class, serialization.generated.BVerifyAPIMessageSerialization.Update.Builder.class);
+              serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.class, serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.Builder.class);
     }
 
     private int bitField0_;
-    public static final int MODIFICATIONS_FIELD_NUMBER = 1;
-    private java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> modifications_;
-    /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
-     */
-    public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> getModificationsList() {
-      return modifications_;
-    }
+    public static final int ADS_ID_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString adsId_;
     /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     * <code>bytes ads_id = 1;</code>
      */
-    public java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
-        getModificationsOrBuilderList() {
-      return modifications_;
+    public com.google.protobuf.ByteString getAdsId() {
+      return adsId_;
     }
+
+    public static final int FROM_COMMITMENT_FIELD_NUMBER = 2;
+    private int fromCommitment_;
     /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     * <code>int32 from_commitment = 2;</code>
      */
-    public int getModificationsCount() {
-      return modifications_.size();
+    public int getFromCommitment() {
+      return fromCommitment_;
     }
+
+    public static final int ADS_IDS_FIELD_NUMBER = 3;
+    private java.util.List<com.google.protobuf.ByteString> adsIds_;
     /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     * <pre>
+     * a client tracking many ADSes can instead ask for 
+     * the updates for all of them at once: each update 
+     * then contains the paths for every ADS 
+     * </pre>
+     *
+     * <code>repeated bytes ads_ids = 3;</code>
      */
-    public serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModifications(int index) {
-      return modifications_.get(index);
+    public java.util.List<com.google.protobuf.ByteString>
+        getAdsIdsList() {
+      return adsIds_;
     }
     /**
-     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     * <pre>
+     * a client tracking many ADSes can instead ask for 
+     * the updates for all of them at once: each update 
+     * then contains the paths for every ADS 
+     * </pre>
+     *
+     * <code>repeated bytes ads_ids = 3;</code>
      */
-    public serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationsOrBuilder(
-        int index) {
-      return modifications_.get(index);
+    public int getAdsIdsCount() {
+      return adsIds_.size();
     }
-
-    public static final int VALID_AT_COMMITMENT_NUMBER_FIELD_NUMBER = 2;
-    private int validAtCommitmentNumber_;
     /**
-     * <code>int32 valid_at_commitment_number = 2;</code>
+     * <pre>
+     * a client tracking many ADSes can instead ask for 
+     * the updates for all of them at once: each update 
+     * then contains the paths for every ADS 
+     * </pre>
+     *
+     * <code>repeated bytes ads_ids = 3;</code>
      */
-    public int getValidAtCommitmentNumber() {
-      return validAtCommitmentNumber_;
+    public com.google.protobuf.ByteString getAdsIds(int index) {
+      return adsIds_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3620,11 +3996,14 @@ public final class BVerifyAPIMessageSerialization {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < modifications_.size(); i++) {
-        output.writeMessage(1, modifications_.get(i));
+      if (!adsId_.isEmpty()) {
+        output.writeBytes(1, adsId_);
       }
-      if (validAtCommitmentNumber_ != 0) {
-        output.writeInt32(2, validAtCommitmentNumber_);
+      if (fromCommitment_ != 0) {
+        output.writeInt32(2, fromCommitment_);
+      }
+      for (int i = 0; i < adsIds_.size(); i++) {
+        output.writeBytes(3, adsIds_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -3634,13 +4013,22 @@ public final class BVerifyAPIMessageSerialization {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < modifications_.size(); i++) {
+      if (!adsId_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, modifications_.get(i));
+          .computeBytesSize(1, adsId_);
       }
-      if (validAtCommitmentNumber_ != 0) {
+      if (fromCommitment_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, validAtCommitmentNumber_);
+          .computeInt32Size(2, fromCommitment_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < adsIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(adsIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getAdsIdsList().size();
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3652,16 +4040,18 @@ public final class BVerifyAPIMessageSerialization {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.Update)) {
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest)) {
         return super.equals(obj);
       }
-      serialization.generated.BVerifyAPIMessageSerialization.Update other = (serialization.generated.BVerifyAPIMessageSerialization.Update) obj;
+      serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest other = (serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest) obj;
 
       boolean result = true;
-      result = result && getModificationsList()
-          .equals(other.getModificationsList());
-      result = result && (getValidAtCommitmentNumber()
-          == other.getValidAtCommitmentNumber());
+      result = result && getAdsId()
+          .equals(other.getAdsId());
+      result = result && (getFromCommitment()
+          == other.getFromCommitment());
+      result = result && getAdsIdsList()
+          .equals(other.getAdsIdsList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -3673,80 +4063,82 @@ public final class BVerifyAPIMessageSerialization {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getModificationsCount() > 0) {
-        hash = (37 * hash) + MODIFICATIONS_FIELD_NUMBER;
-        hash = (53 * hash) + getModificationsList().hashCode();
+      hash = (37 * hash) + ADS_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getAdsId().hashCode();
+      hash = (37 * hash) + FROM_COMMITMENT_FIELD_NUMBER;
+      hash = (53 * hash) + getFromCommitment();
+      if (getAdsIdsCount() > 0) {
+        hash = (37 * hash) + ADS_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getAdsIdsList().hashCode();
       }
-      hash = (37 * hash) + VALID_AT_COMMITMENT_NUMBER_FIELD_NUMBER;
-      hash = (53 * hash) + getValidAtCommitmentNumber();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(byte[] data)
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(java.io.InputStream input)
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseDelimitedFrom(java.io.InputStream input)
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseDelimitedFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3758,7 +4150,7 @@ public final class BVerifyAPIMessageSerialization {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.Update prototype) {
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3775,28 +4167,33 @@ public final class BVerifyAPIMessageSerialization {
     /**
      * <pre>
      **
-     *	An Update
+     *	Request for only the Updates for a proof 
+     * 	for the specified ADS Root. This is called
+     * 	by clients with cached proofs to avoid 
+     * 	requiring the server to retransmit the entire proof.
+     *	Instead the server only sends the updates for 
+     * 	the proof starting at the from_commitment.
      * </pre>
      *
-     * Protobuf type {@code serialization.generated.Update}
+     * Protobuf type {@code serialization.generated.GetADSProofUpdatesRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:serialization.generated.Update)
-        serialization.generated.BVerifyAPIMessageSerialization.UpdateOrBuilder {
+        // @@protoc_insertion_point(builder_implements:serialization.generated.GetADSProofUpdatesRequest)
+        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_descriptor;
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_fieldAccessorTable
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                serialization.generated.BVerifyAPIMessageSerialization.Update.class, serialization.generated.BVerifyAPIMessageSerialization.Update.Builder.class);
+                serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.class, serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.Builder.class);
       }
 
-      // Construct using serialization.generated.BVerifyAPIMessageSerialization.Update.newBuilder()
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3809,53 +4206,47 @@ public final class BVerifyAPIMessageSerialization {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getModificationsFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        if (modificationsBuilder_ == null) {
-          modifications_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          modificationsBuilder_.clear();
-        }
-        validAtCommitmentNumber_ = 0;
+        adsId_ = com.google.protobuf.ByteString.EMPTY;
+
+        fromCommitment_ = 0;
 
+        adsIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_descriptor;
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor;
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.Update getDefaultInstanceForType() {
-        return serialization.generated.BVerifyAPIMessageSerialization.Update.getDefaultInstance();
+      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.getDefaultInstance();
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.Update build() {
-        serialization.generated.BVerifyAPIMessageSerialization.Update result = buildPartial();
+      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest build() {
+        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.Update buildPartial() {
-        serialization.generated.BVerifyAPIMessageSerialization.Update result = new serialization.generated.BVerifyAPIMessageSerialization.Update(this);
+      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest result = new serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (modificationsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            modifications_ = java.util.Collections.unmodifiableList(modifications_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.modifications_ = modifications_;
-        } else {
-          result.modifications_ = modificationsBuilder_.build();
+        result.adsId_ = adsId_;
+        result.fromCommitment_ = fromCommitment_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          adsIds_ = java.util.Collections.unmodifiableList(adsIds_);
+          bitField0_ = (bitField0_ & ~0x00000004);
         }
-        result.validAtCommitmentNumber_ = validAtCommitmentNumber_;
+        result.adsIds_ = adsIds_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -3888,44 +4279,31 @@ public final class BVerifyAPIMessageSerialization {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.Update) {
-          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.Update)other);
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.Update other) {
-        if (other == serialization.generated.BVerifyAPIMessageSerialization.Update.getDefaultInstance()) return this;
-        if (modificationsBuilder_ == null) {
-          if (!other.modifications_.isEmpty()) {
-            if (modifications_.isEmpty()) {
-              modifications_ = other.modifications_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureModificationsIsMutable();
-              modifications_.addAll(other.modifications_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.modifications_.isEmpty()) {
-            if (modificationsBuilder_.isEmpty()) {
-              modificationsBuilder_.dispose();
-              modificationsBuilder_ = null;
-              modifications_ = other.modifications_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              modificationsBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getModificationsFieldBuilder() : null;
-            } else {
-              modificationsBuilder_.addAllMessages(other.modifications_);
-            }
-          }
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest.getDefaultInstance()) return this;
+        if (other.getAdsId() != com.google.protobuf.ByteString.EMPTY) {
+          setAdsId(other.getAdsId());
         }
-        if (other.getValidAtCommitmentNumber() != 0) {
-          setValidAtCommitmentNumber(other.getValidAtCommitmentNumber());
+        if (other.getFromCommitment() != 0) {
+          setFromCommitment(other.getFromCommitment());
+        }
+        if (!other.adsIds_.isEmpty()) {
+          if (adsIds_.isEmpty()) {
+            adsIds_ = other.adsIds_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureAdsIdsIsMutable();
+            adsIds_.addAll(other.adsIds_);
+          }
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3940,11 +4318,11 @@ public final class BVerifyAPIMessageSerialization {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        serialization.generated.BVerifyAPIMessageSerialization.Update parsedMessage = null;
+        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.Update) e.getUnfinishedMessage();
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3955,268 +4333,171 @@ public final class BVerifyAPIMessageSerialization {
       }
       private int bitField0_;
 
-      private java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> modifications_ =
-        java.util.Collections.emptyList();
-      private void ensureModificationsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          modifications_ = new java.util.ArrayList<serialization.generated.BVerifyAPIMessageSerialization.ADSModification>(modifications_);
-          bitField0_ |= 0x00000001;
-         }
+      private com.google.protobuf.ByteString adsId_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes ads_id = 1;</code>
+       */
+      public com.google.protobuf.ByteString getAdsId() {
+        return adsId_;
       }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> modificationsBuilder_;
-
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <code>bytes ads_id = 1;</code>
        */
-      public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> getModificationsList() {
-        if (modificationsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(modifications_);
-        } else {
-          return modificationsBuilder_.getMessageList();
-        }
+      public Builder setAdsId(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        adsId_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <code>bytes ads_id = 1;</code>
        */
-      public int getModificationsCount() {
-        if (modificationsBuilder_ == null) {
-          return modifications_.size();
-        } else {
-          return modificationsBuilder_.getCount();
-        }
+      public Builder clearAdsId() {
+        
+        adsId_ = getDefaultInstance().getAdsId();
+        onChanged();
+        return this;
       }
+
+      private int fromCommitment_ ;
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <code>int32 from_commitment = 2;</code>
        */
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModifications(int index) {
-        if (modificationsBuilder_ == null) {
-          return modifications_.get(index);
-        } else {
-          return modificationsBuilder_.getMessage(index);
-        }
+      public int getFromCommitment() {
+        return fromCommitment_;
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <code>int32 from_commitment = 2;</code>
        */
-      public Builder setModifications(
-          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification value) {
-        if (modificationsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureModificationsIsMutable();
-          modifications_.set(index, value);
-          onChanged();
-        } else {
-          modificationsBuilder_.setMessage(index, value);
-        }
+      public Builder setFromCommitment(int value) {
+        
+        fromCommitment_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <code>int32 from_commitment = 2;</code>
        */
-      public Builder setModifications(
-          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder builderForValue) {
-        if (modificationsBuilder_ == null) {
-          ensureModificationsIsMutable();
-          modifications_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          modificationsBuilder_.setMessage(index, builderForValue.build());
-        }
+      public Builder clearFromCommitment() {
+        
+        fromCommitment_ = 0;
+        onChanged();
         return this;
       }
+
+      private java.util.List<com.google.protobuf.ByteString> adsIds_ = java.util.Collections.emptyList();
+      private void ensureAdsIdsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          adsIds_ = new java.util.ArrayList<com.google.protobuf.ByteString>(adsIds_);
+          bitField0_ |= 0x00000004;
+         }
+      }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <pre>
+       * a client tracking many ADSes can instead ask for 
+       * the updates for all of them at once: each update 
+       * then contains the paths for every ADS 
+       * </pre>
+       *
+       * <code>repeated bytes ads_ids = 3;</code>
        */
-      public Builder addModifications(serialization.generated.BVerifyAPIMessageSerialization.ADSModification value) {
-        if (modificationsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureModificationsIsMutable();
-          modifications_.add(value);
-          onChanged();
-        } else {
-          modificationsBuilder_.addMessage(value);
-        }
-        return this;
+      public java.util.List<com.google.protobuf.ByteString>
+          getAdsIdsList() {
+        return java.util.Collections.unmodifiableList(adsIds_);
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <pre>
+       * a client tracking many ADSes can instead ask for 
+       * the updates for all of them at once: each update 
+       * then contains the paths for every ADS 
+       * </pre>
+       *
+       * <code>repeated bytes ads_ids = 3;</code>
        */
-      public Builder addModifications(
-          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification value) {
-        if (modificationsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureModificationsIsMutable();
-          modifications_.add(index, value);
-          onChanged();
-        } else {
-          modificationsBuilder_.addMessage(index, value);
-        }
-        return this;
+      public int getAdsIdsCount() {
+        return adsIds_.size();
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <pre>
+       * a client tracking many ADSes can instead ask for 
+       * the updates for all of them at once: each update 
+       * then contains the paths for every ADS 
+       * </pre>
+       *
+       * <code>repeated bytes ads_ids = 3;</code>
        */
-      public Builder addModifications(
-          serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder builderForValue) {
-        if (modificationsBuilder_ == null) {
-          ensureModificationsIsMutable();
-          modifications_.add(builderForValue.build());
-          onChanged();
-        } else {
-          modificationsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+      public com.google.protobuf.ByteString getAdsIds(int index) {
+        return adsIds_.get(index);
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <pre>
+       * a client tracking many ADSes can instead ask for 
+       * the updates for all of them at once: each update 
+       * then contains the paths for every ADS 
+       * </pre>
+       *
+       * <code>repeated bytes ads_ids = 3;</code>
        */
-      public Builder addModifications(
-          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder builderForValue) {
-        if (modificationsBuilder_ == null) {
-          ensureModificationsIsMutable();
-          modifications_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          modificationsBuilder_.addMessage(index, builderForValue.build());
-        }
+      public Builder setAdsIds(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAdsIdsIsMutable();
+        adsIds_.set(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <pre>
+       * a client tracking many ADSes can instead ask for 
+       * the updates for all of them at once: each update 
+       * then contains the paths for every ADS 
+       * </pre>
+       *
+       * <code>repeated bytes ads_ids = 3;</code>
        */
-      public Builder addAllModifications(
-          java.lang.Iterable<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSModification> values) {
-        if (modificationsBuilder_ == null) {
-          ensureModificationsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, modifications_);
-          onChanged();
-        } else {
-          modificationsBuilder_.addAllMessages(values);
-        }
+      public Builder addAdsIds(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAdsIdsIsMutable();
+        adsIds_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <pre>
+       * a client tracking many ADSes can instead ask for 
+       * the updates for all of them at once: each update 
+       * then contains the paths for every ADS 
+       * </pre>
+       *
+       * <code>repeated bytes ads_ids = 3;</code>
        */
-      public Builder clearModifications() {
-        if (modificationsBuilder_ == null) {
-          modifications_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          modificationsBuilder_.clear();
-        }
+      public Builder addAllAdsIds(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureAdsIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, adsIds_);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       * <pre>
+       * a client tracking many ADSes can instead ask for 
+       * the updates for all of them at once: each update 
+       * then contains the paths for every ADS 
+       * </pre>
+       *
+       * <code>repeated bytes ads_ids = 3;</code>
        */
-      public Builder removeModifications(int index) {
-        if (modificationsBuilder_ == null) {
-          ensureModificationsIsMutable();
-          modifications_.remove(index);
-          onChanged();
-        } else {
-          modificationsBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
-       */
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder getModificationsBuilder(
-          int index) {
-        return getModificationsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
-       */
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationsOrBuilder(
-          int index) {
-        if (modificationsBuilder_ == null) {
-          return modifications_.get(index);  } else {
-          return modificationsBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
-       */
-      public java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
-           getModificationsOrBuilderList() {
-        if (modificationsBuilder_ != null) {
-          return modificationsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(modifications_);
-        }
-      }
-      /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
-       */
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder addModificationsBuilder() {
-        return getModificationsFieldBuilder().addBuilder(
-            serialization.generated.BVerifyAPIMessageSerialization.ADSModification.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
-       */
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder addModificationsBuilder(
-          int index) {
-        return getModificationsFieldBuilder().addBuilder(
-            index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
-       */
-      public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder> 
-           getModificationsBuilderList() {
-        return getModificationsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
-          getModificationsFieldBuilder() {
-        if (modificationsBuilder_ == null) {
-          modificationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder>(
-                  modifications_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          modifications_ = null;
-        }
-        return modificationsBuilder_;
-      }
-
-      private int validAtCommitmentNumber_ ;
-      /**
-       * <code>int32 valid_at_commitment_number = 2;</code>
-       */
-      public int getValidAtCommitmentNumber() {
-        return validAtCommitmentNumber_;
-      }
-      /**
-       * <code>int32 valid_at_commitment_number = 2;</code>
-       */
-      public Builder setValidAtCommitmentNumber(int value) {
-        
-        validAtCommitmentNumber_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 valid_at_commitment_number = 2;</code>
-       */
-      public Builder clearValidAtCommitmentNumber() {
-        
-        validAtCommitmentNumber_ = 0;
+      public Builder clearAdsIds() {
+        adsIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
@@ -4231,117 +4512,82 @@ public final class BVerifyAPIMessageSerialization {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:serialization.generated.Update)
+      // @@protoc_insertion_point(builder_scope:serialization.generated.GetADSProofUpdatesRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:serialization.generated.Update)
-    private static final serialization.generated.BVerifyAPIMessageSerialization.Update DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:serialization.generated.GetADSProofUpdatesRequest)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.Update();
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest();
     }
 
-    public static serialization.generated.BVerifyAPIMessageSerialization.Update getDefaultInstance() {
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Update>
-        PARSER = new com.google.protobuf.AbstractParser<Update>() {
-      public Update parsePartialFrom(
+    private static final com.google.protobuf.Parser<GetADSProofUpdatesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetADSProofUpdatesRequest>() {
+      public GetADSProofUpdatesRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Update(input, extensionRegistry);
+        return new GetADSProofUpdatesRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Update> parser() {
+    public static com.google.protobuf.Parser<GetADSProofUpdatesRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Update> getParserForType() {
+    public com.google.protobuf.Parser<GetADSProofUpdatesRequest> getParserForType() {
       return PARSER;
     }
 
-    public serialization.generated.BVerifyAPIMessageSerialization.Update getDefaultInstanceForType() {
+    public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ADSRootProofOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:serialization.generated.ADSRootProof)
+  public interface GetADSProofUpdatesResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.GetADSProofUpdatesResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
-     */
-    boolean hasLastUpdatedProof();
-    /**
-     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
-     */
-    serialization.generated.MptSerialization.MerklePrefixTrie getLastUpdatedProof();
-    /**
-     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
-     */
-    serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getLastUpdatedProofOrBuilder();
-
-    /**
-     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-     */
-    boolean hasLastUpdate();
-    /**
-     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-     */
-    serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest getLastUpdate();
-    /**
-     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-     */
-    serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder getLastUpdateOrBuilder();
-
-    /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
-     */
-    java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> 
-        getFreshnessProofList();
-    /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
-     */
-    serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index);
-    /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
      */
-    int getFreshnessProofCount();
+    boolean hasUpdates();
     /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
      */
-    java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
-        getFreshnessProofOrBuilderList();
+    serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates getUpdates();
     /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
      */
-    serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
-        int index);
+    serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder getUpdatesOrBuilder();
   }
   /**
    * <pre>
    **
-   *	A complete ADS Root Proof
+   *	Response for a request for proof updates.
+   *	Contains the updates required for a client 
+   * 	to produce a fresh, valid proof for an 
+   * 	ADS Root.
    * </pre>
    *
-   * Protobuf type {@code serialization.generated.ADSRootProof}
+   * Protobuf type {@code serialization.generated.GetADSProofUpdatesResponse}
    */
-  public  static final class ADSRootProof extends
+  public  static final class GetADSProofUpdatesResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:serialization.generated.ADSRootProof)
-      ADSRootProofOrBuilder {
+      // @@protoc_insertion_point(message_implements:serialization.generated.GetADSProofUpdatesResponse)
+      GetADSProofUpdatesResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ADSRootProof.newBuilder() to construct.
-    private ADSRootProof(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetADSProofUpdatesResponse.newBuilder() to construct.
+    private GetADSProofUpdatesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ADSRootProof() {
-      freshnessProof_ = java.util.Collections.emptyList();
+    private GetADSProofUpdatesResponse() {
     }
 
     @java.lang.Override
@@ -4349,7 +4595,7 @@ public final class BVerifyAPIMessageSerialization {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private ADSRootProof(
+    private GetADSProofUpdatesResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4376,40 +4622,18 @@ public final class BVerifyAPIMessageSerialization {
               break;
             }
             case 10: {
-              serialization.generated.MptSerialization.MerklePrefixTrie.Builder subBuilder = null;
-              if (lastUpdatedProof_ != null) {
-                subBuilder = lastUpdatedProof_.toBuilder();
-              }
-              lastUpdatedProof_ = input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(lastUpdatedProof_);
-                lastUpdatedProof_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
-            case 18: {
-              serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder subBuilder = null;
-              if (lastUpdate_ != null) {
-                subBuilder = lastUpdate_.toBuilder();
+              serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder subBuilder = null;
+              if (updates_ != null) {
+                subBuilder = updates_.toBuilder();
               }
-              lastUpdate_ = input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.parser(), extensionRegistry);
+              updates_ = input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(lastUpdate_);
-                lastUpdate_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(updates_);
+                updates_ = subBuilder.buildPartial();
               }
 
               break;
             }
-            case 26: {
-              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-                freshnessProof_ = new java.util.ArrayList<serialization.generated.MptSerialization.MerklePrefixTrie>();
-                mutable_bitField0_ |= 0x00000004;
-              }
-              freshnessProof_.add(
-                  input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry));
-              break;
-            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4418,101 +4642,41 @@ public final class BVerifyAPIMessageSerialization {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          freshnessProof_ = java.util.Collections.unmodifiableList(freshnessProof_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_descriptor;
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_fieldAccessorTable
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.class, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder.class);
+              serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.class, serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.Builder.class);
     }
 
-    private int bitField0_;
-    public static final int LAST_UPDATED_PROOF_FIELD_NUMBER = 1;
-    private serialization.generated.MptSerialization.MerklePrefixTrie lastUpdatedProof_;
+    public static final int UPDATES_FIELD_NUMBER = 1;
+    private serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates updates_;
     /**
-     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
      */
-    public boolean hasLastUpdatedProof() {
-      return lastUpdatedProof_ != null;
+    public boolean hasUpdates() {
+      return updates_ != null;
     }
     /**
-     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
      */
-    public serialization.generated.MptSerialization.MerklePrefixTrie getLastUpdatedProof() {
-      return lastUpdatedProof_ == null ? serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : lastUpdatedProof_;
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates getUpdates() {
+      return updates_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.getDefaultInstance() : updates_;
     }
     /**
-     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
      */
-    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getLastUpdatedProofOrBuilder() {
-      return getLastUpdatedProof();
-    }
-
-    public static final int LAST_UPDATE_FIELD_NUMBER = 2;
-    private serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest lastUpdate_;
-    /**
-     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-     */
-    public boolean hasLastUpdate() {
-      return lastUpdate_ != null;
-    }
-    /**
-     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-     */
-    public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest getLastUpdate() {
-      return lastUpdate_ == null ? serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.getDefaultInstance() : lastUpdate_;
-    }
-    /**
-     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-     */
-    public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder getLastUpdateOrBuilder() {
-      return getLastUpdate();
-    }
-
-    public static final int FRESHNESS_PROOF_FIELD_NUMBER = 3;
-    private java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> freshnessProof_;
-    /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
-     */
-    public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> getFreshnessProofList() {
-      return freshnessProof_;
-    }
-    /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
-     */
-    public java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
-        getFreshnessProofOrBuilderList() {
-      return freshnessProof_;
-    }
-    /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
-     */
-    public int getFreshnessProofCount() {
-      return freshnessProof_.size();
-    }
-    /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
-     */
-    public serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index) {
-      return freshnessProof_.get(index);
-    }
-    /**
-     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
-     */
-    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
-        int index) {
-      return freshnessProof_.get(index);
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder getUpdatesOrBuilder() {
+      return getUpdates();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -4527,14 +4691,8 @@ public final class BVerifyAPIMessageSerialization {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (lastUpdatedProof_ != null) {
-        output.writeMessage(1, getLastUpdatedProof());
-      }
-      if (lastUpdate_ != null) {
-        output.writeMessage(2, getLastUpdate());
-      }
-      for (int i = 0; i < freshnessProof_.size(); i++) {
-        output.writeMessage(3, freshnessProof_.get(i));
+      if (updates_ != null) {
+        output.writeMessage(1, getUpdates());
       }
       unknownFields.writeTo(output);
     }
@@ -4544,17 +4702,9 @@ public final class BVerifyAPIMessageSerialization {
       if (size != -1) return size;
 
       size = 0;
-      if (lastUpdatedProof_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getLastUpdatedProof());
-      }
-      if (lastUpdate_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getLastUpdate());
-      }
-      for (int i = 0; i < freshnessProof_.size(); i++) {
+      if (updates_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, freshnessProof_.get(i));
+          .computeMessageSize(1, getUpdates());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4566,24 +4716,17 @@ public final class BVerifyAPIMessageSerialization {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof)) {
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse)) {
         return super.equals(obj);
       }
-      serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof other = (serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof) obj;
+      serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse other = (serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse) obj;
 
       boolean result = true;
-      result = result && (hasLastUpdatedProof() == other.hasLastUpdatedProof());
-      if (hasLastUpdatedProof()) {
-        result = result && getLastUpdatedProof()
-            .equals(other.getLastUpdatedProof());
-      }
-      result = result && (hasLastUpdate() == other.hasLastUpdate());
-      if (hasLastUpdate()) {
-        result = result && getLastUpdate()
-            .equals(other.getLastUpdate());
+      result = result && (hasUpdates() == other.hasUpdates());
+      if (hasUpdates()) {
+        result = result && getUpdates()
+            .equals(other.getUpdates());
       }
-      result = result && getFreshnessProofList()
-          .equals(other.getFreshnessProofList());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -4595,86 +4738,78 @@ public final class BVerifyAPIMessageSerialization {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasLastUpdatedProof()) {
-        hash = (37 * hash) + LAST_UPDATED_PROOF_FIELD_NUMBER;
-        hash = (53 * hash) + getLastUpdatedProof().hashCode();
-      }
-      if (hasLastUpdate()) {
-        hash = (37 * hash) + LAST_UPDATE_FIELD_NUMBER;
-        hash = (53 * hash) + getLastUpdate().hashCode();
-      }
-      if (getFreshnessProofCount() > 0) {
-        hash = (37 * hash) + FRESHNESS_PROOF_FIELD_NUMBER;
-        hash = (53 * hash) + getFreshnessProofList().hashCode();
+      if (hasUpdates()) {
+        hash = (37 * hash) + UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getUpdates().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(byte[] data)
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(java.io.InputStream input)
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseDelimitedFrom(java.io.InputStream input)
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseDelimitedFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4686,7 +4821,7 @@ public final class BVerifyAPIMessageSerialization {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof prototype) {
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -4703,28 +4838,31 @@ public final class BVerifyAPIMessageSerialization {
     /**
      * <pre>
      **
-     *	A complete ADS Root Proof
+     *	Response for a request for proof updates.
+     *	Contains the updates required for a client 
+     * 	to produce a fresh, valid proof for an 
+     * 	ADS Root.
      * </pre>
      *
-     * Protobuf type {@code serialization.generated.ADSRootProof}
+     * Protobuf type {@code serialization.generated.GetADSProofUpdatesResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:serialization.generated.ADSRootProof)
-        serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder {
+        // @@protoc_insertion_point(builder_implements:serialization.generated.GetADSProofUpdatesResponse)
+        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_descriptor;
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_fieldAccessorTable
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.class, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder.class);
+                serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.class, serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.Builder.class);
       }
 
-      // Construct using serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.newBuilder()
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4737,73 +4875,43 @@ public final class BVerifyAPIMessageSerialization {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getFreshnessProofFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        if (lastUpdatedProofBuilder_ == null) {
-          lastUpdatedProof_ = null;
-        } else {
-          lastUpdatedProof_ = null;
-          lastUpdatedProofBuilder_ = null;
-        }
-        if (lastUpdateBuilder_ == null) {
-          lastUpdate_ = null;
-        } else {
-          lastUpdate_ = null;
-          lastUpdateBuilder_ = null;
-        }
-        if (freshnessProofBuilder_ == null) {
-          freshnessProof_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
+        if (updatesBuilder_ == null) {
+          updates_ = null;
         } else {
-          freshnessProofBuilder_.clear();
+          updates_ = null;
+          updatesBuilder_ = null;
         }
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_descriptor;
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetADSProofUpdatesResponse_descriptor;
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getDefaultInstanceForType() {
-        return serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.getDefaultInstance();
+      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.getDefaultInstance();
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof build() {
-        serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof result = buildPartial();
+      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse build() {
+        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof buildPartial() {
-        serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof result = new serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (lastUpdatedProofBuilder_ == null) {
-          result.lastUpdatedProof_ = lastUpdatedProof_;
-        } else {
-          result.lastUpdatedProof_ = lastUpdatedProofBuilder_.build();
-        }
-        if (lastUpdateBuilder_ == null) {
-          result.lastUpdate_ = lastUpdate_;
-        } else {
-          result.lastUpdate_ = lastUpdateBuilder_.build();
-        }
-        if (freshnessProofBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004)) {
-            freshnessProof_ = java.util.Collections.unmodifiableList(freshnessProof_);
-            bitField0_ = (bitField0_ & ~0x00000004);
-          }
-          result.freshnessProof_ = freshnessProof_;
+      public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse result = new serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse(this);
+        if (updatesBuilder_ == null) {
+          result.updates_ = updates_;
         } else {
-          result.freshnessProof_ = freshnessProofBuilder_.build();
+          result.updates_ = updatesBuilder_.build();
         }
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -4835,47 +4943,18 @@ public final class BVerifyAPIMessageSerialization {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof) {
-          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof)other);
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof other) {
-        if (other == serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.getDefaultInstance()) return this;
-        if (other.hasLastUpdatedProof()) {
-          mergeLastUpdatedProof(other.getLastUpdatedProof());
-        }
-        if (other.hasLastUpdate()) {
-          mergeLastUpdate(other.getLastUpdate());
-        }
-        if (freshnessProofBuilder_ == null) {
-          if (!other.freshnessProof_.isEmpty()) {
-            if (freshnessProof_.isEmpty()) {
-              freshnessProof_ = other.freshnessProof_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-            } else {
-              ensureFreshnessProofIsMutable();
-              freshnessProof_.addAll(other.freshnessProof_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.freshnessProof_.isEmpty()) {
-            if (freshnessProofBuilder_.isEmpty()) {
-              freshnessProofBuilder_.dispose();
-              freshnessProofBuilder_ = null;
-              freshnessProof_ = other.freshnessProof_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-              freshnessProofBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getFreshnessProofFieldBuilder() : null;
-            } else {
-              freshnessProofBuilder_.addAllMessages(other.freshnessProof_);
-            }
-          }
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse.getDefaultInstance()) return this;
+        if (other.hasUpdates()) {
+          mergeUpdates(other.getUpdates());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -4890,11 +4969,11 @@ public final class BVerifyAPIMessageSerialization {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parsedMessage = null;
+        serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof) e.getUnfinishedMessage();
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4903,480 +4982,9720 @@ public final class BVerifyAPIMessageSerialization {
         }
         return this;
       }
-      private int bitField0_;
 
-      private serialization.generated.MptSerialization.MerklePrefixTrie lastUpdatedProof_ = null;
+      private serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates updates_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
-          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> lastUpdatedProofBuilder_;
+          serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder> updatesBuilder_;
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
-      public boolean hasLastUpdatedProof() {
-        return lastUpdatedProofBuilder_ != null || lastUpdatedProof_ != null;
+      public boolean hasUpdates() {
+        return updatesBuilder_ != null || updates_ != null;
       }
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
-      public serialization.generated.MptSerialization.MerklePrefixTrie getLastUpdatedProof() {
-        if (lastUpdatedProofBuilder_ == null) {
-          return lastUpdatedProof_ == null ? serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : lastUpdatedProof_;
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates getUpdates() {
+        if (updatesBuilder_ == null) {
+          return updates_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.getDefaultInstance() : updates_;
         } else {
-          return lastUpdatedProofBuilder_.getMessage();
+          return updatesBuilder_.getMessage();
         }
       }
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
-      public Builder setLastUpdatedProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
-        if (lastUpdatedProofBuilder_ == null) {
+      public Builder setUpdates(serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates value) {
+        if (updatesBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          lastUpdatedProof_ = value;
+          updates_ = value;
           onChanged();
         } else {
-          lastUpdatedProofBuilder_.setMessage(value);
+          updatesBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
-      public Builder setLastUpdatedProof(
-          serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
-        if (lastUpdatedProofBuilder_ == null) {
-          lastUpdatedProof_ = builderForValue.build();
+      public Builder setUpdates(
+          serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder builderForValue) {
+        if (updatesBuilder_ == null) {
+          updates_ = builderForValue.build();
           onChanged();
         } else {
-          lastUpdatedProofBuilder_.setMessage(builderForValue.build());
+          updatesBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
-      public Builder mergeLastUpdatedProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
-        if (lastUpdatedProofBuilder_ == null) {
-          if (lastUpdatedProof_ != null) {
-            lastUpdatedProof_ =
-              serialization.generated.MptSerialization.MerklePrefixTrie.newBuilder(lastUpdatedProof_).mergeFrom(value).buildPartial();
+      public Builder mergeUpdates(serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates value) {
+        if (updatesBuilder_ == null) {
+          if (updates_ != null) {
+            updates_ =
+              serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.newBuilder(updates_).mergeFrom(value).buildPartial();
           } else {
-            lastUpdatedProof_ = value;
+            updates_ = value;
           }
           onChanged();
         } else {
-          lastUpdatedProofBuilder_.mergeFrom(value);
+          updatesBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
-      public Builder clearLastUpdatedProof() {
-        if (lastUpdatedProofBuilder_ == null) {
-          lastUpdatedProof_ = null;
+      public Builder clearUpdates() {
+        if (updatesBuilder_ == null) {
+          updates_ = null;
           onChanged();
         } else {
-          lastUpdatedProof_ = null;
-          lastUpdatedProofBuilder_ = null;
+          updates_ = null;
+          updatesBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
-      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getLastUpdatedProofBuilder() {
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder getUpdatesBuilder() {
         
         onChanged();
-        return getLastUpdatedProofFieldBuilder().getBuilder();
+        return getUpdatesFieldBuilder().getBuilder();
       }
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
-      public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getLastUpdatedProofOrBuilder() {
-        if (lastUpdatedProofBuilder_ != null) {
-          return lastUpdatedProofBuilder_.getMessageOrBuilder();
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder getUpdatesOrBuilder() {
+        if (updatesBuilder_ != null) {
+          return updatesBuilder_.getMessageOrBuilder();
         } else {
-          return lastUpdatedProof_ == null ?
-              serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : lastUpdatedProof_;
+          return updates_ == null ?
+              serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.getDefaultInstance() : updates_;
         }
       }
       /**
-       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       * <code>.serialization.generated.ADSProofUpdates updates = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
-          getLastUpdatedProofFieldBuilder() {
-        if (lastUpdatedProofBuilder_ == null) {
-          lastUpdatedProofBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
-                  getLastUpdatedProof(),
+          serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder> 
+          getUpdatesFieldBuilder() {
+        if (updatesBuilder_ == null) {
+          updatesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdatesOrBuilder>(
+                  getUpdates(),
                   getParentForChildren(),
                   isClean());
-          lastUpdatedProof_ = null;
+          updates_ = null;
         }
-        return lastUpdatedProofBuilder_;
-      }
-
-      private serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest lastUpdate_ = null;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder> lastUpdateBuilder_;
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      public boolean hasLastUpdate() {
-        return lastUpdateBuilder_ != null || lastUpdate_ != null;
+        return updatesBuilder_;
       }
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest getLastUpdate() {
-        if (lastUpdateBuilder_ == null) {
-          return lastUpdate_ == null ? serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.getDefaultInstance() : lastUpdate_;
-        } else {
-          return lastUpdateBuilder_.getMessage();
-        }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
       }
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      public Builder setLastUpdate(serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest value) {
-        if (lastUpdateBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          lastUpdate_ = value;
-          onChanged();
-        } else {
-          lastUpdateBuilder_.setMessage(value);
-        }
 
-        return this;
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      public Builder setLastUpdate(
-          serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder builderForValue) {
-        if (lastUpdateBuilder_ == null) {
-          lastUpdate_ = builderForValue.build();
-          onChanged();
-        } else {
-          lastUpdateBuilder_.setMessage(builderForValue.build());
-        }
 
-        return this;
-      }
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      public Builder mergeLastUpdate(serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest value) {
-        if (lastUpdateBuilder_ == null) {
-          if (lastUpdate_ != null) {
-            lastUpdate_ =
-              serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.newBuilder(lastUpdate_).mergeFrom(value).buildPartial();
-          } else {
-            lastUpdate_ = value;
-          }
-          onChanged();
-        } else {
-          lastUpdateBuilder_.mergeFrom(value);
-        }
 
-        return this;
-      }
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      public Builder clearLastUpdate() {
-        if (lastUpdateBuilder_ == null) {
-          lastUpdate_ = null;
-          onChanged();
-        } else {
-          lastUpdate_ = null;
-          lastUpdateBuilder_ = null;
-        }
+      // @@protoc_insertion_point(builder_scope:serialization.generated.GetADSProofUpdatesResponse)
+    }
 
-        return this;
-      }
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder getLastUpdateBuilder() {
-        
-        onChanged();
-        return getLastUpdateFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder getLastUpdateOrBuilder() {
-        if (lastUpdateBuilder_ != null) {
-          return lastUpdateBuilder_.getMessageOrBuilder();
-        } else {
-          return lastUpdate_ == null ?
-              serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.getDefaultInstance() : lastUpdate_;
-        }
-      }
-      /**
-       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder> 
-          getLastUpdateFieldBuilder() {
-        if (lastUpdateBuilder_ == null) {
-          lastUpdateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder>(
-                  getLastUpdate(),
-                  getParentForChildren(),
-                  isClean());
-          lastUpdate_ = null;
-        }
-        return lastUpdateBuilder_;
-      }
+    // @@protoc_insertion_point(class_scope:serialization.generated.GetADSProofUpdatesResponse)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse();
+    }
 
-      private java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> freshnessProof_ =
-        java.util.Collections.emptyList();
-      private void ensureFreshnessProofIsMutable() {
-        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
-          freshnessProof_ = new java.util.ArrayList<serialization.generated.MptSerialization.MerklePrefixTrie>(freshnessProof_);
-          bitField0_ |= 0x00000004;
-         }
-      }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
 
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> freshnessProofBuilder_;
+    private static final com.google.protobuf.Parser<GetADSProofUpdatesResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetADSProofUpdatesResponse>() {
+      public GetADSProofUpdatesResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetADSProofUpdatesResponse(input, extensionRegistry);
+      }
+    };
 
-      /**
+    public static com.google.protobuf.Parser<GetADSProofUpdatesResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetADSProofUpdatesResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetCommitmentHistoryRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.GetCommitmentHistoryRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 from_commitment = 1;</code>
+     */
+    int getFromCommitment();
+  }
+  /**
+   * <pre>
+   **
+   *	Request for the commitments starting at from_commitment.
+   *	The server also keeps an accumulator over the commitments 
+   *	(see MerkleMountainRange), so a client only needs to keep 
+   *	the root of the accumulator over the commitments it has seen. 
+   *	The client checks the peaks against its root and then 
+   *	appends the new commitments to get the new root.
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.GetCommitmentHistoryRequest}
+   */
+  public  static final class GetCommitmentHistoryRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.GetCommitmentHistoryRequest)
+      GetCommitmentHistoryRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetCommitmentHistoryRequest.newBuilder() to construct.
+    private GetCommitmentHistoryRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetCommitmentHistoryRequest() {
+      fromCommitment_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetCommitmentHistoryRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              fromCommitment_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest.class, serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest.Builder.class);
+    }
+
+    public static final int FROM_COMMITMENT_FIELD_NUMBER = 1;
+    private int fromCommitment_;
+    /**
+     * <code>int32 from_commitment = 1;</code>
+     */
+    public int getFromCommitment() {
+      return fromCommitment_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (fromCommitment_ != 0) {
+        output.writeInt32(1, fromCommitment_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (fromCommitment_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, fromCommitment_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest other = (serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest) obj;
+
+      boolean result = true;
+      result = result && (getFromCommitment()
+          == other.getFromCommitment());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FROM_COMMITMENT_FIELD_NUMBER;
+      hash = (53 * hash) + getFromCommitment();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	Request for the commitments starting at from_commitment.
+     *	The server also keeps an accumulator over the commitments 
+     *	(see MerkleMountainRange), so a client only needs to keep 
+     *	the root of the accumulator over the commitments it has seen. 
+     *	The client checks the peaks against its root and then 
+     *	appends the new commitments to get the new root.
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.GetCommitmentHistoryRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.GetCommitmentHistoryRequest)
+        serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest.class, serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        fromCommitment_ = 0;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryRequest_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest build() {
+        serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest result = new serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest(this);
+        result.fromCommitment_ = fromCommitment_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest.getDefaultInstance()) return this;
+        if (other.getFromCommitment() != 0) {
+          setFromCommitment(other.getFromCommitment());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int fromCommitment_ ;
+      /**
+       * <code>int32 from_commitment = 1;</code>
+       */
+      public int getFromCommitment() {
+        return fromCommitment_;
+      }
+      /**
+       * <code>int32 from_commitment = 1;</code>
+       */
+      public Builder setFromCommitment(int value) {
+        
+        fromCommitment_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 from_commitment = 1;</code>
+       */
+      public Builder clearFromCommitment() {
+        
+        fromCommitment_ = 0;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.GetCommitmentHistoryRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.GetCommitmentHistoryRequest)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest();
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetCommitmentHistoryRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetCommitmentHistoryRequest>() {
+      public GetCommitmentHistoryRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetCommitmentHistoryRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetCommitmentHistoryRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetCommitmentHistoryRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetCommitmentHistoryResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.GetCommitmentHistoryResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * the peaks of the accumulator over 
+     * the first from_commitment commitments
+     * </pre>
+     *
+     * <code>repeated bytes peaks = 1;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getPeaksList();
+    /**
+     * <pre>
+     * the peaks of the accumulator over 
+     * the first from_commitment commitments
+     * </pre>
+     *
+     * <code>repeated bytes peaks = 1;</code>
+     */
+    int getPeaksCount();
+    /**
+     * <pre>
+     * the peaks of the accumulator over 
+     * the first from_commitment commitments
+     * </pre>
+     *
+     * <code>repeated bytes peaks = 1;</code>
+     */
+    com.google.protobuf.ByteString getPeaks(int index);
+
+    /**
+     * <pre>
+     * the commitments from_commitment, ..., current
+     * </pre>
+     *
+     * <code>repeated bytes commitments = 2;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getCommitmentsList();
+    /**
+     * <pre>
+     * the commitments from_commitment, ..., current
+     * </pre>
+     *
+     * <code>repeated bytes commitments = 2;</code>
+     */
+    int getCommitmentsCount();
+    /**
+     * <pre>
+     * the commitments from_commitment, ..., current
+     * </pre>
+     *
+     * <code>repeated bytes commitments = 2;</code>
+     */
+    com.google.protobuf.ByteString getCommitments(int index);
+  }
+  /**
+   * <pre>
+   **
+   *	Response for a request for the commitments
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.GetCommitmentHistoryResponse}
+   */
+  public  static final class GetCommitmentHistoryResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.GetCommitmentHistoryResponse)
+      GetCommitmentHistoryResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetCommitmentHistoryResponse.newBuilder() to construct.
+    private GetCommitmentHistoryResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetCommitmentHistoryResponse() {
+      peaks_ = java.util.Collections.emptyList();
+      commitments_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetCommitmentHistoryResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                peaks_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              peaks_.add(input.readBytes());
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                commitments_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              commitments_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          peaks_ = java.util.Collections.unmodifiableList(peaks_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          commitments_ = java.util.Collections.unmodifiableList(commitments_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse.class, serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse.Builder.class);
+    }
+
+    public static final int PEAKS_FIELD_NUMBER = 1;
+    private java.util.List<com.google.protobuf.ByteString> peaks_;
+    /**
+     * <pre>
+     * the peaks of the accumulator over 
+     * the first from_commitment commitments
+     * </pre>
+     *
+     * <code>repeated bytes peaks = 1;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getPeaksList() {
+      return peaks_;
+    }
+    /**
+     * <pre>
+     * the peaks of the accumulator over 
+     * the first from_commitment commitments
+     * </pre>
+     *
+     * <code>repeated bytes peaks = 1;</code>
+     */
+    public int getPeaksCount() {
+      return peaks_.size();
+    }
+    /**
+     * <pre>
+     * the peaks of the accumulator over 
+     * the first from_commitment commitments
+     * </pre>
+     *
+     * <code>repeated bytes peaks = 1;</code>
+     */
+    public com.google.protobuf.ByteString getPeaks(int index) {
+      return peaks_.get(index);
+    }
+
+    public static final int COMMITMENTS_FIELD_NUMBER = 2;
+    private java.util.List<com.google.protobuf.ByteString> commitments_;
+    /**
+     * <pre>
+     * the commitments from_commitment, ..., current
+     * </pre>
+     *
+     * <code>repeated bytes commitments = 2;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getCommitmentsList() {
+      return commitments_;
+    }
+    /**
+     * <pre>
+     * the commitments from_commitment, ..., current
+     * </pre>
+     *
+     * <code>repeated bytes commitments = 2;</code>
+     */
+    public int getCommitmentsCount() {
+      return commitments_.size();
+    }
+    /**
+     * <pre>
+     * the commitments from_commitment, ..., current
+     * </pre>
+     *
+     * <code>repeated bytes commitments = 2;</code>
+     */
+    public com.google.protobuf.ByteString getCommitments(int index) {
+      return commitments_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < peaks_.size(); i++) {
+        output.writeBytes(1, peaks_.get(i));
+      }
+      for (int i = 0; i < commitments_.size(); i++) {
+        output.writeBytes(2, commitments_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < peaks_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(peaks_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getPeaksList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < commitments_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(commitments_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getCommitmentsList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse other = (serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse) obj;
+
+      boolean result = true;
+      result = result && getPeaksList()
+          .equals(other.getPeaksList());
+      result = result && getCommitmentsList()
+          .equals(other.getCommitmentsList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPeaksCount() > 0) {
+        hash = (37 * hash) + PEAKS_FIELD_NUMBER;
+        hash = (53 * hash) + getPeaksList().hashCode();
+      }
+      if (getCommitmentsCount() > 0) {
+        hash = (37 * hash) + COMMITMENTS_FIELD_NUMBER;
+        hash = (53 * hash) + getCommitmentsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	Response for a request for the commitments
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.GetCommitmentHistoryResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.GetCommitmentHistoryResponse)
+        serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse.class, serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        peaks_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        commitments_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_GetCommitmentHistoryResponse_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse build() {
+        serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse result = new serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          peaks_ = java.util.Collections.unmodifiableList(peaks_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.peaks_ = peaks_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          commitments_ = java.util.Collections.unmodifiableList(commitments_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.commitments_ = commitments_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse.getDefaultInstance()) return this;
+        if (!other.peaks_.isEmpty()) {
+          if (peaks_.isEmpty()) {
+            peaks_ = other.peaks_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePeaksIsMutable();
+            peaks_.addAll(other.peaks_);
+          }
+          onChanged();
+        }
+        if (!other.commitments_.isEmpty()) {
+          if (commitments_.isEmpty()) {
+            commitments_ = other.commitments_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureCommitmentsIsMutable();
+            commitments_.addAll(other.commitments_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.google.protobuf.ByteString> peaks_ = java.util.Collections.emptyList();
+      private void ensurePeaksIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          peaks_ = new java.util.ArrayList<com.google.protobuf.ByteString>(peaks_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <pre>
+       * the peaks of the accumulator over 
+       * the first from_commitment commitments
+       * </pre>
+       *
+       * <code>repeated bytes peaks = 1;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getPeaksList() {
+        return java.util.Collections.unmodifiableList(peaks_);
+      }
+      /**
+       * <pre>
+       * the peaks of the accumulator over 
+       * the first from_commitment commitments
+       * </pre>
+       *
+       * <code>repeated bytes peaks = 1;</code>
+       */
+      public int getPeaksCount() {
+        return peaks_.size();
+      }
+      /**
+       * <pre>
+       * the peaks of the accumulator over 
+       * the first from_commitment commitments
+       * </pre>
+       *
+       * <code>repeated bytes peaks = 1;</code>
+       */
+      public com.google.protobuf.ByteString getPeaks(int index) {
+        return peaks_.get(index);
+      }
+      /**
+       * <pre>
+       * the peaks of the accumulator over 
+       * the first from_commitment commitments
+       * </pre>
+       *
+       * <code>repeated bytes peaks = 1;</code>
+       */
+      public Builder setPeaks(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePeaksIsMutable();
+        peaks_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the peaks of the accumulator over 
+       * the first from_commitment commitments
+       * </pre>
+       *
+       * <code>repeated bytes peaks = 1;</code>
+       */
+      public Builder addPeaks(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePeaksIsMutable();
+        peaks_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the peaks of the accumulator over 
+       * the first from_commitment commitments
+       * </pre>
+       *
+       * <code>repeated bytes peaks = 1;</code>
+       */
+      public Builder addAllPeaks(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensurePeaksIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, peaks_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the peaks of the accumulator over 
+       * the first from_commitment commitments
+       * </pre>
+       *
+       * <code>repeated bytes peaks = 1;</code>
+       */
+      public Builder clearPeaks() {
+        peaks_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> commitments_ = java.util.Collections.emptyList();
+      private void ensureCommitmentsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          commitments_ = new java.util.ArrayList<com.google.protobuf.ByteString>(commitments_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <pre>
+       * the commitments from_commitment, ..., current
+       * </pre>
+       *
+       * <code>repeated bytes commitments = 2;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getCommitmentsList() {
+        return java.util.Collections.unmodifiableList(commitments_);
+      }
+      /**
+       * <pre>
+       * the commitments from_commitment, ..., current
+       * </pre>
+       *
+       * <code>repeated bytes commitments = 2;</code>
+       */
+      public int getCommitmentsCount() {
+        return commitments_.size();
+      }
+      /**
+       * <pre>
+       * the commitments from_commitment, ..., current
+       * </pre>
+       *
+       * <code>repeated bytes commitments = 2;</code>
+       */
+      public com.google.protobuf.ByteString getCommitments(int index) {
+        return commitments_.get(index);
+      }
+      /**
+       * <pre>
+       * the commitments from_commitment, ..., current
+       * </pre>
+       *
+       * <code>repeated bytes commitments = 2;</code>
+       */
+      public Builder setCommitments(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureCommitmentsIsMutable();
+        commitments_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the commitments from_commitment, ..., current
+       * </pre>
+       *
+       * <code>repeated bytes commitments = 2;</code>
+       */
+      public Builder addCommitments(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureCommitmentsIsMutable();
+        commitments_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the commitments from_commitment, ..., current
+       * </pre>
+       *
+       * <code>repeated bytes commitments = 2;</code>
+       */
+      public Builder addAllCommitments(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureCommitmentsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, commitments_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the commitments from_commitment, ..., current
+       * </pre>
+       *
+       * <code>repeated bytes commitments = 2;</code>
+       */
+      public Builder clearCommitments() {
+        commitments_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.GetCommitmentHistoryResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.GetCommitmentHistoryResponse)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse();
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetCommitmentHistoryResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetCommitmentHistoryResponse>() {
+      public GetCommitmentHistoryResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetCommitmentHistoryResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetCommitmentHistoryResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetCommitmentHistoryResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ProveCommitmentRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.ProveCommitmentRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 commitment_number = 1;</code>
+     */
+    int getCommitmentNumber();
+
+    /**
+     * <code>int32 number_of_commitments = 2;</code>
+     */
+    int getNumberOfCommitments();
+
+    public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest.AsOfCase getAsOfCase();
+  }
+  /**
+   * <pre>
+   **
+   *	Request that the server prove a commitment is 
+   *	part of the history (see CommitmentProof)
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.ProveCommitmentRequest}
+   */
+  public  static final class ProveCommitmentRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.ProveCommitmentRequest)
+      ProveCommitmentRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ProveCommitmentRequest.newBuilder() to construct.
+    private ProveCommitmentRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ProveCommitmentRequest() {
+      commitmentNumber_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ProveCommitmentRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+
+              commitmentNumber_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              asOfCase_ = 2;
+              asOf_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest.class, serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest.Builder.class);
+    }
+
+    private int asOfCase_ = 0;
+    private java.lang.Object asOf_;
+    public enum AsOfCase
+        implements com.google.protobuf.Internal.EnumLite {
+      NUMBER_OF_COMMITMENTS(2),
+      ASOF_NOT_SET(0);
+      private final int value;
+      private AsOfCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static AsOfCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static AsOfCase forNumber(int value) {
+        switch (value) {
+          case 2: return NUMBER_OF_COMMITMENTS;
+          case 0: return ASOF_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public AsOfCase
+    getAsOfCase() {
+      return AsOfCase.forNumber(
+          asOfCase_);
+    }
+
+    public static final int COMMITMENT_NUMBER_FIELD_NUMBER = 1;
+    private int commitmentNumber_;
+    /**
+     * <code>int32 commitment_number = 1;</code>
+     */
+    public int getCommitmentNumber() {
+      return commitmentNumber_;
+    }
+
+    public static final int NUMBER_OF_COMMITMENTS_FIELD_NUMBER = 2;
+    /**
+     * <code>int32 number_of_commitments = 2;</code>
+     */
+    public int getNumberOfCommitments() {
+      if (asOfCase_ == 2) {
+        return (java.lang.Integer) asOf_;
+      }
+      return 0;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (commitmentNumber_ != 0) {
+        output.writeInt32(1, commitmentNumber_);
+      }
+      if (asOfCase_ == 2) {
+        output.writeInt32(
+            2, (int)((java.lang.Integer) asOf_));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (commitmentNumber_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, commitmentNumber_);
+      }
+      if (asOfCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(
+              2, (int)((java.lang.Integer) asOf_));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest other = (serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest) obj;
+
+      boolean result = true;
+      result = result && (getCommitmentNumber()
+          == other.getCommitmentNumber());
+      result = result && getAsOfCase().equals(
+          other.getAsOfCase());
+      if (!result) return false;
+      switch (asOfCase_) {
+        case 2:
+          result = result && (getNumberOfCommitments()
+              == other.getNumberOfCommitments());
+          break;
+        case 0:
+        default:
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + COMMITMENT_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getCommitmentNumber();
+      switch (asOfCase_) {
+        case 2:
+          hash = (37 * hash) + NUMBER_OF_COMMITMENTS_FIELD_NUMBER;
+          hash = (53 * hash) + getNumberOfCommitments();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	Request that the server prove a commitment is 
+     *	part of the history (see CommitmentProof)
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.ProveCommitmentRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.ProveCommitmentRequest)
+        serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest.class, serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        commitmentNumber_ = 0;
+
+        asOfCase_ = 0;
+        asOf_ = null;
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentRequest_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest build() {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest result = new serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest(this);
+        result.commitmentNumber_ = commitmentNumber_;
+        if (asOfCase_ == 2) {
+          result.asOf_ = asOf_;
+        }
+        result.asOfCase_ = asOfCase_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest.getDefaultInstance()) return this;
+        if (other.getCommitmentNumber() != 0) {
+          setCommitmentNumber(other.getCommitmentNumber());
+        }
+        switch (other.getAsOfCase()) {
+          case NUMBER_OF_COMMITMENTS: {
+            setNumberOfCommitments(other.getNumberOfCommitments());
+            break;
+          }
+          case ASOF_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int asOfCase_ = 0;
+      private java.lang.Object asOf_;
+      public AsOfCase
+          getAsOfCase() {
+        return AsOfCase.forNumber(
+            asOfCase_);
+      }
+
+      public Builder clearAsOf() {
+        asOfCase_ = 0;
+        asOf_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private int commitmentNumber_ ;
+      /**
+       * <code>int32 commitment_number = 1;</code>
+       */
+      public int getCommitmentNumber() {
+        return commitmentNumber_;
+      }
+      /**
+       * <code>int32 commitment_number = 1;</code>
+       */
+      public Builder setCommitmentNumber(int value) {
+        
+        commitmentNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 commitment_number = 1;</code>
+       */
+      public Builder clearCommitmentNumber() {
+        
+        commitmentNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
+      /**
+       * <code>int32 number_of_commitments = 2;</code>
+       */
+      public int getNumberOfCommitments() {
+        if (asOfCase_ == 2) {
+          return (java.lang.Integer) asOf_;
+        }
+        return 0;
+      }
+      /**
+       * <code>int32 number_of_commitments = 2;</code>
+       */
+      public Builder setNumberOfCommitments(int value) {
+        asOfCase_ = 2;
+        asOf_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 number_of_commitments = 2;</code>
+       */
+      public Builder clearNumberOfCommitments() {
+        if (asOfCase_ == 2) {
+          asOfCase_ = 0;
+          asOf_ = null;
+          onChanged();
+        }
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.ProveCommitmentRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.ProveCommitmentRequest)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest();
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ProveCommitmentRequest>
+        PARSER = new com.google.protobuf.AbstractParser<ProveCommitmentRequest>() {
+      public ProveCommitmentRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ProveCommitmentRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ProveCommitmentRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ProveCommitmentRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ProveCommitmentResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.ProveCommitmentResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+     */
+    boolean hasProof();
+    /**
+     * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof getProof();
+    /**
+     * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.CommitmentProofOrBuilder getProofOrBuilder();
+  }
+  /**
+   * <pre>
+   **
+   *	Response from a request for a commitment proof
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.ProveCommitmentResponse}
+   */
+  public  static final class ProveCommitmentResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.ProveCommitmentResponse)
+      ProveCommitmentResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ProveCommitmentResponse.newBuilder() to construct.
+    private ProveCommitmentResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ProveCommitmentResponse() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ProveCommitmentResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.Builder subBuilder = null;
+              if (proof_ != null) {
+                subBuilder = proof_.toBuilder();
+              }
+              proof_ = input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(proof_);
+                proof_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse.class, serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse.Builder.class);
+    }
+
+    public static final int PROOF_FIELD_NUMBER = 1;
+    private serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof proof_;
+    /**
+     * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+     */
+    public boolean hasProof() {
+      return proof_ != null;
+    }
+    /**
+     * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof getProof() {
+      return proof_ == null ? serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.getDefaultInstance() : proof_;
+    }
+    /**
+     * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProofOrBuilder getProofOrBuilder() {
+      return getProof();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (proof_ != null) {
+        output.writeMessage(1, getProof());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (proof_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getProof());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse other = (serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse) obj;
+
+      boolean result = true;
+      result = result && (hasProof() == other.hasProof());
+      if (hasProof()) {
+        result = result && getProof()
+            .equals(other.getProof());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasProof()) {
+        hash = (37 * hash) + PROOF_FIELD_NUMBER;
+        hash = (53 * hash) + getProof().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	Response from a request for a commitment proof
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.ProveCommitmentResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.ProveCommitmentResponse)
+        serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse.class, serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (proofBuilder_ == null) {
+          proof_ = null;
+        } else {
+          proof_ = null;
+          proofBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ProveCommitmentResponse_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse build() {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse result = new serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse(this);
+        if (proofBuilder_ == null) {
+          result.proof_ = proof_;
+        } else {
+          result.proof_ = proofBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse.getDefaultInstance()) return this;
+        if (other.hasProof()) {
+          mergeProof(other.getProof());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof proof_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof, serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.CommitmentProofOrBuilder> proofBuilder_;
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      public boolean hasProof() {
+        return proofBuilder_ != null || proof_ != null;
+      }
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof getProof() {
+        if (proofBuilder_ == null) {
+          return proof_ == null ? serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.getDefaultInstance() : proof_;
+        } else {
+          return proofBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      public Builder setProof(serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof value) {
+        if (proofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          proof_ = value;
+          onChanged();
+        } else {
+          proofBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      public Builder setProof(
+          serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.Builder builderForValue) {
+        if (proofBuilder_ == null) {
+          proof_ = builderForValue.build();
+          onChanged();
+        } else {
+          proofBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      public Builder mergeProof(serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof value) {
+        if (proofBuilder_ == null) {
+          if (proof_ != null) {
+            proof_ =
+              serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.newBuilder(proof_).mergeFrom(value).buildPartial();
+          } else {
+            proof_ = value;
+          }
+          onChanged();
+        } else {
+          proofBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      public Builder clearProof() {
+        if (proofBuilder_ == null) {
+          proof_ = null;
+          onChanged();
+        } else {
+          proof_ = null;
+          proofBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.Builder getProofBuilder() {
+        
+        onChanged();
+        return getProofFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProofOrBuilder getProofOrBuilder() {
+        if (proofBuilder_ != null) {
+          return proofBuilder_.getMessageOrBuilder();
+        } else {
+          return proof_ == null ?
+              serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.getDefaultInstance() : proof_;
+        }
+      }
+      /**
+       * <code>.serialization.generated.CommitmentProof proof = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof, serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.CommitmentProofOrBuilder> 
+          getProofFieldBuilder() {
+        if (proofBuilder_ == null) {
+          proofBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof, serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.CommitmentProofOrBuilder>(
+                  getProof(),
+                  getParentForChildren(),
+                  isClean());
+          proof_ = null;
+        }
+        return proofBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.ProveCommitmentResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.ProveCommitmentResponse)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse();
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ProveCommitmentResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ProveCommitmentResponse>() {
+      public ProveCommitmentResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ProveCommitmentResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ProveCommitmentResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ProveCommitmentResponse> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpdateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.Update)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> 
+        getModificationsList();
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModifications(int index);
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    int getModificationsCount();
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
+        getModificationsOrBuilderList();
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationsOrBuilder(
+        int index);
+
+    /**
+     * <code>int32 valid_at_commitment_number = 2;</code>
+     */
+    int getValidAtCommitmentNumber();
+
+    /**
+     * <pre>
+     * optional encoding: the owners sign a Merkle root over 
+     * the modifications instead of the entire update, so 
+     * the proof for an ADS only needs its own modification 
+     * (see ModificationProof)
+     * </pre>
+     *
+     * <code>bool merkle_modifications = 3;</code>
+     */
+    boolean getMerkleModifications();
+  }
+  /**
+   * <pre>
+   **
+   *	An Update
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.Update}
+   */
+  public  static final class Update extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.Update)
+      UpdateOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Update.newBuilder() to construct.
+    private Update(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Update() {
+      modifications_ = java.util.Collections.emptyList();
+      validAtCommitmentNumber_ = 0;
+      merkleModifications_ = false;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Update(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                modifications_ = new java.util.ArrayList<serialization.generated.BVerifyAPIMessageSerialization.ADSModification>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              modifications_.add(
+                  input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.ADSModification.parser(), extensionRegistry));
+              break;
+            }
+            case 16: {
+
+              validAtCommitmentNumber_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              merkleModifications_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          modifications_ = java.util.Collections.unmodifiableList(modifications_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.Update.class, serialization.generated.BVerifyAPIMessageSerialization.Update.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int MODIFICATIONS_FIELD_NUMBER = 1;
+    private java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> modifications_;
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> getModificationsList() {
+      return modifications_;
+    }
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    public java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
+        getModificationsOrBuilderList() {
+      return modifications_;
+    }
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    public int getModificationsCount() {
+      return modifications_.size();
+    }
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModifications(int index) {
+      return modifications_.get(index);
+    }
+    /**
+     * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationsOrBuilder(
+        int index) {
+      return modifications_.get(index);
+    }
+
+    public static final int VALID_AT_COMMITMENT_NUMBER_FIELD_NUMBER = 2;
+    private int validAtCommitmentNumber_;
+    /**
+     * <code>int32 valid_at_commitment_number = 2;</code>
+     */
+    public int getValidAtCommitmentNumber() {
+      return validAtCommitmentNumber_;
+    }
+
+    public static final int MERKLE_MODIFICATIONS_FIELD_NUMBER = 3;
+    private boolean merkleModifications_;
+    /**
+     * <pre>
+     * optional encoding: the owners sign a Merkle root over 
+     * the modifications instead of the entire update, so 
+     * the proof for an ADS only needs its own modification 
+     * (see ModificationProof)
+     * </pre>
+     *
+     * <code>bool merkle_modifications = 3;</code>
+     */
+    public boolean getMerkleModifications() {
+      return merkleModifications_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < modifications_.size(); i++) {
+        output.writeMessage(1, modifications_.get(i));
+      }
+      if (validAtCommitmentNumber_ != 0) {
+        output.writeInt32(2, validAtCommitmentNumber_);
+      }
+      if (merkleModifications_ != false) {
+        output.writeBool(3, merkleModifications_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < modifications_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, modifications_.get(i));
+      }
+      if (validAtCommitmentNumber_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, validAtCommitmentNumber_);
+      }
+      if (merkleModifications_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, merkleModifications_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.Update)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.Update other = (serialization.generated.BVerifyAPIMessageSerialization.Update) obj;
+
+      boolean result = true;
+      result = result && getModificationsList()
+          .equals(other.getModificationsList());
+      result = result && (getValidAtCommitmentNumber()
+          == other.getValidAtCommitmentNumber());
+      result = result && (getMerkleModifications()
+          == other.getMerkleModifications());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getModificationsCount() > 0) {
+        hash = (37 * hash) + MODIFICATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getModificationsList().hashCode();
+      }
+      hash = (37 * hash) + VALID_AT_COMMITMENT_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getValidAtCommitmentNumber();
+      hash = (37 * hash) + MERKLE_MODIFICATIONS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getMerkleModifications());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.Update prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	An Update
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.Update}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.Update)
+        serialization.generated.BVerifyAPIMessageSerialization.UpdateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.Update.class, serialization.generated.BVerifyAPIMessageSerialization.Update.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.Update.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getModificationsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (modificationsBuilder_ == null) {
+          modifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          modificationsBuilder_.clear();
+        }
+        validAtCommitmentNumber_ = 0;
+
+        merkleModifications_ = false;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_Update_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.Update getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.Update.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.Update build() {
+        serialization.generated.BVerifyAPIMessageSerialization.Update result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.Update buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.Update result = new serialization.generated.BVerifyAPIMessageSerialization.Update(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (modificationsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            modifications_ = java.util.Collections.unmodifiableList(modifications_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.modifications_ = modifications_;
+        } else {
+          result.modifications_ = modificationsBuilder_.build();
+        }
+        result.validAtCommitmentNumber_ = validAtCommitmentNumber_;
+        result.merkleModifications_ = merkleModifications_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.Update) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.Update)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.Update other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.Update.getDefaultInstance()) return this;
+        if (modificationsBuilder_ == null) {
+          if (!other.modifications_.isEmpty()) {
+            if (modifications_.isEmpty()) {
+              modifications_ = other.modifications_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureModificationsIsMutable();
+              modifications_.addAll(other.modifications_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.modifications_.isEmpty()) {
+            if (modificationsBuilder_.isEmpty()) {
+              modificationsBuilder_.dispose();
+              modificationsBuilder_ = null;
+              modifications_ = other.modifications_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              modificationsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getModificationsFieldBuilder() : null;
+            } else {
+              modificationsBuilder_.addAllMessages(other.modifications_);
+            }
+          }
+        }
+        if (other.getValidAtCommitmentNumber() != 0) {
+          setValidAtCommitmentNumber(other.getValidAtCommitmentNumber());
+        }
+        if (other.getMerkleModifications() != false) {
+          setMerkleModifications(other.getMerkleModifications());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.Update parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.Update) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> modifications_ =
+        java.util.Collections.emptyList();
+      private void ensureModificationsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          modifications_ = new java.util.ArrayList<serialization.generated.BVerifyAPIMessageSerialization.ADSModification>(modifications_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> modificationsBuilder_;
+
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification> getModificationsList() {
+        if (modificationsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(modifications_);
+        } else {
+          return modificationsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public int getModificationsCount() {
+        if (modificationsBuilder_ == null) {
+          return modifications_.size();
+        } else {
+          return modificationsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModifications(int index) {
+        if (modificationsBuilder_ == null) {
+          return modifications_.get(index);
+        } else {
+          return modificationsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder setModifications(
+          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification value) {
+        if (modificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModificationsIsMutable();
+          modifications_.set(index, value);
+          onChanged();
+        } else {
+          modificationsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder setModifications(
+          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder builderForValue) {
+        if (modificationsBuilder_ == null) {
+          ensureModificationsIsMutable();
+          modifications_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          modificationsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder addModifications(serialization.generated.BVerifyAPIMessageSerialization.ADSModification value) {
+        if (modificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModificationsIsMutable();
+          modifications_.add(value);
+          onChanged();
+        } else {
+          modificationsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder addModifications(
+          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification value) {
+        if (modificationsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModificationsIsMutable();
+          modifications_.add(index, value);
+          onChanged();
+        } else {
+          modificationsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder addModifications(
+          serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder builderForValue) {
+        if (modificationsBuilder_ == null) {
+          ensureModificationsIsMutable();
+          modifications_.add(builderForValue.build());
+          onChanged();
+        } else {
+          modificationsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder addModifications(
+          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder builderForValue) {
+        if (modificationsBuilder_ == null) {
+          ensureModificationsIsMutable();
+          modifications_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          modificationsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder addAllModifications(
+          java.lang.Iterable<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSModification> values) {
+        if (modificationsBuilder_ == null) {
+          ensureModificationsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, modifications_);
+          onChanged();
+        } else {
+          modificationsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder clearModifications() {
+        if (modificationsBuilder_ == null) {
+          modifications_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          modificationsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public Builder removeModifications(int index) {
+        if (modificationsBuilder_ == null) {
+          ensureModificationsIsMutable();
+          modifications_.remove(index);
+          onChanged();
+        } else {
+          modificationsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder getModificationsBuilder(
+          int index) {
+        return getModificationsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationsOrBuilder(
+          int index) {
+        if (modificationsBuilder_ == null) {
+          return modifications_.get(index);  } else {
+          return modificationsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
+           getModificationsOrBuilderList() {
+        if (modificationsBuilder_ != null) {
+          return modificationsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(modifications_);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder addModificationsBuilder() {
+        return getModificationsFieldBuilder().addBuilder(
+            serialization.generated.BVerifyAPIMessageSerialization.ADSModification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder addModificationsBuilder(
+          int index) {
+        return getModificationsFieldBuilder().addBuilder(
+            index, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .serialization.generated.ADSModification modifications = 1;</code>
+       */
+      public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder> 
+           getModificationsBuilderList() {
+        return getModificationsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
+          getModificationsFieldBuilder() {
+        if (modificationsBuilder_ == null) {
+          modificationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder>(
+                  modifications_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          modifications_ = null;
+        }
+        return modificationsBuilder_;
+      }
+
+      private int validAtCommitmentNumber_ ;
+      /**
+       * <code>int32 valid_at_commitment_number = 2;</code>
+       */
+      public int getValidAtCommitmentNumber() {
+        return validAtCommitmentNumber_;
+      }
+      /**
+       * <code>int32 valid_at_commitment_number = 2;</code>
+       */
+      public Builder setValidAtCommitmentNumber(int value) {
+        
+        validAtCommitmentNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 valid_at_commitment_number = 2;</code>
+       */
+      public Builder clearValidAtCommitmentNumber() {
+        
+        validAtCommitmentNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean merkleModifications_ ;
+      /**
+       * <pre>
+       * optional encoding: the owners sign a Merkle root over 
+       * the modifications instead of the entire update, so 
+       * the proof for an ADS only needs its own modification 
+       * (see ModificationProof)
+       * </pre>
+       *
+       * <code>bool merkle_modifications = 3;</code>
+       */
+      public boolean getMerkleModifications() {
+        return merkleModifications_;
+      }
+      /**
+       * <pre>
+       * optional encoding: the owners sign a Merkle root over 
+       * the modifications instead of the entire update, so 
+       * the proof for an ADS only needs its own modification 
+       * (see ModificationProof)
+       * </pre>
+       *
+       * <code>bool merkle_modifications = 3;</code>
+       */
+      public Builder setMerkleModifications(boolean value) {
+        
+        merkleModifications_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * optional encoding: the owners sign a Merkle root over 
+       * the modifications instead of the entire update, so 
+       * the proof for an ADS only needs its own modification 
+       * (see ModificationProof)
+       * </pre>
+       *
+       * <code>bool merkle_modifications = 3;</code>
+       */
+      public Builder clearMerkleModifications() {
+        
+        merkleModifications_ = false;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.Update)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.Update)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.Update DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.Update();
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.Update getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Update>
+        PARSER = new com.google.protobuf.AbstractParser<Update>() {
+      public Update parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Update(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Update> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Update> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.Update getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ADSRootProofOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.ADSRootProof)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     */
+    boolean hasLastUpdatedProof();
+    /**
+     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrie getLastUpdatedProof();
+    /**
+     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getLastUpdatedProofOrBuilder();
+
+    /**
+     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+     */
+    boolean hasLastUpdate();
+    /**
+     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest getLastUpdate();
+    /**
+     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder getLastUpdateOrBuilder();
+
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> 
+        getFreshnessProofList();
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index);
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    int getFreshnessProofCount();
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+        getFreshnessProofOrBuilderList();
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of a freshness proof for every commitment
+     * the server sends the current path, the versioned
+     * leaf shows the value has not changed since the last update
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+     */
+    boolean hasCurrentProof();
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of a freshness proof for every commitment
+     * the server sends the current path, the versioned
+     * leaf shows the value has not changed since the last update
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrie getCurrentProof();
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of a freshness proof for every commitment
+     * the server sends the current path, the versioned
+     * leaf shows the value has not changed since the last update
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getCurrentProofOrBuilder();
+
+    /**
+     * <code>int32 current_commitment_number = 5;</code>
+     */
+    int getCurrentCommitmentNumber();
+
+    /**
+     * <pre>
+     * only used by servers with a retention horizon:
+     * for ADSes last updated before the horizon the 
+     * current_proof is a checkpoint (a path at an earlier 
+     * commitment) and the server signs that the ADS root 
+     * has not changed between the last update and the 
+     * checkpoint. The freshness proofs start after the checkpoint
+     * </pre>
+     *
+     * <code>bytes checkpoint_signature = 6;</code>
+     */
+    com.google.protobuf.ByteString getCheckpointSignature();
+
+    /**
+     * <pre>
+     * historical proofs (as of an earlier commitment) only 
+     * contain the current_proof: the path at that commitment 
+     * with the ADS root, and the current_commitment_number
+     * only used for updates with Merkle-ized modifications: 
+     * instead of the entire last_update the proof contains 
+     * just the modification of this ADS, and the last_updated_proof
+     * just the path for this ADS
+     * </pre>
+     *
+     * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+     */
+    boolean hasLastUpdateModification();
+    /**
+     * <pre>
+     * historical proofs (as of an earlier commitment) only 
+     * contain the current_proof: the path at that commitment 
+     * with the ADS root, and the current_commitment_number
+     * only used for updates with Merkle-ized modifications: 
+     * instead of the entire last_update the proof contains 
+     * just the modification of this ADS, and the last_updated_proof
+     * just the path for this ADS
+     * </pre>
+     *
+     * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.ModificationProof getLastUpdateModification();
+    /**
+     * <pre>
+     * historical proofs (as of an earlier commitment) only 
+     * contain the current_proof: the path at that commitment 
+     * with the ADS root, and the current_commitment_number
+     * only used for updates with Merkle-ized modifications: 
+     * instead of the entire last_update the proof contains 
+     * just the modification of this ADS, and the last_updated_proof
+     * just the path for this ADS
+     * </pre>
+     *
+     * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.ModificationProofOrBuilder getLastUpdateModificationOrBuilder();
+  }
+  /**
+   * <pre>
+   **
+   *	A complete ADS Root Proof
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.ADSRootProof}
+   */
+  public  static final class ADSRootProof extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.ADSRootProof)
+      ADSRootProofOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ADSRootProof.newBuilder() to construct.
+    private ADSRootProof(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ADSRootProof() {
+      freshnessProof_ = java.util.Collections.emptyList();
+      currentCommitmentNumber_ = 0;
+      checkpointSignature_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ADSRootProof(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              serialization.generated.MptSerialization.MerklePrefixTrie.Builder subBuilder = null;
+              if (lastUpdatedProof_ != null) {
+                subBuilder = lastUpdatedProof_.toBuilder();
+              }
+              lastUpdatedProof_ = input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(lastUpdatedProof_);
+                lastUpdatedProof_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder subBuilder = null;
+              if (lastUpdate_ != null) {
+                subBuilder = lastUpdate_.toBuilder();
+              }
+              lastUpdate_ = input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(lastUpdate_);
+                lastUpdate_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                freshnessProof_ = new java.util.ArrayList<serialization.generated.MptSerialization.MerklePrefixTrie>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              freshnessProof_.add(
+                  input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry));
+              break;
+            }
+            case 34: {
+              serialization.generated.MptSerialization.MerklePrefixTrie.Builder subBuilder = null;
+              if (currentProof_ != null) {
+                subBuilder = currentProof_.toBuilder();
+              }
+              currentProof_ = input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(currentProof_);
+                currentProof_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 40: {
+
+              currentCommitmentNumber_ = input.readInt32();
+              break;
+            }
+            case 50: {
+
+              checkpointSignature_ = input.readBytes();
+              break;
+            }
+            case 58: {
+              serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.Builder subBuilder = null;
+              if (lastUpdateModification_ != null) {
+                subBuilder = lastUpdateModification_.toBuilder();
+              }
+              lastUpdateModification_ = input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(lastUpdateModification_);
+                lastUpdateModification_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          freshnessProof_ = java.util.Collections.unmodifiableList(freshnessProof_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.class, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int LAST_UPDATED_PROOF_FIELD_NUMBER = 1;
+    private serialization.generated.MptSerialization.MerklePrefixTrie lastUpdatedProof_;
+    /**
+     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     */
+    public boolean hasLastUpdatedProof() {
+      return lastUpdatedProof_ != null;
+    }
+    /**
+     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie getLastUpdatedProof() {
+      return lastUpdatedProof_ == null ? serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : lastUpdatedProof_;
+    }
+    /**
+     * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getLastUpdatedProofOrBuilder() {
+      return getLastUpdatedProof();
+    }
+
+    public static final int LAST_UPDATE_FIELD_NUMBER = 2;
+    private serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest lastUpdate_;
+    /**
+     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+     */
+    public boolean hasLastUpdate() {
+      return lastUpdate_ != null;
+    }
+    /**
+     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest getLastUpdate() {
+      return lastUpdate_ == null ? serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.getDefaultInstance() : lastUpdate_;
+    }
+    /**
+     * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder getLastUpdateOrBuilder() {
+      return getLastUpdate();
+    }
+
+    public static final int FRESHNESS_PROOF_FIELD_NUMBER = 3;
+    private java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> freshnessProof_;
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> getFreshnessProofList() {
+      return freshnessProof_;
+    }
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    public java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+        getFreshnessProofOrBuilderList() {
+      return freshnessProof_;
+    }
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    public int getFreshnessProofCount() {
+      return freshnessProof_.size();
+    }
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index) {
+      return freshnessProof_.get(index);
+    }
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
+        int index) {
+      return freshnessProof_.get(index);
+    }
+
+    public static final int CURRENT_PROOF_FIELD_NUMBER = 4;
+    private serialization.generated.MptSerialization.MerklePrefixTrie currentProof_;
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of a freshness proof for every commitment
+     * the server sends the current path, the versioned
+     * leaf shows the value has not changed since the last update
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+     */
+    public boolean hasCurrentProof() {
+      return currentProof_ != null;
+    }
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of a freshness proof for every commitment
+     * the server sends the current path, the versioned
+     * leaf shows the value has not changed since the last update
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie getCurrentProof() {
+      return currentProof_ == null ? serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : currentProof_;
+    }
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of a freshness proof for every commitment
+     * the server sends the current path, the versioned
+     * leaf shows the value has not changed since the last update
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getCurrentProofOrBuilder() {
+      return getCurrentProof();
+    }
+
+    public static final int CURRENT_COMMITMENT_NUMBER_FIELD_NUMBER = 5;
+    private int currentCommitmentNumber_;
+    /**
+     * <code>int32 current_commitment_number = 5;</code>
+     */
+    public int getCurrentCommitmentNumber() {
+      return currentCommitmentNumber_;
+    }
+
+    public static final int CHECKPOINT_SIGNATURE_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString checkpointSignature_;
+    /**
+     * <pre>
+     * only used by servers with a retention horizon:
+     * for ADSes last updated before the horizon the 
+     * current_proof is a checkpoint (a path at an earlier 
+     * commitment) and the server signs that the ADS root 
+     * has not changed between the last update and the 
+     * checkpoint. The freshness proofs start after the checkpoint
+     * </pre>
+     *
+     * <code>bytes checkpoint_signature = 6;</code>
+     */
+    public com.google.protobuf.ByteString getCheckpointSignature() {
+      return checkpointSignature_;
+    }
+
+    public static final int LAST_UPDATE_MODIFICATION_FIELD_NUMBER = 7;
+    private serialization.generated.BVerifyAPIMessageSerialization.ModificationProof lastUpdateModification_;
+    /**
+     * <pre>
+     * historical proofs (as of an earlier commitment) only 
+     * contain the current_proof: the path at that commitment 
+     * with the ADS root, and the current_commitment_number
+     * only used for updates with Merkle-ized modifications: 
+     * instead of the entire last_update the proof contains 
+     * just the modification of this ADS, and the last_updated_proof
+     * just the path for this ADS
+     * </pre>
+     *
+     * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+     */
+    public boolean hasLastUpdateModification() {
+      return lastUpdateModification_ != null;
+    }
+    /**
+     * <pre>
+     * historical proofs (as of an earlier commitment) only 
+     * contain the current_proof: the path at that commitment 
+     * with the ADS root, and the current_commitment_number
+     * only used for updates with Merkle-ized modifications: 
+     * instead of the entire last_update the proof contains 
+     * just the modification of this ADS, and the last_updated_proof
+     * just the path for this ADS
+     * </pre>
+     *
+     * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.ModificationProof getLastUpdateModification() {
+      return lastUpdateModification_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.getDefaultInstance() : lastUpdateModification_;
+    }
+    /**
+     * <pre>
+     * historical proofs (as of an earlier commitment) only 
+     * contain the current_proof: the path at that commitment 
+     * with the ADS root, and the current_commitment_number
+     * only used for updates with Merkle-ized modifications: 
+     * instead of the entire last_update the proof contains 
+     * just the modification of this ADS, and the last_updated_proof
+     * just the path for this ADS
+     * </pre>
+     *
+     * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.ModificationProofOrBuilder getLastUpdateModificationOrBuilder() {
+      return getLastUpdateModification();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (lastUpdatedProof_ != null) {
+        output.writeMessage(1, getLastUpdatedProof());
+      }
+      if (lastUpdate_ != null) {
+        output.writeMessage(2, getLastUpdate());
+      }
+      for (int i = 0; i < freshnessProof_.size(); i++) {
+        output.writeMessage(3, freshnessProof_.get(i));
+      }
+      if (currentProof_ != null) {
+        output.writeMessage(4, getCurrentProof());
+      }
+      if (currentCommitmentNumber_ != 0) {
+        output.writeInt32(5, currentCommitmentNumber_);
+      }
+      if (!checkpointSignature_.isEmpty()) {
+        output.writeBytes(6, checkpointSignature_);
+      }
+      if (lastUpdateModification_ != null) {
+        output.writeMessage(7, getLastUpdateModification());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (lastUpdatedProof_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getLastUpdatedProof());
+      }
+      if (lastUpdate_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getLastUpdate());
+      }
+      for (int i = 0; i < freshnessProof_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, freshnessProof_.get(i));
+      }
+      if (currentProof_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getCurrentProof());
+      }
+      if (currentCommitmentNumber_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, currentCommitmentNumber_);
+      }
+      if (!checkpointSignature_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, checkpointSignature_);
+      }
+      if (lastUpdateModification_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getLastUpdateModification());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof other = (serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof) obj;
+
+      boolean result = true;
+      result = result && (hasLastUpdatedProof() == other.hasLastUpdatedProof());
+      if (hasLastUpdatedProof()) {
+        result = result && getLastUpdatedProof()
+            .equals(other.getLastUpdatedProof());
+      }
+      result = result && (hasLastUpdate() == other.hasLastUpdate());
+      if (hasLastUpdate()) {
+        result = result && getLastUpdate()
+            .equals(other.getLastUpdate());
+      }
+      result = result && getFreshnessProofList()
+          .equals(other.getFreshnessProofList());
+      result = result && (hasCurrentProof() == other.hasCurrentProof());
+      if (hasCurrentProof()) {
+        result = result && getCurrentProof()
+            .equals(other.getCurrentProof());
+      }
+      result = result && (getCurrentCommitmentNumber()
+          == other.getCurrentCommitmentNumber());
+      result = result && getCheckpointSignature()
+          .equals(other.getCheckpointSignature());
+      result = result && (hasLastUpdateModification() == other.hasLastUpdateModification());
+      if (hasLastUpdateModification()) {
+        result = result && getLastUpdateModification()
+            .equals(other.getLastUpdateModification());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasLastUpdatedProof()) {
+        hash = (37 * hash) + LAST_UPDATED_PROOF_FIELD_NUMBER;
+        hash = (53 * hash) + getLastUpdatedProof().hashCode();
+      }
+      if (hasLastUpdate()) {
+        hash = (37 * hash) + LAST_UPDATE_FIELD_NUMBER;
+        hash = (53 * hash) + getLastUpdate().hashCode();
+      }
+      if (getFreshnessProofCount() > 0) {
+        hash = (37 * hash) + FRESHNESS_PROOF_FIELD_NUMBER;
+        hash = (53 * hash) + getFreshnessProofList().hashCode();
+      }
+      if (hasCurrentProof()) {
+        hash = (37 * hash) + CURRENT_PROOF_FIELD_NUMBER;
+        hash = (53 * hash) + getCurrentProof().hashCode();
+      }
+      hash = (37 * hash) + CURRENT_COMMITMENT_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getCurrentCommitmentNumber();
+      hash = (37 * hash) + CHECKPOINT_SIGNATURE_FIELD_NUMBER;
+      hash = (53 * hash) + getCheckpointSignature().hashCode();
+      if (hasLastUpdateModification()) {
+        hash = (37 * hash) + LAST_UPDATE_MODIFICATION_FIELD_NUMBER;
+        hash = (53 * hash) + getLastUpdateModification().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	A complete ADS Root Proof
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.ADSRootProof}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.ADSRootProof)
+        serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.class, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getFreshnessProofFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (lastUpdatedProofBuilder_ == null) {
+          lastUpdatedProof_ = null;
+        } else {
+          lastUpdatedProof_ = null;
+          lastUpdatedProofBuilder_ = null;
+        }
+        if (lastUpdateBuilder_ == null) {
+          lastUpdate_ = null;
+        } else {
+          lastUpdate_ = null;
+          lastUpdateBuilder_ = null;
+        }
+        if (freshnessProofBuilder_ == null) {
+          freshnessProof_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          freshnessProofBuilder_.clear();
+        }
+        if (currentProofBuilder_ == null) {
+          currentProof_ = null;
+        } else {
+          currentProof_ = null;
+          currentProofBuilder_ = null;
+        }
+        currentCommitmentNumber_ = 0;
+
+        checkpointSignature_ = com.google.protobuf.ByteString.EMPTY;
+
+        if (lastUpdateModificationBuilder_ == null) {
+          lastUpdateModification_ = null;
+        } else {
+          lastUpdateModification_ = null;
+          lastUpdateModificationBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootProof_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof build() {
+        serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof result = new serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (lastUpdatedProofBuilder_ == null) {
+          result.lastUpdatedProof_ = lastUpdatedProof_;
+        } else {
+          result.lastUpdatedProof_ = lastUpdatedProofBuilder_.build();
+        }
+        if (lastUpdateBuilder_ == null) {
+          result.lastUpdate_ = lastUpdate_;
+        } else {
+          result.lastUpdate_ = lastUpdateBuilder_.build();
+        }
+        if (freshnessProofBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            freshnessProof_ = java.util.Collections.unmodifiableList(freshnessProof_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.freshnessProof_ = freshnessProof_;
+        } else {
+          result.freshnessProof_ = freshnessProofBuilder_.build();
+        }
+        if (currentProofBuilder_ == null) {
+          result.currentProof_ = currentProof_;
+        } else {
+          result.currentProof_ = currentProofBuilder_.build();
+        }
+        result.currentCommitmentNumber_ = currentCommitmentNumber_;
+        result.checkpointSignature_ = checkpointSignature_;
+        if (lastUpdateModificationBuilder_ == null) {
+          result.lastUpdateModification_ = lastUpdateModification_;
+        } else {
+          result.lastUpdateModification_ = lastUpdateModificationBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.getDefaultInstance()) return this;
+        if (other.hasLastUpdatedProof()) {
+          mergeLastUpdatedProof(other.getLastUpdatedProof());
+        }
+        if (other.hasLastUpdate()) {
+          mergeLastUpdate(other.getLastUpdate());
+        }
+        if (freshnessProofBuilder_ == null) {
+          if (!other.freshnessProof_.isEmpty()) {
+            if (freshnessProof_.isEmpty()) {
+              freshnessProof_ = other.freshnessProof_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureFreshnessProofIsMutable();
+              freshnessProof_.addAll(other.freshnessProof_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.freshnessProof_.isEmpty()) {
+            if (freshnessProofBuilder_.isEmpty()) {
+              freshnessProofBuilder_.dispose();
+              freshnessProofBuilder_ = null;
+              freshnessProof_ = other.freshnessProof_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              freshnessProofBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getFreshnessProofFieldBuilder() : null;
+            } else {
+              freshnessProofBuilder_.addAllMessages(other.freshnessProof_);
+            }
+          }
+        }
+        if (other.hasCurrentProof()) {
+          mergeCurrentProof(other.getCurrentProof());
+        }
+        if (other.getCurrentCommitmentNumber() != 0) {
+          setCurrentCommitmentNumber(other.getCurrentCommitmentNumber());
+        }
+        if (other.getCheckpointSignature() != com.google.protobuf.ByteString.EMPTY) {
+          setCheckpointSignature(other.getCheckpointSignature());
+        }
+        if (other.hasLastUpdateModification()) {
+          mergeLastUpdateModification(other.getLastUpdateModification());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private serialization.generated.MptSerialization.MerklePrefixTrie lastUpdatedProof_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> lastUpdatedProofBuilder_;
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      public boolean hasLastUpdatedProof() {
+        return lastUpdatedProofBuilder_ != null || lastUpdatedProof_ != null;
+      }
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie getLastUpdatedProof() {
+        if (lastUpdatedProofBuilder_ == null) {
+          return lastUpdatedProof_ == null ? serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : lastUpdatedProof_;
+        } else {
+          return lastUpdatedProofBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      public Builder setLastUpdatedProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (lastUpdatedProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          lastUpdatedProof_ = value;
+          onChanged();
+        } else {
+          lastUpdatedProofBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      public Builder setLastUpdatedProof(
+          serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (lastUpdatedProofBuilder_ == null) {
+          lastUpdatedProof_ = builderForValue.build();
+          onChanged();
+        } else {
+          lastUpdatedProofBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      public Builder mergeLastUpdatedProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (lastUpdatedProofBuilder_ == null) {
+          if (lastUpdatedProof_ != null) {
+            lastUpdatedProof_ =
+              serialization.generated.MptSerialization.MerklePrefixTrie.newBuilder(lastUpdatedProof_).mergeFrom(value).buildPartial();
+          } else {
+            lastUpdatedProof_ = value;
+          }
+          onChanged();
+        } else {
+          lastUpdatedProofBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      public Builder clearLastUpdatedProof() {
+        if (lastUpdatedProofBuilder_ == null) {
+          lastUpdatedProof_ = null;
+          onChanged();
+        } else {
+          lastUpdatedProof_ = null;
+          lastUpdatedProofBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getLastUpdatedProofBuilder() {
+        
+        onChanged();
+        return getLastUpdatedProofFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getLastUpdatedProofOrBuilder() {
+        if (lastUpdatedProofBuilder_ != null) {
+          return lastUpdatedProofBuilder_.getMessageOrBuilder();
+        } else {
+          return lastUpdatedProof_ == null ?
+              serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : lastUpdatedProof_;
+        }
+      }
+      /**
+       * <code>.serialization.generated.MerklePrefixTrie last_updated_proof = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+          getLastUpdatedProofFieldBuilder() {
+        if (lastUpdatedProofBuilder_ == null) {
+          lastUpdatedProofBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
+                  getLastUpdatedProof(),
+                  getParentForChildren(),
+                  isClean());
+          lastUpdatedProof_ = null;
+        }
+        return lastUpdatedProofBuilder_;
+      }
+
+      private serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest lastUpdate_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder> lastUpdateBuilder_;
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      public boolean hasLastUpdate() {
+        return lastUpdateBuilder_ != null || lastUpdate_ != null;
+      }
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest getLastUpdate() {
+        if (lastUpdateBuilder_ == null) {
+          return lastUpdate_ == null ? serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.getDefaultInstance() : lastUpdate_;
+        } else {
+          return lastUpdateBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      public Builder setLastUpdate(serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest value) {
+        if (lastUpdateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          lastUpdate_ = value;
+          onChanged();
+        } else {
+          lastUpdateBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      public Builder setLastUpdate(
+          serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder builderForValue) {
+        if (lastUpdateBuilder_ == null) {
+          lastUpdate_ = builderForValue.build();
+          onChanged();
+        } else {
+          lastUpdateBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      public Builder mergeLastUpdate(serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest value) {
+        if (lastUpdateBuilder_ == null) {
+          if (lastUpdate_ != null) {
+            lastUpdate_ =
+              serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.newBuilder(lastUpdate_).mergeFrom(value).buildPartial();
+          } else {
+            lastUpdate_ = value;
+          }
+          onChanged();
+        } else {
+          lastUpdateBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      public Builder clearLastUpdate() {
+        if (lastUpdateBuilder_ == null) {
+          lastUpdate_ = null;
+          onChanged();
+        } else {
+          lastUpdate_ = null;
+          lastUpdateBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder getLastUpdateBuilder() {
+        
+        onChanged();
+        return getLastUpdateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder getLastUpdateOrBuilder() {
+        if (lastUpdateBuilder_ != null) {
+          return lastUpdateBuilder_.getMessageOrBuilder();
+        } else {
+          return lastUpdate_ == null ?
+              serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.getDefaultInstance() : lastUpdate_;
+        }
+      }
+      /**
+       * <code>.serialization.generated.PerformUpdateRequest last_update = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder> 
+          getLastUpdateFieldBuilder() {
+        if (lastUpdateBuilder_ == null) {
+          lastUpdateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest.Builder, serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequestOrBuilder>(
+                  getLastUpdate(),
+                  getParentForChildren(),
+                  isClean());
+          lastUpdate_ = null;
+        }
+        return lastUpdateBuilder_;
+      }
+
+      private java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> freshnessProof_ =
+        java.util.Collections.emptyList();
+      private void ensureFreshnessProofIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          freshnessProof_ = new java.util.ArrayList<serialization.generated.MptSerialization.MerklePrefixTrie>(freshnessProof_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> freshnessProofBuilder_;
+
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> getFreshnessProofList() {
+        if (freshnessProofBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(freshnessProof_);
+        } else {
+          return freshnessProofBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public int getFreshnessProofCount() {
+        if (freshnessProofBuilder_ == null) {
+          return freshnessProof_.size();
+        } else {
+          return freshnessProofBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index) {
+        if (freshnessProofBuilder_ == null) {
+          return freshnessProof_.get(index);
+        } else {
+          return freshnessProofBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public Builder setFreshnessProof(
+          int index, serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (freshnessProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.set(index, value);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public Builder setFreshnessProof(
+          int index, serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          freshnessProofBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public Builder addFreshnessProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (freshnessProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.add(value);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public Builder addFreshnessProof(
+          int index, serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (freshnessProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.add(index, value);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
        * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
        */
-      public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> getFreshnessProofList() {
-        if (freshnessProofBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(freshnessProof_);
+      public Builder addFreshnessProof(
+          serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.add(builderForValue.build());
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public Builder addFreshnessProof(
+          int index, serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public Builder addAllFreshnessProof(
+          java.lang.Iterable<? extends serialization.generated.MptSerialization.MerklePrefixTrie> values) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, freshnessProof_);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public Builder clearFreshnessProof() {
+        if (freshnessProofBuilder_ == null) {
+          freshnessProof_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public Builder removeFreshnessProof(int index) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.remove(index);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getFreshnessProofBuilder(
+          int index) {
+        return getFreshnessProofFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
+          int index) {
+        if (freshnessProofBuilder_ == null) {
+          return freshnessProof_.get(index);  } else {
+          return freshnessProofBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+           getFreshnessProofOrBuilderList() {
+        if (freshnessProofBuilder_ != null) {
+          return freshnessProofBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(freshnessProof_);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder addFreshnessProofBuilder() {
+        return getFreshnessProofFieldBuilder().addBuilder(
+            serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder addFreshnessProofBuilder(
+          int index) {
+        return getFreshnessProofFieldBuilder().addBuilder(
+            index, serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       */
+      public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie.Builder> 
+           getFreshnessProofBuilderList() {
+        return getFreshnessProofFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+          getFreshnessProofFieldBuilder() {
+        if (freshnessProofBuilder_ == null) {
+          freshnessProofBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
+                  freshnessProof_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          freshnessProof_ = null;
+        }
+        return freshnessProofBuilder_;
+      }
+
+      private serialization.generated.MptSerialization.MerklePrefixTrie currentProof_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> currentProofBuilder_;
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      public boolean hasCurrentProof() {
+        return currentProofBuilder_ != null || currentProof_ != null;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie getCurrentProof() {
+        if (currentProofBuilder_ == null) {
+          return currentProof_ == null ? serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : currentProof_;
+        } else {
+          return currentProofBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      public Builder setCurrentProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (currentProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          currentProof_ = value;
+          onChanged();
+        } else {
+          currentProofBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      public Builder setCurrentProof(
+          serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (currentProofBuilder_ == null) {
+          currentProof_ = builderForValue.build();
+          onChanged();
+        } else {
+          currentProofBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      public Builder mergeCurrentProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (currentProofBuilder_ == null) {
+          if (currentProof_ != null) {
+            currentProof_ =
+              serialization.generated.MptSerialization.MerklePrefixTrie.newBuilder(currentProof_).mergeFrom(value).buildPartial();
+          } else {
+            currentProof_ = value;
+          }
+          onChanged();
+        } else {
+          currentProofBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      public Builder clearCurrentProof() {
+        if (currentProofBuilder_ == null) {
+          currentProof_ = null;
+          onChanged();
+        } else {
+          currentProof_ = null;
+          currentProofBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getCurrentProofBuilder() {
+        
+        onChanged();
+        return getCurrentProofFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getCurrentProofOrBuilder() {
+        if (currentProofBuilder_ != null) {
+          return currentProofBuilder_.getMessageOrBuilder();
+        } else {
+          return currentProof_ == null ?
+              serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : currentProof_;
+        }
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of a freshness proof for every commitment
+       * the server sends the current path, the versioned
+       * leaf shows the value has not changed since the last update
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+          getCurrentProofFieldBuilder() {
+        if (currentProofBuilder_ == null) {
+          currentProofBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
+                  getCurrentProof(),
+                  getParentForChildren(),
+                  isClean());
+          currentProof_ = null;
+        }
+        return currentProofBuilder_;
+      }
+
+      private int currentCommitmentNumber_ ;
+      /**
+       * <code>int32 current_commitment_number = 5;</code>
+       */
+      public int getCurrentCommitmentNumber() {
+        return currentCommitmentNumber_;
+      }
+      /**
+       * <code>int32 current_commitment_number = 5;</code>
+       */
+      public Builder setCurrentCommitmentNumber(int value) {
+        
+        currentCommitmentNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 current_commitment_number = 5;</code>
+       */
+      public Builder clearCurrentCommitmentNumber() {
+        
+        currentCommitmentNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString checkpointSignature_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * only used by servers with a retention horizon:
+       * for ADSes last updated before the horizon the 
+       * current_proof is a checkpoint (a path at an earlier 
+       * commitment) and the server signs that the ADS root 
+       * has not changed between the last update and the 
+       * checkpoint. The freshness proofs start after the checkpoint
+       * </pre>
+       *
+       * <code>bytes checkpoint_signature = 6;</code>
+       */
+      public com.google.protobuf.ByteString getCheckpointSignature() {
+        return checkpointSignature_;
+      }
+      /**
+       * <pre>
+       * only used by servers with a retention horizon:
+       * for ADSes last updated before the horizon the 
+       * current_proof is a checkpoint (a path at an earlier 
+       * commitment) and the server signs that the ADS root 
+       * has not changed between the last update and the 
+       * checkpoint. The freshness proofs start after the checkpoint
+       * </pre>
+       *
+       * <code>bytes checkpoint_signature = 6;</code>
+       */
+      public Builder setCheckpointSignature(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        checkpointSignature_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with a retention horizon:
+       * for ADSes last updated before the horizon the 
+       * current_proof is a checkpoint (a path at an earlier 
+       * commitment) and the server signs that the ADS root 
+       * has not changed between the last update and the 
+       * checkpoint. The freshness proofs start after the checkpoint
+       * </pre>
+       *
+       * <code>bytes checkpoint_signature = 6;</code>
+       */
+      public Builder clearCheckpointSignature() {
+        
+        checkpointSignature_ = getDefaultInstance().getCheckpointSignature();
+        onChanged();
+        return this;
+      }
+
+      private serialization.generated.BVerifyAPIMessageSerialization.ModificationProof lastUpdateModification_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.ModificationProof, serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ModificationProofOrBuilder> lastUpdateModificationBuilder_;
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      public boolean hasLastUpdateModification() {
+        return lastUpdateModificationBuilder_ != null || lastUpdateModification_ != null;
+      }
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ModificationProof getLastUpdateModification() {
+        if (lastUpdateModificationBuilder_ == null) {
+          return lastUpdateModification_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.getDefaultInstance() : lastUpdateModification_;
+        } else {
+          return lastUpdateModificationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      public Builder setLastUpdateModification(serialization.generated.BVerifyAPIMessageSerialization.ModificationProof value) {
+        if (lastUpdateModificationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          lastUpdateModification_ = value;
+          onChanged();
+        } else {
+          lastUpdateModificationBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      public Builder setLastUpdateModification(
+          serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.Builder builderForValue) {
+        if (lastUpdateModificationBuilder_ == null) {
+          lastUpdateModification_ = builderForValue.build();
+          onChanged();
+        } else {
+          lastUpdateModificationBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      public Builder mergeLastUpdateModification(serialization.generated.BVerifyAPIMessageSerialization.ModificationProof value) {
+        if (lastUpdateModificationBuilder_ == null) {
+          if (lastUpdateModification_ != null) {
+            lastUpdateModification_ =
+              serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.newBuilder(lastUpdateModification_).mergeFrom(value).buildPartial();
+          } else {
+            lastUpdateModification_ = value;
+          }
+          onChanged();
+        } else {
+          lastUpdateModificationBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      public Builder clearLastUpdateModification() {
+        if (lastUpdateModificationBuilder_ == null) {
+          lastUpdateModification_ = null;
+          onChanged();
+        } else {
+          lastUpdateModification_ = null;
+          lastUpdateModificationBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.Builder getLastUpdateModificationBuilder() {
+        
+        onChanged();
+        return getLastUpdateModificationFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ModificationProofOrBuilder getLastUpdateModificationOrBuilder() {
+        if (lastUpdateModificationBuilder_ != null) {
+          return lastUpdateModificationBuilder_.getMessageOrBuilder();
+        } else {
+          return lastUpdateModification_ == null ?
+              serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.getDefaultInstance() : lastUpdateModification_;
+        }
+      }
+      /**
+       * <pre>
+       * historical proofs (as of an earlier commitment) only 
+       * contain the current_proof: the path at that commitment 
+       * with the ADS root, and the current_commitment_number
+       * only used for updates with Merkle-ized modifications: 
+       * instead of the entire last_update the proof contains 
+       * just the modification of this ADS, and the last_updated_proof
+       * just the path for this ADS
+       * </pre>
+       *
+       * <code>.serialization.generated.ModificationProof last_update_modification = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.ModificationProof, serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ModificationProofOrBuilder> 
+          getLastUpdateModificationFieldBuilder() {
+        if (lastUpdateModificationBuilder_ == null) {
+          lastUpdateModificationBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.BVerifyAPIMessageSerialization.ModificationProof, serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ModificationProofOrBuilder>(
+                  getLastUpdateModification(),
+                  getParentForChildren(),
+                  isClean());
+          lastUpdateModification_ = null;
+        }
+        return lastUpdateModificationBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.ADSRootProof)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.ADSRootProof)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof();
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ADSRootProof>
+        PARSER = new com.google.protobuf.AbstractParser<ADSRootProof>() {
+      public ADSRootProof parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ADSRootProof(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ADSRootProof> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ADSRootProof> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ADSRootsProofOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.ADSRootsProof)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getAdsIdsList();
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    int getAdsIdsCount();
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    com.google.protobuf.ByteString getAdsIds(int index);
+
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof> 
+        getLastUpdateProofList();
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getLastUpdateProof(int index);
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    int getLastUpdateProofCount();
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder> 
+        getLastUpdateProofOrBuilderList();
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder getLastUpdateProofOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * for each ADS (in the order of the ads_ids) the index 
+     * of its last_update_proof
+     * </pre>
+     *
+     * <code>repeated int32 last_update_proof_index = 3;</code>
+     */
+    java.util.List<java.lang.Integer> getLastUpdateProofIndexList();
+    /**
+     * <pre>
+     * for each ADS (in the order of the ads_ids) the index 
+     * of its last_update_proof
+     * </pre>
+     *
+     * <code>repeated int32 last_update_proof_index = 3;</code>
+     */
+    int getLastUpdateProofIndexCount();
+    /**
+     * <pre>
+     * for each ADS (in the order of the ads_ids) the index 
+     * of its last_update_proof
+     * </pre>
+     *
+     * <code>repeated int32 last_update_proof_index = 3;</code>
+     */
+    int getLastUpdateProofIndex(int index);
+
+    /**
+     * <pre>
+     * freshness_proof[i] is the update at commitment 
+     * freshness_from_commitment_number+i for the paths 
+     * of all of the ADSes with a proof starting before it
+     * </pre>
+     *
+     * <code>int32 freshness_from_commitment_number = 4;</code>
+     */
+    int getFreshnessFromCommitmentNumber();
+
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> 
+        getFreshnessProofList();
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index);
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    int getFreshnessProofCount();
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+        getFreshnessProofOrBuilderList();
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of the freshness proofs the server sends
+     * the current paths for all of the ADSes
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+     */
+    boolean hasCurrentProof();
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of the freshness proofs the server sends
+     * the current paths for all of the ADSes
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrie getCurrentProof();
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of the freshness proofs the server sends
+     * the current paths for all of the ADSes
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+     */
+    serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getCurrentProofOrBuilder();
+
+    /**
+     * <code>int32 current_commitment_number = 7;</code>
+     */
+    int getCurrentCommitmentNumber();
+  }
+  /**
+   * <pre>
+   **
+   *	A proof for many ADS Roots at once. Anything shared by 
+   *	the ADSes is only sent once: a last update (with the paths 
+   *	for all of the ADSes it modifies) is sent once for all of 
+   *	the ADSes it modifies, and there is a single (merged) 
+   *	freshness proof per commitment for all of the ADSes. 
+   *	A client keeps a single partial MPT: starting at the 
+   *	earliest commitment it processes the freshness proof 
+   *	for each commitment and then merges in the paths 
+   *	of the last updates (or checkpoints) at that commitment
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.ADSRootsProof}
+   */
+  public  static final class ADSRootsProof extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.ADSRootsProof)
+      ADSRootsProofOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ADSRootsProof.newBuilder() to construct.
+    private ADSRootsProof(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ADSRootsProof() {
+      adsIds_ = java.util.Collections.emptyList();
+      lastUpdateProof_ = java.util.Collections.emptyList();
+      lastUpdateProofIndex_ = java.util.Collections.emptyList();
+      freshnessFromCommitmentNumber_ = 0;
+      freshnessProof_ = java.util.Collections.emptyList();
+      currentCommitmentNumber_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ADSRootsProof(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                adsIds_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              adsIds_.add(input.readBytes());
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                lastUpdateProof_ = new java.util.ArrayList<serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              lastUpdateProof_.add(
+                  input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.parser(), extensionRegistry));
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                lastUpdateProofIndex_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              lastUpdateProofIndex_.add(input.readInt32());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                lastUpdateProofIndex_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                lastUpdateProofIndex_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 32: {
+
+              freshnessFromCommitmentNumber_ = input.readInt32();
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                freshnessProof_ = new java.util.ArrayList<serialization.generated.MptSerialization.MerklePrefixTrie>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              freshnessProof_.add(
+                  input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry));
+              break;
+            }
+            case 50: {
+              serialization.generated.MptSerialization.MerklePrefixTrie.Builder subBuilder = null;
+              if (currentProof_ != null) {
+                subBuilder = currentProof_.toBuilder();
+              }
+              currentProof_ = input.readMessage(serialization.generated.MptSerialization.MerklePrefixTrie.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(currentProof_);
+                currentProof_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 56: {
+
+              currentCommitmentNumber_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          adsIds_ = java.util.Collections.unmodifiableList(adsIds_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          lastUpdateProof_ = java.util.Collections.unmodifiableList(lastUpdateProof_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          lastUpdateProofIndex_ = java.util.Collections.unmodifiableList(lastUpdateProofIndex_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          freshnessProof_ = java.util.Collections.unmodifiableList(freshnessProof_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootsProof_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootsProof_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.class, serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ADS_IDS_FIELD_NUMBER = 1;
+    private java.util.List<com.google.protobuf.ByteString> adsIds_;
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getAdsIdsList() {
+      return adsIds_;
+    }
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    public int getAdsIdsCount() {
+      return adsIds_.size();
+    }
+    /**
+     * <code>repeated bytes ads_ids = 1;</code>
+     */
+    public com.google.protobuf.ByteString getAdsIds(int index) {
+      return adsIds_.get(index);
+    }
+
+    public static final int LAST_UPDATE_PROOF_FIELD_NUMBER = 2;
+    private java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof> lastUpdateProof_;
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof> getLastUpdateProofList() {
+      return lastUpdateProof_;
+    }
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    public java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder> 
+        getLastUpdateProofOrBuilderList() {
+      return lastUpdateProof_;
+    }
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    public int getLastUpdateProofCount() {
+      return lastUpdateProof_.size();
+    }
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getLastUpdateProof(int index) {
+      return lastUpdateProof_.get(index);
+    }
+    /**
+     * <pre>
+     * the distinct proofs of the last updates, each only 
+     * contains the last_update (or last_update_modification) and 
+     * last_updated_proof (and, for checkpoints, the current_proof, 
+     * current_commitment_number and checkpoint_signature)
+     * </pre>
+     *
+     * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder getLastUpdateProofOrBuilder(
+        int index) {
+      return lastUpdateProof_.get(index);
+    }
+
+    public static final int LAST_UPDATE_PROOF_INDEX_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Integer> lastUpdateProofIndex_;
+    /**
+     * <pre>
+     * for each ADS (in the order of the ads_ids) the index 
+     * of its last_update_proof
+     * </pre>
+     *
+     * <code>repeated int32 last_update_proof_index = 3;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getLastUpdateProofIndexList() {
+      return lastUpdateProofIndex_;
+    }
+    /**
+     * <pre>
+     * for each ADS (in the order of the ads_ids) the index 
+     * of its last_update_proof
+     * </pre>
+     *
+     * <code>repeated int32 last_update_proof_index = 3;</code>
+     */
+    public int getLastUpdateProofIndexCount() {
+      return lastUpdateProofIndex_.size();
+    }
+    /**
+     * <pre>
+     * for each ADS (in the order of the ads_ids) the index 
+     * of its last_update_proof
+     * </pre>
+     *
+     * <code>repeated int32 last_update_proof_index = 3;</code>
+     */
+    public int getLastUpdateProofIndex(int index) {
+      return lastUpdateProofIndex_.get(index);
+    }
+    private int lastUpdateProofIndexMemoizedSerializedSize = -1;
+
+    public static final int FRESHNESS_FROM_COMMITMENT_NUMBER_FIELD_NUMBER = 4;
+    private int freshnessFromCommitmentNumber_;
+    /**
+     * <pre>
+     * freshness_proof[i] is the update at commitment 
+     * freshness_from_commitment_number+i for the paths 
+     * of all of the ADSes with a proof starting before it
+     * </pre>
+     *
+     * <code>int32 freshness_from_commitment_number = 4;</code>
+     */
+    public int getFreshnessFromCommitmentNumber() {
+      return freshnessFromCommitmentNumber_;
+    }
+
+    public static final int FRESHNESS_PROOF_FIELD_NUMBER = 5;
+    private java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> freshnessProof_;
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> getFreshnessProofList() {
+      return freshnessProof_;
+    }
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    public java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+        getFreshnessProofOrBuilderList() {
+      return freshnessProof_;
+    }
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    public int getFreshnessProofCount() {
+      return freshnessProof_.size();
+    }
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index) {
+      return freshnessProof_.get(index);
+    }
+    /**
+     * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
+        int index) {
+      return freshnessProof_.get(index);
+    }
+
+    public static final int CURRENT_PROOF_FIELD_NUMBER = 6;
+    private serialization.generated.MptSerialization.MerklePrefixTrie currentProof_;
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of the freshness proofs the server sends
+     * the current paths for all of the ADSes
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+     */
+    public boolean hasCurrentProof() {
+      return currentProof_ != null;
+    }
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of the freshness proofs the server sends
+     * the current paths for all of the ADSes
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrie getCurrentProof() {
+      return currentProof_ == null ? serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : currentProof_;
+    }
+    /**
+     * <pre>
+     * only used by servers with versioned leaves:
+     * instead of the freshness proofs the server sends
+     * the current paths for all of the ADSes
+     * </pre>
+     *
+     * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+     */
+    public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getCurrentProofOrBuilder() {
+      return getCurrentProof();
+    }
+
+    public static final int CURRENT_COMMITMENT_NUMBER_FIELD_NUMBER = 7;
+    private int currentCommitmentNumber_;
+    /**
+     * <code>int32 current_commitment_number = 7;</code>
+     */
+    public int getCurrentCommitmentNumber() {
+      return currentCommitmentNumber_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < adsIds_.size(); i++) {
+        output.writeBytes(1, adsIds_.get(i));
+      }
+      for (int i = 0; i < lastUpdateProof_.size(); i++) {
+        output.writeMessage(2, lastUpdateProof_.get(i));
+      }
+      if (getLastUpdateProofIndexList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(lastUpdateProofIndexMemoizedSerializedSize);
+      }
+      for (int i = 0; i < lastUpdateProofIndex_.size(); i++) {
+        output.writeInt32NoTag(lastUpdateProofIndex_.get(i));
+      }
+      if (freshnessFromCommitmentNumber_ != 0) {
+        output.writeInt32(4, freshnessFromCommitmentNumber_);
+      }
+      for (int i = 0; i < freshnessProof_.size(); i++) {
+        output.writeMessage(5, freshnessProof_.get(i));
+      }
+      if (currentProof_ != null) {
+        output.writeMessage(6, getCurrentProof());
+      }
+      if (currentCommitmentNumber_ != 0) {
+        output.writeInt32(7, currentCommitmentNumber_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < adsIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(adsIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getAdsIdsList().size();
+      }
+      for (int i = 0; i < lastUpdateProof_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, lastUpdateProof_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < lastUpdateProofIndex_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(lastUpdateProofIndex_.get(i));
+        }
+        size += dataSize;
+        if (!getLastUpdateProofIndexList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        lastUpdateProofIndexMemoizedSerializedSize = dataSize;
+      }
+      if (freshnessFromCommitmentNumber_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, freshnessFromCommitmentNumber_);
+      }
+      for (int i = 0; i < freshnessProof_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, freshnessProof_.get(i));
+      }
+      if (currentProof_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getCurrentProof());
+      }
+      if (currentCommitmentNumber_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, currentCommitmentNumber_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof other = (serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof) obj;
+
+      boolean result = true;
+      result = result && getAdsIdsList()
+          .equals(other.getAdsIdsList());
+      result = result && getLastUpdateProofList()
+          .equals(other.getLastUpdateProofList());
+      result = result && getLastUpdateProofIndexList()
+          .equals(other.getLastUpdateProofIndexList());
+      result = result && (getFreshnessFromCommitmentNumber()
+          == other.getFreshnessFromCommitmentNumber());
+      result = result && getFreshnessProofList()
+          .equals(other.getFreshnessProofList());
+      result = result && (hasCurrentProof() == other.hasCurrentProof());
+      if (hasCurrentProof()) {
+        result = result && getCurrentProof()
+            .equals(other.getCurrentProof());
+      }
+      result = result && (getCurrentCommitmentNumber()
+          == other.getCurrentCommitmentNumber());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getAdsIdsCount() > 0) {
+        hash = (37 * hash) + ADS_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getAdsIdsList().hashCode();
+      }
+      if (getLastUpdateProofCount() > 0) {
+        hash = (37 * hash) + LAST_UPDATE_PROOF_FIELD_NUMBER;
+        hash = (53 * hash) + getLastUpdateProofList().hashCode();
+      }
+      if (getLastUpdateProofIndexCount() > 0) {
+        hash = (37 * hash) + LAST_UPDATE_PROOF_INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getLastUpdateProofIndexList().hashCode();
+      }
+      hash = (37 * hash) + FRESHNESS_FROM_COMMITMENT_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getFreshnessFromCommitmentNumber();
+      if (getFreshnessProofCount() > 0) {
+        hash = (37 * hash) + FRESHNESS_PROOF_FIELD_NUMBER;
+        hash = (53 * hash) + getFreshnessProofList().hashCode();
+      }
+      if (hasCurrentProof()) {
+        hash = (37 * hash) + CURRENT_PROOF_FIELD_NUMBER;
+        hash = (53 * hash) + getCurrentProof().hashCode();
+      }
+      hash = (37 * hash) + CURRENT_COMMITMENT_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getCurrentCommitmentNumber();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	A proof for many ADS Roots at once. Anything shared by 
+     *	the ADSes is only sent once: a last update (with the paths 
+     *	for all of the ADSes it modifies) is sent once for all of 
+     *	the ADSes it modifies, and there is a single (merged) 
+     *	freshness proof per commitment for all of the ADSes. 
+     *	A client keeps a single partial MPT: starting at the 
+     *	earliest commitment it processes the freshness proof 
+     *	for each commitment and then merges in the paths 
+     *	of the last updates (or checkpoints) at that commitment
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.ADSRootsProof}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.ADSRootsProof)
+        serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProofOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootsProof_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootsProof_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.class, serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getLastUpdateProofFieldBuilder();
+          getFreshnessProofFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        adsIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (lastUpdateProofBuilder_ == null) {
+          lastUpdateProof_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          lastUpdateProofBuilder_.clear();
+        }
+        lastUpdateProofIndex_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        freshnessFromCommitmentNumber_ = 0;
+
+        if (freshnessProofBuilder_ == null) {
+          freshnessProof_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          freshnessProofBuilder_.clear();
+        }
+        if (currentProofBuilder_ == null) {
+          currentProof_ = null;
+        } else {
+          currentProof_ = null;
+          currentProofBuilder_ = null;
+        }
+        currentCommitmentNumber_ = 0;
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ADSRootsProof_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof build() {
+        serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof result = new serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          adsIds_ = java.util.Collections.unmodifiableList(adsIds_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.adsIds_ = adsIds_;
+        if (lastUpdateProofBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            lastUpdateProof_ = java.util.Collections.unmodifiableList(lastUpdateProof_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.lastUpdateProof_ = lastUpdateProof_;
+        } else {
+          result.lastUpdateProof_ = lastUpdateProofBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          lastUpdateProofIndex_ = java.util.Collections.unmodifiableList(lastUpdateProofIndex_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.lastUpdateProofIndex_ = lastUpdateProofIndex_;
+        result.freshnessFromCommitmentNumber_ = freshnessFromCommitmentNumber_;
+        if (freshnessProofBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            freshnessProof_ = java.util.Collections.unmodifiableList(freshnessProof_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.freshnessProof_ = freshnessProof_;
+        } else {
+          result.freshnessProof_ = freshnessProofBuilder_.build();
+        }
+        if (currentProofBuilder_ == null) {
+          result.currentProof_ = currentProof_;
+        } else {
+          result.currentProof_ = currentProofBuilder_.build();
+        }
+        result.currentCommitmentNumber_ = currentCommitmentNumber_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof.getDefaultInstance()) return this;
+        if (!other.adsIds_.isEmpty()) {
+          if (adsIds_.isEmpty()) {
+            adsIds_ = other.adsIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureAdsIdsIsMutable();
+            adsIds_.addAll(other.adsIds_);
+          }
+          onChanged();
+        }
+        if (lastUpdateProofBuilder_ == null) {
+          if (!other.lastUpdateProof_.isEmpty()) {
+            if (lastUpdateProof_.isEmpty()) {
+              lastUpdateProof_ = other.lastUpdateProof_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureLastUpdateProofIsMutable();
+              lastUpdateProof_.addAll(other.lastUpdateProof_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.lastUpdateProof_.isEmpty()) {
+            if (lastUpdateProofBuilder_.isEmpty()) {
+              lastUpdateProofBuilder_.dispose();
+              lastUpdateProofBuilder_ = null;
+              lastUpdateProof_ = other.lastUpdateProof_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              lastUpdateProofBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getLastUpdateProofFieldBuilder() : null;
+            } else {
+              lastUpdateProofBuilder_.addAllMessages(other.lastUpdateProof_);
+            }
+          }
+        }
+        if (!other.lastUpdateProofIndex_.isEmpty()) {
+          if (lastUpdateProofIndex_.isEmpty()) {
+            lastUpdateProofIndex_ = other.lastUpdateProofIndex_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureLastUpdateProofIndexIsMutable();
+            lastUpdateProofIndex_.addAll(other.lastUpdateProofIndex_);
+          }
+          onChanged();
+        }
+        if (other.getFreshnessFromCommitmentNumber() != 0) {
+          setFreshnessFromCommitmentNumber(other.getFreshnessFromCommitmentNumber());
+        }
+        if (freshnessProofBuilder_ == null) {
+          if (!other.freshnessProof_.isEmpty()) {
+            if (freshnessProof_.isEmpty()) {
+              freshnessProof_ = other.freshnessProof_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureFreshnessProofIsMutable();
+              freshnessProof_.addAll(other.freshnessProof_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.freshnessProof_.isEmpty()) {
+            if (freshnessProofBuilder_.isEmpty()) {
+              freshnessProofBuilder_.dispose();
+              freshnessProofBuilder_ = null;
+              freshnessProof_ = other.freshnessProof_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              freshnessProofBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getFreshnessProofFieldBuilder() : null;
+            } else {
+              freshnessProofBuilder_.addAllMessages(other.freshnessProof_);
+            }
+          }
+        }
+        if (other.hasCurrentProof()) {
+          mergeCurrentProof(other.getCurrentProof());
+        }
+        if (other.getCurrentCommitmentNumber() != 0) {
+          setCurrentCommitmentNumber(other.getCurrentCommitmentNumber());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.google.protobuf.ByteString> adsIds_ = java.util.Collections.emptyList();
+      private void ensureAdsIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          adsIds_ = new java.util.ArrayList<com.google.protobuf.ByteString>(adsIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getAdsIdsList() {
+        return java.util.Collections.unmodifiableList(adsIds_);
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public int getAdsIdsCount() {
+        return adsIds_.size();
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public com.google.protobuf.ByteString getAdsIds(int index) {
+        return adsIds_.get(index);
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public Builder setAdsIds(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAdsIdsIsMutable();
+        adsIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public Builder addAdsIds(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAdsIdsIsMutable();
+        adsIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public Builder addAllAdsIds(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureAdsIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, adsIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes ads_ids = 1;</code>
+       */
+      public Builder clearAdsIds() {
+        adsIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof> lastUpdateProof_ =
+        java.util.Collections.emptyList();
+      private void ensureLastUpdateProofIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          lastUpdateProof_ = new java.util.ArrayList<serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof>(lastUpdateProof_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder> lastUpdateProofBuilder_;
+
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof> getLastUpdateProofList() {
+        if (lastUpdateProofBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(lastUpdateProof_);
+        } else {
+          return lastUpdateProofBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public int getLastUpdateProofCount() {
+        if (lastUpdateProofBuilder_ == null) {
+          return lastUpdateProof_.size();
+        } else {
+          return lastUpdateProofBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getLastUpdateProof(int index) {
+        if (lastUpdateProofBuilder_ == null) {
+          return lastUpdateProof_.get(index);
+        } else {
+          return lastUpdateProofBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder setLastUpdateProof(
+          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof value) {
+        if (lastUpdateProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLastUpdateProofIsMutable();
+          lastUpdateProof_.set(index, value);
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder setLastUpdateProof(
+          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder builderForValue) {
+        if (lastUpdateProofBuilder_ == null) {
+          ensureLastUpdateProofIsMutable();
+          lastUpdateProof_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder addLastUpdateProof(serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof value) {
+        if (lastUpdateProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLastUpdateProofIsMutable();
+          lastUpdateProof_.add(value);
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder addLastUpdateProof(
+          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof value) {
+        if (lastUpdateProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLastUpdateProofIsMutable();
+          lastUpdateProof_.add(index, value);
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder addLastUpdateProof(
+          serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder builderForValue) {
+        if (lastUpdateProofBuilder_ == null) {
+          ensureLastUpdateProofIsMutable();
+          lastUpdateProof_.add(builderForValue.build());
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder addLastUpdateProof(
+          int index, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder builderForValue) {
+        if (lastUpdateProofBuilder_ == null) {
+          ensureLastUpdateProofIsMutable();
+          lastUpdateProof_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder addAllLastUpdateProof(
+          java.lang.Iterable<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof> values) {
+        if (lastUpdateProofBuilder_ == null) {
+          ensureLastUpdateProofIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, lastUpdateProof_);
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder clearLastUpdateProof() {
+        if (lastUpdateProofBuilder_ == null) {
+          lastUpdateProof_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public Builder removeLastUpdateProof(int index) {
+        if (lastUpdateProofBuilder_ == null) {
+          ensureLastUpdateProofIsMutable();
+          lastUpdateProof_.remove(index);
+          onChanged();
+        } else {
+          lastUpdateProofBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder getLastUpdateProofBuilder(
+          int index) {
+        return getLastUpdateProofFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder getLastUpdateProofOrBuilder(
+          int index) {
+        if (lastUpdateProofBuilder_ == null) {
+          return lastUpdateProof_.get(index);  } else {
+          return lastUpdateProofBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public java.util.List<? extends serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder> 
+           getLastUpdateProofOrBuilderList() {
+        if (lastUpdateProofBuilder_ != null) {
+          return lastUpdateProofBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(lastUpdateProof_);
+        }
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder addLastUpdateProofBuilder() {
+        return getLastUpdateProofFieldBuilder().addBuilder(
+            serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder addLastUpdateProofBuilder(
+          int index) {
+        return getLastUpdateProofFieldBuilder().addBuilder(
+            index, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * the distinct proofs of the last updates, each only 
+       * contains the last_update (or last_update_modification) and 
+       * last_updated_proof (and, for checkpoints, the current_proof, 
+       * current_commitment_number and checkpoint_signature)
+       * </pre>
+       *
+       * <code>repeated .serialization.generated.ADSRootProof last_update_proof = 2;</code>
+       */
+      public java.util.List<serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder> 
+           getLastUpdateProofBuilderList() {
+        return getLastUpdateProofFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder> 
+          getLastUpdateProofFieldBuilder() {
+        if (lastUpdateProofBuilder_ == null) {
+          lastUpdateProofBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSRootProofOrBuilder>(
+                  lastUpdateProof_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          lastUpdateProof_ = null;
+        }
+        return lastUpdateProofBuilder_;
+      }
+
+      private java.util.List<java.lang.Integer> lastUpdateProofIndex_ = java.util.Collections.emptyList();
+      private void ensureLastUpdateProofIndexIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          lastUpdateProofIndex_ = new java.util.ArrayList<java.lang.Integer>(lastUpdateProofIndex_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <pre>
+       * for each ADS (in the order of the ads_ids) the index 
+       * of its last_update_proof
+       * </pre>
+       *
+       * <code>repeated int32 last_update_proof_index = 3;</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getLastUpdateProofIndexList() {
+        return java.util.Collections.unmodifiableList(lastUpdateProofIndex_);
+      }
+      /**
+       * <pre>
+       * for each ADS (in the order of the ads_ids) the index 
+       * of its last_update_proof
+       * </pre>
+       *
+       * <code>repeated int32 last_update_proof_index = 3;</code>
+       */
+      public int getLastUpdateProofIndexCount() {
+        return lastUpdateProofIndex_.size();
+      }
+      /**
+       * <pre>
+       * for each ADS (in the order of the ads_ids) the index 
+       * of its last_update_proof
+       * </pre>
+       *
+       * <code>repeated int32 last_update_proof_index = 3;</code>
+       */
+      public int getLastUpdateProofIndex(int index) {
+        return lastUpdateProofIndex_.get(index);
+      }
+      /**
+       * <pre>
+       * for each ADS (in the order of the ads_ids) the index 
+       * of its last_update_proof
+       * </pre>
+       *
+       * <code>repeated int32 last_update_proof_index = 3;</code>
+       */
+      public Builder setLastUpdateProofIndex(
+          int index, int value) {
+        ensureLastUpdateProofIndexIsMutable();
+        lastUpdateProofIndex_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * for each ADS (in the order of the ads_ids) the index 
+       * of its last_update_proof
+       * </pre>
+       *
+       * <code>repeated int32 last_update_proof_index = 3;</code>
+       */
+      public Builder addLastUpdateProofIndex(int value) {
+        ensureLastUpdateProofIndexIsMutable();
+        lastUpdateProofIndex_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * for each ADS (in the order of the ads_ids) the index 
+       * of its last_update_proof
+       * </pre>
+       *
+       * <code>repeated int32 last_update_proof_index = 3;</code>
+       */
+      public Builder addAllLastUpdateProofIndex(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLastUpdateProofIndexIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, lastUpdateProofIndex_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * for each ADS (in the order of the ads_ids) the index 
+       * of its last_update_proof
+       * </pre>
+       *
+       * <code>repeated int32 last_update_proof_index = 3;</code>
+       */
+      public Builder clearLastUpdateProofIndex() {
+        lastUpdateProofIndex_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private int freshnessFromCommitmentNumber_ ;
+      /**
+       * <pre>
+       * freshness_proof[i] is the update at commitment 
+       * freshness_from_commitment_number+i for the paths 
+       * of all of the ADSes with a proof starting before it
+       * </pre>
+       *
+       * <code>int32 freshness_from_commitment_number = 4;</code>
+       */
+      public int getFreshnessFromCommitmentNumber() {
+        return freshnessFromCommitmentNumber_;
+      }
+      /**
+       * <pre>
+       * freshness_proof[i] is the update at commitment 
+       * freshness_from_commitment_number+i for the paths 
+       * of all of the ADSes with a proof starting before it
+       * </pre>
+       *
+       * <code>int32 freshness_from_commitment_number = 4;</code>
+       */
+      public Builder setFreshnessFromCommitmentNumber(int value) {
+        
+        freshnessFromCommitmentNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * freshness_proof[i] is the update at commitment 
+       * freshness_from_commitment_number+i for the paths 
+       * of all of the ADSes with a proof starting before it
+       * </pre>
+       *
+       * <code>int32 freshness_from_commitment_number = 4;</code>
+       */
+      public Builder clearFreshnessFromCommitmentNumber() {
+        
+        freshnessFromCommitmentNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> freshnessProof_ =
+        java.util.Collections.emptyList();
+      private void ensureFreshnessProofIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          freshnessProof_ = new java.util.ArrayList<serialization.generated.MptSerialization.MerklePrefixTrie>(freshnessProof_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> freshnessProofBuilder_;
+
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie> getFreshnessProofList() {
+        if (freshnessProofBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(freshnessProof_);
+        } else {
+          return freshnessProofBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public int getFreshnessProofCount() {
+        if (freshnessProofBuilder_ == null) {
+          return freshnessProof_.size();
+        } else {
+          return freshnessProofBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index) {
+        if (freshnessProofBuilder_ == null) {
+          return freshnessProof_.get(index);
+        } else {
+          return freshnessProofBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder setFreshnessProof(
+          int index, serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (freshnessProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.set(index, value);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder setFreshnessProof(
+          int index, serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          freshnessProofBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder addFreshnessProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (freshnessProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.add(value);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder addFreshnessProof(
+          int index, serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (freshnessProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.add(index, value);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder addFreshnessProof(
+          serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.add(builderForValue.build());
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder addFreshnessProof(
+          int index, serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder addAllFreshnessProof(
+          java.lang.Iterable<? extends serialization.generated.MptSerialization.MerklePrefixTrie> values) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, freshnessProof_);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder clearFreshnessProof() {
+        if (freshnessProofBuilder_ == null) {
+          freshnessProof_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public Builder removeFreshnessProof(int index) {
+        if (freshnessProofBuilder_ == null) {
+          ensureFreshnessProofIsMutable();
+          freshnessProof_.remove(index);
+          onChanged();
+        } else {
+          freshnessProofBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getFreshnessProofBuilder(
+          int index) {
+        return getFreshnessProofFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
+          int index) {
+        if (freshnessProofBuilder_ == null) {
+          return freshnessProof_.get(index);  } else {
+          return freshnessProofBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+           getFreshnessProofOrBuilderList() {
+        if (freshnessProofBuilder_ != null) {
+          return freshnessProofBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(freshnessProof_);
+        }
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder addFreshnessProofBuilder() {
+        return getFreshnessProofFieldBuilder().addBuilder(
+            serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder addFreshnessProofBuilder(
+          int index) {
+        return getFreshnessProofFieldBuilder().addBuilder(
+            index, serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 5;</code>
+       */
+      public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie.Builder> 
+           getFreshnessProofBuilderList() {
+        return getFreshnessProofFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+          getFreshnessProofFieldBuilder() {
+        if (freshnessProofBuilder_ == null) {
+          freshnessProofBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
+                  freshnessProof_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          freshnessProof_ = null;
+        }
+        return freshnessProofBuilder_;
+      }
+
+      private serialization.generated.MptSerialization.MerklePrefixTrie currentProof_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> currentProofBuilder_;
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      public boolean hasCurrentProof() {
+        return currentProofBuilder_ != null || currentProof_ != null;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie getCurrentProof() {
+        if (currentProofBuilder_ == null) {
+          return currentProof_ == null ? serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : currentProof_;
+        } else {
+          return currentProofBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      public Builder setCurrentProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (currentProofBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          currentProof_ = value;
+          onChanged();
+        } else {
+          currentProofBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      public Builder setCurrentProof(
+          serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
+        if (currentProofBuilder_ == null) {
+          currentProof_ = builderForValue.build();
+          onChanged();
+        } else {
+          currentProofBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      public Builder mergeCurrentProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
+        if (currentProofBuilder_ == null) {
+          if (currentProof_ != null) {
+            currentProof_ =
+              serialization.generated.MptSerialization.MerklePrefixTrie.newBuilder(currentProof_).mergeFrom(value).buildPartial();
+          } else {
+            currentProof_ = value;
+          }
+          onChanged();
+        } else {
+          currentProofBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      public Builder clearCurrentProof() {
+        if (currentProofBuilder_ == null) {
+          currentProof_ = null;
+          onChanged();
+        } else {
+          currentProof_ = null;
+          currentProofBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getCurrentProofBuilder() {
+        
+        onChanged();
+        return getCurrentProofFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getCurrentProofOrBuilder() {
+        if (currentProofBuilder_ != null) {
+          return currentProofBuilder_.getMessageOrBuilder();
+        } else {
+          return currentProof_ == null ?
+              serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance() : currentProof_;
+        }
+      }
+      /**
+       * <pre>
+       * only used by servers with versioned leaves:
+       * instead of the freshness proofs the server sends
+       * the current paths for all of the ADSes
+       * </pre>
+       *
+       * <code>.serialization.generated.MerklePrefixTrie current_proof = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
+          getCurrentProofFieldBuilder() {
+        if (currentProofBuilder_ == null) {
+          currentProofBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
+                  getCurrentProof(),
+                  getParentForChildren(),
+                  isClean());
+          currentProof_ = null;
+        }
+        return currentProofBuilder_;
+      }
+
+      private int currentCommitmentNumber_ ;
+      /**
+       * <code>int32 current_commitment_number = 7;</code>
+       */
+      public int getCurrentCommitmentNumber() {
+        return currentCommitmentNumber_;
+      }
+      /**
+       * <code>int32 current_commitment_number = 7;</code>
+       */
+      public Builder setCurrentCommitmentNumber(int value) {
+        
+        currentCommitmentNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 current_commitment_number = 7;</code>
+       */
+      public Builder clearCurrentCommitmentNumber() {
+        
+        currentCommitmentNumber_ = 0;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.ADSRootsProof)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.ADSRootsProof)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof();
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ADSRootsProof>
+        PARSER = new com.google.protobuf.AbstractParser<ADSRootsProof>() {
+      public ADSRootsProof parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ADSRootsProof(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ADSRootsProof> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ADSRootsProof> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ModificationProofOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.ModificationProof)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.serialization.generated.ADSModification modification = 1;</code>
+     */
+    boolean hasModification();
+    /**
+     * <code>.serialization.generated.ADSModification modification = 1;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModification();
+    /**
+     * <code>.serialization.generated.ADSModification modification = 1;</code>
+     */
+    serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationOrBuilder();
+
+    /**
+     * <code>int32 index = 2;</code>
+     */
+    int getIndex();
+
+    /**
+     * <code>int32 number_of_modifications = 3;</code>
+     */
+    int getNumberOfModifications();
+
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getPathList();
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    int getPathCount();
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    com.google.protobuf.ByteString getPath(int index);
+
+    /**
+     * <code>int32 valid_at_commitment_number = 5;</code>
+     */
+    int getValidAtCommitmentNumber();
+
+    /**
+     * <code>repeated bytes signatures = 6;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getSignaturesList();
+    /**
+     * <code>repeated bytes signatures = 6;</code>
+     */
+    int getSignaturesCount();
+    /**
+     * <code>repeated bytes signatures = 6;</code>
+     */
+    com.google.protobuf.ByteString getSignatures(int index);
+  }
+  /**
+   * <pre>
+   **
+   *	Proof of a single modification of an update with Merkle-ized 
+   *	modifications. The path (sibling hashes, starting at the leaf) 
+   *	together with the modification and its index gives the Merkle root 
+   *	over the modifications which, with the commitment number, 
+   *	is what the signatures are over
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.ModificationProof}
+   */
+  public  static final class ModificationProof extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.ModificationProof)
+      ModificationProofOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ModificationProof.newBuilder() to construct.
+    private ModificationProof(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ModificationProof() {
+      index_ = 0;
+      numberOfModifications_ = 0;
+      path_ = java.util.Collections.emptyList();
+      validAtCommitmentNumber_ = 0;
+      signatures_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ModificationProof(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder subBuilder = null;
+              if (modification_ != null) {
+                subBuilder = modification_.toBuilder();
+              }
+              modification_ = input.readMessage(serialization.generated.BVerifyAPIMessageSerialization.ADSModification.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(modification_);
+                modification_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 16: {
+
+              index_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              numberOfModifications_ = input.readInt32();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                path_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              path_.add(input.readBytes());
+              break;
+            }
+            case 40: {
+
+              validAtCommitmentNumber_ = input.readInt32();
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                signatures_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              signatures_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          path_ = java.util.Collections.unmodifiableList(path_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          signatures_ = java.util.Collections.unmodifiableList(signatures_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ModificationProof_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ModificationProof_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.class, serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int MODIFICATION_FIELD_NUMBER = 1;
+    private serialization.generated.BVerifyAPIMessageSerialization.ADSModification modification_;
+    /**
+     * <code>.serialization.generated.ADSModification modification = 1;</code>
+     */
+    public boolean hasModification() {
+      return modification_ != null;
+    }
+    /**
+     * <code>.serialization.generated.ADSModification modification = 1;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModification() {
+      return modification_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ADSModification.getDefaultInstance() : modification_;
+    }
+    /**
+     * <code>.serialization.generated.ADSModification modification = 1;</code>
+     */
+    public serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationOrBuilder() {
+      return getModification();
+    }
+
+    public static final int INDEX_FIELD_NUMBER = 2;
+    private int index_;
+    /**
+     * <code>int32 index = 2;</code>
+     */
+    public int getIndex() {
+      return index_;
+    }
+
+    public static final int NUMBER_OF_MODIFICATIONS_FIELD_NUMBER = 3;
+    private int numberOfModifications_;
+    /**
+     * <code>int32 number_of_modifications = 3;</code>
+     */
+    public int getNumberOfModifications() {
+      return numberOfModifications_;
+    }
+
+    public static final int PATH_FIELD_NUMBER = 4;
+    private java.util.List<com.google.protobuf.ByteString> path_;
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getPathList() {
+      return path_;
+    }
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    public int getPathCount() {
+      return path_.size();
+    }
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    public com.google.protobuf.ByteString getPath(int index) {
+      return path_.get(index);
+    }
+
+    public static final int VALID_AT_COMMITMENT_NUMBER_FIELD_NUMBER = 5;
+    private int validAtCommitmentNumber_;
+    /**
+     * <code>int32 valid_at_commitment_number = 5;</code>
+     */
+    public int getValidAtCommitmentNumber() {
+      return validAtCommitmentNumber_;
+    }
+
+    public static final int SIGNATURES_FIELD_NUMBER = 6;
+    private java.util.List<com.google.protobuf.ByteString> signatures_;
+    /**
+     * <code>repeated bytes signatures = 6;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getSignaturesList() {
+      return signatures_;
+    }
+    /**
+     * <code>repeated bytes signatures = 6;</code>
+     */
+    public int getSignaturesCount() {
+      return signatures_.size();
+    }
+    /**
+     * <code>repeated bytes signatures = 6;</code>
+     */
+    public com.google.protobuf.ByteString getSignatures(int index) {
+      return signatures_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (modification_ != null) {
+        output.writeMessage(1, getModification());
+      }
+      if (index_ != 0) {
+        output.writeInt32(2, index_);
+      }
+      if (numberOfModifications_ != 0) {
+        output.writeInt32(3, numberOfModifications_);
+      }
+      for (int i = 0; i < path_.size(); i++) {
+        output.writeBytes(4, path_.get(i));
+      }
+      if (validAtCommitmentNumber_ != 0) {
+        output.writeInt32(5, validAtCommitmentNumber_);
+      }
+      for (int i = 0; i < signatures_.size(); i++) {
+        output.writeBytes(6, signatures_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (modification_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getModification());
+      }
+      if (index_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, index_);
+      }
+      if (numberOfModifications_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, numberOfModifications_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < path_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(path_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getPathList().size();
+      }
+      if (validAtCommitmentNumber_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, validAtCommitmentNumber_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < signatures_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(signatures_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getSignaturesList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.ModificationProof)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.ModificationProof other = (serialization.generated.BVerifyAPIMessageSerialization.ModificationProof) obj;
+
+      boolean result = true;
+      result = result && (hasModification() == other.hasModification());
+      if (hasModification()) {
+        result = result && getModification()
+            .equals(other.getModification());
+      }
+      result = result && (getIndex()
+          == other.getIndex());
+      result = result && (getNumberOfModifications()
+          == other.getNumberOfModifications());
+      result = result && getPathList()
+          .equals(other.getPathList());
+      result = result && (getValidAtCommitmentNumber()
+          == other.getValidAtCommitmentNumber());
+      result = result && getSignaturesList()
+          .equals(other.getSignaturesList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasModification()) {
+        hash = (37 * hash) + MODIFICATION_FIELD_NUMBER;
+        hash = (53 * hash) + getModification().hashCode();
+      }
+      hash = (37 * hash) + INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getIndex();
+      hash = (37 * hash) + NUMBER_OF_MODIFICATIONS_FIELD_NUMBER;
+      hash = (53 * hash) + getNumberOfModifications();
+      if (getPathCount() > 0) {
+        hash = (37 * hash) + PATH_FIELD_NUMBER;
+        hash = (53 * hash) + getPathList().hashCode();
+      }
+      hash = (37 * hash) + VALID_AT_COMMITMENT_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getValidAtCommitmentNumber();
+      if (getSignaturesCount() > 0) {
+        hash = (37 * hash) + SIGNATURES_FIELD_NUMBER;
+        hash = (53 * hash) + getSignaturesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.ModificationProof prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	Proof of a single modification of an update with Merkle-ized 
+     *	modifications. The path (sibling hashes, starting at the leaf) 
+     *	together with the modification and its index gives the Merkle root 
+     *	over the modifications which, with the commitment number, 
+     *	is what the signatures are over
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.ModificationProof}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.ModificationProof)
+        serialization.generated.BVerifyAPIMessageSerialization.ModificationProofOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ModificationProof_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ModificationProof_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.class, serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (modificationBuilder_ == null) {
+          modification_ = null;
+        } else {
+          modification_ = null;
+          modificationBuilder_ = null;
+        }
+        index_ = 0;
+
+        numberOfModifications_ = 0;
+
+        path_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        validAtCommitmentNumber_ = 0;
+
+        signatures_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_ModificationProof_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ModificationProof getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ModificationProof build() {
+        serialization.generated.BVerifyAPIMessageSerialization.ModificationProof result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.ModificationProof buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.ModificationProof result = new serialization.generated.BVerifyAPIMessageSerialization.ModificationProof(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (modificationBuilder_ == null) {
+          result.modification_ = modification_;
+        } else {
+          result.modification_ = modificationBuilder_.build();
+        }
+        result.index_ = index_;
+        result.numberOfModifications_ = numberOfModifications_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          path_ = java.util.Collections.unmodifiableList(path_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.path_ = path_;
+        result.validAtCommitmentNumber_ = validAtCommitmentNumber_;
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          signatures_ = java.util.Collections.unmodifiableList(signatures_);
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.signatures_ = signatures_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.ModificationProof) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.ModificationProof)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.ModificationProof other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.ModificationProof.getDefaultInstance()) return this;
+        if (other.hasModification()) {
+          mergeModification(other.getModification());
+        }
+        if (other.getIndex() != 0) {
+          setIndex(other.getIndex());
+        }
+        if (other.getNumberOfModifications() != 0) {
+          setNumberOfModifications(other.getNumberOfModifications());
+        }
+        if (!other.path_.isEmpty()) {
+          if (path_.isEmpty()) {
+            path_ = other.path_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensurePathIsMutable();
+            path_.addAll(other.path_);
+          }
+          onChanged();
+        }
+        if (other.getValidAtCommitmentNumber() != 0) {
+          setValidAtCommitmentNumber(other.getValidAtCommitmentNumber());
+        }
+        if (!other.signatures_.isEmpty()) {
+          if (signatures_.isEmpty()) {
+            signatures_ = other.signatures_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureSignaturesIsMutable();
+            signatures_.addAll(other.signatures_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.ModificationProof parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.ModificationProof) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private serialization.generated.BVerifyAPIMessageSerialization.ADSModification modification_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> modificationBuilder_;
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      public boolean hasModification() {
+        return modificationBuilder_ != null || modification_ != null;
+      }
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification getModification() {
+        if (modificationBuilder_ == null) {
+          return modification_ == null ? serialization.generated.BVerifyAPIMessageSerialization.ADSModification.getDefaultInstance() : modification_;
+        } else {
+          return modificationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      public Builder setModification(serialization.generated.BVerifyAPIMessageSerialization.ADSModification value) {
+        if (modificationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          modification_ = value;
+          onChanged();
+        } else {
+          modificationBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      public Builder setModification(
+          serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder builderForValue) {
+        if (modificationBuilder_ == null) {
+          modification_ = builderForValue.build();
+          onChanged();
+        } else {
+          modificationBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      public Builder mergeModification(serialization.generated.BVerifyAPIMessageSerialization.ADSModification value) {
+        if (modificationBuilder_ == null) {
+          if (modification_ != null) {
+            modification_ =
+              serialization.generated.BVerifyAPIMessageSerialization.ADSModification.newBuilder(modification_).mergeFrom(value).buildPartial();
+          } else {
+            modification_ = value;
+          }
+          onChanged();
+        } else {
+          modificationBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      public Builder clearModification() {
+        if (modificationBuilder_ == null) {
+          modification_ = null;
+          onChanged();
+        } else {
+          modification_ = null;
+          modificationBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder getModificationBuilder() {
+        
+        onChanged();
+        return getModificationFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      public serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder getModificationOrBuilder() {
+        if (modificationBuilder_ != null) {
+          return modificationBuilder_.getMessageOrBuilder();
+        } else {
+          return modification_ == null ?
+              serialization.generated.BVerifyAPIMessageSerialization.ADSModification.getDefaultInstance() : modification_;
+        }
+      }
+      /**
+       * <code>.serialization.generated.ADSModification modification = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder> 
+          getModificationFieldBuilder() {
+        if (modificationBuilder_ == null) {
+          modificationBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.BVerifyAPIMessageSerialization.ADSModification, serialization.generated.BVerifyAPIMessageSerialization.ADSModification.Builder, serialization.generated.BVerifyAPIMessageSerialization.ADSModificationOrBuilder>(
+                  getModification(),
+                  getParentForChildren(),
+                  isClean());
+          modification_ = null;
+        }
+        return modificationBuilder_;
+      }
+
+      private int index_ ;
+      /**
+       * <code>int32 index = 2;</code>
+       */
+      public int getIndex() {
+        return index_;
+      }
+      /**
+       * <code>int32 index = 2;</code>
+       */
+      public Builder setIndex(int value) {
+        
+        index_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 index = 2;</code>
+       */
+      public Builder clearIndex() {
+        
+        index_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int numberOfModifications_ ;
+      /**
+       * <code>int32 number_of_modifications = 3;</code>
+       */
+      public int getNumberOfModifications() {
+        return numberOfModifications_;
+      }
+      /**
+       * <code>int32 number_of_modifications = 3;</code>
+       */
+      public Builder setNumberOfModifications(int value) {
+        
+        numberOfModifications_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 number_of_modifications = 3;</code>
+       */
+      public Builder clearNumberOfModifications() {
+        
+        numberOfModifications_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> path_ = java.util.Collections.emptyList();
+      private void ensurePathIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          path_ = new java.util.ArrayList<com.google.protobuf.ByteString>(path_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getPathList() {
+        return java.util.Collections.unmodifiableList(path_);
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public int getPathCount() {
+        return path_.size();
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public com.google.protobuf.ByteString getPath(int index) {
+        return path_.get(index);
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public Builder setPath(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathIsMutable();
+        path_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public Builder addPath(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathIsMutable();
+        path_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public Builder addAllPath(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensurePathIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, path_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public Builder clearPath() {
+        path_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private int validAtCommitmentNumber_ ;
+      /**
+       * <code>int32 valid_at_commitment_number = 5;</code>
+       */
+      public int getValidAtCommitmentNumber() {
+        return validAtCommitmentNumber_;
+      }
+      /**
+       * <code>int32 valid_at_commitment_number = 5;</code>
+       */
+      public Builder setValidAtCommitmentNumber(int value) {
+        
+        validAtCommitmentNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 valid_at_commitment_number = 5;</code>
+       */
+      public Builder clearValidAtCommitmentNumber() {
+        
+        validAtCommitmentNumber_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> signatures_ = java.util.Collections.emptyList();
+      private void ensureSignaturesIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          signatures_ = new java.util.ArrayList<com.google.protobuf.ByteString>(signatures_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+      /**
+       * <code>repeated bytes signatures = 6;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getSignaturesList() {
+        return java.util.Collections.unmodifiableList(signatures_);
+      }
+      /**
+       * <code>repeated bytes signatures = 6;</code>
+       */
+      public int getSignaturesCount() {
+        return signatures_.size();
+      }
+      /**
+       * <code>repeated bytes signatures = 6;</code>
+       */
+      public com.google.protobuf.ByteString getSignatures(int index) {
+        return signatures_.get(index);
+      }
+      /**
+       * <code>repeated bytes signatures = 6;</code>
+       */
+      public Builder setSignatures(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSignaturesIsMutable();
+        signatures_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes signatures = 6;</code>
+       */
+      public Builder addSignatures(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSignaturesIsMutable();
+        signatures_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes signatures = 6;</code>
+       */
+      public Builder addAllSignatures(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureSignaturesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, signatures_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes signatures = 6;</code>
+       */
+      public Builder clearSignatures() {
+        signatures_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.ModificationProof)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.ModificationProof)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.ModificationProof DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.ModificationProof();
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.ModificationProof getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ModificationProof>
+        PARSER = new com.google.protobuf.AbstractParser<ModificationProof>() {
+      public ModificationProof parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ModificationProof(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ModificationProof> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ModificationProof> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.BVerifyAPIMessageSerialization.ModificationProof getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CommitmentProofOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.CommitmentProof)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes commitment = 1;</code>
+     */
+    com.google.protobuf.ByteString getCommitment();
+
+    /**
+     * <code>int32 commitment_number = 2;</code>
+     */
+    int getCommitmentNumber();
+
+    /**
+     * <code>int32 number_of_commitments = 3;</code>
+     */
+    int getNumberOfCommitments();
+
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getPathList();
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    int getPathCount();
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    com.google.protobuf.ByteString getPath(int index);
+
+    /**
+     * <code>repeated bytes other_peaks = 5;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getOtherPeaksList();
+    /**
+     * <code>repeated bytes other_peaks = 5;</code>
+     */
+    int getOtherPeaksCount();
+    /**
+     * <code>repeated bytes other_peaks = 5;</code>
+     */
+    com.google.protobuf.ByteString getOtherPeaks(int index);
+  }
+  /**
+   * <pre>
+   **
+   *	Proof that a commitment is part of the history: the path 
+   *	(sibling hashes, starting at the commitment) to the peak of 
+   *	its tree in the accumulator and the other peaks give the 
+   *	root of the accumulator over the first number_of_commitments
+   *	commitments
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.CommitmentProof}
+   */
+  public  static final class CommitmentProof extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.CommitmentProof)
+      CommitmentProofOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CommitmentProof.newBuilder() to construct.
+    private CommitmentProof(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CommitmentProof() {
+      commitment_ = com.google.protobuf.ByteString.EMPTY;
+      commitmentNumber_ = 0;
+      numberOfCommitments_ = 0;
+      path_ = java.util.Collections.emptyList();
+      otherPeaks_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CommitmentProof(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+
+              commitment_ = input.readBytes();
+              break;
+            }
+            case 16: {
+
+              commitmentNumber_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              numberOfCommitments_ = input.readInt32();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                path_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              path_.add(input.readBytes());
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                otherPeaks_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              otherPeaks_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          path_ = java.util.Collections.unmodifiableList(path_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          otherPeaks_ = java.util.Collections.unmodifiableList(otherPeaks_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_CommitmentProof_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_CommitmentProof_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.class, serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int COMMITMENT_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString commitment_;
+    /**
+     * <code>bytes commitment = 1;</code>
+     */
+    public com.google.protobuf.ByteString getCommitment() {
+      return commitment_;
+    }
+
+    public static final int COMMITMENT_NUMBER_FIELD_NUMBER = 2;
+    private int commitmentNumber_;
+    /**
+     * <code>int32 commitment_number = 2;</code>
+     */
+    public int getCommitmentNumber() {
+      return commitmentNumber_;
+    }
+
+    public static final int NUMBER_OF_COMMITMENTS_FIELD_NUMBER = 3;
+    private int numberOfCommitments_;
+    /**
+     * <code>int32 number_of_commitments = 3;</code>
+     */
+    public int getNumberOfCommitments() {
+      return numberOfCommitments_;
+    }
+
+    public static final int PATH_FIELD_NUMBER = 4;
+    private java.util.List<com.google.protobuf.ByteString> path_;
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getPathList() {
+      return path_;
+    }
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    public int getPathCount() {
+      return path_.size();
+    }
+    /**
+     * <code>repeated bytes path = 4;</code>
+     */
+    public com.google.protobuf.ByteString getPath(int index) {
+      return path_.get(index);
+    }
+
+    public static final int OTHER_PEAKS_FIELD_NUMBER = 5;
+    private java.util.List<com.google.protobuf.ByteString> otherPeaks_;
+    /**
+     * <code>repeated bytes other_peaks = 5;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getOtherPeaksList() {
+      return otherPeaks_;
+    }
+    /**
+     * <code>repeated bytes other_peaks = 5;</code>
+     */
+    public int getOtherPeaksCount() {
+      return otherPeaks_.size();
+    }
+    /**
+     * <code>repeated bytes other_peaks = 5;</code>
+     */
+    public com.google.protobuf.ByteString getOtherPeaks(int index) {
+      return otherPeaks_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!commitment_.isEmpty()) {
+        output.writeBytes(1, commitment_);
+      }
+      if (commitmentNumber_ != 0) {
+        output.writeInt32(2, commitmentNumber_);
+      }
+      if (numberOfCommitments_ != 0) {
+        output.writeInt32(3, numberOfCommitments_);
+      }
+      for (int i = 0; i < path_.size(); i++) {
+        output.writeBytes(4, path_.get(i));
+      }
+      for (int i = 0; i < otherPeaks_.size(); i++) {
+        output.writeBytes(5, otherPeaks_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!commitment_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, commitment_);
+      }
+      if (commitmentNumber_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, commitmentNumber_);
+      }
+      if (numberOfCommitments_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, numberOfCommitments_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < path_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(path_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getPathList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < otherPeaks_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(otherPeaks_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getOtherPeaksList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof)) {
+        return super.equals(obj);
+      }
+      serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof other = (serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof) obj;
+
+      boolean result = true;
+      result = result && getCommitment()
+          .equals(other.getCommitment());
+      result = result && (getCommitmentNumber()
+          == other.getCommitmentNumber());
+      result = result && (getNumberOfCommitments()
+          == other.getNumberOfCommitments());
+      result = result && getPathList()
+          .equals(other.getPathList());
+      result = result && getOtherPeaksList()
+          .equals(other.getOtherPeaksList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + COMMITMENT_FIELD_NUMBER;
+      hash = (53 * hash) + getCommitment().hashCode();
+      hash = (37 * hash) + COMMITMENT_NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + getCommitmentNumber();
+      hash = (37 * hash) + NUMBER_OF_COMMITMENTS_FIELD_NUMBER;
+      hash = (53 * hash) + getNumberOfCommitments();
+      if (getPathCount() > 0) {
+        hash = (37 * hash) + PATH_FIELD_NUMBER;
+        hash = (53 * hash) + getPathList().hashCode();
+      }
+      if (getOtherPeaksCount() > 0) {
+        hash = (37 * hash) + OTHER_PEAKS_FIELD_NUMBER;
+        hash = (53 * hash) + getOtherPeaksList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	Proof that a commitment is part of the history: the path 
+     *	(sibling hashes, starting at the commitment) to the peak of 
+     *	its tree in the accumulator and the other peaks give the 
+     *	root of the accumulator over the first number_of_commitments
+     *	commitments
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.CommitmentProof}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.CommitmentProof)
+        serialization.generated.BVerifyAPIMessageSerialization.CommitmentProofOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_CommitmentProof_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_CommitmentProof_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.class, serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.Builder.class);
+      }
+
+      // Construct using serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        commitment_ = com.google.protobuf.ByteString.EMPTY;
+
+        commitmentNumber_ = 0;
+
+        numberOfCommitments_ = 0;
+
+        path_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        otherPeaks_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.internal_static_serialization_generated_CommitmentProof_descriptor;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof getDefaultInstanceForType() {
+        return serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.getDefaultInstance();
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof build() {
+        serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof buildPartial() {
+        serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof result = new serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.commitment_ = commitment_;
+        result.commitmentNumber_ = commitmentNumber_;
+        result.numberOfCommitments_ = numberOfCommitments_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          path_ = java.util.Collections.unmodifiableList(path_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.path_ = path_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          otherPeaks_ = java.util.Collections.unmodifiableList(otherPeaks_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.otherPeaks_ = otherPeaks_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof) {
+          return mergeFrom((serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof)other);
         } else {
-          return freshnessProofBuilder_.getMessageList();
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof other) {
+        if (other == serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof.getDefaultInstance()) return this;
+        if (other.getCommitment() != com.google.protobuf.ByteString.EMPTY) {
+          setCommitment(other.getCommitment());
+        }
+        if (other.getCommitmentNumber() != 0) {
+          setCommitmentNumber(other.getCommitmentNumber());
+        }
+        if (other.getNumberOfCommitments() != 0) {
+          setNumberOfCommitments(other.getNumberOfCommitments());
+        }
+        if (!other.path_.isEmpty()) {
+          if (path_.isEmpty()) {
+            path_ = other.path_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensurePathIsMutable();
+            path_.addAll(other.path_);
+          }
+          onChanged();
         }
+        if (!other.otherPeaks_.isEmpty()) {
+          if (otherPeaks_.isEmpty()) {
+            otherPeaks_ = other.otherPeaks_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureOtherPeaksIsMutable();
+            otherPeaks_.addAll(other.otherPeaks_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
       }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString commitment_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>bytes commitment = 1;</code>
        */
-      public int getFreshnessProofCount() {
-        if (freshnessProofBuilder_ == null) {
-          return freshnessProof_.size();
-        } else {
-          return freshnessProofBuilder_.getCount();
-        }
+      public com.google.protobuf.ByteString getCommitment() {
+        return commitment_;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>bytes commitment = 1;</code>
        */
-      public serialization.generated.MptSerialization.MerklePrefixTrie getFreshnessProof(int index) {
-        if (freshnessProofBuilder_ == null) {
-          return freshnessProof_.get(index);
-        } else {
-          return freshnessProofBuilder_.getMessage(index);
-        }
+      public Builder setCommitment(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        commitment_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>bytes commitment = 1;</code>
        */
-      public Builder setFreshnessProof(
-          int index, serialization.generated.MptSerialization.MerklePrefixTrie value) {
-        if (freshnessProofBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureFreshnessProofIsMutable();
-          freshnessProof_.set(index, value);
-          onChanged();
-        } else {
-          freshnessProofBuilder_.setMessage(index, value);
-        }
+      public Builder clearCommitment() {
+        
+        commitment_ = getDefaultInstance().getCommitment();
+        onChanged();
         return this;
       }
+
+      private int commitmentNumber_ ;
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>int32 commitment_number = 2;</code>
        */
-      public Builder setFreshnessProof(
-          int index, serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
-        if (freshnessProofBuilder_ == null) {
-          ensureFreshnessProofIsMutable();
-          freshnessProof_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          freshnessProofBuilder_.setMessage(index, builderForValue.build());
-        }
+      public int getCommitmentNumber() {
+        return commitmentNumber_;
+      }
+      /**
+       * <code>int32 commitment_number = 2;</code>
+       */
+      public Builder setCommitmentNumber(int value) {
+        
+        commitmentNumber_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>int32 commitment_number = 2;</code>
        */
-      public Builder addFreshnessProof(serialization.generated.MptSerialization.MerklePrefixTrie value) {
-        if (freshnessProofBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureFreshnessProofIsMutable();
-          freshnessProof_.add(value);
-          onChanged();
-        } else {
-          freshnessProofBuilder_.addMessage(value);
-        }
+      public Builder clearCommitmentNumber() {
+        
+        commitmentNumber_ = 0;
+        onChanged();
         return this;
       }
+
+      private int numberOfCommitments_ ;
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>int32 number_of_commitments = 3;</code>
        */
-      public Builder addFreshnessProof(
-          int index, serialization.generated.MptSerialization.MerklePrefixTrie value) {
-        if (freshnessProofBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureFreshnessProofIsMutable();
-          freshnessProof_.add(index, value);
-          onChanged();
-        } else {
-          freshnessProofBuilder_.addMessage(index, value);
-        }
+      public int getNumberOfCommitments() {
+        return numberOfCommitments_;
+      }
+      /**
+       * <code>int32 number_of_commitments = 3;</code>
+       */
+      public Builder setNumberOfCommitments(int value) {
+        
+        numberOfCommitments_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>int32 number_of_commitments = 3;</code>
        */
-      public Builder addFreshnessProof(
-          serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
-        if (freshnessProofBuilder_ == null) {
-          ensureFreshnessProofIsMutable();
-          freshnessProof_.add(builderForValue.build());
-          onChanged();
-        } else {
-          freshnessProofBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder clearNumberOfCommitments() {
+        
+        numberOfCommitments_ = 0;
+        onChanged();
         return this;
       }
+
+      private java.util.List<com.google.protobuf.ByteString> path_ = java.util.Collections.emptyList();
+      private void ensurePathIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          path_ = new java.util.ArrayList<com.google.protobuf.ByteString>(path_);
+          bitField0_ |= 0x00000008;
+         }
+      }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes path = 4;</code>
        */
-      public Builder addFreshnessProof(
-          int index, serialization.generated.MptSerialization.MerklePrefixTrie.Builder builderForValue) {
-        if (freshnessProofBuilder_ == null) {
-          ensureFreshnessProofIsMutable();
-          freshnessProof_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          freshnessProofBuilder_.addMessage(index, builderForValue.build());
-        }
+      public java.util.List<com.google.protobuf.ByteString>
+          getPathList() {
+        return java.util.Collections.unmodifiableList(path_);
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public int getPathCount() {
+        return path_.size();
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public com.google.protobuf.ByteString getPath(int index) {
+        return path_.get(index);
+      }
+      /**
+       * <code>repeated bytes path = 4;</code>
+       */
+      public Builder setPath(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathIsMutable();
+        path_.set(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes path = 4;</code>
        */
-      public Builder addAllFreshnessProof(
-          java.lang.Iterable<? extends serialization.generated.MptSerialization.MerklePrefixTrie> values) {
-        if (freshnessProofBuilder_ == null) {
-          ensureFreshnessProofIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, freshnessProof_);
-          onChanged();
-        } else {
-          freshnessProofBuilder_.addAllMessages(values);
-        }
+      public Builder addPath(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathIsMutable();
+        path_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes path = 4;</code>
        */
-      public Builder clearFreshnessProof() {
-        if (freshnessProofBuilder_ == null) {
-          freshnessProof_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-          onChanged();
-        } else {
-          freshnessProofBuilder_.clear();
-        }
+      public Builder addAllPath(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensurePathIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, path_);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes path = 4;</code>
        */
-      public Builder removeFreshnessProof(int index) {
-        if (freshnessProofBuilder_ == null) {
-          ensureFreshnessProofIsMutable();
-          freshnessProof_.remove(index);
-          onChanged();
-        } else {
-          freshnessProofBuilder_.remove(index);
-        }
+      public Builder clearPath() {
+        path_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
         return this;
       }
+
+      private java.util.List<com.google.protobuf.ByteString> otherPeaks_ = java.util.Collections.emptyList();
+      private void ensureOtherPeaksIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          otherPeaks_ = new java.util.ArrayList<com.google.protobuf.ByteString>(otherPeaks_);
+          bitField0_ |= 0x00000010;
+         }
+      }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes other_peaks = 5;</code>
        */
-      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder getFreshnessProofBuilder(
-          int index) {
-        return getFreshnessProofFieldBuilder().getBuilder(index);
+      public java.util.List<com.google.protobuf.ByteString>
+          getOtherPeaksList() {
+        return java.util.Collections.unmodifiableList(otherPeaks_);
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes other_peaks = 5;</code>
        */
-      public serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder getFreshnessProofOrBuilder(
-          int index) {
-        if (freshnessProofBuilder_ == null) {
-          return freshnessProof_.get(index);  } else {
-          return freshnessProofBuilder_.getMessageOrBuilder(index);
-        }
+      public int getOtherPeaksCount() {
+        return otherPeaks_.size();
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes other_peaks = 5;</code>
        */
-      public java.util.List<? extends serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
-           getFreshnessProofOrBuilderList() {
-        if (freshnessProofBuilder_ != null) {
-          return freshnessProofBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(freshnessProof_);
-        }
+      public com.google.protobuf.ByteString getOtherPeaks(int index) {
+        return otherPeaks_.get(index);
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes other_peaks = 5;</code>
        */
-      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder addFreshnessProofBuilder() {
-        return getFreshnessProofFieldBuilder().addBuilder(
-            serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance());
+      public Builder setOtherPeaks(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureOtherPeaksIsMutable();
+        otherPeaks_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes other_peaks = 5;</code>
        */
-      public serialization.generated.MptSerialization.MerklePrefixTrie.Builder addFreshnessProofBuilder(
-          int index) {
-        return getFreshnessProofFieldBuilder().addBuilder(
-            index, serialization.generated.MptSerialization.MerklePrefixTrie.getDefaultInstance());
+      public Builder addOtherPeaks(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureOtherPeaksIsMutable();
+        otherPeaks_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .serialization.generated.MerklePrefixTrie freshness_proof = 3;</code>
+       * <code>repeated bytes other_peaks = 5;</code>
        */
-      public java.util.List<serialization.generated.MptSerialization.MerklePrefixTrie.Builder> 
-           getFreshnessProofBuilderList() {
-        return getFreshnessProofFieldBuilder().getBuilderList();
+      public Builder addAllOtherPeaks(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureOtherPeaksIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, otherPeaks_);
+        onChanged();
+        return this;
       }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder> 
-          getFreshnessProofFieldBuilder() {
-        if (freshnessProofBuilder_ == null) {
-          freshnessProofBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              serialization.generated.MptSerialization.MerklePrefixTrie, serialization.generated.MptSerialization.MerklePrefixTrie.Builder, serialization.generated.MptSerialization.MerklePrefixTrieOrBuilder>(
-                  freshnessProof_,
-                  ((bitField0_ & 0x00000004) == 0x00000004),
-                  getParentForChildren(),
-                  isClean());
-          freshnessProof_ = null;
-        }
-        return freshnessProofBuilder_;
+      /**
+       * <code>repeated bytes other_peaks = 5;</code>
+       */
+      public Builder clearOtherPeaks() {
+        otherPeaks_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -5389,39 +14708,39 @@ public final class BVerifyAPIMessageSerialization {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:serialization.generated.ADSRootProof)
+      // @@protoc_insertion_point(builder_scope:serialization.generated.CommitmentProof)
     }
 
-    // @@protoc_insertion_point(class_scope:serialization.generated.ADSRootProof)
-    private static final serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:serialization.generated.CommitmentProof)
+    private static final serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof();
+      DEFAULT_INSTANCE = new serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof();
     }
 
-    public static serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getDefaultInstance() {
+    public static serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ADSRootProof>
-        PARSER = new com.google.protobuf.AbstractParser<ADSRootProof>() {
-      public ADSRootProof parsePartialFrom(
+    private static final com.google.protobuf.Parser<CommitmentProof>
+        PARSER = new com.google.protobuf.AbstractParser<CommitmentProof>() {
+      public CommitmentProof parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ADSRootProof(input, extensionRegistry);
+        return new CommitmentProof(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<ADSRootProof> parser() {
+    public static com.google.protobuf.Parser<CommitmentProof> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ADSRootProof> getParserForType() {
+    public com.google.protobuf.Parser<CommitmentProof> getParserForType() {
       return PARSER;
     }
 
-    public serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof getDefaultInstanceForType() {
+    public serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -6744,6 +16063,16 @@ public final class BVerifyAPIMessageSerialization {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_serialization_generated_ProveADSRootResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_ProveADSRootsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_ProveADSRootsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_ProveADSRootsResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_ProveADSRootsResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor;
   private static final 
@@ -6754,6 +16083,26 @@ public final class BVerifyAPIMessageSerialization {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_serialization_generated_GetADSProofUpdatesResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_GetCommitmentHistoryRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_GetCommitmentHistoryRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_GetCommitmentHistoryResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_GetCommitmentHistoryResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_ProveCommitmentRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_ProveCommitmentRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_ProveCommitmentResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_ProveCommitmentResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_serialization_generated_Update_descriptor;
   private static final 
@@ -6764,6 +16113,21 @@ public final class BVerifyAPIMessageSerialization {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_serialization_generated_ADSRootProof_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_ADSRootsProof_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_ADSRootsProof_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_ModificationProof_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_ModificationProof_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_CommitmentProof_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_CommitmentProof_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_serialization_generated_ADSProofUpdates_descriptor;
   private static final 
@@ -6788,26 +16152,62 @@ public final class BVerifyAPIMessageSerialization {
       "PerformUpdateRequest\022/\n\006update\030\001 \001(\0132\037.s" +
       "erialization.generated.Update\022\022\n\nsignatu" +
       "res\030\002 \003(\014\")\n\025PerformUpdateResponse\022\020\n\010ac" +
-      "cepted\030\001 \001(\010\"%\n\023ProveADSRootRequest\022\016\n\006a" +
-      "ds_id\030\001 \001(\014\"L\n\024ProveADSRootResponse\0224\n\005p" +
-      "roof\030\001 \001(\0132%.serialization.generated.ADS" +
-      "RootProof\"D\n\031GetADSProofUpdatesRequest\022\016" +
-      "\n\006ads_id\030\001 \001(\014\022\027\n\017from_commitment\030\002 \001(\005\"" +
-      "W\n\032GetADSProofUpdatesResponse\0229\n\007updates" +
-      "\030\001 \001(\0132(.serialization.generated.ADSProo" +
-      "fUpdates\"m\n\006Update\022?\n\rmodifications\030\001 \003(" +
-      "\0132(.serialization.generated.ADSModificat" +
-      "ion\022\"\n\032valid_at_commitment_number\030\002 \001(\005\"" +
-      "\335\001\n\014ADSRootProof\022E\n\022last_updated_proof\030\001" +
-      " \001(\0132).serialization.generated.MerklePre" +
-      "fixTrie\022B\n\013last_update\030\002 \001(\0132-.serializa" +
-      "tion.generated.PerformUpdateRequest\022B\n\017f" +
-      "reshness_proof\030\003 \003(\0132).serialization.gen" +
-      "erated.MerklePrefixTrie\"M\n\017ADSProofUpdat" +
-      "es\022:\n\007updates\030\001 \003(\0132).serialization.gene" +
-      "rated.MerklePrefixTrie\"4\n\017ADSModificatio" +
-      "n\022\016\n\006ads_id\030\001 \001(\014\022\021\n\tnew_value\030\002 \001(\014B B\036" +
-      "BVerifyAPIMessageSerializationb\006proto3"
+      "cepted\030\001 \001(\010\"J\n\023ProveADSRootRequest\022\016\n\006a" +
+      "ds_id\030\001 \001(\014\022\032\n\020as_of_commitment\030\002 \001(\005H\000B" +
+      "\007\n\005as_of\"L\n\024ProveADSRootResponse\0224\n\005proo" +
+      "f\030\001 \001(\0132%.serialization.generated.ADSRoo" +
+      "tProof\";\n\024ProveADSRootsRequest\022\017\n\007ads_id" +
+      "s\030\001 \003(\014\022\022\n\naccount_id\030\002 \001(\t\"N\n\025ProveADSR" +
+      "ootsResponse\0225\n\005proof\030\001 \001(\0132&.serializat" +
+      "ion.generated.ADSRootsProof\"U\n\031GetADSPro" +
+      "ofUpdatesRequest\022\016\n\006ads_id\030\001 \001(\014\022\027\n\017from" +
+      "_commitment\030\002 \001(\005\022\017\n\007ads_ids\030\003 \003(\014\"W\n\032Ge" +
+      "tADSProofUpdatesResponse\0229\n\007updates\030\001 \001(" +
+      "\0132(.serialization.generated.ADSProofUpda" +
+      "tes\"6\n\033GetCommitmentHistoryRequest\022\027\n\017fr" +
+      "om_commitment\030\001 \001(\005\"B\n\034GetCommitmentHist" +
+      "oryResponse\022\r\n\005peaks\030\001 \003(\014\022\023\n\013commitment" +
+      "s\030\002 \003(\014\"]\n\026ProveCommitmentRequest\022\031\n\021com" +
+      "mitment_number\030\001 \001(\005\022\037\n\025number_of_commit" +
+      "ments\030\002 \001(\005H\000B\007\n\005as_of\"R\n\027ProveCommitmen" +
+      "tResponse\0227\n\005proof\030\001 \001(\0132(.serialization" +
+      ".generated.CommitmentProof\"\213\001\n\006Update\022?\n" +
+      "\rmodifications\030\001 \003(\0132(.serialization.gen" +
+      "erated.ADSModification\022\"\n\032valid_at_commi" +
+      "tment_number\030\002 \001(\005\022\034\n\024merkle_modificatio" +
+      "ns\030\003 \001(\010\"\256\003\n\014ADSRootProof\022E\n\022last_update" +
+      "d_proof\030\001 \001(\0132).serialization.generated." +
+      "MerklePrefixTrie\022B\n\013last_update\030\002 \001(\0132-." +
+      "serialization.generated.PerformUpdateReq" +
+      "uest\022B\n\017freshness_proof\030\003 \003(\0132).serializ" +
+      "ation.generated.MerklePrefixTrie\022@\n\rcurr" +
+      "ent_proof\030\004 \001(\0132).serialization.generate" +
+      "d.MerklePrefixTrie\022!\n\031current_commitment" +
+      "_number\030\005 \001(\005\022\034\n\024checkpoint_signature\030\006 " +
+      "\001(\014\022L\n\030last_update_modification\030\007 \001(\0132*." +
+      "serialization.generated.ModificationProo" +
+      "f\"\326\002\n\rADSRootsProof\022\017\n\007ads_ids\030\001 \003(\014\022@\n\021" +
+      "last_update_proof\030\002 \003(\0132%.serialization." +
+      "generated.ADSRootProof\022\037\n\027last_update_pr" +
+      "oof_index\030\003 \003(\005\022(\n freshness_from_commit" +
+      "ment_number\030\004 \001(\005\022B\n\017freshness_proof\030\005 \003" +
+      "(\0132).serialization.generated.MerklePrefi" +
+      "xTrie\022@\n\rcurrent_proof\030\006 \001(\0132).serializa" +
+      "tion.generated.MerklePrefixTrie\022!\n\031curre" +
+      "nt_commitment_number\030\007 \001(\005\"\311\001\n\021Modificat" +
+      "ionProof\022>\n\014modification\030\001 \001(\0132(.seriali" +
+      "zation.generated.ADSModification\022\r\n\005inde" +
+      "x\030\002 \001(\005\022\037\n\027number_of_modifications\030\003 \001(\005" +
+      "\022\014\n\004path\030\004 \003(\014\022\"\n\032valid_at_commitment_nu" +
+      "mber\030\005 \001(\005\022\022\n\nsignatures\030\006 \003(\014\"\202\001\n\017Commi" +
+      "tmentProof\022\022\n\ncommitment\030\001 \001(\014\022\031\n\021commit" +
+      "ment_number\030\002 \001(\005\022\035\n\025number_of_commitmen" +
+      "ts\030\003 \001(\005\022\014\n\004path\030\004 \003(\014\022\023\n\013other_peaks\030\005 " +
+      "\003(\014\"M\n\017ADSProofUpdates\022:\n\007updates\030\001 \003(\0132" +
+      ").serialization.generated.MerklePrefixTr" +
+      "ie\"4\n\017ADSModification\022\016\n\006ads_id\030\001 \001(\014\022\021\n" +
+      "\tnew_value\030\002 \001(\014B B\036BVerifyAPIMessageSer" +
+      "ializationb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -6839,45 +16239,99 @@ public final class BVerifyAPIMessageSerialization {
     internal_static_serialization_generated_ProveADSRootRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_ProveADSRootRequest_descriptor,
-        new java.lang.String[] { "AdsId", });
+        new java.lang.String[] { "AdsId", "AsOfCommitment", "AsOf", });
     internal_static_serialization_generated_ProveADSRootResponse_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_serialization_generated_ProveADSRootResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_ProveADSRootResponse_descriptor,
         new java.lang.String[] { "Proof", });
-    internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor =
+    internal_static_serialization_generated_ProveADSRootsRequest_descriptor =
       getDescriptor().getMessageTypes().get(4);
+    internal_static_serialization_generated_ProveADSRootsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_ProveADSRootsRequest_descriptor,
+        new java.lang.String[] { "AdsIds", "AccountId", });
+    internal_static_serialization_generated_ProveADSRootsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_serialization_generated_ProveADSRootsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_ProveADSRootsResponse_descriptor,
+        new java.lang.String[] { "Proof", });
+    internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_serialization_generated_GetADSProofUpdatesRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_GetADSProofUpdatesRequest_descriptor,
-        new java.lang.String[] { "AdsId", "FromCommitment", });
+        new java.lang.String[] { "AdsId", "FromCommitment", "AdsIds", });
     internal_static_serialization_generated_GetADSProofUpdatesResponse_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_serialization_generated_GetADSProofUpdatesResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_GetADSProofUpdatesResponse_descriptor,
         new java.lang.String[] { "Updates", });
+    internal_static_serialization_generated_GetCommitmentHistoryRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_serialization_generated_GetCommitmentHistoryRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_GetCommitmentHistoryRequest_descriptor,
+        new java.lang.String[] { "FromCommitment", });
+    internal_static_serialization_generated_GetCommitmentHistoryResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_serialization_generated_GetCommitmentHistoryResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_GetCommitmentHistoryResponse_descriptor,
+        new java.lang.String[] { "Peaks", "Commitments", });
+    internal_static_serialization_generated_ProveCommitmentRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_serialization_generated_ProveCommitmentRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_ProveCommitmentRequest_descriptor,
+        new java.lang.String[] { "CommitmentNumber", "NumberOfCommitments", "AsOf", });
+    internal_static_serialization_generated_ProveCommitmentResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_serialization_generated_ProveCommitmentResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_ProveCommitmentResponse_descriptor,
+        new java.lang.String[] { "Proof", });
     internal_static_serialization_generated_Update_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_serialization_generated_Update_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_Update_descriptor,
-        new java.lang.String[] { "Modifications", "ValidAtCommitmentNumber", });
+        new java.lang.String[] { "Modifications", "ValidAtCommitmentNumber", "MerkleModifications", });
     internal_static_serialization_generated_ADSRootProof_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_serialization_generated_ADSRootProof_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_ADSRootProof_descriptor,
-        new java.lang.String[] { "LastUpdatedProof", "LastUpdate", "FreshnessProof", });
+        new java.lang.String[] { "LastUpdatedProof", "LastUpdate", "FreshnessProof", "CurrentProof", "CurrentCommitmentNumber", "CheckpointSignature", "LastUpdateModification", });
+    internal_static_serialization_generated_ADSRootsProof_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_serialization_generated_ADSRootsProof_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_ADSRootsProof_descriptor,
+        new java.lang.String[] { "AdsIds", "LastUpdateProof", "LastUpdateProofIndex", "FreshnessFromCommitmentNumber", "FreshnessProof", "CurrentProof", "CurrentCommitmentNumber", });
+    internal_static_serialization_generated_ModificationProof_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_serialization_generated_ModificationProof_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_ModificationProof_descriptor,
+        new java.lang.String[] { "Modification", "Index", "NumberOfModifications", "Path", "ValidAtCommitmentNumber", "Signatures", });
+    internal_static_serialization_generated_CommitmentProof_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_serialization_generated_CommitmentProof_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_CommitmentProof_descriptor,
+        new java.lang.String[] { "Commitment", "CommitmentNumber", "NumberOfCommitments", "Path", "OtherPeaks", });
     internal_static_serialization_generated_ADSProofUpdates_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_serialization_generated_ADSProofUpdates_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_ADSProofUpdates_descriptor,
         new java.lang.String[] { "Updates", });
     internal_static_serialization_generated_ADSModification_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_serialization_generated_ADSModification_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_ADSModification_descriptor,
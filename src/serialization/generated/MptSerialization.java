@@ -70,6 +70,19 @@ public final class MptSerialization {
      */
     serialization.generated.MptSerialization.EmptyLeafOrBuilder getEmptyleafOrBuilder();
 
+    /**
+     * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+     */
+    boolean hasVersionedLeaf();
+    /**
+     * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+     */
+    serialization.generated.MptSerialization.VersionedLeaf getVersionedLeaf();
+    /**
+     * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+     */
+    serialization.generated.MptSerialization.VersionedLeafOrBuilder getVersionedLeafOrBuilder();
+
     public serialization.generated.MptSerialization.Node.NodeCase getNodeCase();
   }
   /**
@@ -179,6 +192,20 @@ public final class MptSerialization {
               nodeCase_ = 4;
               break;
             }
+            case 42: {
+              serialization.generated.MptSerialization.VersionedLeaf.Builder subBuilder = null;
+              if (nodeCase_ == 5) {
+                subBuilder = ((serialization.generated.MptSerialization.VersionedLeaf) node_).toBuilder();
+              }
+              node_ =
+                  input.readMessage(serialization.generated.MptSerialization.VersionedLeaf.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((serialization.generated.MptSerialization.VersionedLeaf) node_);
+                node_ = subBuilder.buildPartial();
+              }
+              nodeCase_ = 5;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -211,6 +238,7 @@ public final class MptSerialization {
       LEAF(2),
       STUB(3),
       EMPTYLEAF(4),
+      VERSIONED_LEAF(5),
       NODE_NOT_SET(0);
       private final int value;
       private NodeCase(int value) {
@@ -230,6 +258,7 @@ public final class MptSerialization {
           case 2: return LEAF;
           case 3: return STUB;
           case 4: return EMPTYLEAF;
+          case 5: return VERSIONED_LEAF;
           case 0: return NODE_NOT_SET;
           default: return null;
         }
@@ -349,6 +378,32 @@ public final class MptSerialization {
       return serialization.generated.MptSerialization.EmptyLeaf.getDefaultInstance();
     }
 
+    public static final int VERSIONED_LEAF_FIELD_NUMBER = 5;
+    /**
+     * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+     */
+    public boolean hasVersionedLeaf() {
+      return nodeCase_ == 5;
+    }
+    /**
+     * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+     */
+    public serialization.generated.MptSerialization.VersionedLeaf getVersionedLeaf() {
+      if (nodeCase_ == 5) {
+         return (serialization.generated.MptSerialization.VersionedLeaf) node_;
+      }
+      return serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance();
+    }
+    /**
+     * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+     */
+    public serialization.generated.MptSerialization.VersionedLeafOrBuilder getVersionedLeafOrBuilder() {
+      if (nodeCase_ == 5) {
+         return (serialization.generated.MptSerialization.VersionedLeaf) node_;
+      }
+      return serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance();
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -373,6 +428,9 @@ public final class MptSerialization {
       if (nodeCase_ == 4) {
         output.writeMessage(4, (serialization.generated.MptSerialization.EmptyLeaf) node_);
       }
+      if (nodeCase_ == 5) {
+        output.writeMessage(5, (serialization.generated.MptSerialization.VersionedLeaf) node_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -397,6 +455,10 @@ public final class MptSerialization {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, (serialization.generated.MptSerialization.EmptyLeaf) node_);
       }
+      if (nodeCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, (serialization.generated.MptSerialization.VersionedLeaf) node_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -433,6 +495,10 @@ public final class MptSerialization {
           result = result && getEmptyleaf()
               .equals(other.getEmptyleaf());
           break;
+        case 5:
+          result = result && getVersionedLeaf()
+              .equals(other.getVersionedLeaf());
+          break;
         case 0:
         default:
       }
@@ -464,6 +530,10 @@ public final class MptSerialization {
           hash = (37 * hash) + EMPTYLEAF_FIELD_NUMBER;
           hash = (53 * hash) + getEmptyleaf().hashCode();
           break;
+        case 5:
+          hash = (37 * hash) + VERSIONED_LEAF_FIELD_NUMBER;
+          hash = (53 * hash) + getVersionedLeaf().hashCode();
+          break;
         case 0:
         default:
       }
@@ -653,6 +723,13 @@ public final class MptSerialization {
             result.node_ = emptyleafBuilder_.build();
           }
         }
+        if (nodeCase_ == 5) {
+          if (versionedLeafBuilder_ == null) {
+            result.node_ = node_;
+          } else {
+            result.node_ = versionedLeafBuilder_.build();
+          }
+        }
         result.nodeCase_ = nodeCase_;
         onBuilt();
         return result;
@@ -712,6 +789,10 @@ public final class MptSerialization {
             mergeEmptyleaf(other.getEmptyleaf());
             break;
           }
+          case VERSIONED_LEAF: {
+            mergeVersionedLeaf(other.getVersionedLeaf());
+            break;
+          }
           case NODE_NOT_SET: {
             break;
           }
@@ -1301,6 +1382,142 @@ public final class MptSerialization {
         onChanged();;
         return emptyleafBuilder_;
       }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.MptSerialization.VersionedLeaf, serialization.generated.MptSerialization.VersionedLeaf.Builder, serialization.generated.MptSerialization.VersionedLeafOrBuilder> versionedLeafBuilder_;
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      public boolean hasVersionedLeaf() {
+        return nodeCase_ == 5;
+      }
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      public serialization.generated.MptSerialization.VersionedLeaf getVersionedLeaf() {
+        if (versionedLeafBuilder_ == null) {
+          if (nodeCase_ == 5) {
+            return (serialization.generated.MptSerialization.VersionedLeaf) node_;
+          }
+          return serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance();
+        } else {
+          if (nodeCase_ == 5) {
+            return versionedLeafBuilder_.getMessage();
+          }
+          return serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      public Builder setVersionedLeaf(serialization.generated.MptSerialization.VersionedLeaf value) {
+        if (versionedLeafBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          node_ = value;
+          onChanged();
+        } else {
+          versionedLeafBuilder_.setMessage(value);
+        }
+        nodeCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      public Builder setVersionedLeaf(
+          serialization.generated.MptSerialization.VersionedLeaf.Builder builderForValue) {
+        if (versionedLeafBuilder_ == null) {
+          node_ = builderForValue.build();
+          onChanged();
+        } else {
+          versionedLeafBuilder_.setMessage(builderForValue.build());
+        }
+        nodeCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      public Builder mergeVersionedLeaf(serialization.generated.MptSerialization.VersionedLeaf value) {
+        if (versionedLeafBuilder_ == null) {
+          if (nodeCase_ == 5 &&
+              node_ != serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance()) {
+            node_ = serialization.generated.MptSerialization.VersionedLeaf.newBuilder((serialization.generated.MptSerialization.VersionedLeaf) node_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            node_ = value;
+          }
+          onChanged();
+        } else {
+          if (nodeCase_ == 5) {
+            versionedLeafBuilder_.mergeFrom(value);
+          }
+          versionedLeafBuilder_.setMessage(value);
+        }
+        nodeCase_ = 5;
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      public Builder clearVersionedLeaf() {
+        if (versionedLeafBuilder_ == null) {
+          if (nodeCase_ == 5) {
+            nodeCase_ = 0;
+            node_ = null;
+            onChanged();
+          }
+        } else {
+          if (nodeCase_ == 5) {
+            nodeCase_ = 0;
+            node_ = null;
+          }
+          versionedLeafBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      public serialization.generated.MptSerialization.VersionedLeaf.Builder getVersionedLeafBuilder() {
+        return getVersionedLeafFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      public serialization.generated.MptSerialization.VersionedLeafOrBuilder getVersionedLeafOrBuilder() {
+        if ((nodeCase_ == 5) && (versionedLeafBuilder_ != null)) {
+          return versionedLeafBuilder_.getMessageOrBuilder();
+        } else {
+          if (nodeCase_ == 5) {
+            return (serialization.generated.MptSerialization.VersionedLeaf) node_;
+          }
+          return serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.serialization.generated.VersionedLeaf versioned_leaf = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          serialization.generated.MptSerialization.VersionedLeaf, serialization.generated.MptSerialization.VersionedLeaf.Builder, serialization.generated.MptSerialization.VersionedLeafOrBuilder> 
+          getVersionedLeafFieldBuilder() {
+        if (versionedLeafBuilder_ == null) {
+          if (!(nodeCase_ == 5)) {
+            node_ = serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance();
+          }
+          versionedLeafBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              serialization.generated.MptSerialization.VersionedLeaf, serialization.generated.MptSerialization.VersionedLeaf.Builder, serialization.generated.MptSerialization.VersionedLeafOrBuilder>(
+                  (serialization.generated.MptSerialization.VersionedLeaf) node_,
+                  getParentForChildren(),
+                  isClean());
+          node_ = null;
+        }
+        nodeCase_ = 5;
+        onChanged();;
+        return versionedLeafBuilder_;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFieldsProto3(unknownFields);
@@ -3138,28 +3355,48 @@ public final class MptSerialization {
 
   }
 
-  public interface EmptyLeafOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:serialization.generated.EmptyLeaf)
+  public interface VersionedLeafOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.VersionedLeaf)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bytes key = 1;</code>
+     */
+    com.google.protobuf.ByteString getKey();
+
+    /**
+     * <code>bytes value = 2;</code>
+     */
+    com.google.protobuf.ByteString getValue();
+
+    /**
+     * <code>int32 version = 3;</code>
+     */
+    int getVersion();
   }
   /**
    * <pre>
    **
-   *	Empty Leaf
+   *	Leaf in the tree that also commits to 
+   *	the commitment number (version) at which
+   *	the value was last changed
    * </pre>
    *
-   * Protobuf type {@code serialization.generated.EmptyLeaf}
+   * Protobuf type {@code serialization.generated.VersionedLeaf}
    */
-  public  static final class EmptyLeaf extends
+  public  static final class VersionedLeaf extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:serialization.generated.EmptyLeaf)
-      EmptyLeafOrBuilder {
+      // @@protoc_insertion_point(message_implements:serialization.generated.VersionedLeaf)
+      VersionedLeafOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use EmptyLeaf.newBuilder() to construct.
-    private EmptyLeaf(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use VersionedLeaf.newBuilder() to construct.
+    private VersionedLeaf(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private EmptyLeaf() {
+    private VersionedLeaf() {
+      key_ = com.google.protobuf.ByteString.EMPTY;
+      value_ = com.google.protobuf.ByteString.EMPTY;
+      version_ = 0;
     }
 
     @java.lang.Override
@@ -3167,7 +3404,7 @@ public final class MptSerialization {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private EmptyLeaf(
+    private VersionedLeaf(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3175,6 +3412,7 @@ public final class MptSerialization {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -3192,6 +3430,21 @@ public final class MptSerialization {
               }
               break;
             }
+            case 10: {
+
+              key_ = input.readBytes();
+              break;
+            }
+            case 18: {
+
+              value_ = input.readBytes();
+              break;
+            }
+            case 24: {
+
+              version_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -3206,14 +3459,41 @@ public final class MptSerialization {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_descriptor;
+      return serialization.generated.MptSerialization.internal_static_serialization_generated_VersionedLeaf_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_fieldAccessorTable
+      return serialization.generated.MptSerialization.internal_static_serialization_generated_VersionedLeaf_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              serialization.generated.MptSerialization.EmptyLeaf.class, serialization.generated.MptSerialization.EmptyLeaf.Builder.class);
+              serialization.generated.MptSerialization.VersionedLeaf.class, serialization.generated.MptSerialization.VersionedLeaf.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString key_;
+    /**
+     * <code>bytes key = 1;</code>
+     */
+    public com.google.protobuf.ByteString getKey() {
+      return key_;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString value_;
+    /**
+     * <code>bytes value = 2;</code>
+     */
+    public com.google.protobuf.ByteString getValue() {
+      return value_;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 3;
+    private int version_;
+    /**
+     * <code>int32 version = 3;</code>
+     */
+    public int getVersion() {
+      return version_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3228,6 +3508,15 @@ public final class MptSerialization {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (!key_.isEmpty()) {
+        output.writeBytes(1, key_);
+      }
+      if (!value_.isEmpty()) {
+        output.writeBytes(2, value_);
+      }
+      if (version_ != 0) {
+        output.writeInt32(3, version_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -3236,6 +3525,18 @@ public final class MptSerialization {
       if (size != -1) return size;
 
       size = 0;
+      if (!key_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, key_);
+      }
+      if (!value_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, value_);
+      }
+      if (version_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, version_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3246,12 +3547,18 @@ public final class MptSerialization {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof serialization.generated.MptSerialization.EmptyLeaf)) {
+      if (!(obj instanceof serialization.generated.MptSerialization.VersionedLeaf)) {
         return super.equals(obj);
       }
-      serialization.generated.MptSerialization.EmptyLeaf other = (serialization.generated.MptSerialization.EmptyLeaf) obj;
+      serialization.generated.MptSerialization.VersionedLeaf other = (serialization.generated.MptSerialization.VersionedLeaf) obj;
 
       boolean result = true;
+      result = result && getKey()
+          .equals(other.getKey());
+      result = result && getValue()
+          .equals(other.getValue());
+      result = result && (getVersion()
+          == other.getVersion());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -3263,74 +3570,80 @@ public final class MptSerialization {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(byte[] data)
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(java.io.InputStream input)
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseDelimitedFrom(java.io.InputStream input)
+    public static serialization.generated.MptSerialization.VersionedLeaf parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseDelimitedFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+    public static serialization.generated.MptSerialization.VersionedLeaf parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3342,7 +3655,7 @@ public final class MptSerialization {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(serialization.generated.MptSerialization.EmptyLeaf prototype) {
+    public static Builder newBuilder(serialization.generated.MptSerialization.VersionedLeaf prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3359,28 +3672,30 @@ public final class MptSerialization {
     /**
      * <pre>
      **
-     *	Empty Leaf
+     *	Leaf in the tree that also commits to 
+     *	the commitment number (version) at which
+     *	the value was last changed
      * </pre>
      *
-     * Protobuf type {@code serialization.generated.EmptyLeaf}
+     * Protobuf type {@code serialization.generated.VersionedLeaf}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:serialization.generated.EmptyLeaf)
-        serialization.generated.MptSerialization.EmptyLeafOrBuilder {
+        // @@protoc_insertion_point(builder_implements:serialization.generated.VersionedLeaf)
+        serialization.generated.MptSerialization.VersionedLeafOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_descriptor;
+        return serialization.generated.MptSerialization.internal_static_serialization_generated_VersionedLeaf_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_fieldAccessorTable
+        return serialization.generated.MptSerialization.internal_static_serialization_generated_VersionedLeaf_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                serialization.generated.MptSerialization.EmptyLeaf.class, serialization.generated.MptSerialization.EmptyLeaf.Builder.class);
+                serialization.generated.MptSerialization.VersionedLeaf.class, serialization.generated.MptSerialization.VersionedLeaf.Builder.class);
       }
 
-      // Construct using serialization.generated.MptSerialization.EmptyLeaf.newBuilder()
+      // Construct using serialization.generated.MptSerialization.VersionedLeaf.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3397,28 +3712,37 @@ public final class MptSerialization {
       }
       public Builder clear() {
         super.clear();
+        key_ = com.google.protobuf.ByteString.EMPTY;
+
+        value_ = com.google.protobuf.ByteString.EMPTY;
+
+        version_ = 0;
+
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_descriptor;
+        return serialization.generated.MptSerialization.internal_static_serialization_generated_VersionedLeaf_descriptor;
       }
 
-      public serialization.generated.MptSerialization.EmptyLeaf getDefaultInstanceForType() {
-        return serialization.generated.MptSerialization.EmptyLeaf.getDefaultInstance();
+      public serialization.generated.MptSerialization.VersionedLeaf getDefaultInstanceForType() {
+        return serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance();
       }
 
-      public serialization.generated.MptSerialization.EmptyLeaf build() {
-        serialization.generated.MptSerialization.EmptyLeaf result = buildPartial();
+      public serialization.generated.MptSerialization.VersionedLeaf build() {
+        serialization.generated.MptSerialization.VersionedLeaf result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public serialization.generated.MptSerialization.EmptyLeaf buildPartial() {
-        serialization.generated.MptSerialization.EmptyLeaf result = new serialization.generated.MptSerialization.EmptyLeaf(this);
+      public serialization.generated.MptSerialization.VersionedLeaf buildPartial() {
+        serialization.generated.MptSerialization.VersionedLeaf result = new serialization.generated.MptSerialization.VersionedLeaf(this);
+        result.key_ = key_;
+        result.value_ = value_;
+        result.version_ = version_;
         onBuilt();
         return result;
       }
@@ -3450,16 +3774,25 @@ public final class MptSerialization {
         return (Builder) super.addRepeatedField(field, value);
       }
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof serialization.generated.MptSerialization.EmptyLeaf) {
-          return mergeFrom((serialization.generated.MptSerialization.EmptyLeaf)other);
+        if (other instanceof serialization.generated.MptSerialization.VersionedLeaf) {
+          return mergeFrom((serialization.generated.MptSerialization.VersionedLeaf)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(serialization.generated.MptSerialization.EmptyLeaf other) {
-        if (other == serialization.generated.MptSerialization.EmptyLeaf.getDefaultInstance()) return this;
+      public Builder mergeFrom(serialization.generated.MptSerialization.VersionedLeaf other) {
+        if (other == serialization.generated.MptSerialization.VersionedLeaf.getDefaultInstance()) return this;
+        if (other.getKey() != com.google.protobuf.ByteString.EMPTY) {
+          setKey(other.getKey());
+        }
+        if (other.getValue() != com.google.protobuf.ByteString.EMPTY) {
+          setValue(other.getValue());
+        }
+        if (other.getVersion() != 0) {
+          setVersion(other.getVersion());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -3473,11 +3806,11 @@ public final class MptSerialization {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        serialization.generated.MptSerialization.EmptyLeaf parsedMessage = null;
+        serialization.generated.MptSerialization.VersionedLeaf parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (serialization.generated.MptSerialization.EmptyLeaf) e.getUnfinishedMessage();
+          parsedMessage = (serialization.generated.MptSerialization.VersionedLeaf) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3486,10 +3819,491 @@ public final class MptSerialization {
         }
         return this;
       }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFieldsProto3(unknownFields);
-      }
+
+      private com.google.protobuf.ByteString key_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes key = 1;</code>
+       */
+      public com.google.protobuf.ByteString getKey() {
+        return key_;
+      }
+      /**
+       * <code>bytes key = 1;</code>
+       */
+      public Builder setKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes key = 1;</code>
+       */
+      public Builder clearKey() {
+        
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public com.google.protobuf.ByteString getValue() {
+        return value_;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public Builder setValue(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes value = 2;</code>
+       */
+      public Builder clearValue() {
+        
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+
+      private int version_ ;
+      /**
+       * <code>int32 version = 3;</code>
+       */
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <code>int32 version = 3;</code>
+       */
+      public Builder setVersion(int value) {
+        
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 version = 3;</code>
+       */
+      public Builder clearVersion() {
+        
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:serialization.generated.VersionedLeaf)
+    }
+
+    // @@protoc_insertion_point(class_scope:serialization.generated.VersionedLeaf)
+    private static final serialization.generated.MptSerialization.VersionedLeaf DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new serialization.generated.MptSerialization.VersionedLeaf();
+    }
+
+    public static serialization.generated.MptSerialization.VersionedLeaf getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<VersionedLeaf>
+        PARSER = new com.google.protobuf.AbstractParser<VersionedLeaf>() {
+      public VersionedLeaf parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VersionedLeaf(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<VersionedLeaf> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VersionedLeaf> getParserForType() {
+      return PARSER;
+    }
+
+    public serialization.generated.MptSerialization.VersionedLeaf getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EmptyLeafOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:serialization.generated.EmptyLeaf)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * <pre>
+   **
+   *	Empty Leaf
+   * </pre>
+   *
+   * Protobuf type {@code serialization.generated.EmptyLeaf}
+   */
+  public  static final class EmptyLeaf extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:serialization.generated.EmptyLeaf)
+      EmptyLeafOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EmptyLeaf.newBuilder() to construct.
+    private EmptyLeaf(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EmptyLeaf() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EmptyLeaf(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownFieldProto3(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              serialization.generated.MptSerialization.EmptyLeaf.class, serialization.generated.MptSerialization.EmptyLeaf.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof serialization.generated.MptSerialization.EmptyLeaf)) {
+        return super.equals(obj);
+      }
+      serialization.generated.MptSerialization.EmptyLeaf other = (serialization.generated.MptSerialization.EmptyLeaf) obj;
+
+      boolean result = true;
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static serialization.generated.MptSerialization.EmptyLeaf parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(serialization.generated.MptSerialization.EmptyLeaf prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     *	Empty Leaf
+     * </pre>
+     *
+     * Protobuf type {@code serialization.generated.EmptyLeaf}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:serialization.generated.EmptyLeaf)
+        serialization.generated.MptSerialization.EmptyLeafOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                serialization.generated.MptSerialization.EmptyLeaf.class, serialization.generated.MptSerialization.EmptyLeaf.Builder.class);
+      }
+
+      // Construct using serialization.generated.MptSerialization.EmptyLeaf.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return serialization.generated.MptSerialization.internal_static_serialization_generated_EmptyLeaf_descriptor;
+      }
+
+      public serialization.generated.MptSerialization.EmptyLeaf getDefaultInstanceForType() {
+        return serialization.generated.MptSerialization.EmptyLeaf.getDefaultInstance();
+      }
+
+      public serialization.generated.MptSerialization.EmptyLeaf build() {
+        serialization.generated.MptSerialization.EmptyLeaf result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public serialization.generated.MptSerialization.EmptyLeaf buildPartial() {
+        serialization.generated.MptSerialization.EmptyLeaf result = new serialization.generated.MptSerialization.EmptyLeaf(this);
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof serialization.generated.MptSerialization.EmptyLeaf) {
+          return mergeFrom((serialization.generated.MptSerialization.EmptyLeaf)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(serialization.generated.MptSerialization.EmptyLeaf other) {
+        if (other == serialization.generated.MptSerialization.EmptyLeaf.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        serialization.generated.MptSerialization.EmptyLeaf parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (serialization.generated.MptSerialization.EmptyLeaf) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFieldsProto3(unknownFields);
+      }
 
       public final Builder mergeUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4147,6 +4961,11 @@ public final class MptSerialization {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_serialization_generated_Leaf_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_serialization_generated_VersionedLeaf_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_serialization_generated_VersionedLeaf_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_serialization_generated_EmptyLeaf_descriptor;
   private static final 
@@ -4167,19 +4986,22 @@ public final class MptSerialization {
   static {
     java.lang.String[] descriptorData = {
       "\n\020protos/mpt.proto\022\027serialization.genera" +
-      "ted\"\345\001\n\004Node\022>\n\rinterior_node\030\001 \001(\0132%.se" +
+      "ted\"\247\002\n\004Node\022>\n\rinterior_node\030\001 \001(\0132%.se" +
       "rialization.generated.InteriorNodeH\000\022-\n\004" +
       "leaf\030\002 \001(\0132\035.serialization.generated.Lea" +
       "fH\000\022-\n\004stub\030\003 \001(\0132\035.serialization.genera" +
       "ted.StubH\000\0227\n\temptyleaf\030\004 \001(\0132\".serializ" +
-      "ation.generated.EmptyLeafH\000B\006\n\004node\"\024\n\004S" +
-      "tub\022\014\n\004hash\030\001 \001(\014\"i\n\014InteriorNode\022+\n\004lef" +
-      "t\030\001 \001(\0132\035.serialization.generated.Node\022," +
-      "\n\005right\030\002 \001(\0132\035.serialization.generated." +
-      "Node\"\"\n\004Leaf\022\013\n\003key\030\001 \001(\014\022\r\n\005value\030\002 \001(\014" +
-      "\"\013\n\tEmptyLeaf\"?\n\020MerklePrefixTrie\022+\n\004roo" +
-      "t\030\001 \001(\0132\035.serialization.generated.NodeB\022" +
-      "B\020MptSerializationb\006proto3"
+      "ation.generated.EmptyLeafH\000\022@\n\016versioned" +
+      "_leaf\030\005 \001(\0132&.serialization.generated.Ve" +
+      "rsionedLeafH\000B\006\n\004node\"\024\n\004Stub\022\014\n\004hash\030\001 " +
+      "\001(\014\"i\n\014InteriorNode\022+\n\004left\030\001 \001(\0132\035.seri" +
+      "alization.generated.Node\022,\n\005right\030\002 \001(\0132" +
+      "\035.serialization.generated.Node\"\"\n\004Leaf\022\013" +
+      "\n\003key\030\001 \001(\014\022\r\n\005value\030\002 \001(\014\"<\n\rVersionedL" +
+      "eaf\022\013\n\003key\030\001 \001(\014\022\r\n\005value\030\002 \001(\014\022\017\n\007versi" +
+      "on\030\003 \001(\005\"\013\n\tEmptyLeaf\"?\n\020MerklePrefixTri" +
+      "e\022+\n\004root\030\001 \001(\0132\035.serialization.generate" +
+      "d.NodeB\022B\020MptSerializationb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -4198,7 +5020,7 @@ public final class MptSerialization {
     internal_static_serialization_generated_Node_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_Node_descriptor,
-        new java.lang.String[] { "InteriorNode", "Leaf", "Stub", "Emptyleaf", "Node", });
+        new java.lang.String[] { "InteriorNode", "Leaf", "Stub", "Emptyleaf", "VersionedLeaf", "Node", });
     internal_static_serialization_generated_Stub_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_serialization_generated_Stub_fieldAccessorTable = new
@@ -4217,14 +5039,20 @@ public final class MptSerialization {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_Leaf_descriptor,
         new java.lang.String[] { "Key", "Value", });
-    internal_static_serialization_generated_EmptyLeaf_descriptor =
+    internal_static_serialization_generated_VersionedLeaf_descriptor =
       getDescriptor().getMessageTypes().get(4);
+    internal_static_serialization_generated_VersionedLeaf_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_serialization_generated_VersionedLeaf_descriptor,
+        new java.lang.String[] { "Key", "Value", "Version", });
+    internal_static_serialization_generated_EmptyLeaf_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_serialization_generated_EmptyLeaf_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_EmptyLeaf_descriptor,
         new java.lang.String[] { });
     internal_static_serialization_generated_MerklePrefixTrie_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_serialization_generated_MerklePrefixTrie_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_serialization_generated_MerklePrefixTrie_descriptor,
@@ -0,0 +1,118 @@
+package server;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * (IMMUTABLE)
+ *
+ * Interns the ADS IDs: each ADS ID is mapped once to a dense
+ * int handle (0, 1, ..., size()-1) so that the rest of the
+ * server can store information about the ADSes in arrays indexed
+ * by the handle, instead of in maps keyed by the ADS ID.
+ *
+ * The ADS IDs are stored contiguously in a single array
+ * and found using open-addressing (with linear probing).
+ * Handles are assigned in the order the ADS IDs are provided.
+ *
+ * @author henryaspegren
+ *
+ */
+public class ADSIdTable {
+
+	public static final int NO_HANDLE = -1;
+
+	private final int idSize;
+	// the ADS ID for handle h is stored at [h*idSize, (h+1)*idSize)
+	private final byte[] adsIds;
+	private final int size;
+
+	// slot -> handle+1 (0 if the slot is empty)
+	private final int mask;
+	private final int[] slots;
+
+	/**
+	 * Create the table. Duplicate ADS IDs are only assigned a
+	 * single handle.
+	 * @param adsIds - the ADS IDs (all of the same size)
+	 * @param idSize - the size of the ADS IDs
+	 */
+	public ADSIdTable(Collection<byte[]> adsIds, int idSize) {
+		this.idSize = idSize;
+		// at most half full
+		int capacity = Integer.highestOneBit(Math.max(2*adsIds.size(), 2)-1) << 1;
+		this.mask = capacity-1;
+		this.slots = new int[capacity];
+		byte[] ids = new byte[adsIds.size()*idSize];
+		int size = 0;
+		for(byte[] adsId : adsIds) {
+			if(adsId.length != idSize) {
+				throw new RuntimeException("ADS ID has the wrong size");
+			}
+			int slot = this.probe(ids, adsId);
+			if(this.slots[slot] == 0) {
+				System.arraycopy(adsId, 0, ids, size*idSize, idSize);
+				size++;
+				this.slots[slot] = size;
+			}
+		}
+		this.adsIds = Arrays.copyOf(ids, size*idSize);
+		this.size = size;
+	}
+
+	/**
+	 * Returns the slot with the ADS ID or the empty
+	 * slot where it would be inserted
+	 */
+	private int probe(byte[] ids, byte[] adsId) {
+		// ADS IDs are hashes, so the first bytes are uniformly distributed
+		int slot = ((adsId[0] & 0xff) << 24 | (adsId[1] & 0xff) << 16 |
+				(adsId[2] & 0xff) << 8 | (adsId[3] & 0xff)) & this.mask;
+		while(this.slots[slot] != 0 && !this.idEquals(ids, this.slots[slot]-1, adsId)) {
+			slot = (slot+1) & this.mask;
+		}
+		return slot;
+	}
+
+	private boolean idEquals(byte[] ids, int handle, byte[] adsId) {
+		int offset = handle*this.idSize;
+		for(int i = 0; i < this.idSize; i++) {
+			if(ids[offset+i] != adsId[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the handle for the ADS ID
+	 * (or NO_HANDLE if the ADS ID is not in the table)
+	 * @param adsId
+	 * @return
+	 */
+	public int getHandle(byte[] adsId) {
+		if(adsId.length != this.idSize) {
+			return NO_HANDLE;
+		}
+		return this.slots[this.probe(this.adsIds, adsId)]-1;
+	}
+
+	/**
+	 * Returns the ADS ID for the handle
+	 * @param handle
+	 * @return
+	 */
+	public byte[] getADSId(int handle) {
+		return Arrays.copyOfRange(this.adsIds, handle*this.idSize, (handle+1)*this.idSize);
+	}
+
+	/**
+	 * Returns the number of ADS IDs (handles are
+	 * 0, 1, ..., size()-1)
+	 * @return
+	 */
+	public int size() {
+		return this.size;
+	}
+
+}
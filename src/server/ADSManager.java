@@ -1,27 +1,57 @@
 package server;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.PublicKey;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+
+import client.Request;
+import crpyto.CryptographicDigest;
+import crpyto.CryptographicSignature;
+import crpyto.CryptographicUtils;
+import crpyto.MerkleMountainRange;
+
+import mpt.core.InvalidSerializationException;
 import mpt.core.Utils;
+import mpt.dictionary.AuthenticatedDictionaryChanges;
 import mpt.dictionary.MPTDictionaryDelta;
+import mpt.dictionary.MPTDictionaryDeltaArena;
 import mpt.dictionary.MPTDictionaryFull;
 import mpt.dictionary.MPTDictionaryPartial;
+import mpt.dictionary.MPTDictionaryPathExtractor;
+import mpt.dictionary.MPTDictionarySharded;
 import pki.Account;
 import pki.PKIDirectory;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSModification;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof;
+import serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof;
+import serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof;
+import serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.ModificationProof;
 import serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootResponse;
 import serialization.generated.BVerifyAPIMessageSerialization.Update;
 import serialization.generated.MptSerialization.MerklePrefixTrie;
 
@@ -48,9 +78,71 @@ public class ADSManager {
 	// in the current implementation this stores only the 
 	// proof that an update was performed at a given time
 	// and the "freshness" proofs are calculated on demand
-	// using the saved deltas
-	private final Map<ByteBuffer, ADSRootProof> adsRootProofs;
-	private final List<MPTDictionaryDelta> deltas;
+	// using the saved deltas. 
+	// The proof that an update was performed is itself only
+	// created when it is first requested (see LazyProof).
+	// The (serialized) proofs are kept off-heap and are shared
+	// by all of the ADSes in an update (see ADSProofStore)
+	private final ADSProofStore adsRootProofs;
+	private final List<AuthenticatedDictionaryChanges> deltas;
+	
+	// the ADS handles of the lazy proofs created at each commitment 
+	// (all of the ADSes in each update, since the proof is needed 
+	// as long as any of them still has it). These are created from 
+	// the delta, so they must be created before the delta is 
+	// compacted or discarded
+	private final List<int[]> lazyProofsByCommitment;
+	
+	// old deltas are compacted (see compactDeltas), 
+	// all deltas before this commitment are compacted
+	private int compactedUpTo;
+	
+	// if positive, only the deltas for the most recent 
+	// retentionHorizon commitments are kept and older 
+	// deltas are discarded. Before a proof would need a 
+	// discarded delta, the ADS gets a checkpoint proof: 
+	// the path at the current commitment along with a 
+	// signature from the server that the ADS root has not 
+	// changed since the last update. Freshness proofs then
+	// start from the checkpoint.
+	private final int retentionHorizon;
+	// all deltas before this commitment are discarded
+	private int retainedFrom;
+	// (with versioned leaves no checkpoints are needed)
+	// the ADS handles whose proof starts at (was last updated 
+	// or checkpointed at) each commitment. Entries can be stale 
+	private final List<int[]> proofsByCommitment;
+	private final KeyPair serverKeys;
+	private final boolean checkpoints;
+	// the checkpoints are signed on commit, so they are
+	// spread across commits (see createCheckpointProofs)
+	private static final int MAX_CHECKPOINTS_PER_COMMIT = 10000;
+	
+	// if true the updates in each delta are precomputed 
+	// on commit (see MPTDictionaryDelta.precomputeUpdates)
+	// so freshness proofs reuse them instead of walking the delta
+	private final boolean precomputeUpdates;
+	
+	// a bounded (least recently used) cache of complete 
+	// proofs, including the freshness proofs. When the 
+	// commitments advance a cached proof is extended with 
+	// just the freshness proofs for the new commitments 
+	// instead of being rebuilt from the last update. 
+	// Entries are removed when the ADS is updated.
+	// The proofs are kept serialized (see getADSRootProofBytes)
+	private static final int MAX_CACHED_PROOFS = 10000;
+	private final Map<Integer, CachedProof> cachedProofs;
+	
+	// the proof requests for each ADS are counted (approximately) 
+	// and after each commit the complete serialized responses 
+	// for the most requested ADSes are precomputed 
+	// (see precomputeHotProofs), so that ADSes polled after 
+	// every commitment are served a ready response. 
+	// The responses are cleared on commit.
+	private static final int HOT_PROOFS = 1000;
+	private static final int HOT_PROOF_MIN_REQUESTS = 2;
+	private final ADSRequestSketch proofRequests;
+	private final Map<Integer, byte[]> precomputedResponses;
 	
 	// for efficiency reasons we batch updates
 	// updates are added to the authentication tree as they occur
@@ -62,51 +154,170 @@ public class ADSManager {
 	// we store a list of commitments
 	// normally these would be witnessed to Bitcoin
 	private List<byte[]> commitments;
+	// and an accumulator over the commitments, so that 
+	// clients can check a commitment is part of the history 
+	// (see MerkleMountainRange)
+	private final MerkleMountainRange commitmentHistory;
 
 	// helper information (CONSTANT MAPPINGS)
-	// Java NOTE: cannot use byte[] as a key since
-	//				implements referential equality so
-	//				instead we wrap it with a string
+	// each ADS ID is mapped once to a dense handle
+	// (see ADSIdTable) and information about the 
+	// ADS is stored in arrays indexed by the handle
+	private final ADSIdTable adsIds;
+	// handle -> owners 
 	// account list is canonically sorted 
-	private final Map<ByteBuffer, Set<Account>> adsIdToOwners;
+	private final Account[][] adsOwners;
+	// account id -> the ADS IDs it owns
+	private final Map<String, List<byte[]>> accountADSIds;
+	
+	// if true the ADS roots are stored in versioned leaves
+	// which also commit to the commitment number at which
+	// the root was last changed. This lets a client check 
+	// freshness with just the current path instead of one 
+	// path per commitment since the last update.
+	// In this mode the staged updates are only applied
+	// to the auth ADS on commit, so that the current 
+	// paths can be read concurrently with stageUpdate
+	private final boolean versionedLeaves;
+	
+	// if positive the auth ADS is a MPTDictionarySharded split on 
+	// this many bits of the ADS ID, so the staged updates are 
+	// inserted and hashed in parallel by the shards on commit.
+	// In this mode the staged updates are also only applied on 
+	// commit, since the shards apply them asynchronously
+	private final int shardPrefixBits;
 	
 	public ADSManager(PKIDirectory pki) {
+		this(pki, false);
+	}
+	
+	public ADSManager(PKIDirectory pki, boolean versionedLeaves) {
+		this(pki, versionedLeaves, 0);
+	}
+	
+	public ADSManager(PKIDirectory pki, boolean versionedLeaves, int retentionHorizon) {
+		this(pki, versionedLeaves, retentionHorizon, false);
+	}
+	
+	public ADSManager(PKIDirectory pki, boolean versionedLeaves, int retentionHorizon, 
+			boolean precomputeUpdates) {
+		this(pki, versionedLeaves, retentionHorizon, precomputeUpdates, 0);
+	}
+	
+	public ADSManager(PKIDirectory pki, boolean versionedLeaves, int retentionHorizon, 
+			boolean precomputeUpdates, int shardPrefixBits) {
+		this.versionedLeaves = versionedLeaves;
+		this.shardPrefixBits = shardPrefixBits;
+		this.precomputeUpdates = precomputeUpdates;
+		this.retentionHorizon = retentionHorizon;
+		this.retainedFrom = 0;
+		this.proofsByCommitment = new ArrayList<>();
+		this.checkpoints = retentionHorizon > 0 && !versionedLeaves;
+		this.serverKeys = this.checkpoints ? CryptographicSignature.generateNewKeyPair() : null;
 		this.stagedUpdates = new ArrayList<>();
-		this.adsRootProofs = new HashMap<>();
+		this.lazyProofsByCommitment = new ArrayList<>();
+		this.cachedProofs = new LinkedHashMap<Integer, CachedProof>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, CachedProof> eldest) {
+				return this.size() > MAX_CACHED_PROOFS;
+			}
+		};
+		this.proofRequests = new ADSRequestSketch(16, 4*HOT_PROOFS);
+		this.precomputedResponses = new ConcurrentHashMap<>();
 		this.deltas = new ArrayList<>();
+		this.compactedUpTo = 0;
 		this.commitments = new ArrayList<>();		
-		this.adsIdToOwners = new HashMap<>();
+		this.commitmentHistory = new MerkleMountainRange();
 		
-		// (1) create a mapping from ADS_ID -> sorted [owners]
+		// (1) assign a handle to each ADS_ID 
+		// and create a mapping from handle -> sorted [owners]
 		Set<Account> accounts = pki.getAllAccounts();
+		List<byte[]> allAdsIds = new ArrayList<>();
 		for(Account a : accounts) {
-			Set<byte[]> adsIds = a.getADSKeys();
-			for(byte[] adsId : adsIds) {
-				ByteBuffer key = ByteBuffer.wrap(adsId);
-				Set<Account> accs = this.adsIdToOwners.get(key);
-				if(accs == null) {
-					accs = new HashSet<>();
+			allAdsIds.addAll(a.getADSKeys());
+		}
+		this.adsIds = new ADSIdTable(allAdsIds, CryptographicDigest.getSizeBytes());
+		List<List<Account>> owners = new ArrayList<>();
+		for(int handle = 0; handle < this.adsIds.size(); handle++) {
+			owners.add(new ArrayList<>());
+		}
+		for(Account a : accounts) {
+			for(byte[] adsId : a.getADSKeys()) {
+				List<Account> accs = owners.get(this.adsIds.getHandle(adsId));
+				if(!accs.contains(a)) {
+					accs.add(a);
 				}
-				accs.add(a);
-				this.adsIdToOwners.put(key, accs);
 			}
 		}
+		this.accountADSIds = new HashMap<>();
+		for(Account a : accounts) {
+			this.accountADSIds.put(a.getIdAsString(), new ArrayList<>(a.getADSKeys()));
+		}
+		this.adsOwners = new Account[this.adsIds.size()][];
+		for(int handle = 0; handle < this.adsIds.size(); handle++) {
+			List<Account> accs = owners.get(handle);
+			Collections.sort(accs);
+			this.adsOwners[handle] = accs.toArray(new Account[accs.size()]);
+		}
 		logger.log(Level.INFO, "...ads_id -> {owners} loaded");
+		this.adsRootProofs = new ADSProofStore(this.adsIds.size());
 		
 		// (2) create a fresh MPT Dictionary
-		this.serverAuthADS = new MPTDictionaryFull();
+		if(shardPrefixBits > 0) {
+			this.serverAuthADS = new MPTDictionarySharded(shardPrefixBits);
+		}else {
+			this.serverAuthADS = new MPTDictionaryFull();
+		}
 		logger.log(Level.INFO, "...initializing an empty auth ads");
 		logger.log(Level.INFO, "ads manager created");
 	}
 	
+	/**
+	 * Release the worker threads of the auth ADS (if it is sharded)
+	 */
+	public void shutdown() {
+		if(this.serverAuthADS instanceof MPTDictionarySharded) {
+			((MPTDictionarySharded) this.serverAuthADS).shutdown();
+		}
+	}
+	
 	public Set<Account> getADSOwners(byte[] adsKey){
-		return new HashSet<Account>(this.adsIdToOwners.get(ByteBuffer.wrap(adsKey)));
+		return new HashSet<Account>(Arrays.asList(this.adsOwners[this.getHandle(adsKey)]));
+	}
+	
+	/**
+	 * Get the ADS IDs owned by an account
+	 * @param accountId - (see Account.getIdAsString)
+	 * @return the ADS IDs (or null if there is no such account)
+	 */
+	public List<byte[]> getADSIds(String accountId){
+		return this.accountADSIds.get(accountId);
+	}
+	
+	private int getHandle(byte[] adsId) {
+		int handle = this.adsIds.getHandle(adsId);
+		if(handle == ADSIdTable.NO_HANDLE) {
+			throw new RuntimeException("unknown ADS ID: "+Utils.byteArrayAsHexString(adsId));
+		}
+		return handle;
+	}
+	
+	private int[] getHandles(PerformUpdateRequest approvedUpdate) {
+		return approvedUpdate.getUpdate().getModificationsList().stream()
+				.mapToInt(x -> this.getHandle(x.getAdsId().toByteArray()))
+				.toArray();
 	}
 		
 	public void stageUpdate(PerformUpdateRequest approvedUpdate) {
 		Update update = approvedUpdate.getUpdate();
 		// make the changes to the ADS data structure, but defer creating the 
 		// proof and committing (to batch updates)
+		if(this.versionedLeaves || this.shardPrefixBits > 0) {
+			// versioned leaves (and sharded updates) are inserted on commit
+			this.stagedUpdates.add(approvedUpdate);
+			return;
+		}
 		for(ADSModification modification : update.getModificationsList()) {
 			byte[] adsId = modification.getAdsId().toByteArray();
 			byte[] newRoot = modification.getNewValue().toByteArray();
@@ -130,11 +341,25 @@ public class ADSManager {
 	
 	public byte[] commitParallelized(ExecutorService workers) {
 		logger.log(Level.FINE, "committing!");
-		// save delta and clear any changes
-		MPTDictionaryDelta delta = new MPTDictionaryDelta(this.serverAuthADS);
-		this.deltas.add(delta);
-		this.serverAuthADS.reset();
-		
+		this.precomputedResponses.clear();
+		if(this.versionedLeaves) {
+			for(PerformUpdateRequest approvedUpdate : this.stagedUpdates) {
+				Update update = approvedUpdate.getUpdate();
+				// the version is the commitment at which the update is valid
+				int version = update.getValidAtCommitmentNumber();
+				for(ADSModification modification : update.getModificationsList()) {
+					this.serverAuthADS.insert(modification.getAdsId().toByteArray(), 
+							modification.getNewValue().toByteArray(), version);
+				}
+			}
+		}else if(this.shardPrefixBits > 0) {
+			for(PerformUpdateRequest approvedUpdate : this.stagedUpdates) {
+				for(ADSModification modification : approvedUpdate.getUpdate().getModificationsList()) {
+					this.serverAuthADS.insert(modification.getAdsId().toByteArray(), 
+							modification.getNewValue().toByteArray());
+				}
+			}
+		}
 		// calculate a new commitment
 		byte[] commitment;
 		if(workers != null) {
@@ -143,51 +368,674 @@ public class ADSManager {
 			commitment = this.serverAuthADS.commitment();
 		}
 		this.commitments.add(commitment);
+		this.commitmentHistory.append(commitment);
+		int commitmentNumber = this.getCurrentCommitmentNumber();
+		
+		// save delta and clear any changes
+		// (the delta reuses the hashes calculated for the commitment)
+		MPTDictionaryDelta delta = new MPTDictionaryDelta(this.serverAuthADS);
+		if(this.precomputeUpdates) {
+			delta.precomputeUpdates();
+		}
+		this.deltas.add(delta);
+		this.serverAuthADS.reset();
+		
+		List<int[]> updatedHandles = new ArrayList<>();
+		List<int[]> lazyProofHandles = new ArrayList<>();
 
-		// create the proofs (in parallel for speed):
-		// go through each update and 
-		// create and save a proof 
-		// for all ADS_IDs that have changed
-		logger.log(Level.FINE, "...generating the proofs in parallel");
-		this.stagedUpdates.parallelStream().forEach(approvedUpdate -> {
-			Update update = approvedUpdate.getUpdate();
-			List<byte[]> adsIds = update.getModificationsList().stream()
+		// save a (lazy) proof for all ADS_IDs that have changed. 
+		// The delta contains the path for each ADS_ID, so the proof 
+		// can be created from the delta later. The only exception 
+		// is an update that does not change the value, whose
+		// proof is created now
+		logger.log(Level.FINE, "...saving the proofs");
+		List<PerformUpdateRequest> unchangedUpdates = new ArrayList<>();
+		List<List<byte[]>> unchangedAdsIds = new ArrayList<>();
+		for(PerformUpdateRequest approvedUpdate : this.stagedUpdates) {
+			List<byte[]> adsIds = approvedUpdate.getUpdate().getModificationsList().stream()
 					.map(x -> x.getAdsId().toByteArray())
 					.collect(Collectors.toList());
-			// safe for concurrent path generation
-			MPTDictionaryPartial paths = new MPTDictionaryPartial(this.serverAuthADS, adsIds);
-			MerklePrefixTrie updatePerformedProof = paths.serialize();
-			ADSRootProof proof = ADSRootProof.newBuilder()
-					.setLastUpdate(approvedUpdate)
-					.setLastUpdatedProof(updatePerformedProof)
-					.build();
-			// map is not safe for concurrent puts
-			synchronized(this.adsRootProofs) {
-				for(byte[] adsId : adsIds) {
-					this.adsRootProofs.put(ByteBuffer.wrap(adsId), proof);
+			int[] handles = this.getHandles(approvedUpdate);
+			if(handles.length == 0) {
+				continue;
+			}
+			if(adsIds.stream().allMatch(adsId -> delta.containsPath(adsId))) {
+				this.saveProof(handles, LazyProof.encode(approvedUpdate, commitmentNumber), updatedHandles);
+				lazyProofHandles.add(handles);
+			}else {
+				unchangedUpdates.add(approvedUpdate);
+				unchangedAdsIds.add(adsIds);
+			}
+		}
+		this.lazyProofsByCommitment.add(lazyProofHandles.stream()
+				.flatMapToInt(x -> Arrays.stream(x))
+				.toArray());
+		if(unchangedUpdates.size() > 0) {
+			// extract all of the paths in a single traversal
+			List<MerklePrefixTrie> paths = MPTDictionaryPathExtractor.extractPaths(this.serverAuthADS, 
+					unchangedAdsIds);
+			for(int i = 0; i < unchangedUpdates.size(); i++) {
+				PerformUpdateRequest approvedUpdate = unchangedUpdates.get(i);
+				int[] handles = this.getHandles(approvedUpdate);
+				List<ADSRootProof> proofs = ADSManager.createLastUpdatedProofs(approvedUpdate, paths.get(i));
+				if(proofs.size() == 1) {
+					this.saveProof(handles, LazyProof.encode(proofs.get(0)), updatedHandles);
+					continue;
+				}
+				for(int j = 0; j < handles.length; j++) {
+					this.saveProof(new int[] {handles[j]}, LazyProof.encode(proofs.get(j)), updatedHandles);
 				}
 			}
-		});
+		}
+		if(this.checkpoints) {
+			this.proofsByCommitment.add(updatedHandles.stream()
+					.flatMapToInt(x -> Arrays.stream(x))
+					.toArray());
+		}
 		this.stagedUpdates.clear();
+		if(this.retentionHorizon > 0) {
+			this.applyRetentionHorizon();
+		}
+		// (no concurrent reads while committing)
+		int compacted = this.adsRootProofs.compactSparseSlabs();
+		int released = this.adsRootProofs.releaseUnusedSlabs();
+		logger.log(Level.FINE, "...compacted "+compacted+" and released "+released+" proof slabs");
 		logger.log(Level.INFO, "added commitment #"+this.getCurrentCommitmentNumber()+": "+Utils.byteArrayAsHexString(commitment));
 		return commitment;
 	}
 	
+	private void saveProof(int[] handles, byte[] record, List<int[]> updatedHandles) {
+		// the record is stored once for all of the ADSes
+		this.adsRootProofs.put(handles, record);
+		synchronized(this.cachedProofs) {
+			for(int handle : handles) {
+				this.cachedProofs.remove(handle);
+			}
+		}
+		updatedHandles.add(handles);
+	}
+	
+	private void applyRetentionHorizon() {
+		int currentCommitmentNumber = this.getCurrentCommitmentNumber();
+		int newRetainedFrom = currentCommitmentNumber - this.retentionHorizon + 1;
+		if(newRetainedFrom <= this.retainedFrom) {
+			return;
+		}
+		if(this.checkpoints) {
+			// (the deltas are retained until the checkpoints are created)
+			newRetainedFrom = this.createCheckpointProofs(currentCommitmentNumber, newRetainedFrom);
+		}
+		// now discard the old deltas
+		for(int i = this.retainedFrom; i < newRetainedFrom; i++) {
+			this.createLazyProofs(i);
+			this.lazyProofsByCommitment.set(i, null);
+			this.deltas.set(i, null);
+		}
+		this.retainedFrom = Math.max(this.retainedFrom, newRetainedFrom);
+		this.compactedUpTo = Math.max(this.compactedUpTo, this.retainedFrom);
+	}
+	
+	/**
+	 * Replaces the proofs that would need a discarded delta by checkpoints. 
+	 * At most MAX_CHECKPOINTS_PER_COMMIT checkpoints are created on each 
+	 * commit (when the horizon is first reached every ADS that has not been 
+	 * updated needs one), the rest are created on the following commits.
+	 * @param currentCommitmentNumber
+	 * @param newRetainedFrom
+	 * @return the commitment from which the deltas must be retained 
+	 * (at most newRetainedFrom)
+	 */
+	private int createCheckpointProofs(int currentCommitmentNumber, int newRetainedFrom) {
+		// a proof starting at commitment c needs the deltas 
+		// after c, so any proof starting before newRetainedFrom-1
+		// must be replaced by a checkpoint
+		List<Integer> handlesToCheckpoint = new ArrayList<>();
+		List<LazyProof> baseProofs = new ArrayList<>();
+		for(int commitment = Math.max(this.retainedFrom-1, 0); commitment < newRetainedFrom-1; commitment++) {
+			int[] handles = this.proofsByCommitment.get(commitment);
+			if(handles == null) {
+				continue;
+			}
+			int i = 0;
+			for(; i < handles.length && handlesToCheckpoint.size() < MAX_CHECKPOINTS_PER_COMMIT; i++) {
+				LazyProof proof = this.getStoredProof(handles[i]);
+				// skip stale entries
+				if(proof.commitmentNumber == commitment) {
+					handlesToCheckpoint.add(handles[i]);
+					baseProofs.add(proof);
+				}
+			}
+			if(i < handles.length) {
+				// the rest are checkpointed on the next commit, so 
+				// the deltas after this commitment are still needed
+				this.proofsByCommitment.set(commitment, Arrays.copyOfRange(handles, i, handles.length));
+				newRetainedFrom = commitment+1;
+				break;
+			}
+			this.proofsByCommitment.set(commitment, null);
+		}
+		logger.log(Level.FINE, "...creating "+handlesToCheckpoint.size()+" checkpoint proofs");
+		byte[] commitment = this.commitments.get(currentCommitmentNumber);
+		List<ADSRootProof> checkpointProofs = IntStream.range(0, handlesToCheckpoint.size())
+				.parallel()
+				.mapToObj(i -> {
+					byte[] adsId = this.adsIds.getADSId(handlesToCheckpoint.get(i));
+					ADSRootProof baseProof = this.getLastUpdatedProof(baseProofs.get(i), adsId);
+					int updateAtCommitmentNumber = ADSManager.getUpdateCommitmentNumber(baseProof);
+					byte[] witness = CryptographicUtils.witnessCheckpoint(adsId, updateAtCommitmentNumber, 
+							currentCommitmentNumber, commitment);
+					MPTDictionaryPartial currentPath = new MPTDictionaryPartial(this.serverAuthADS, adsId);
+					return baseProof.toBuilder()
+							.setCurrentProof(currentPath.serialize())
+							.setCurrentCommitmentNumber(currentCommitmentNumber)
+							.setCheckpointSignature(ByteString.copyFrom(
+									CryptographicSignature.sign(witness, this.serverKeys.getPrivate())))
+							.build();
+				})
+				.collect(Collectors.toList());
+		int[] checkpointedHandles = new int[handlesToCheckpoint.size()];
+		for(int i = 0; i < handlesToCheckpoint.size(); i++) {
+			int handle = handlesToCheckpoint.get(i);
+			this.adsRootProofs.put(new int[] {handle}, LazyProof.encode(checkpointProofs.get(i)));
+			this.cachedProofs.remove(handle);
+			checkpointedHandles[i] = handle;
+		}
+		// the checkpointed proofs now start at the current commitment
+		int[] currentHandles = this.proofsByCommitment.get(currentCommitmentNumber);
+		int[] handles = Arrays.copyOf(currentHandles, currentHandles.length+checkpointedHandles.length);
+		System.arraycopy(checkpointedHandles, 0, handles, currentHandles.length, checkpointedHandles.length);
+		this.proofsByCommitment.set(currentCommitmentNumber, handles);
+		return newRetainedFrom;
+	}
+	
+	/**
+	 * The (decoded) stored proof for the last update of some ADSes. 
+	 * Creating the proofs for every update at commit is expensive and
+	 * most are never requested, so instead only the update and the 
+	 * commitment are stored. The proof is created from the delta 
+	 * for the commitment the first time it is requested, and then 
+	 * stored in place of the update. For an update with Merkle-ized 
+	 * modifications each ADS gets its own proof with just its 
+	 * modification and its path (see createLastUpdatedProofs).
+	 * 
+	 * Records are encoded as [type (1 byte) || ...] where the rest is 
+	 * 		PROOF:		the commitment number (4 bytes) || the serialized proof
+	 * 		PENDING:	the commitment number (4 bytes) || the serialized update
+	 * 
+	 * Created proofs are not parsed when decoded, so they can be 
+	 * served as is (see getADSRootProofBytes)
+	 */
+	private static class LazyProof {
+		private static final byte PROOF = 0;
+		private static final byte PENDING = 1;
+		
+		// the record in the store
+		private final long reference;
+		// null if the proof has been created
+		private final PerformUpdateRequest approvedUpdate;
+		// the proof starts at this commitment: 
+		// the last update or the checkpoint
+		private final int commitmentNumber;
+		// null if the proof has not been created
+		private final ByteString proof;
+		
+		private LazyProof(long reference, PerformUpdateRequest approvedUpdate, int commitmentNumber, 
+				ByteString proof) {
+			this.reference = reference;
+			this.approvedUpdate = approvedUpdate;
+			this.commitmentNumber = commitmentNumber;
+			this.proof = proof;
+		}
+		
+		private static byte[] encode(PerformUpdateRequest approvedUpdate, int commitmentNumber) {
+			byte[] update = approvedUpdate.toByteArray();
+			return ByteBuffer.allocate(5+update.length)
+					.put(PENDING)
+					.putInt(commitmentNumber)
+					.put(update)
+					.array();
+		}
+		
+		private static byte[] encode(ADSRootProof proof) {
+			byte[] asbytes = proof.toByteArray();
+			int commitmentNumber = proof.hasCurrentProof() ? proof.getCurrentCommitmentNumber() : 
+				ADSManager.getUpdateCommitmentNumber(proof);
+			return ByteBuffer.allocate(5+asbytes.length)
+					.put(PROOF)
+					.putInt(commitmentNumber)
+					.put(asbytes)
+					.array();
+		}
+		
+		private static LazyProof decode(long reference, byte[] record) {
+			ByteBuffer buffer = ByteBuffer.wrap(record);
+			int commitmentNumber = buffer.getInt(1);
+			if(record[0] == PENDING) {
+				try {
+					PerformUpdateRequest approvedUpdate = PerformUpdateRequest.parseFrom(
+							ByteBuffer.wrap(record, 5, record.length-5));
+					return new LazyProof(reference, approvedUpdate, commitmentNumber, null);
+				} catch (InvalidProtocolBufferException e) {
+					e.printStackTrace();
+					throw new RuntimeException(e.getMessage());
+				}
+			}
+			// the record is read from the store into a new array 
+			// so it can be shared without copying
+			ByteString proof = UnsafeByteOperations.unsafeWrap(record, 5, record.length-5);
+			return new LazyProof(reference, null, commitmentNumber, proof);
+		}
+		
+		private ADSRootProof getProof() {
+			try {
+				return ADSRootProof.parseFrom(this.proof);
+			} catch (InvalidProtocolBufferException e) {
+				e.printStackTrace();
+				throw new RuntimeException(e.getMessage());
+			}
+		}
+		
+		private List<byte[]> getADSIds() {
+			return this.approvedUpdate.getUpdate().getModificationsList().stream()
+					.map(x -> x.getAdsId().toByteArray())
+					.collect(Collectors.toList());
+		}
+	}
+	
+	private LazyProof getStoredProof(int handle) {
+		long reference = this.adsRootProofs.getReference(handle);
+		return LazyProof.decode(reference, this.adsRootProofs.read(reference));
+	}
+	
+	/**
+	 * Get the stored proof for the ADS, creating it if needed
+	 * @param lazyProof - the stored proof of the ADS
+	 * @param adsId
+	 * @return
+	 */
+	private ADSRootProof getLastUpdatedProof(LazyProof lazyProof, byte[] adsId) {
+		if(lazyProof.proof != null) {
+			return lazyProof.getProof();
+		}
+		AuthenticatedDictionaryChanges delta = this.deltas.get(lazyProof.commitmentNumber);
+		if(delta == null) {
+			throw new RuntimeException("the delta for commitment #"+lazyProof.commitmentNumber+
+					" has been discarded");
+		}
+		return this.setLastUpdatedProof(lazyProof, delta.getPaths(lazyProof.getADSIds()), adsId);
+	}
+	
+	private ByteString getLastUpdatedProofBytes(LazyProof lazyProof, byte[] adsId) {
+		if(lazyProof.proof != null) {
+			return lazyProof.proof;
+		}
+		return this.getLastUpdatedProof(lazyProof, adsId).toByteString();
+	}
+	
+	/**
+	 * Create the proofs of a pending update and store them in place 
+	 * of the update
+	 * @param lazyProof
+	 * @param paths - the paths for all of the ADSes modified by the update
+	 * @param adsId - an ADS modified by the update (or null)
+	 * @return the proof for the ADS (or null if no ADS is provided)
+	 */
+	private ADSRootProof setLastUpdatedProof(LazyProof lazyProof, MerklePrefixTrie paths, byte[] adsId) {
+		List<ADSRootProof> proofs = ADSManager.createLastUpdatedProofs(lazyProof.approvedUpdate, paths);
+		int[] handles = this.getHandles(lazyProof.approvedUpdate);
+		// if the proof is created concurrently the proofs 
+		// are the same, so it does not matter which is kept
+		if(proofs.size() == 1) {
+			this.adsRootProofs.replace(handles, lazyProof.reference, LazyProof.encode(proofs.get(0)));
+			return proofs.get(0);
+		}
+		ADSRootProof result = null;
+		List<ADSModification> modifications = lazyProof.approvedUpdate.getUpdate().getModificationsList();
+		for(int i = 0; i < handles.length; i++) {
+			this.adsRootProofs.replace(new int[] {handles[i]}, lazyProof.reference, 
+					LazyProof.encode(proofs.get(i)));
+			if(adsId != null && Arrays.equals(adsId, modifications.get(i).getAdsId().toByteArray())) {
+				result = proofs.get(i);
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Create the proofs for the ADSes modified by an update. The proof 
+	 * is shared by all of the ADSes: the update and the paths for all
+	 * of the ADSes. Except, for an update with Merkle-ized modifications 
+	 * the proof for an ADS only needs the modification of the ADS (with 
+	 * a path to the root of the modifications) and the path for the ADS,
+	 * so each ADS gets its own proof. The Merkle tree over the 
+	 * modifications is only built once for all of the ADSes.
+	 * @param approvedUpdate
+	 * @param paths - the paths for all of the ADSes modified by the update
+	 * @return a single shared proof, or a proof for each ADS (in 
+	 * the order of the modifications)
+	 */
+	private static List<ADSRootProof> createLastUpdatedProofs(PerformUpdateRequest approvedUpdate, 
+			MerklePrefixTrie paths) {
+		if(!approvedUpdate.getUpdate().getMerkleModifications()) {
+			return Arrays.asList(ADSRootProof.newBuilder()
+					.setLastUpdate(approvedUpdate)
+					.setLastUpdatedProof(paths)
+					.build());
+		}
+		try {
+			MPTDictionaryPartial allPaths = MPTDictionaryPartial.deserialize(paths);
+			List<ModificationProof> modificationProofs = Request.createModificationProofs(approvedUpdate);
+			List<ADSRootProof> proofs = new ArrayList<>(modificationProofs.size());
+			for(ModificationProof modificationProof : modificationProofs) {
+				byte[] adsId = modificationProof.getModification().getAdsId().toByteArray();
+				MPTDictionaryPartial path = new MPTDictionaryPartial(allPaths, Arrays.asList(adsId));
+				proofs.add(ADSRootProof.newBuilder()
+						.setLastUpdateModification(modificationProof)
+						.setLastUpdatedProof(path.serialize())
+						.build());
+			}
+			return proofs;
+		} catch (InvalidSerializationException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	/**
+	 * The commitment at which the last update in the proof was performed
+	 * @param proof
+	 * @return
+	 */
+	private static int getUpdateCommitmentNumber(ADSRootProof proof) {
+		if(proof.hasLastUpdateModification()) {
+			return proof.getLastUpdateModification().getValidAtCommitmentNumber();
+		}
+		return proof.getLastUpdate().getUpdate().getValidAtCommitmentNumber();
+	}
+	
+	/**
+	 * Create any lazy proofs for the updates at the commitment 
+	 * (this must be done before the delta is compacted or discarded)
+	 * @param commitment
+	 */
+	private void createLazyProofs(int commitment) {
+		int[] lazyProofs = this.lazyProofsByCommitment.get(commitment);
+		if(lazyProofs == null) {
+			return;
+		}
+		List<LazyProof> toCreate = new ArrayList<>();
+		Set<Long> references = new HashSet<>();
+		for(int handle : lazyProofs) {
+			LazyProof lazyProof = this.getStoredProof(handle);
+			// skip proofs that have been created or are stale 
+			// (a proof shared by many ADSes is still created if 
+			// any of them has not been updated since)
+			if(lazyProof.proof == null && lazyProof.commitmentNumber == commitment && 
+					references.add(lazyProof.reference)) {
+				toCreate.add(lazyProof);
+			}
+		}
+		if(toCreate.isEmpty()) {
+			return;
+		}
+		AuthenticatedDictionaryChanges delta = this.deltas.get(commitment);
+		if(!(delta instanceof MPTDictionaryDelta)) {
+			for(LazyProof lazyProof : toCreate) {
+				this.getLastUpdatedProof(lazyProof, null);
+			}
+			return;
+		}
+		// extract all of the paths in a single traversal of the delta
+		List<MerklePrefixTrie> paths = MPTDictionaryPathExtractor.extractPaths((MPTDictionaryDelta) delta, 
+				toCreate.stream().map(lazyProof -> lazyProof.getADSIds()).collect(Collectors.toList()));
+		for(int i = 0; i < toCreate.size(); i++) {
+			this.setLastUpdatedProof(toCreate.get(i), paths.get(i), null);
+		}
+	}
+	
 	public ADSRootProof getADSRootProof(byte[] adsId) {
-		// this copies the base proof from the map 
-		ADSRootProof.Builder proof = this.adsRootProofs.get(ByteBuffer.wrap(adsId)).toBuilder();
-		int updateAtCommitmentNumber = proof.getLastUpdate().getUpdate().getValidAtCommitmentNumber();
+		try {
+			return ADSRootProof.parseFrom(this.getADSRootProofBytes(adsId));
+		} catch (InvalidProtocolBufferException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	/**
+	 * Get the serialized ProveADSRootResponse for the ADS
+	 * (see getADSRootProofBytes)
+	 * @param adsId
+	 * @return
+	 */
+	public byte[] getProveADSRootResponse(byte[] adsId) {
+		return ADSManager.frame(ProveADSRootResponse.PROOF_FIELD_NUMBER, 
+				this.getADSRootProofBytes(adsId)).toByteArray();
+	}
+	
+	/**
+	 * Get the serialized proof for the ADS. The proof is assembled 
+	 * from serialized pieces instead of being built and serialized: 
+	 * the stored proof for the last update (or the cached proof)
+	 * followed by the serialized updates for each commitment since, 
+	 * each framed as a freshness_proof field. Since serialized 
+	 * messages can be concatenated (and repeated fields are appended)
+	 * this parses to the same proof, and the pieces are not copied 
+	 * until the response is written.
+	 * @param adsId
+	 * @return
+	 */
+	public ByteString getADSRootProofBytes(byte[] adsId) {
+		int handle = this.getHandle(adsId);
+		CachedProof cachedProof = null;
+		if(!this.versionedLeaves) {
+			synchronized(this.cachedProofs) {
+				cachedProof = this.cachedProofs.get(handle);
+			}
+		}
+		ByteString proof;
+		int fromCommitmentNumber;
+		if(cachedProof != null) {
+			proof = cachedProof.proof;
+			fromCommitmentNumber = cachedProof.nextCommitmentNumber;
+		}else {
+			LazyProof lazyProof = this.getStoredProof(handle);
+			proof = this.getLastUpdatedProofBytes(lazyProof, adsId);
+			// (starting after the update or the checkpoint)
+			fromCommitmentNumber = lazyProof.commitmentNumber+1;
+		}
 		int currentCommitmentNumber = this.getCurrentCommitmentNumber();
-		// add the update proofs
-		// TODO: could possibly cache the updated proof!
-		for(int commitment = updateAtCommitmentNumber+1; 
+		if(this.versionedLeaves) {
+			// the leaf commits to the version, so the current 
+			// path alone shows the root has not changed since
+			if(currentCommitmentNumber >= fromCommitmentNumber) {
+				MPTDictionaryPartial currentPath = new MPTDictionaryPartial(this.serverAuthADS, adsId);
+				proof = proof.concat(ADSRootProof.newBuilder()
+						.setCurrentProof(currentPath.serialize())
+						.setCurrentCommitmentNumber(currentCommitmentNumber)
+						.build()
+						.toByteString());
+			}
+			return proof;
+		}
+		// add the update proofs for any commitments 
+		// not already in the proof 
+		for(int commitment = fromCommitmentNumber; 
 				commitment <= currentCommitmentNumber; commitment++) {
-			MerklePrefixTrie updates = this.deltas.get(commitment).getUpdates(adsId);
-			proof.addFreshnessProof(updates);
+			ByteString updates = this.deltas.get(commitment).getSerializedUpdates(adsId);
+			proof = proof.concat(ADSManager.frame(ADSRootProof.FRESHNESS_PROOF_FIELD_NUMBER, updates));
 		}
-		return proof.build();
+		if(fromCommitmentNumber <= currentCommitmentNumber) {
+			synchronized(this.cachedProofs) {
+				this.cachedProofs.put(handle, new CachedProof(proof, currentCommitmentNumber+1));
+			}
+		}
+		return proof;
+	}
+	
+	private static class CachedProof {
+		// the serialized proof
+		private final ByteString proof;
+		// the first commitment not in the proof
+		private final int nextCommitmentNumber;
+		
+		private CachedProof(ByteString proof, int nextCommitmentNumber) {
+			this.proof = proof;
+			this.nextCommitmentNumber = nextCommitmentNumber;
+		}
+	}
+	
+	/**
+	 * Frame a serialized message as a (length delimited) field 
+	 * of another message: [tag || length || message]
+	 * @param fieldNumber
+	 * @param message
+	 * @return
+	 */
+	private static ByteString frame(int fieldNumber, ByteString message) {
+		byte[] header = new byte[CodedOutputStream.computeTagSize(fieldNumber) + 
+		                         CodedOutputStream.computeUInt32SizeNoTag(message.size())];
+		try {
+			CodedOutputStream out = CodedOutputStream.newInstance(header);
+			out.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+			out.writeUInt32NoTag(message.size());
+			out.checkNoSpaceLeft();
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+		return UnsafeByteOperations.unsafeWrap(header).concat(message);
+	}
+	
+	/**
+	 * Count a proof request for the ADS and return the precomputed 
+	 * (serialized) ProveADSRootResponse for the ADS, if there is one 
+	 * for the current commitment.
+	 * @param adsId
+	 * @return the response (or null if it was not precomputed)
+	 */
+	public byte[] getPrecomputedResponse(byte[] adsId) {
+		int handle = this.getHandle(adsId);
+		this.proofRequests.record(handle);
+		return this.precomputedResponses.get(handle);
+	}
+	
+	/**
+	 * Precompute the (serialized) ProveADSRootResponse for the most 
+	 * requested ADSes, in parallel. This should be called after each 
+	 * commit. It is safe to call concurrently with getADSRootProof
+	 * but not with commit.
+	 * @return the number of responses precomputed
+	 */
+	public int precomputeHotProofs() {
+		int[] hottest = this.proofRequests.getHottest(HOT_PROOFS, HOT_PROOF_MIN_REQUESTS);
+		// favor the requests since the last commit
+		this.proofRequests.decay();
+		Arrays.stream(hottest).parallel().forEach(handle -> {
+			this.precomputedResponses.put(handle, 
+					this.getProveADSRootResponse(this.adsIds.getADSId(handle)));
+		});
+		logger.log(Level.FINE, "precomputed "+hottest.length+" hot proofs");
+		return hottest.length;
 	}
 	
+	/**
+	 * Get a proof of the ADS root as of an earlier commitment
+	 * (e.g. for auditing). The proof is the path to the ADS ID
+	 * at that commitment, which is reconstructed from the deltas
+	 * (see MPTDictionaryPathExtractor.extractPath)
+	 * instead of replaying the updates.
+	 * @param adsId
+	 * @param asOfCommitmentNumber
+	 * @return the proof (or null if the ADS ID or the commitment 
+	 * does not exist or the deltas needed have been discarded)
+	 */
+	public ADSRootProof getADSRootProof(byte[] adsId, int asOfCommitmentNumber) {
+		if(this.adsIds.getHandle(adsId) == ADSIdTable.NO_HANDLE || 
+				asOfCommitmentNumber < this.retainedFrom ||
+				asOfCommitmentNumber > this.getCurrentCommitmentNumber()) {
+			return null;
+		}
+		MerklePrefixTrie path = MPTDictionaryPathExtractor.extractPath(adsId,
+				this.deltas.subList(this.retainedFrom, asOfCommitmentNumber+1));
+		if(path == null) {
+			return null;
+		}
+		return ADSRootProof.newBuilder()
+				.setCurrentProof(path)
+				.setCurrentCommitmentNumber(asOfCommitmentNumber)
+				.build();
+	}
+
+	/**
+	 * Get a single proof for many ADSes (see ADSRootsProof). 
+	 * Each distinct last update proof is only included once, 
+	 * and the freshness proofs for all of the ADSes are merged
+	 * into one update per commitment. For updates with Merkle-ized 
+	 * modifications each ADS has its own proof of just its modification.
+	 * @param adsIds
+	 * @return the proof (or null if any of the ADS IDs do not exist)
+	 */
+	public ADSRootsProof getADSRootsProof(List<byte[]> adsIds) {
+		for(byte[] adsId : adsIds) {
+			if(this.adsIds.getHandle(adsId) == ADSIdTable.NO_HANDLE) {
+				return null;
+			}
+		}
+		ADSRootsProof.Builder proof = ADSRootsProof.newBuilder();
+		int currentCommitmentNumber = this.getCurrentCommitmentNumber();
+		// the index of the proof for each stored record
+		Map<Long, Integer> lastUpdateProofIndexes = new HashMap<>();
+		// the ADS IDs by the commitment their proof starts at
+		Map<Integer, List<byte[]>> adsIdsByStart = new HashMap<>();
+		int fromCommitmentNumber = currentCommitmentNumber+1;
+		Set<ByteBuffer> included = new HashSet<>();
+		for(byte[] adsId : adsIds) {
+			if(!included.add(ByteBuffer.wrap(adsId))) {
+				continue;
+			}
+			int handle = this.getHandle(adsId);
+			LazyProof lazyProof = this.getStoredProof(handle);
+			if(lazyProof.proof == null) {
+				// (an update with Merkle-ized modifications is 
+				// replaced by a proof for each ADS)
+				this.getLastUpdatedProof(lazyProof, adsId);
+				lazyProof = this.getStoredProof(handle);
+			}
+			Integer index = lastUpdateProofIndexes.get(lazyProof.reference);
+			if(index == null) {
+				index = proof.getLastUpdateProofCount();
+				proof.addLastUpdateProof(this.getLastUpdatedProof(lazyProof, adsId));
+				lastUpdateProofIndexes.put(lazyProof.reference, index);
+			}
+			proof.addAdsIds(ByteString.copyFrom(adsId));
+			proof.addLastUpdateProofIndex(index);
+			adsIdsByStart.computeIfAbsent(lazyProof.commitmentNumber, x -> new ArrayList<>()).add(adsId);
+			fromCommitmentNumber = Math.min(fromCommitmentNumber, lazyProof.commitmentNumber+1);
+		}
+		if(this.versionedLeaves) {
+			// the current paths for all of the ADSes
+			List<byte[]> currentAdsIds = proof.getAdsIdsList().stream()
+					.map(x -> x.toByteArray())
+					.collect(Collectors.toList());
+			MPTDictionaryPartial currentPaths = new MPTDictionaryPartial(this.serverAuthADS, currentAdsIds);
+			proof.setCurrentProof(currentPaths.serialize());
+			proof.setCurrentCommitmentNumber(currentCommitmentNumber);
+			return proof.build();
+		}
+		// each freshness proof has the paths for the ADSes 
+		// with a proof starting before the commitment
+		proof.setFreshnessFromCommitmentNumber(fromCommitmentNumber);
+		List<byte[]> freshAdsIds = new ArrayList<>(adsIdsByStart.getOrDefault(fromCommitmentNumber-1, 
+				Collections.emptyList()));
+		for(int commitment = fromCommitmentNumber; 
+				commitment <= currentCommitmentNumber; commitment++) {
+			proof.addFreshnessProof(this.deltas.get(commitment).getUpdates(freshAdsIds));
+			freshAdsIds.addAll(adsIdsByStart.getOrDefault(commitment, Collections.emptyList()));
+		}
+		return proof.build();
+	}
+
 	public ADSProofUpdates getADSProofUpdates(byte[] adsId, int fromCommitment) {
 		ADSProofUpdates.Builder updatesResp = ADSProofUpdates.newBuilder();
 		int currentCommitmentNumber = this.getCurrentCommitmentNumber();
@@ -199,12 +1047,113 @@ public class ADSManager {
 		return updatesResp.build();
 	}
 	
+	/**
+	 * Get the updates for many ADSes at once. Each update contains 
+	 * the (deduplicated) paths for all of the ADSes, so a client 
+	 * that keeps a single merged proof for the ADSes 
+	 * (see MPTDictionaryPartial.merge) can process each update 
+	 * in one pass
+	 * @param adsIds
+	 * @param fromCommitment
+	 * @return
+	 */
+	public ADSProofUpdates getADSProofUpdates(List<byte[]> adsIds, int fromCommitment) {
+		ADSProofUpdates.Builder updatesResp = ADSProofUpdates.newBuilder();
+		int currentCommitmentNumber = this.getCurrentCommitmentNumber();
+		for(int commitment = fromCommitment; 
+				commitment <= currentCommitmentNumber; commitment++) {
+			MerklePrefixTrie updates = this.deltas.get(commitment).getUpdates(adsIds);
+			updatesResp.addUpdates(updates);
+		}
+		return updatesResp.build();
+	}
+	
 	public ADSProofUpdates getADSProofUpdates(byte[] adsId) {
+		if(this.versionedLeaves) {
+			// with versioned leaves the current path is a full proof
+			MPTDictionaryPartial currentPath = new MPTDictionaryPartial(this.serverAuthADS, adsId);
+			return ADSProofUpdates.newBuilder()
+					.addUpdates(currentPath.serialize())
+					.build();
+		}
 		return ADSProofUpdates.newBuilder()
 				.addUpdates(this.deltas.get(this.getCurrentCommitmentNumber()).getUpdates(adsId))
 				.build();
 	}
 		
+	/**
+	 * Compact the deltas for commitments [from, to). The compacted 
+	 * deltas create the same updates and can be swapped in using 
+	 * replaceDeltas. Since the lazy proofs need the original deltas, 
+	 * any pending proofs for these commitments are created (and 
+	 * stored) first. The deltas are not modified and the proofs are 
+	 * stored with a compare-and-swap (see ADSProofStore.replace),
+	 * so this is safe to call concurrently with getADSRootProof, 
+	 * but not with commit 
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	public List<MPTDictionaryDeltaArena> compactDeltas(int from, int to) {
+		List<MPTDictionaryDeltaArena> compacted = new ArrayList<>();
+		for(int commitment = from; commitment < to; commitment++) {
+			// the lazy proofs need the original delta
+			this.createLazyProofs(commitment);
+			compacted.add(MPTDictionaryDeltaArena.compact((MPTDictionaryDelta) this.deltas.get(commitment)));
+		}
+		return compacted;
+	}
+	
+	/**
+	 * Replace the deltas starting at commitment from 
+	 * with compacted deltas (see compactDeltas) or handles 
+	 * for deltas stored on disk (see DeltaSegmentStore). 
+	 * The old deltas can then be garbage collected
+	 * @param from
+	 * @param compacted
+	 */
+	public void replaceDeltas(int from, List<? extends AuthenticatedDictionaryChanges> compacted) {
+		for(int i = 0; i < compacted.size(); i++) {
+			// skip any deltas discarded in the meantime
+			if(from+i >= this.retainedFrom) {
+				this.deltas.set(from+i, compacted.get(i));
+			}
+			this.lazyProofsByCommitment.set(from+i, null);
+		}
+		this.compactedUpTo = Math.max(this.compactedUpTo, from+compacted.size());
+		logger.log(Level.INFO, "compacted deltas up to commitment #"+this.compactedUpTo);
+	}
+	
+	public int getCompactedUpTo() {
+		return this.compactedUpTo;
+	}
+	
+	/**
+	 * Returns the first commitment for which the delta
+	 * is still kept (see the retention horizon). Proof updates
+	 * can only be created starting at this commitment
+	 * @return
+	 */
+	public int getRetainedFrom() {
+		return this.retainedFrom;
+	}
+	
+	/**
+	 * Returns the public key used to sign checkpoint proofs
+	 * (or null if there are no checkpoints)
+	 * @return
+	 */
+	public PublicKey getServerPublicKey() {
+		if(this.serverKeys == null) {
+			return null;
+		}
+		return this.serverKeys.getPublic();
+	}
+	
+	public boolean usesVersionedLeaves() {
+		return this.versionedLeaves;
+	}
+	
 	public int getCurrentCommitmentNumber() {
 		return this.commitments.size()-1;
 	}
@@ -213,4 +1162,51 @@ public class ADSManager {
 		return new ArrayList<>(this.commitments);
 	}
 	
+	/**
+	 * Get the commitments starting at fromCommitment along with the
+	 * peaks of the accumulator over the earlier commitments, so 
+	 * that a client with the root of the accumulator can append 
+	 * the new commitments (see MerkleMountainRange.append)
+	 * @param fromCommitment
+	 * @return the history (or null if there is no such commitment)
+	 */
+	public GetCommitmentHistoryResponse getCommitmentHistory(int fromCommitment) {
+		if(fromCommitment < 0 || fromCommitment > this.commitments.size()) {
+			return null;
+		}
+		return GetCommitmentHistoryResponse.newBuilder()
+				.addAllPeaks(this.commitmentHistory.getPeaks(fromCommitment).stream()
+						.map(x -> ByteString.copyFrom(x))
+						.collect(Collectors.toList()))
+				.addAllCommitments(this.commitments.subList(fromCommitment, this.commitments.size()).stream()
+						.map(x -> ByteString.copyFrom(x))
+						.collect(Collectors.toList()))
+				.build();
+	}
+	
+	/**
+	 * Get a proof that the commitment is in the accumulator
+	 * over the first numberOfCommitments commitments
+	 * @param commitmentNumber
+	 * @param numberOfCommitments
+	 * @return the proof (or null if the commitment is not in it)
+	 */
+	public CommitmentProof getCommitmentProof(int commitmentNumber, int numberOfCommitments) {
+		if(commitmentNumber < 0 || commitmentNumber >= numberOfCommitments || 
+				numberOfCommitments > this.commitments.size()) {
+			return null;
+		}
+		return CommitmentProof.newBuilder()
+				.setCommitment(ByteString.copyFrom(this.commitments.get(commitmentNumber)))
+				.setCommitmentNumber(commitmentNumber)
+				.setNumberOfCommitments(numberOfCommitments)
+				.addAllPath(this.commitmentHistory.getPath(commitmentNumber, numberOfCommitments).stream()
+						.map(x -> ByteString.copyFrom(x))
+						.collect(Collectors.toList()))
+				.addAllOtherPeaks(this.commitmentHistory.getOtherPeaks(commitmentNumber, numberOfCommitments).stream()
+						.map(x -> ByteString.copyFrom(x))
+						.collect(Collectors.toList()))
+				.build();
+	}
+	
 }
@@ -0,0 +1,294 @@
+package server;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stores a (serialized) proof record for every ADS.
+ *
+ * Instead of a map with an object for every ADS, the records
+ * are stored in large off-heap slabs. A record is appended once
+ * and shared by all of the ADSes it is for (e.g. all of the ADSes
+ * changed by an update). The ADSes are identified by their 
+ * handle (see ADSIdTable) and an array indexed by the handle 
+ * stores the location of the record for each ADS.
+ *
+ * Records are never modified: when an ADS gets a new record the
+ * index is updated to point to it. The slabs keep track of how
+ * many ADSes point to a record in the slab and slabs that are
+ * no longer used are released (see releaseUnusedSlabs). Slabs where
+ * most records have been replaced are compacted by copying the 
+ * remaining records to the current slab (see compactSparseSlabs), 
+ * so that a few long lived records do not keep a whole slab.
+ * The ids (and memory) of released slabs are reused.
+ *
+ * THREAD SAFETY:
+ * 		get, put and replace are lock free and safe for
+ * 		concurrent calls.
+ *
+ * 		compactSparseSlabs and releaseUnusedSlabs must not be 
+ * 		called concurrently with any other method and
+ * 		invalidate all references
+ *
+ * @author henryaspegren
+ *
+ */
+public class ADSProofStore {
+
+	// the (default) size of each slab
+	private static final int SLAB_SIZE = 1 << 22;
+	
+	// a slab is compacted once at most 1/SPARSE_FACTOR
+	// of the ADSes that pointed to it still do
+	private static final int SPARSE_FACTOR = 4;
+
+	// reference = slab id (high 32 bits) || offset (low 32 bits)
+	public static final long NO_RECORD = -1;
+
+	private static final VarHandle REFERENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+	// handle -> reference to the record
+	private final long[] references;
+
+	// the slabs (released slabs are null),
+	// new records are appended to the current slab
+	private volatile Slab[] slabs;
+	private volatile Slab current;
+
+	private static class Slab {
+		private final int id;
+		private final ByteBuffer buffer;
+		// the next free byte, may be past the end once full
+		private final AtomicInteger position;
+		// the number of ADSes with a record in the slab
+		private final AtomicInteger referencedBy;
+		// the number of ADSes that have ever had a record in the slab
+		private final AtomicInteger totalReferences;
+
+		private Slab(int id, int size) {
+			this.id = id;
+			this.buffer = ByteBuffer.allocateDirect(size);
+			this.position = new AtomicInteger(0);
+			this.referencedBy = new AtomicInteger(0);
+			this.totalReferences = new AtomicInteger(0);
+		}
+		
+		private boolean isSparse() {
+			return this.referencedBy.get()*SPARSE_FACTOR <= this.totalReferences.get();
+		}
+	}
+
+	/**
+	 * Create a store for ADSes with handles 0, 1, ..., numberOfADSes-1
+	 * @param numberOfADSes
+	 */
+	public ADSProofStore(int numberOfADSes) {
+		this.references = new long[numberOfADSes];
+		Arrays.fill(this.references, NO_RECORD);
+		Slab first = new Slab(0, SLAB_SIZE);
+		this.slabs = new Slab[] { first };
+		this.current = first;
+	}
+
+	/**
+	 * Returns the reference to the current record for the ADS
+	 * (or NO_RECORD if it does not have one)
+	 * @param handle - the handle of the ADS
+	 * @return
+	 */
+	public long getReference(int handle) {
+		return (long) REFERENCES.getVolatile(this.references, handle);
+	}
+
+	/**
+	 * Read the record with the given reference
+	 * @param reference
+	 * @return
+	 */
+	public byte[] read(long reference) {
+		Slab slab = this.slabs[(int) (reference >>> 32)];
+		int offset = (int) reference;
+		int length = slab.buffer.getInt(offset);
+		byte[] record = new byte[length];
+		// duplicate so that concurrent reads do not share a position
+		ByteBuffer view = slab.buffer.duplicate();
+		view.position(offset+4);
+		view.get(record);
+		return record;
+	}
+
+	/**
+	 * Get the current record for the ADS (or null if it
+	 * does not have one)
+	 * @param handle - the handle of the ADS
+	 * @return
+	 */
+	public byte[] get(int handle) {
+		long reference = this.getReference(handle);
+		if(reference == NO_RECORD) {
+			return null;
+		}
+		return this.read(reference);
+	}
+
+	/**
+	 * Store a record for the ADSes. The record is only
+	 * stored once, no matter how many ADSes there are
+	 * @param handles - the handles of the ADSes
+	 * @param record
+	 */
+	public void put(int[] handles, byte[] record) {
+		long reference = this.append(record);
+		for(int handle : handles) {
+			this.reference(reference);
+			long old = (long) REFERENCES.getAndSet(this.references, handle, reference);
+			this.dereference(old);
+		}
+	}
+
+	/**
+	 * Replace the record for the ADSes, but only for the
+	 * ADSes that still have the expected record.
+	 * @param handles - the handles of the ADSes
+	 * @param expected - the reference to the expected record
+	 * @param record
+	 * @return true if the record was replaced for any ADS
+	 */
+	public boolean replace(int[] handles, long expected, byte[] record) {
+		long reference = this.append(record);
+		boolean replaced = false;
+		for(int handle : handles) {
+			this.reference(reference);
+			if(REFERENCES.compareAndSet(this.references, handle, expected, reference)) {
+				this.dereference(expected);
+				replaced = true;
+			}else {
+				this.dereference(reference);
+			}
+		}
+		return replaced;
+	}
+
+	private void reference(long reference) {
+		Slab slab = this.slabs[(int) (reference >>> 32)];
+		slab.referencedBy.incrementAndGet();
+		slab.totalReferences.incrementAndGet();
+	}
+
+	private void dereference(long reference) {
+		if(reference != NO_RECORD) {
+			this.slabs[(int) (reference >>> 32)].referencedBy.decrementAndGet();
+		}
+	}
+
+	private long append(byte[] record) {
+		int size = 4+record.length;
+		while(true) {
+			Slab slab = this.current;
+			// reserve space in the slab
+			int offset = slab.position.getAndAdd(size);
+			if(offset >= 0 && offset <= slab.buffer.capacity()-size) {
+				ByteBuffer view = slab.buffer.duplicate();
+				view.position(offset);
+				view.putInt(record.length);
+				view.put(record);
+				return ((long) slab.id << 32) | offset;
+			}
+			this.addSlab(slab, size);
+		}
+	}
+
+	private synchronized void addSlab(Slab full, int size) {
+		// another thread may have already added a slab
+		if(this.current != full) {
+			return;
+		}
+		// reuse the id of a released slab
+		int id = 0;
+		while(id < this.slabs.length && this.slabs[id] != null) {
+			id++;
+		}
+		Slab[] slabs = id < this.slabs.length ? this.slabs : Arrays.copyOf(this.slabs, id+1);
+		Slab slab = new Slab(id, Math.max(SLAB_SIZE, size));
+		slabs[id] = slab;
+		this.slabs = slabs;
+		this.current = slab;
+	}
+
+	/**
+	 * Copy the records still in use in sparse slabs (where most
+	 * of the records have been replaced) to the current slab, so 
+	 * that the sparse slabs can be released (see releaseUnusedSlabs).
+	 * A record shared by several ADSes is only copied once.
+	 * @return the number of slabs compacted
+	 */
+	public int compactSparseSlabs() {
+		boolean[] sparse = new boolean[this.slabs.length];
+		int compacted = 0;
+		for(Slab slab : this.slabs) {
+			if(slab != null && slab != this.current && slab.referencedBy.get() > 0 && slab.isSparse()) {
+				sparse[slab.id] = true;
+				compacted++;
+			}
+		}
+		if(compacted == 0) {
+			return 0;
+		}
+		// old reference -> reference to the copy
+		Map<Long, Long> copies = new HashMap<>();
+		for(int handle = 0; handle < this.references.length; handle++) {
+			long old = this.getReference(handle);
+			if(old == NO_RECORD || !sparse[(int) (old >>> 32)]) {
+				continue;
+			}
+			Long copy = copies.get(old);
+			if(copy == null) {
+				copy = this.append(this.read(old));
+				copies.put(old, copy);
+			}
+			this.reference(copy);
+			if(REFERENCES.compareAndSet(this.references, handle, old, (long) copy)) {
+				this.dereference(old);
+			}else {
+				this.dereference(copy);
+			}
+		}
+		return compacted;
+	}
+
+	/**
+	 * Release the memory used by any slabs where every
+	 * record has been replaced (or copied, see compactSparseSlabs).
+	 * @return the number of slabs released
+	 */
+	public int releaseUnusedSlabs() {
+		int released = 0;
+		for(Slab slab : this.slabs) {
+			if(slab != null && slab != this.current && slab.referencedBy.get() == 0) {
+				this.slabs[slab.id] = null;
+				released++;
+			}
+		}
+		return released;
+	}
+
+	/**
+	 * Returns the number of slabs in use
+	 * @return
+	 */
+	public int countSlabs() {
+		int count = 0;
+		for(Slab slab : this.slabs) {
+			if(slab != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+}
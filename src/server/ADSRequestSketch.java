@@ -0,0 +1,119 @@
+package server;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Tracks (approximately) how often each ADS is requested,
+ * in a fixed amount of memory no matter how many ADSes there are.
+ *
+ * The counts are kept in a count-min sketch: each ADS (handle,
+ * see ADSIdTable) is hashed to one counter in each of DEPTH rows
+ * and the estimate is the smallest of these counters. Estimates
+ * are never too low and only too high if the ADS shares all of its
+ * counters with frequently requested ADSes.
+ *
+ * A sketch cannot list the ADSes it has counted, so the
+ * most recent requests are also kept in a (lossy) ring buffer
+ * and the hottest ADSes are chosen from these. An ADS that
+ * is requested frequently is always among them.
+ *
+ * THREAD SAFETY:
+ * 		record, estimate and getHottest are safe for concurrent
+ * 		calls. decay can be called concurrently as well, but
+ * 		requests recorded at the same time may be lost
+ *
+ * @author henryaspegren
+ *
+ */
+public class ADSRequestSketch {
+
+	private static final int DEPTH = 4;
+	// (odd) multipliers for the hash of each row
+	private static final long[] SEEDS = { 0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL,
+			0x165667B19E3779F9L, 0xD6E8FEB86659FD93L };
+
+	private final int widthBits;
+	// row r, column c is at r*width + c
+	private final AtomicIntegerArray counts;
+
+	// the most recently requested handles
+	private final int[] recentRequests;
+	private final AtomicInteger nextRecentRequest;
+
+	/**
+	 * Create a sketch
+	 * @param widthBits - each row has 2^widthBits counters
+	 * @param recentRequests - the number of recent requests
+	 * to choose the hottest ADSes from
+	 */
+	public ADSRequestSketch(int widthBits, int recentRequests) {
+		this.widthBits = widthBits;
+		this.counts = new AtomicIntegerArray(DEPTH << widthBits);
+		this.recentRequests = new int[recentRequests];
+		Arrays.fill(this.recentRequests, ADSIdTable.NO_HANDLE);
+		this.nextRecentRequest = new AtomicInteger(0);
+	}
+
+	private int index(int row, int handle) {
+		int column = (int) ((handle * SEEDS[row]) >>> (64 - this.widthBits));
+		return (row << this.widthBits) + column;
+	}
+
+	/**
+	 * Record a request for the ADS
+	 * @param handle - the handle of the ADS
+	 */
+	public void record(int handle) {
+		for(int row = 0; row < DEPTH; row++) {
+			this.counts.incrementAndGet(this.index(row, handle));
+		}
+		int next = Math.floorMod(this.nextRecentRequest.getAndIncrement(), this.recentRequests.length);
+		this.recentRequests[next] = handle;
+	}
+
+	/**
+	 * Returns the estimated number of requests for the ADS
+	 * (this is never less than the actual number)
+	 * @param handle - the handle of the ADS
+	 * @return
+	 */
+	public int estimate(int handle) {
+		int estimate = Integer.MAX_VALUE;
+		for(int row = 0; row < DEPTH; row++) {
+			estimate = Math.min(estimate, this.counts.get(this.index(row, handle)));
+		}
+		return estimate;
+	}
+
+	/**
+	 * Halve all of the counts, so that the estimates
+	 * favor recent requests
+	 */
+	public void decay() {
+		for(int i = 0; i < this.counts.length(); i++) {
+			this.counts.set(i, this.counts.get(i) >> 1);
+		}
+	}
+
+	/**
+	 * Returns (up to) the n most requested ADSes
+	 * @param n
+	 * @param minRequests - ignore ADSes with fewer (estimated) requests
+	 * @return the handles of the ADSes, most requested first
+	 */
+	public int[] getHottest(int n, int minRequests) {
+		return Arrays.stream(this.recentRequests)
+				.filter(handle -> handle != ADSIdTable.NO_HANDLE)
+				.distinct()
+				.mapToObj(handle -> new int[] { handle, this.estimate(handle) })
+				.filter(x -> x[1] >= minRequests)
+				.sorted((x, y) -> Integer.compare(y[1], x[1]))
+				.limit(n)
+				.flatMapToInt(x -> IntStream.of(x[0]))
+				.toArray();
+	}
+
+}
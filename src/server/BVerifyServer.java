@@ -6,6 +6,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -40,6 +41,23 @@ public class BVerifyServer {
 	private final BVerifyServerRequestVerifier verifier;
 	private final BVerifyServerUpdateApplier applier;
 	private final ExecutorService applierExecutor;
+	private final BVerifyServerDeltaCompactor compactor;
+	private final ScheduledExecutorService compactorExecutor;
+	
+	/*
+	 * Old deltas are periodically compacted in 
+	 * epochs, but the most recent deltas are not
+	 */
+	private static final int COMPACTION_EPOCH_SIZE = 100;
+	private static final int UNCOMPACTED_COMMITMENTS = 100;
+	private static final int COMPACTION_INTERVAL_SECONDS = 60;
+	
+	/*
+	 * Optionally compacted deltas are written to disk 
+	 * (null if they are kept in memory)
+	 */
+	private final DeltaSegmentStore deltaStore;
+	private static final int HOT_DELTA_SEGMENTS = 4;
 	
 	/**
 	 * Shared Data
@@ -66,10 +84,33 @@ public class BVerifyServer {
 		
 	public BVerifyServer(String registryHost, int registryPort, StartingData initial, 
 			int batchSize, boolean requireSignatures) {
-		logger.log(Level.INFO, "staritng a b_verify server on host: "+registryHost+":"+registryPort+
-				" (batch size: "+batchSize+" | require signatures: "+requireSignatures);
+		this(registryHost, registryPort, initial, batchSize, requireSignatures, new BVerifyServerOptions());
+	}
+	
+	/**
+	 * Start a b_verify server
+	 * @param registryHost - the RMI registry to bind the server to 
+	 * (or null to run the server in test mode, without RMI)
+	 * @param registryPort
+	 * @param initial
+	 * @param batchSize
+	 * @param requireSignatures
+	 * @param options - the optional settings (see BVerifyServerOptions)
+	 */
+	public BVerifyServer(String registryHost, int registryPort, StartingData initial, 
+			int batchSize, boolean requireSignatures, BVerifyServerOptions options) {
+		logger.log(Level.INFO, "staritng a b_verify server "+
+				(registryHost != null ? "on host: "+registryHost+":"+registryPort : "in test mode (no RMI)")
+				+ " (batch size: "+batchSize+" | require signatures: "+requireSignatures+
+				" | "+options+")");
 		this.pki = initial.getPKI();
-		this.adsManager = new ADSManager(this.pki);
+		this.adsManager = new ADSManager(this.pki, options.getVersionedLeaves(), options.getRetentionHorizon(), 
+				options.getPrecomputeUpdates(), options.getShardPrefixBits());
+		if(options.getDeltaDirectory() != null) {
+			this.deltaStore = new DeltaSegmentStore(options.getDeltaDirectory(), HOT_DELTA_SEGMENTS);
+		}else {
+			this.deltaStore = null;
+		}
 		this.updatesToBeCommited = new LinkedBlockingQueue<>();
 		this.verifier = 
 				new BVerifyServerRequestVerifier(this.lock, this.updatesToBeCommited, this.adsManager,
@@ -97,6 +138,16 @@ public class BVerifyServer {
 		this.applierExecutor = Executors.newSingleThreadExecutor();
 		this.applierExecutor.submit(this.applier);
 		
+		// and the background compaction of old deltas
+		this.compactor = new BVerifyServerDeltaCompactor(this.lock, this.adsManager, this.deltaStore,
+				COMPACTION_EPOCH_SIZE, UNCOMPACTED_COMMITMENTS);
+		this.compactorExecutor = Executors.newSingleThreadScheduledExecutor();
+		this.compactorExecutor.scheduleWithFixedDelay(this.compactor, COMPACTION_INTERVAL_SECONDS, 
+				COMPACTION_INTERVAL_SECONDS, TimeUnit.SECONDS);
+		
+		if(registryHost == null) {
+			return;
+		}
 		// now connect to the rmi
 		this.rmi = new ClientProvider(registryHost, registryPort);
 		
@@ -113,53 +164,43 @@ public class BVerifyServer {
 	}
 		
 	public BVerifyServer(StartingData initializingData, int batchSize, boolean requireSignatures) {
-		logger.log(Level.INFO, "staritng a b_verify server in test mode (no RMI)"
-				+ " (batch size: "+batchSize+" | require signatures: "+requireSignatures+")");
-		this.pki = initializingData.getPKI();
-		this.adsManager = new ADSManager(this.pki);
-		this.updatesToBeCommited = new LinkedBlockingQueue<>();
-		this.verifier = 
-				new BVerifyServerRequestVerifier(this.lock, this.updatesToBeCommited, this.adsManager,
-						requireSignatures);
-		for(PerformUpdateRequest initializingUpdate : initializingData.getInitialUpdates()) {
-			PerformUpdateResponse response;
-			try {
-				response = PerformUpdateResponse.parseFrom(
-						this.verifier.performUpdate(initializingUpdate.toByteArray()));
-			} catch (InvalidProtocolBufferException e) {
-				e.printStackTrace();
-				throw new RuntimeException(e.getMessage());
-			}
-			boolean accepted = response.getAccepted();
-			if(!accepted) {
-				throw new RuntimeException("something wrong - initializing update rejected");
-			}
-		}
-		// now start up the applier 
-		// which will automatically apply the initializing updates 
-		this.applier = new BVerifyServerUpdateApplier(this.lock,
-						this.updatesToBeCommited, this.adsManager, batchSize);
-		
-		this.applierExecutor = Executors.newSingleThreadExecutor();
-		this.applierExecutor.submit(this.applier);
-		
-	} 
+		this(initializingData, batchSize, requireSignatures, new BVerifyServerOptions());
+	}
+	
+	public BVerifyServer(StartingData initializingData, int batchSize, boolean requireSignatures, 
+			BVerifyServerOptions options) {
+		this(null, 0, initializingData, batchSize, requireSignatures, options);
+	}
 	
 	public void shutdown() {
 		logger.log(Level.INFO, "...shutting down the server");
 		this.applier.setShutdown();
 		this.applierExecutor.shutdown();
+		this.compactorExecutor.shutdown();
 		try {
 			this.applierExecutor.awaitTermination(10, TimeUnit.SECONDS);
+			this.compactorExecutor.awaitTermination(10, TimeUnit.SECONDS);
 		} catch (InterruptedException e) {
 			e.printStackTrace();
 			throw new RuntimeException(e.getMessage());
 		}
+		this.adsManager.shutdown();
 	}
 	
 	// for testing only
 	public BVerifyServerRequestVerifier getRequestHandler() {
 		return this.verifier;
 	}
+	
+	// for testing only - compact old deltas now
+	public void compactDeltas(int epochSize, int uncompactedCommitments) {
+		new BVerifyServerDeltaCompactor(this.lock, this.adsManager, this.deltaStore,
+				epochSize, uncompactedCommitments).run();
+	}
+	
+	// for testing only - precompute the hot proofs now
+	public int precomputeHotProofs() {
+		return new BVerifyServerProofPrecomputer(this.lock, this.adsManager).precompute();
+	}
 
 }
@@ -0,0 +1,114 @@
+package server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import mpt.dictionary.AuthenticatedDictionaryChanges;
+import mpt.dictionary.MPTDictionaryDeltaArena;
+
+/**
+ * This is a background task that compacts old
+ * deltas. A delta is stored for every commitment, but only recent
+ * deltas are needed by most proofs. Whenever an epoch
+ * (a run of EPOCH_SIZE commitments) is older than the most
+ * recent UNCOMPACTED_COMMITMENTS commitments the deltas for the
+ * epoch are compacted into a more memory-efficient
+ * checkpoint (see MPTDictionaryDeltaArena), which creates the
+ * same freshness proofs.
+ *
+ * If a DeltaSegmentStore is provided the compacted deltas of 
+ * each epoch are instead written to a segment on disk and only
+ * a handle is kept in memory. Segments with only deltas 
+ * discarded by the retention horizon are deleted.
+ *
+ * The (slow) compaction is done holding only the READ LOCK,
+ * the WRITE LOCK is only held to swap in the compacted deltas.
+ * @author henryaspegren
+ *
+ */
+public class BVerifyServerDeltaCompactor implements Runnable {
+	private static final Logger logger = Logger.getLogger(BVerifyServerDeltaCompactor.class.getName());
+
+	/**
+	 * Parameters
+	 */
+	private final int EPOCH_SIZE;
+	private final int UNCOMPACTED_COMMITMENTS;
+
+	/**
+	 * Shared data!
+	 */
+	private final ReadWriteLock lock;
+	private final ADSManager adsManager;
+	
+	// can be null, in which case deltas are kept in memory
+	private final DeltaSegmentStore store;
+
+	public BVerifyServerDeltaCompactor(ReadWriteLock lock, ADSManager adsManager,
+			int epochSize, int uncompactedCommitments) {
+		this(lock, adsManager, null, epochSize, uncompactedCommitments);
+	}
+	
+	public BVerifyServerDeltaCompactor(ReadWriteLock lock, ADSManager adsManager, DeltaSegmentStore store,
+			int epochSize, int uncompactedCommitments) {
+		this.lock = lock;
+		this.adsManager = adsManager;
+		this.store = store;
+		this.EPOCH_SIZE = epochSize;
+		this.UNCOMPACTED_COMMITMENTS = uncompactedCommitments;
+	}
+
+	@Override
+	public void run() {
+		try {
+			while(this.compactNextEpoch()) {
+				logger.log(Level.FINE, "compacted an epoch");
+			}
+		}catch(Exception e) {
+			// do not kill the scheduled task
+			e.printStackTrace();
+			logger.log(Level.WARNING, "compaction failed: "+e.getMessage());
+		}
+	}
+
+	private boolean compactNextEpoch() {
+		int from;
+		List<MPTDictionaryDeltaArena> compacted;
+		this.lock.readLock().lock();
+		try {
+			if(this.store != null) {
+				// (no reader needs a delta before the retention horizon)
+				this.store.discardBefore(this.adsManager.getRetainedFrom());
+			}
+			from = this.adsManager.getCompactedUpTo();
+			int to = from + this.EPOCH_SIZE;
+			if(to > this.adsManager.getCurrentCommitmentNumber()+1-this.UNCOMPACTED_COMMITMENTS) {
+				return false;
+			}
+			compacted = this.adsManager.compactDeltas(from, to);
+		} finally {
+			this.lock.readLock().unlock();
+		}
+		List<? extends AuthenticatedDictionaryChanges> replacement = compacted;
+		if(this.store != null) {
+			// the segment is only read once the handles are swapped in
+			this.store.writeSegment(from, compacted);
+			List<AuthenticatedDictionaryChanges> handles = new ArrayList<>();
+			for(int i = 0; i < compacted.size(); i++) {
+				handles.add(this.store.handle(from+i));
+			}
+			replacement = handles;
+		}
+		this.lock.writeLock().lock();
+		try {
+			this.adsManager.replaceDeltas(from, replacement);
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,111 @@
+package server;
+
+import java.io.File;
+
+/**
+ * The optional settings of a b_verify server.
+ * The defaults are the original server: proofs with a
+ * freshness proof for every commitment, compacted deltas
+ * kept in memory and never discarded, no precomputed
+ * updates and a single (unsharded) auth ADS.
+ *
+ * The setters return the options, so they can be chained:
+ *
+ * 		new BVerifyServerOptions()
+ * 			.setVersionedLeaves(true)
+ * 			.setRetentionHorizon(1000)
+ *
+ * @author henryaspegren
+ *
+ */
+public class BVerifyServerOptions {
+
+	private boolean versionedLeaves = false;
+	private File deltaDirectory = null;
+	private int retentionHorizon = 0;
+	private boolean precomputeUpdates = false;
+	private int shardPrefixBits = 0;
+
+	/**
+	 * Store the ADS roots in versioned leaves (see ADSManager)
+	 * @param versionedLeaves
+	 * @return
+	 */
+	public BVerifyServerOptions setVersionedLeaves(boolean versionedLeaves) {
+		this.versionedLeaves = versionedLeaves;
+		return this;
+	}
+
+	/**
+	 * Write compacted deltas to disk in this directory
+	 * (or null to keep them in memory)
+	 * @param deltaDirectory
+	 * @return
+	 */
+	public BVerifyServerOptions setDeltaDirectory(File deltaDirectory) {
+		this.deltaDirectory = deltaDirectory;
+		return this;
+	}
+
+	/**
+	 * Only keep the deltas for the most recent commitments
+	 * (or 0 to keep all of them)
+	 * @param retentionHorizon
+	 * @return
+	 */
+	public BVerifyServerOptions setRetentionHorizon(int retentionHorizon) {
+		this.retentionHorizon = retentionHorizon;
+		return this;
+	}
+
+	/**
+	 * Precompute the updates in each delta
+	 * @param precomputeUpdates
+	 * @return
+	 */
+	public BVerifyServerOptions setPrecomputeUpdates(boolean precomputeUpdates) {
+		this.precomputeUpdates = precomputeUpdates;
+		return this;
+	}
+
+	/**
+	 * Shard the auth ADS on this many bits of the ADS ID
+	 * (or 0 to not shard it, see ADSManager)
+	 * @param shardPrefixBits
+	 * @return
+	 */
+	public BVerifyServerOptions setShardPrefixBits(int shardPrefixBits) {
+		this.shardPrefixBits = shardPrefixBits;
+		return this;
+	}
+
+	public boolean getVersionedLeaves() {
+		return this.versionedLeaves;
+	}
+
+	public File getDeltaDirectory() {
+		return this.deltaDirectory;
+	}
+
+	public int getRetentionHorizon() {
+		return this.retentionHorizon;
+	}
+
+	public boolean getPrecomputeUpdates() {
+		return this.precomputeUpdates;
+	}
+
+	public int getShardPrefixBits() {
+		return this.shardPrefixBits;
+	}
+
+	@Override
+	public String toString() {
+		return "versioned leaves: "+this.versionedLeaves+
+				" | delta directory: "+this.deltaDirectory+
+				" | retention horizon: "+this.retentionHorizon+
+				" | precompute updates: "+this.precomputeUpdates+
+				" | shard prefix bits: "+this.shardPrefixBits;
+	}
+
+}
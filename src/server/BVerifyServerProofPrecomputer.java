@@ -0,0 +1,57 @@
+package server;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This is a background task, run after each commit, that
+ * precomputes the proofs for the most requested ADSes
+ * (see ADSManager.precomputeHotProofs) so that clients
+ * polling for a new proof after every commitment get a
+ * ready response instead of waiting for the proof to be
+ * assembled.
+ *
+ * The proofs are computed holding only the READ LOCK, so
+ * requests are served concurrently.
+ * @author henryaspegren
+ *
+ */
+public class BVerifyServerProofPrecomputer implements Runnable {
+	private static final Logger logger = Logger.getLogger(BVerifyServerProofPrecomputer.class.getName());
+
+	/**
+	 * Shared data!
+	 */
+	private final ReadWriteLock lock;
+	private final ADSManager adsManager;
+
+	public BVerifyServerProofPrecomputer(ReadWriteLock lock, ADSManager adsManager) {
+		this.lock = lock;
+		this.adsManager = adsManager;
+	}
+
+	@Override
+	public void run() {
+		this.precompute();
+	}
+
+	/**
+	 * Precompute the proofs now
+	 * @return the number of proofs precomputed
+	 */
+	public int precompute() {
+		this.lock.readLock().lock();
+		try {
+			return this.adsManager.precomputeHotProofs();
+		}catch(Exception e) {
+			// do not kill the applier
+			e.printStackTrace();
+			logger.log(Level.WARNING, "precomputing proofs failed: "+e.getMessage());
+			return 0;
+		}finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+}
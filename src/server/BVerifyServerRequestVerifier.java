@@ -1,10 +1,13 @@
 package server;
 
+import java.nio.ByteBuffer;
 import java.rmi.RemoteException;
+import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.logging.Level;
@@ -12,24 +15,37 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import api.BVerifyProtocolServerAPI;
 import client.Request;
-import crpyto.CryptographicDigest;
 import crpyto.CryptographicSignature;
+import crpyto.CryptographicUtils;
 import mpt.core.Utils;
 import mpt.dictionary.MPTDictionaryPartial;
+import mpt.dictionary.MPTDictionaryPartialArena;
+import mpt.dictionary.MPTDictionaryProofVerifier;
 import pki.Account;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSModification;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof;
+import serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof;
+import serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof;
 import serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest;
 import serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryRequest;
+import serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.ModificationProof;
 import serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest;
 import serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateResponse;
 import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest;
 import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsRequest;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootsResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentRequest;
+import serialization.generated.BVerifyAPIMessageSerialization.ProveCommitmentResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.Update;
 
 /**
  * Locking Discipline + Concurrency: the client API can be exposed for
@@ -66,6 +82,15 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 	 * Optionally can disable the checking of signatures to speed test cases
 	 */
 	private final boolean requireSignatures;
+	
+	/**
+	 * Proof requests being computed, keyed by the ADS ID and the 
+	 * commitment number. The key includes the commitment number 
+	 * so a response is never shared across a commit (and requests
+	 * hold the read lock, so the commitment cannot change while 
+	 * they are in flight)
+	 */
+	private final SingleFlight<Map.Entry<ByteBuffer, Integer>, byte[]> proofRequestsInFlight;
 
 	public BVerifyServerRequestVerifier(ReadWriteLock lock, BlockingQueue<PerformUpdateRequest> update, ADSManager ads,
 			boolean requireSignatures) {
@@ -73,6 +98,7 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 		this.adsManager = ads;
 		this.updatesToBeCommited = update;
 		this.requireSignatures = requireSignatures;
+		this.proofRequestsInFlight = new SingleFlight<>();
 	}
 
 	@Override
@@ -118,8 +144,9 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 					return REJECTED;
 				}
 
-				// witness is the entire update
-				byte[] witness = CryptographicDigest.hash(request.getUpdate().toByteArray());
+				// witness is the entire update 
+				// (or the root of the Merkle-ized modifications)
+				byte[] witness = Request.witnessUpdate(request.getUpdate());
 				boolean result = IntStream.range(0, needToSign.size()).mapToObj(i -> {
 					Account a = needToSign.get(i);
 					byte[] sig = request.getSignatures(i).toByteArray();
@@ -152,39 +179,114 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 
 	@Override
 	public byte[] proveADSRoot(byte[] adsRootRequest) throws RemoteException {
+		ProveADSRootRequest request;
 		try {
 			logger.log(Level.FINE, "prove ads root request recieved");
-			this.lock.readLock().lock();
-			ProveADSRootRequest request = ProveADSRootRequest.parseFrom(adsRootRequest);
-			byte[] adsId = request.getAdsId().toByteArray();
-			ADSRootProof proof = this.adsManager.getADSRootProof(adsId);
-			this.lock.readLock().unlock();
-			return ProveADSRootResponse.newBuilder().setProof(proof).build().toByteArray();
+			request = ProveADSRootRequest.parseFrom(adsRootRequest);
 		} catch (InvalidProtocolBufferException e) {
 			e.printStackTrace();
 			logger.log(Level.WARNING, "bad request");
+			return null;
+		}
+		byte[] adsId = request.getAdsId().toByteArray();
+		// the lock must be released even if the request fails, 
+		// otherwise commits would block forever
+		this.lock.readLock().lock();
+		try {
+			if(request.getAsOfCase() == ProveADSRootRequest.AsOfCase.AS_OF_COMMITMENT) {
+				ADSRootProof proof = this.adsManager.getADSRootProof(adsId, request.getAsOfCommitment());
+				if(proof == null) {
+					logger.log(Level.WARNING, "proof requested for an unknown ADS or as of a commitment "
+							+ "that is not retained");
+					return null;
+				}
+				return ProveADSRootResponse.newBuilder().setProof(proof).build().toByteArray();
+			}
+			// the response may have been precomputed (for the most requested ADSes)
+			byte[] response = this.adsManager.getPrecomputedResponse(adsId);
+			if(response == null) {
+				// concurrent requests for the same ADS (in the same commitment) 
+				// share a single proof and serialized response
+				int currentCommitmentNumber = this.adsManager.getCurrentCommitmentNumber();
+				response = this.proofRequestsInFlight.get(
+						Map.entry(ByteBuffer.wrap(adsId), currentCommitmentNumber), 
+						() -> this.adsManager.getProveADSRootResponse(adsId));
+			}
+			return response;
+		} finally {
 			this.lock.readLock().unlock();
+		}
+	}
+	
+	@Override
+	public byte[] proveADSRoots(byte[] adsRootsRequest) throws RemoteException {
+		ProveADSRootsRequest request;
+		try {
+			logger.log(Level.FINE, "prove ads roots request recieved");
+			request = ProveADSRootsRequest.parseFrom(adsRootsRequest);
+		} catch (InvalidProtocolBufferException e) {
+			e.printStackTrace();
+			logger.log(Level.WARNING, "bad request");
 			return null;
 		}
+		List<byte[]> adsIds;
+		if(request.getAccountId().isEmpty()) {
+			adsIds = request.getAdsIdsList().stream()
+					.map(x -> x.toByteArray())
+					.collect(Collectors.toList());
+		}else {
+			adsIds = this.adsManager.getADSIds(request.getAccountId());
+			if(adsIds == null) {
+				logger.log(Level.WARNING, "proofs requested for an unknown account");
+				return null;
+			}
+		}
+		this.lock.readLock().lock();
+		try {
+			ADSRootsProof proof = this.adsManager.getADSRootsProof(adsIds);
+			if(proof == null) {
+				logger.log(Level.WARNING, "proofs requested for an unknown ADS");
+				return null;
+			}
+			return ProveADSRootsResponse.newBuilder().setProof(proof).build().toByteArray();
+		} finally {
+			this.lock.readLock().unlock();
+		}
 	}
 	
 	@Override
 	public byte[] getADSProofUpdates(byte[] proofUpdatesRequest) throws RemoteException {
+		logger.log(Level.FINE, "update ads proof request recieved");
+		GetADSProofUpdatesRequest request;
 		try {
-			logger.log(Level.FINE, "update ads proof request recieved");
-			this.lock.readLock().lock();
-			GetADSProofUpdatesRequest request = GetADSProofUpdatesRequest.parseFrom(proofUpdatesRequest);
-			byte[] adsId = request.getAdsId().toByteArray();
-			int fromCommitment = request.getFromCommitment();
-			ADSProofUpdates updates = this.adsManager.getADSProofUpdates(adsId, fromCommitment);
-			this.lock.readLock().unlock();
-			return GetADSProofUpdatesResponse.newBuilder().setUpdates(updates).build().toByteArray();
+			request = GetADSProofUpdatesRequest.parseFrom(proofUpdatesRequest);
 		} catch (InvalidProtocolBufferException e) {
 			e.printStackTrace();
 			logger.log(Level.WARNING, "bad request");
-			this.lock.readLock().unlock();
 			return null;
 		}
+		this.lock.readLock().lock();
+		try {
+			int fromCommitment = request.getFromCommitment();
+			if(fromCommitment < this.adsManager.getRetainedFrom()) {
+				// the client must ask for a new (checkpoint) proof
+				logger.log(Level.WARNING, "proof updates requested before the retention horizon");
+				return null;
+			}
+			ADSProofUpdates updates;
+			if(request.getAdsIdsCount() > 0) {
+				List<byte[]> adsIds = request.getAdsIdsList().stream()
+						.map(x -> x.toByteArray())
+						.collect(Collectors.toList());
+				updates = this.adsManager.getADSProofUpdates(adsIds, fromCommitment);
+			}else {
+				byte[] adsId = request.getAdsId().toByteArray();
+				updates = this.adsManager.getADSProofUpdates(adsId, fromCommitment);
+			}
+			return GetADSProofUpdatesResponse.newBuilder().setUpdates(updates).build().toByteArray();
+		} finally {
+			this.lock.readLock().unlock();
+		}
 	}
 		
 	// BENCHMARKING ONLY
@@ -202,11 +304,47 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 	// BENCHMARKING ONLY
 	public boolean checkProofMICROBENCHAMRK(ProveADSRootResponse proofToCheck, Request r, byte[] adsId, List<byte[]> commitments) {
 		try {
-			MPTDictionaryPartial updateProof = MPTDictionaryPartial.deserialize(proofToCheck.getProof().getLastUpdatedProof());
-			int updateValidAt = proofToCheck.getProof().getLastUpdate().getUpdate().getValidAtCommitmentNumber();
+			// if there is a current proof the last updated proof is only read, 
+			// so it is decoded into an arena instead of a partial MPT. 
+			// Otherwise the freshness proofs are applied to it
+			MPTDictionaryPartial updateProof = null;
+			MPTDictionaryPartialArena updateProofArena = null;
+			if(proofToCheck.getProof().hasCurrentProof()) {
+				updateProofArena = MPTDictionaryPartialArena.deserialize(
+						proofToCheck.getProof().getLastUpdatedProof().toByteArray());
+			}else {
+				updateProof = MPTDictionaryPartial.deserialize(proofToCheck.getProof().getLastUpdatedProof());
+			}
+			// the modifications of the last update, the witness 
+			// and the signatures over it
+			List<ADSModification> modifications;
+			int updateValidAt;
+			byte[] witness;
+			List<ByteString> signatures;
+			if(proofToCheck.getProof().hasLastUpdateModification()) {
+				// Merkle-ized modifications: only the modification of 
+				// this ADS is in the proof, the witness is calculated 
+				// from its path to the root over the modifications
+				ModificationProof modificationProof = proofToCheck.getProof().getLastUpdateModification();
+				modifications = Arrays.asList(modificationProof.getModification());
+				updateValidAt = modificationProof.getValidAtCommitmentNumber();
+				witness = Request.witnessUpdate(modificationProof);
+				signatures = modificationProof.getSignaturesList();
+				if(witness == null) {
+					logger.log(Level.WARNING, "modification proof is malformed");
+					return false;
+				}
+			}else {
+				Update lastUpdate = proofToCheck.getProof().getLastUpdate().getUpdate();
+				modifications = lastUpdate.getModificationsList();
+				updateValidAt = lastUpdate.getValidAtCommitmentNumber();
+				witness = Request.witnessUpdate(lastUpdate);
+				signatures = proofToCheck.getProof().getLastUpdate().getSignaturesList();
+			}
 			byte[] witnessedUpdateCommitment = commitments.get(updateValidAt);
 			// check that the update was witnessed
-			byte[] proofUpdateCommitment = updateProof.commitment();
+			byte[] proofUpdateCommitment = updateProofArena != null ? updateProofArena.commitment() :
+				updateProof.commitment();
 			if(!Arrays.equals(witnessedUpdateCommitment, proofUpdateCommitment)) {
 				logger.log(Level.WARNING, "proof update commitment: "+Utils.byteArrayAsHexString(proofUpdateCommitment)+
 										"\n witnessed update commitment: "+Utils.byteArrayAsHexString(witnessedUpdateCommitment));
@@ -214,9 +352,9 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 			}
 			byte[] adsValue = null;
 			List<byte[]> adsIds = new ArrayList<>();
-			for(ADSModification adsModification : proofToCheck.getProof().getLastUpdate().getUpdate().getModificationsList()) {
+			for(ADSModification adsModification : modifications) {
 				byte[] id = adsModification.getAdsId().toByteArray();
-				byte[] value = updateProof.get(adsModification.getAdsId().toByteArray());
+				byte[] value = updateProofArena != null ? updateProofArena.get(id) : updateProof.get(id);
 				if(!Arrays.equals(value, adsModification.getNewValue().toByteArray())) {
 					logger.log(Level.WARNING, "ads modification for last update not applied for: "+
 								Utils.byteArrayAsHexString(id));
@@ -234,22 +372,63 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 			
 			// check the signatures on the update
 			List<Account> accounts = r.getAccountsThatMustSignFromList(adsIds);
-			byte[] witness = CryptographicDigest.hash(proofToCheck.getProof().getLastUpdate()
-					.getUpdate().toByteArray());
-			boolean signaturesCorrect = true;
-			for(int i = 0 ; i < accounts.size(); i++) {
-				signaturesCorrect = signaturesCorrect && CryptographicSignature.verify(witness, 
-						proofToCheck.getProof().getLastUpdate().getSignatures(i).toByteArray(), 
-						accounts.get(i).getPublicKey());
+			boolean signaturesCorrect;
+			if(proofToCheck.getProof().hasLastUpdateModification()) {
+				signaturesCorrect = BVerifyServerRequestVerifier.containsSignatures(witness, signatures, accounts);
+			}else {
+				signaturesCorrect = accounts.size() <= signatures.size();
+				for(int i = 0 ; signaturesCorrect && i < accounts.size(); i++) {
+					signaturesCorrect = CryptographicSignature.verify(witness, 
+							signatures.get(i).toByteArray(), accounts.get(i).getPublicKey());
+				}
 			}
 			if(!signaturesCorrect) {
 				logger.log(Level.WARNING, "signatures are not correct");
 				return false;
 			}
 			// check freshness proof
-			for(int i = updateValidAt+1; i < commitments.size(); i++) {
+			int freshnessFrom = updateValidAt;
+			if(proofToCheck.getProof().hasCurrentProof()) {
+				// versioned leaves: a single path in the current commitment 
+				// shows the value has not changed since the update
+				// (or a checkpoint, signed by the server)
+				// verified directly from the bytes since it is a single path
+				MPTDictionaryProofVerifier currentProof = new MPTDictionaryProofVerifier();
+				byte[] currentProofCommitment = currentProof.verify(
+						proofToCheck.getProof().getCurrentProof().toByteArray(), adsId);
+				int currentCommitmentNumber = proofToCheck.getProof().getCurrentCommitmentNumber();
+				byte[] witnessedCommitment = commitments.get(currentCommitmentNumber);
+				if(!Arrays.equals(witnessedCommitment, currentProofCommitment)) {
+					logger.log(Level.WARNING, "witnessed commitment: "+Utils.byteArrayAsHexString(witnessedCommitment)+
+							"\n current proof commitment: "+Utils.byteArrayAsHexString(currentProofCommitment));
+					return false;
+				}
+				if(!Arrays.equals(adsValue, currentProof.getValue())) {
+					logger.log(Level.WARNING, "ads value changed since the last update");
+					return false;
+				}
+				if(proofToCheck.getProof().getCheckpointSignature().isEmpty()) {
+					if(currentProof.getVersion() != updateValidAt) {
+						logger.log(Level.WARNING, "ads version changed since the last update");
+						return false;
+					}
+					return true;
+				}
+				byte[] checkpointWitness = CryptographicUtils.witnessCheckpoint(adsId, updateValidAt, 
+						currentCommitmentNumber, witnessedCommitment);
+				if(!CryptographicSignature.verify(checkpointWitness, 
+						proofToCheck.getProof().getCheckpointSignature().toByteArray(), 
+						this.adsManager.getServerPublicKey())) {
+					logger.log(Level.WARNING, "checkpoint signature is not correct");
+					return false;
+				}
+				// the freshness proofs start at the checkpoint
+				updateProof = MPTDictionaryPartial.deserialize(proofToCheck.getProof().getCurrentProof());
+				freshnessFrom = currentCommitmentNumber;
+			}
+			for(int i = freshnessFrom+1; i < commitments.size(); i++) {
 				byte[] witnessedCommitment = commitments.get(i);
-				updateProof.processUpdates(proofToCheck.getProof().getFreshnessProof(i-updateValidAt-1));
+				updateProof.processUpdates(proofToCheck.getProof().getFreshnessProof(i-freshnessFrom-1));
 				byte[] freshnessProofValue = updateProof.get(adsId);
 				byte[] freshnessProofCommitment = updateProof.commitment();
 				if(!Arrays.equals(adsValue, freshnessProofValue)){
@@ -271,6 +450,36 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 		return true;
 	}
 	
+	/**
+	 * The signatures on an update are sorted by account, so the 
+	 * signatures of the (sorted) owners of a single modified ADS 
+	 * are a subsequence of them
+	 * @param witness
+	 * @param signatures - the signatures of all of the owners of the modified ADSes
+	 * @param accounts - the (sorted) accounts that must have signed
+	 * @return true if every account has a signature on the witness
+	 */
+	private static boolean containsSignatures(byte[] witness, List<ByteString> signatures, 
+			List<Account> accounts) {
+		int next = 0;
+		for(Account account : accounts) {
+			while(next < signatures.size() && !CryptographicSignature.verify(witness, 
+					signatures.get(next).toByteArray(), account.getPublicKey())) {
+				next++;
+			}
+			if(next == signatures.size()) {
+				return false;
+			}
+			next++;
+		}
+		return true;
+	}
+	
+	@Override
+	public PublicKey serverPublicKey() throws RemoteException {
+		return this.adsManager.getServerPublicKey();
+	}
+	
 	@Override
 	public List<byte[]> commitments() throws RemoteException {
 		logger.log(Level.FINE, "get commitments request recieved");
@@ -279,5 +488,58 @@ public class BVerifyServerRequestVerifier implements BVerifyProtocolServerAPI {
 		this.lock.readLock().unlock();
 		return commitments;
 	}
+	
+	@Override
+	public byte[] getCommitmentHistory(byte[] commitmentHistoryRequest) throws RemoteException {
+		GetCommitmentHistoryRequest request;
+		try {
+			logger.log(Level.FINE, "get commitment history request recieved");
+			request = GetCommitmentHistoryRequest.parseFrom(commitmentHistoryRequest);
+		} catch (InvalidProtocolBufferException e) {
+			e.printStackTrace();
+			logger.log(Level.WARNING, "bad request");
+			return null;
+		}
+		this.lock.readLock().lock();
+		try {
+			GetCommitmentHistoryResponse history = this.adsManager.getCommitmentHistory(request.getFromCommitment());
+			if(history == null) {
+				logger.log(Level.WARNING, "commitment history requested from a commitment that does not exist");
+				return null;
+			}
+			return history.toByteArray();
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	@Override
+	public byte[] proveCommitment(byte[] commitmentRequest) throws RemoteException {
+		ProveCommitmentRequest request;
+		try {
+			logger.log(Level.FINE, "prove commitment request recieved");
+			request = ProveCommitmentRequest.parseFrom(commitmentRequest);
+		} catch (InvalidProtocolBufferException e) {
+			e.printStackTrace();
+			logger.log(Level.WARNING, "bad request");
+			return null;
+		}
+		this.lock.readLock().lock();
+		try {
+			int numberOfCommitments = this.adsManager.getCurrentCommitmentNumber()+1;
+			if(request.getAsOfCase() == ProveCommitmentRequest.AsOfCase.NUMBER_OF_COMMITMENTS) {
+				numberOfCommitments = request.getNumberOfCommitments();
+			}
+			CommitmentProof proof = this.adsManager.getCommitmentProof(request.getCommitmentNumber(), 
+					numberOfCommitments);
+			if(proof == null) {
+				logger.log(Level.WARNING, "proof requested for a commitment that does not exist");
+				return null;
+			}
+			return ProveCommitmentResponse.newBuilder().setProof(proof).build().toByteArray();
+		} finally {
+			this.lock.readLock().unlock();
+		}
+	}
 
 }
@@ -3,9 +3,11 @@ package server;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.logging.Level;
@@ -47,6 +49,15 @@ public class BVerifyServerUpdateApplier implements Runnable {
 	 * Workers for parallelizing commitment work
 	 */
 	private final ExecutorService workers = Executors.newCachedThreadPool();
+	
+	/**
+	 * After each commit the proofs for the most requested ADSes 
+	 * are precomputed in the background. At most one run is 
+	 * queued, if commits happen faster runs are skipped.
+	 */
+	private final BVerifyServerProofPrecomputer precomputer;
+	private final ExecutorService precomputeExecutor = new ThreadPoolExecutor(1, 1, 
+			0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.DiscardPolicy());
 		
 	public BVerifyServerUpdateApplier(ReadWriteLock lock, BlockingQueue<PerformUpdateRequest> updates, 
 			ADSManager adsManager, 
@@ -58,6 +69,7 @@ public class BVerifyServerUpdateApplier implements Runnable {
 		this.totalUpdates = 0;
 		this.uncommittedUpdates = 0;
 		this.shutdown = false;
+		this.precomputer = new BVerifyServerProofPrecomputer(lock, adsManager);
 
 		try {
 			// process any initializing updates - if any!
@@ -137,6 +149,7 @@ public class BVerifyServerUpdateApplier implements Runnable {
 					this.adsManager.commitParallelized(this.workers);		
 					long endTime = System.currentTimeMillis();
 					this.lock.writeLock().unlock();
+					this.precomputeExecutor.execute(this.precomputer);
 					long duration = endTime - startTime;
 					NumberFormat formatter = new DecimalFormat("#0.000");
 					String timeTaken = formatter.format(duration / 1000d)+ " seconds";
@@ -147,6 +160,7 @@ public class BVerifyServerUpdateApplier implements Runnable {
 				}
 			}	
 			logger.log(Level.INFO, "...shutting down applier workers");
+			this.precomputeExecutor.shutdown();
 			this.workers.shutdown();
 			try {
 			    if (!this.workers.awaitTermination(800, TimeUnit.MILLISECONDS)) {
@@ -0,0 +1,255 @@
+package server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import mpt.core.InvalidSerializationException;
+import mpt.dictionary.AuthenticatedDictionaryChanges;
+import mpt.dictionary.MPTDictionaryDeltaArena;
+import serialization.generated.MptSerialization.MerklePrefixTrie;
+
+/**
+ * Stores the deltas for old (sealed) commitments on disk so
+ * that they do not need to be kept in memory.
+ *
+ * Deltas are written in runs of consecutive commitments. Each
+ * run is written once to its own append-only segment file using the
+ * compact encoding of MPTDictionaryDeltaArena and is never modified
+ * afterwards. The offsets of the deltas are kept in an in-memory
+ * index and segments are read by memory mapping the file. The
+ * decoded deltas of the most recently used segments are cached,
+ * since proofs for nearby commitments are usually requested together.
+ *
+ * THREAD SAFETY: get may be called concurrently, but only one
+ * call to writeSegment should be made at a time
+ *
+ * @author henryaspegren
+ *
+ */
+public class DeltaSegmentStore {
+	private static final Logger logger = Logger.getLogger(DeltaSegmentStore.class.getName());
+
+	private final File directory;
+
+	// index: first commitment of each segment -> segment
+	private final List<Segment> segments;
+
+	// decoded deltas of the hot segments
+	// (least recently used are evicted)
+	private final Map<Segment, MPTDictionaryDeltaArena[]> hotSegments;
+
+	private static class Segment {
+		private final int firstCommitment;
+		// offsets[i] is the start of the delta for firstCommitment+i
+		// and offsets[i+1] is the end
+		private final int[] offsets;
+		private final MappedByteBuffer mapped;
+
+		private Segment(int firstCommitment, int[] offsets, MappedByteBuffer mapped) {
+			this.firstCommitment = firstCommitment;
+			this.offsets = offsets;
+			this.mapped = mapped;
+		}
+
+		private int size() {
+			return this.offsets.length-1;
+		}
+	}
+
+	public DeltaSegmentStore(File directory, final int maxHotSegments) {
+		if(!directory.isDirectory() && !directory.mkdirs()) {
+			throw new RuntimeException("cannot create delta directory: "+directory);
+		}
+		this.directory = directory;
+		this.segments = new ArrayList<>();
+		this.hotSegments = new LinkedHashMap<Segment, MPTDictionaryDeltaArena[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Segment, MPTDictionaryDeltaArena[]> eldest) {
+				return this.size() > maxHotSegments;
+			}
+		};
+	}
+
+	/**
+	 * Write the deltas for commitments [firstCommitment, firstCommitment+deltas.size())
+	 * to a new segment. Segments must be written in order, but there can be 
+	 * gaps (the deltas discarded by the retention horizon are never written).
+	 * @param firstCommitment
+	 * @param deltas
+	 */
+	public void writeSegment(int firstCommitment, List<MPTDictionaryDeltaArena> deltas) {
+		if(firstCommitment < this.getNextCommitment()) {
+			throw new RuntimeException("segments must be written in order");
+		}
+		File file = new File(this.directory, "deltas-"+firstCommitment+".seg");
+		int[] offsets = new int[deltas.size()+1];
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+				FileChannel channel = raf.getChannel()) {
+			channel.truncate(0);
+			long position = 0;
+			for(int i = 0; i < deltas.size(); i++) {
+				offsets[i] = (int) position;
+				ByteBuffer serialized = ByteBuffer.wrap(deltas.get(i).serialize());
+				while(serialized.hasRemaining()) {
+					position += channel.write(serialized);
+				}
+				if(position > Integer.MAX_VALUE) {
+					throw new RuntimeException("segment is too large");
+				}
+			}
+			offsets[deltas.size()] = (int) position;
+			channel.force(true);
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, position);
+			synchronized(this.segments) {
+				this.segments.add(new Segment(firstCommitment, offsets, mapped));
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+		logger.log(Level.FINE, "wrote segment "+file+" ("+offsets[deltas.size()]+" bytes)");
+	}
+
+	/**
+	 * Returns the next commitment that should be written
+	 * @return
+	 */
+	public int getNextCommitment() {
+		synchronized(this.segments) {
+			if(this.segments.isEmpty()) {
+				return 0;
+			}
+			Segment last = this.segments.get(this.segments.size()-1);
+			return last.firstCommitment+last.size();
+		}
+	}
+
+	/**
+	 * Deletes the segments that only contain deltas for
+	 * commitments before retainedFrom. The deltas must no 
+	 * longer be read.
+	 * @param retainedFrom
+	 * @return the number of segments deleted
+	 */
+	public int discardBefore(int retainedFrom) {
+		List<Segment> discarded = new ArrayList<>();
+		synchronized(this.segments) {
+			while(!this.segments.isEmpty() && 
+					this.segments.get(0).firstCommitment+this.segments.get(0).size() <= retainedFrom) {
+				discarded.add(this.segments.remove(0));
+			}
+		}
+		for(Segment segment : discarded) {
+			synchronized(this.hotSegments) {
+				this.hotSegments.remove(segment);
+			}
+			// (the mapping stays valid until it is garbage collected)
+			File file = new File(this.directory, "deltas-"+segment.firstCommitment+".seg");
+			if(!file.delete()) {
+				logger.log(Level.WARNING, "could not delete segment "+file);
+			}
+		}
+		return discarded.size();
+	}
+
+	/**
+	 * Get the delta for a commitment that has been written
+	 * @param commitment
+	 * @return
+	 */
+	public AuthenticatedDictionaryChanges get(int commitment) {
+		Segment segment = this.findSegment(commitment);
+		MPTDictionaryDeltaArena[] deltas;
+		synchronized(this.hotSegments) {
+			deltas = this.hotSegments.get(segment);
+			if(deltas == null) {
+				deltas = new MPTDictionaryDeltaArena[segment.size()];
+				this.hotSegments.put(segment, deltas);
+			}
+		}
+		int index = commitment - segment.firstCommitment;
+		// deltas are decoded lazily, decoding the same
+		// delta twice concurrently is safe
+		MPTDictionaryDeltaArena delta;
+		synchronized(deltas) {
+			delta = deltas[index];
+		}
+		if(delta == null) {
+			delta = this.read(segment, index);
+			synchronized(deltas) {
+				deltas[index] = delta;
+			}
+		}
+		return delta;
+	}
+
+	private Segment findSegment(int commitment) {
+		synchronized(this.segments) {
+			// binary search for the last segment starting at or before the commitment
+			int lo = 0;
+			int hi = this.segments.size()-1;
+			while(lo <= hi) {
+				int mid = (lo+hi) >>> 1;
+				Segment segment = this.segments.get(mid);
+				if(commitment < segment.firstCommitment) {
+					hi = mid-1;
+				}else if(commitment >= segment.firstCommitment+segment.size()) {
+					lo = mid+1;
+				}else {
+					return segment;
+				}
+			}
+		}
+		throw new RuntimeException("commitment #"+commitment+" has not been written");
+	}
+
+	private MPTDictionaryDeltaArena read(Segment segment, int index) {
+		int start = segment.offsets[index];
+		byte[] asbytes = new byte[segment.offsets[index+1]-start];
+		// duplicate so that concurrent reads do not share a position
+		ByteBuffer view = segment.mapped.duplicate();
+		view.position(start);
+		view.get(asbytes);
+		try {
+			return MPTDictionaryDeltaArena.deserialize(asbytes);
+		} catch (InvalidSerializationException e) {
+			e.printStackTrace();
+			throw new RuntimeException("corrupt delta segment: "+e.getMessage());
+		}
+	}
+
+	/**
+	 * A handle for a delta stored on disk, which
+	 * can be kept in memory in place of the delta.
+	 */
+	public AuthenticatedDictionaryChanges handle(final int commitment) {
+		return new AuthenticatedDictionaryChanges() {
+			@Override
+			public MerklePrefixTrie getUpdates(byte[] key) {
+				return DeltaSegmentStore.this.get(commitment).getUpdates(key);
+			}
+
+			@Override
+			public MerklePrefixTrie getUpdates(List<byte[]> keys) {
+				return DeltaSegmentStore.this.get(commitment).getUpdates(keys);
+			}
+
+			@Override
+			public MerklePrefixTrie getPaths(List<byte[]> keys) {
+				return DeltaSegmentStore.this.get(commitment).getPaths(keys);
+			}
+		};
+	}
+
+}
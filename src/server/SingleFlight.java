@@ -0,0 +1,60 @@
+package server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical computations: while a value
+ * is being computed for a key, any other call for the same
+ * key waits for and shares that result instead of computing
+ * it again. Once the computation completes the key is
+ * forgotten, so later calls compute the value again
+ * (this is not a cache).
+ *
+ * THREAD SAFETY:
+ * 		get is safe for concurrent calls
+ *
+ * @author henryaspegren
+ *
+ * @param <K> - the key, must implement equals and hashCode
+ * @param <V> - the value
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight;
+
+	public SingleFlight() {
+		this.inFlight = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Get the value for the key, either by computing it or,
+	 * if it is already being computed, by waiting for that
+	 * computation. If the computation throws (an exception 
+	 * or an error), every caller waiting for it gets it.
+	 * @param key
+	 * @param computation - computes the value for the key
+	 * @return
+	 */
+	public V get(K key, Supplier<V> computation) {
+		CompletableFuture<V> result = new CompletableFuture<>();
+		CompletableFuture<V> existing = this.inFlight.putIfAbsent(key, result);
+		if(existing != null) {
+			return existing.join();
+		}
+		try {
+			V value = computation.get();
+			result.complete(value);
+			return value;
+		} catch(Throwable e) {
+			// (including errors, otherwise the waiting 
+			// callers would never be woken up)
+			result.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.inFlight.remove(key, result);
+		}
+	}
+
+}
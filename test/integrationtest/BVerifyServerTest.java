@@ -1,18 +1,26 @@
 package integrationtest;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.rmi.RemoteException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import client.Request;
 import crpyto.CryptographicDigest;
+import pki.Account;
 import server.BVerifyServer;
+import server.BVerifyServerOptions;
 import server.StartingData;
 
 public class BVerifyServerTest {
@@ -87,6 +95,419 @@ public class BVerifyServerTest {
 		}
 	}
 	
+	@Test
+	public void testSingleADSUpdatesSameValue() {
+		int batchSize = 1;
+		boolean requireSignatures = true;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds().subList(0, 10);
+		logger.log(Level.INFO, "testing updates that do not change the value, total updates: "+2*adsIds.size());
+		byte[] newValue = CryptographicDigest.hash("some new value".getBytes());
+		for(byte[] adsId : adsIds) {
+			// the second update does not change the auth ADS
+			for(int i = 0; i < 2; i++) {
+				boolean updateAccepted = tester.doUpdate(adsId, newValue);
+				Assert.assertTrue("Update should be accepted", updateAccepted);
+			}
+			boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+			Assert.assertTrue("Proofs should be valid", proofsValid);
+		}
+	}
+
+	@Test
+	public void testSingleADSUpdatesMultipleTimesVersionedLeaves() {
+		int batchSize = 1;
+		boolean requireSignatures = true;
+		boolean versionedLeaves = true;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures, 
+				new BVerifyServerOptions().setVersionedLeaves(versionedLeaves));
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		adsIdsToUpdate.addAll(new ArrayList<>(adsIds));
+		logger.log(Level.INFO, "testing updates with versioned leaves, total updates: "+adsIdsToUpdate.size());
+		Collections.shuffle(adsIdsToUpdate);
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+			Assert.assertTrue("Proofs should be valid", proofsValid);
+			i++;
+		}
+	}
+	
+	@Test
+	public void testConcurrentProofRequestsForSameADS() {
+		int batchSize = 1;
+		boolean requireSignatures = true;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds().subList(0, 20);
+		logger.log(Level.INFO, "testing concurrent proof requests, total updates: "+adsIds.size());
+		int i = 0;
+		for(byte[] adsId : adsIds) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			// (identical requests are coalesced)
+			boolean proofsValid = tester.getAndCheckProofConcurrently(adsIds.get(0), 16) && 
+					tester.getAndCheckProofConcurrently(adsId, 16);
+			Assert.assertTrue("Proofs should be valid", proofsValid);
+			i++;
+		}
+	}
+	
+	@Test
+	public void testPrecomputedProofsForHotADSes() {
+		int batchSize = 1;
+		boolean requireSignatures = true;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		// a few ADSes are polled after every commitment
+		List<byte[]> hotAdsIds = adsIds.subList(0, 5);
+		List<byte[]> adsIdsToUpdate = adsIds.subList(0, 30);
+		logger.log(Level.INFO, "testing precomputed proofs, total updates: "+adsIdsToUpdate.size());
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			for(byte[] hotAdsId : hotAdsIds) {
+				for(int j = 0; j < 3; j++) {
+					boolean proofValid = tester.getAndCheckProof(hotAdsId);
+					Assert.assertTrue("Proof should be valid", proofValid);
+				}
+			}
+			// (also precomputed in the background after each commit)
+			int precomputed = server.precomputeHotProofs();
+			Assert.assertTrue("Hot proofs should be precomputed", precomputed >= hotAdsIds.size());
+			// these are served the precomputed responses
+			boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+			Assert.assertTrue("Proofs should be valid", proofsValid);
+			i++;
+		}
+	}
+	
+	@Test
+	public void testMergedProofForMultipleADSes() {
+		int batchSize = 1;
+		boolean requireSignatures = true;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		// track half of the ADSes with a single merged proof
+		List<byte[]> adsIdsTracked = new ArrayList<>(adsIds.subList(0, adsIds.size()/2));
+		boolean mergedProofValid = tester.getAndCheckMergedProof(adsIdsTracked);
+		Assert.assertTrue("Merged proof should be valid", mergedProofValid);
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		Collections.shuffle(adsIdsToUpdate);
+		logger.log(Level.INFO, "testing merged proof updates, total updates: "+adsIdsToUpdate.size());
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			// only ask for updates every few commitments
+			if(i % 7 == 0) {
+				mergedProofValid = tester.updateAndCheckMergedProof();
+				Assert.assertTrue("Merged proof should be valid", mergedProofValid);
+			}
+			i++;
+		}
+		mergedProofValid = tester.updateAndCheckMergedProof();
+		Assert.assertTrue("Merged proof should be valid", mergedProofValid);
+	}
+	
+	@Test
+	public void testProofsAfterDeltaCompaction() {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		adsIdsToUpdate.addAll(new ArrayList<>(adsIds));
+		adsIdsToUpdate.addAll(new ArrayList<>(adsIds));
+		Collections.shuffle(adsIdsToUpdate);
+		// only take half of the ADSes so that some proofs 
+		// go all the way back to the (compacted) initial commitment
+		adsIdsToUpdate = adsIdsToUpdate.subList(0, adsIdsToUpdate.size()/2);
+		logger.log(Level.INFO, "testing proofs after compaction, total updates: "+adsIdsToUpdate.size());
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			i++;
+		}
+		// compact all but the last few commitments
+		server.compactDeltas(10, 5);
+		boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+		Assert.assertTrue("Proofs should be valid", proofsValid);
+	}
+	
+	@Test
+	public void testMultipleADSUpdateProofsAfterDeltaCompaction() {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		BVerifyServerTest.multipleADSUpdateProofsAfterOldDeltas(tester, 
+				() -> server.compactDeltas(2, 1));
+	}
+	
+	@Test
+	public void testMultipleADSUpdateProofsAfterRetentionHorizon() {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		boolean versionedLeaves = false;
+		int retentionHorizon = 3;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures, 
+				new BVerifyServerOptions()
+					.setVersionedLeaves(versionedLeaves)
+					.setRetentionHorizon(retentionHorizon));
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		BVerifyServerTest.multipleADSUpdateProofsAfterOldDeltas(tester, () -> {});
+	}
+	
+	private static void multipleADSUpdateProofsAfterOldDeltas(MockTester tester, Runnable dropOldDeltas) {
+		List<byte[]> adsIds = tester.getADSIds();
+		// a single update for several ADSes whose proof is not requested
+		List<Map.Entry<byte[], byte[]>> updates = new ArrayList<>();
+		for(int i = 0; i < 5; i++) {
+			updates.add(Map.entry(adsIds.get(i), CryptographicDigest.hash(("multiple"+i).getBytes())));
+		}
+		boolean updateAccepted = tester.doUpdate(updates);
+		Assert.assertTrue("Update should be accepted", updateAccepted);
+		// then only the first ADS is updated again 
+		updateAccepted = tester.doUpdate(adsIds.get(0), CryptographicDigest.hash("again".getBytes()));
+		Assert.assertTrue("Update should be accepted", updateAccepted);
+		// and the delta for the update is compacted or discarded
+		for(int i = 5; i < 15; i++) {
+			updateAccepted = tester.doUpdate(adsIds.get(i), CryptographicDigest.hash(("later"+i).getBytes()));
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+		}
+		dropOldDeltas.run();
+		for(int i = 1; i < 5; i++) {
+			boolean proofValid = tester.getAndCheckProof(adsIds.get(i));
+			Assert.assertTrue("Proof should be valid", proofValid);
+		}
+		boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+		Assert.assertTrue("Proofs should be valid", proofsValid);
+	}
+	
+	@Test
+	public void testHistoricalProofs() throws RemoteException {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		adsIdsToUpdate.addAll(new ArrayList<>(adsIds));
+		Collections.shuffle(adsIdsToUpdate);
+		adsIdsToUpdate = adsIdsToUpdate.subList(0, adsIdsToUpdate.size()/2);
+		logger.log(Level.INFO, "testing historical proofs, total updates: "+adsIdsToUpdate.size());
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			i++;
+		}
+		// historical proofs come from both compacted and uncompacted deltas
+		server.compactDeltas(10, 50);
+		for(int asOf = 0; asOf <= adsIdsToUpdate.size(); asOf += 7) {
+			for(byte[] adsId : adsIds) {
+				boolean proofValid = tester.getAndCheckHistoricalProof(adsId, asOf);
+				Assert.assertTrue("Historical proof should be valid", proofValid);
+			}
+		}
+		// a request for an unknown ADS is rejected and does not block commits
+		byte[] unknownAdsId = CryptographicDigest.hash("unknown ADS".getBytes());
+		Assert.assertNull("Proof for an unknown ADS should be rejected", server.getRequestHandler()
+				.proveADSRoot(Request.createProveADSRootRequest(unknownAdsId, 0).toByteArray()));
+		boolean updateAccepted = tester.doUpdate(adsIds.get(0), CryptographicDigest.hash("after".getBytes()));
+		Assert.assertTrue("Update should be accepted", updateAccepted);
+	}
+
+	@Test
+	public void testProofsAfterSpillingDeltasToDisk() throws IOException {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		boolean versionedLeaves = false;
+		File deltaDirectory = Files.createTempDirectory("deltas").toFile();
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures, 
+				new BVerifyServerOptions()
+					.setVersionedLeaves(versionedLeaves)
+					.setDeltaDirectory(deltaDirectory));
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		Collections.shuffle(adsIdsToUpdate);
+		adsIdsToUpdate = adsIdsToUpdate.subList(0, adsIdsToUpdate.size()/2);
+		logger.log(Level.INFO, "testing proofs from disk, total updates: "+adsIdsToUpdate.size());
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			i++;
+			// write deltas to disk as we go
+			if(i % 20 == 0) {
+				server.compactDeltas(10, 5);
+			}
+		}
+		boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+		Assert.assertTrue("Proofs should be valid", proofsValid);
+		tester.shutdown();
+		for(File segment : deltaDirectory.listFiles()) {
+			segment.delete();
+		}
+		deltaDirectory.delete();
+	}
+	
+	@Test
+	public void testSpillingDeltasToDiskWithRetentionHorizon() throws IOException {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		boolean versionedLeaves = false;
+		int retentionHorizon = 20;
+		int epochSize = 5;
+		File deltaDirectory = Files.createTempDirectory("deltas").toFile();
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures, 
+				new BVerifyServerOptions()
+					.setVersionedLeaves(versionedLeaves)
+					.setDeltaDirectory(deltaDirectory)
+					.setRetentionHorizon(retentionHorizon));
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		Collections.shuffle(adsIdsToUpdate);
+		adsIdsToUpdate = adsIdsToUpdate.subList(0, adsIdsToUpdate.size()/2);
+		logger.log(Level.INFO, "testing proofs from disk with a retention horizon, total updates: "+
+				adsIdsToUpdate.size());
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			i++;
+			// write deltas to disk as we go (less often than the
+			// horizon, so some deltas are discarded before they are written)
+			if(i % 25 == 0) {
+				server.compactDeltas(epochSize, 2);
+			}
+		}
+		server.compactDeltas(epochSize, 2);
+		boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+		Assert.assertTrue("Proofs should be valid", proofsValid);
+		tester.shutdown();
+		// segments keep being written after deltas are discarded
+		// and the segments before the horizon are deleted
+		int retainedFrom = adsIdsToUpdate.size()-retentionHorizon+1;
+		File[] segments = deltaDirectory.listFiles();
+		Assert.assertTrue("Segments should be written after the horizon", segments.length > 0);
+		for(File segment : segments) {
+			String name = segment.getName();
+			int firstCommitment = Integer.parseInt(name.substring("deltas-".length(), name.length()-".seg".length()));
+			Assert.assertTrue("Old segments should be deleted", firstCommitment+epochSize > retainedFrom);
+		}
+		for(File segment : segments) {
+			segment.delete();
+		}
+		deltaDirectory.delete();
+	}
+	
+	@Test
+	public void testCheckpointProofsWithRetentionHorizon() {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		boolean versionedLeaves = false;
+		int retentionHorizon = 10;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures, 
+				new BVerifyServerOptions()
+					.setVersionedLeaves(versionedLeaves)
+					.setRetentionHorizon(retentionHorizon));
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		Collections.shuffle(adsIdsToUpdate);
+		// only take half of the ADSes so that the rest 
+		// are last updated before the retention horizon
+		adsIdsToUpdate = adsIdsToUpdate.subList(0, adsIdsToUpdate.size()/2);
+		logger.log(Level.INFO, "testing checkpoint proofs, total updates: "+adsIdsToUpdate.size());
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			if(i % 7 == 0) {
+				boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+				Assert.assertTrue("Proofs should be valid", proofsValid);
+			}
+			i++;
+		}
+		boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+		Assert.assertTrue("Proofs should be valid", proofsValid);
+	}
+	
+	@Test
+	public void testSingleADSUpdatesMultipleTimesPrecomputedUpdates() {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		boolean precomputeUpdates = true;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures, 
+				new BVerifyServerOptions().setPrecomputeUpdates(precomputeUpdates));
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		adsIdsToUpdate.addAll(new ArrayList<>(adsIds));
+		logger.log(Level.INFO, "testing precomputed updates, total updates: "+adsIdsToUpdate.size());
+		Collections.shuffle(adsIdsToUpdate);
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+			Assert.assertTrue("Proofs should be valid", proofsValid);
+			i++;
+		}
+	}
+	
+	@Test
+	public void testUpdateMultipleTimesBatchedShardedADS() {
+		int batchSize = 25;
+		boolean requireSignatures = false;
+		int shardPrefixBits = 4;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures,
+				new BVerifyServerOptions().setShardPrefixBits(shardPrefixBits));
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]>adsIds = tester.getADSIds();
+		List<byte[]> adsIdsToUpdate = new ArrayList<>();
+		for(int i = 0; i < 3; i++) {
+			// (each batch updates each ADS once)
+			Collections.shuffle(adsIds);
+			adsIdsToUpdate.addAll(new ArrayList<>(adsIds));
+		}
+		logger.log(Level.INFO, "testing sharded updates, total updates: "+adsIdsToUpdate.size());
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+			Assert.assertTrue("Proofs should be valid", proofsValid);
+			i++;
+		}
+		server.shutdown();
+	}
+
 	@Test
 	public void testUpdateMultipleTimesBatched() {
 		int batchSize = 25;
@@ -163,6 +584,141 @@ public class BVerifyServerTest {
 			}			
 		}
 		
-	}	
+	}
+	
+	@Test
+	public void testProveManyADSRootsInOneRequest() throws RemoteException {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		BVerifyServerTest.proveManyADSRootsInOneRequest(tester);
+		// requests for an unknown ADS or account are rejected and do not block commits
+		List<byte[]> adsIds = new ArrayList<>(tester.getADSIds());
+		adsIds.add(CryptographicDigest.hash("unknown ADS".getBytes()));
+		Assert.assertNull("Proofs for an unknown ADS should be rejected", server.getRequestHandler()
+				.proveADSRoots(Request.createProveADSRootsRequest(adsIds).toByteArray()));
+		Assert.assertNull("Proofs for an unknown account should be rejected", server.getRequestHandler()
+				.proveADSRoots(Request.createProveADSRootsRequest("unknown account").toByteArray()));
+		boolean updateAccepted = tester.doUpdate(adsIds.get(0), CryptographicDigest.hash("after".getBytes()));
+		Assert.assertTrue("Update should be accepted", updateAccepted);
+	}
+	
+	@Test
+	public void testProveManyADSRootsInOneRequestVersionedLeaves() throws RemoteException {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		boolean versionedLeaves = true;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures, 
+				new BVerifyServerOptions().setVersionedLeaves(versionedLeaves));
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		BVerifyServerTest.proveManyADSRootsInOneRequest(tester);
+	}
+	
+	private static void proveManyADSRootsInOneRequest(MockTester tester) throws RemoteException {
+		List<byte[]> adsIds = tester.getADSIds();
+		boolean proofsValid = tester.getAndCheckProofs(adsIds);
+		Assert.assertTrue("Proofs should be valid", proofsValid);
+		List<byte[]> adsIdsToUpdate = new ArrayList<>(adsIds);
+		Collections.shuffle(adsIdsToUpdate);
+		// leave some ADSes at the initial update
+		adsIdsToUpdate = adsIdsToUpdate.subList(0, adsIdsToUpdate.size()*3/4);
+		logger.log(Level.INFO, "testing proofs for many ADSes in one request, total updates: "+
+				adsIdsToUpdate.size());
+		List<Map.Entry<byte[], byte[]>> updates = new ArrayList<>();
+		final int updateSize = 5;
+		int i = 0;
+		for(byte[] adsId : adsIdsToUpdate) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			updates.add(Map.entry(adsId, newValue));
+			i++;
+			if(updates.size() == updateSize) {
+				boolean updateAccepted = tester.doUpdate(updates);
+				Assert.assertTrue("Update should be accepted", updateAccepted);
+				updates.clear();
+				// a random subset of the ADSes
+				List<byte[]> adsIdsToProve = new ArrayList<>(adsIds);
+				Collections.shuffle(adsIdsToProve);
+				proofsValid = tester.getAndCheckProofs(adsIdsToProve.subList(0, i % adsIds.size()+1));
+				Assert.assertTrue("Proofs should be valid", proofsValid);
+			}
+		}
+		proofsValid = tester.getAndCheckProofs(adsIds);
+		Assert.assertTrue("Proofs should be valid", proofsValid);
+		// every ADS owned by an account
+		for(Account account : STARTING_DATA.getPKI().getAllAccounts()) {
+			proofsValid = tester.getAndCheckProofs(account);
+			Assert.assertTrue("Proofs should be valid", proofsValid);
+		}
+	}
+	
+	@Test
+	public void testCommitmentHistory() {
+		int batchSize = 1;
+		boolean requireSignatures = false;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		boolean historyValid = tester.syncAndCheckCommitmentHistory();
+		Assert.assertTrue("Commitment history should be valid", historyValid);
+		logger.log(Level.INFO, "testing commitment history, total updates: "+adsIds.size());
+		int i = 0;
+		for(byte[] adsId : adsIds) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+i).getBytes());
+			boolean updateAccepted = tester.doUpdate(adsId, newValue);
+			Assert.assertTrue("Update should be accepted", updateAccepted);
+			i++;
+			// only sync the history every few commitments
+			if(i % 7 == 0) {
+				historyValid = tester.syncAndCheckCommitmentHistory();
+				Assert.assertTrue("Commitment history should be valid", historyValid);
+				// every commitment so far is in the history
+				for(int commitmentNumber = 0; commitmentNumber <= i; commitmentNumber++) {
+					boolean proofValid = tester.getAndCheckCommitmentProof(commitmentNumber);
+					Assert.assertTrue("Commitment proof should be valid", proofValid);
+				}
+			}
+		}
+		historyValid = tester.syncAndCheckCommitmentHistory();
+		Assert.assertTrue("Commitment history should be valid", historyValid);
+	}
+	
+	@Test
+	public void testMultipleADSUpdatesMerkleModifications() {
+		int batchSize = 1;
+		boolean requireSignatures = true;
+		boolean merkleModifications = true;
+		BVerifyServer server = new BVerifyServer(STARTING_DATA, batchSize, requireSignatures);
+		MockTester tester = new MockTester(STARTING_DATA, server, batchSize, requireSignatures);
+		List<byte[]> adsIds = tester.getADSIds();
+		logger.log(Level.INFO, "testing updates with merkle-ized modifications, total updates: "+adsIds.size());
+		List<Map.Entry<byte[], byte[]>> updates = new ArrayList<>();
+		// (an odd size, so not every modification has a sibling)
+		final int updateSize = 7;
+		int salt = 0;
+		for(byte[] adsId : adsIds) {
+			byte[] newValue = CryptographicDigest.hash(("some new value"+salt).getBytes());
+			updates.add(Map.entry(adsId, newValue));
+			salt++;
+			if(updates.size() == updateSize) {
+				boolean updateAccepted = tester.doUpdate(updates, merkleModifications);
+				Assert.assertTrue("Update should be accepted", updateAccepted);
+				boolean proofsValid = tester.getAndCheckProofsAllADSIds();
+				Assert.assertTrue("Proofs should be valid", proofsValid);
+				// the verifier checks the modification (and its 
+				// signatures) without the rest of the update
+				for(Map.Entry<byte[], byte[]> update : updates) {
+					boolean proofValid = tester.getAndCheckProofWithVerifier(update.getKey());
+					Assert.assertTrue("Proof should be valid", proofValid);
+				}
+				// and each ADS has its own last update proof in a multi-ADS proof
+				boolean multiProofValid = tester.getAndCheckProofs(updates.stream()
+						.map(x -> x.getKey())
+						.collect(Collectors.toList()));
+				Assert.assertTrue("Proof should be valid", multiProofValid);
+				updates.clear();
+			}
+		}
+	}
 	
 }
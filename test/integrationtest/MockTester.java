@@ -11,16 +11,31 @@ import java.util.Map.Entry;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import client.Request;
+import crpyto.CryptographicSignature;
+import crpyto.CryptographicUtils;
+import crpyto.MerkleMountainRange;
+import mpt.core.InsufficientAuthenticationDataException;
+import mpt.core.InvalidSerializationException;
 import mpt.core.Utils;
 import mpt.dictionary.MPTDictionaryPartial;
+import mpt.dictionary.MPTDictionaryPartialArena;
+import pki.Account;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSModification;
+import serialization.generated.BVerifyAPIMessageSerialization.ADSProofUpdates;
 import serialization.generated.BVerifyAPIMessageSerialization.ADSRootProof;
+import serialization.generated.BVerifyAPIMessageSerialization.ADSRootsProof;
+import serialization.generated.BVerifyAPIMessageSerialization.CommitmentProof;
+import serialization.generated.BVerifyAPIMessageSerialization.GetADSProofUpdatesRequest;
+import serialization.generated.BVerifyAPIMessageSerialization.GetCommitmentHistoryResponse;
+import serialization.generated.BVerifyAPIMessageSerialization.ModificationProof;
 import serialization.generated.BVerifyAPIMessageSerialization.PerformUpdateRequest;
 import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootRequest;
 import serialization.generated.BVerifyAPIMessageSerialization.ProveADSRootResponse;
 import serialization.generated.BVerifyAPIMessageSerialization.Update;
+import serialization.generated.MptSerialization.MerklePrefixTrie;
 import server.BVerifyServer;
 import server.StartingData;
 
@@ -34,6 +49,8 @@ public class MockTester {
 	
 	// the actual mappings 
 	private final Map<ByteBuffer, PerformUpdateRequest> adsIdToLastUpdate;
+	// every update to each ADS_ID (for historical proofs)
+	private final Map<ByteBuffer, List<PerformUpdateRequest>> adsIdToUpdates;
 	
 	// pending updates
 	private final List<Entry<byte[], PerformUpdateRequest>> pendingUpdates;
@@ -51,6 +68,17 @@ public class MockTester {
 	
 	private static final int RETRY_PROOF_INTERVAL_MS = 10;
 	
+	// a single merged proof for many ADSes 
+	// (kept fresh using multi-ADS proof updates)
+	private List<byte[]> mergedProofAdsIds;
+	private MPTDictionaryPartial mergedProof;
+	private int mergedProofCommitmentNumber;
+	
+	// the root of the accumulator over the commitments 
+	// (kept in sync using the commitment history)
+	private byte[] commitmentHistoryRoot;
+	private int commitmentHistorySize;
+	
 	public MockTester(StartingData initialData, BVerifyServer server, 
 			int batchSize, boolean requireSignatures) {
 		logger.log(Level.INFO, ""+" batch size: "+batchSize);
@@ -62,10 +90,13 @@ public class MockTester {
 										
 		// (1) for each ADS_ID store the initial update
 		this.adsIdToLastUpdate = new HashMap<>();
+		this.adsIdToUpdates = new HashMap<>();
 		for(PerformUpdateRequest initialUpdate : initialData.getInitialUpdates()) {
 			for(ADSModification mod : initialUpdate.getUpdate().getModificationsList()) {
 				this.adsIdToLastUpdate.put(ByteBuffer.wrap(mod.getAdsId().toByteArray()),
 						initialUpdate);
+				this.adsIdToUpdates.computeIfAbsent(ByteBuffer.wrap(mod.getAdsId().toByteArray()), 
+						x -> new ArrayList<>()).add(initialUpdate);
 			}
 		}
 				
@@ -118,6 +149,8 @@ public class MockTester {
 			for(Map.Entry<byte[], PerformUpdateRequest> updatesApplied : this.pendingUpdates) {
 				this.adsIdToLastUpdate.put(ByteBuffer.wrap(updatesApplied.getKey()), 
 						updatesApplied.getValue());
+				this.adsIdToUpdates.get(ByteBuffer.wrap(updatesApplied.getKey()))
+						.add(updatesApplied.getValue());
 			}
 			this.pendingUpdates.clear();
 			this.lastAcceptedCommitmentNumber++;
@@ -129,8 +162,12 @@ public class MockTester {
 	}
 	
 	public boolean doUpdate(List<Map.Entry<byte[], byte[]>> adsModifications) {
+		return this.doUpdate(adsModifications, false);
+	}
+	
+	public boolean doUpdate(List<Map.Entry<byte[], byte[]>> adsModifications, boolean merkleModifications) {
 		PerformUpdateRequest updateRequest = this.request.createPerformUpdateRequest(adsModifications, 
-				this.getNextCommitmentNumber(), this.requireSignatures);
+				this.getNextCommitmentNumber(), this.requireSignatures, merkleModifications);
 		boolean response  = this.requestUpdate(updateRequest);
 		if(response) {
 			this.addApprovedUpdate(updateRequest);
@@ -151,6 +188,15 @@ public class MockTester {
 		return result;
 	}
 	
+	public boolean getAndCheckProofConcurrently(byte[] adsId, int nRequests) {
+		// many requests for the same proof at once
+		boolean result = IntStream.range(0, nRequests).parallel()
+				.mapToObj(i -> this.getAndCheckProof(adsId))
+				.reduce(Boolean::logicalAnd)
+				.get().booleanValue();
+		return result;
+	}
+	
 	public boolean getAndCheckProof(byte[] adsId) {
 		logger.log(Level.FINE, "asking for proof for ADS ID: "+Utils.byteArrayAsHexString(adsId));
 		ProveADSRootRequest request = Request.createProveADSRootRequest(adsId);
@@ -173,6 +219,356 @@ public class MockTester {
 		return true;
 	}
 		
+	public boolean getAndCheckProofWithVerifier(byte[] adsId) {
+		logger.log(Level.FINE, "asking for proof (checked by the verifier) for ADS ID: "+
+				Utils.byteArrayAsHexString(adsId));
+		ProveADSRootRequest request = Request.createProveADSRootRequest(adsId);
+		try {
+			ProveADSRootResponse proofResponse = Request.parseProveADSResponse(
+					this.server.getRequestHandler().proveADSRoot(request.toByteArray()));
+			return this.server.getRequestHandler().checkProofMICROBENCHAMRK(proofResponse, this.request, 
+					adsId, this.commitments);
+		} catch (RemoteException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	public boolean getAndCheckHistoricalProof(byte[] adsId, int asOfCommitment) {
+		logger.log(Level.FINE, "asking for proof as of commitment #"+asOfCommitment+" for ADS ID: "+
+				Utils.byteArrayAsHexString(adsId));
+		ProveADSRootRequest request = Request.createProveADSRootRequest(adsId, asOfCommitment);
+		try {
+			ADSRootProof proof = Request.parseProveADSResponse(
+					this.server.getRequestHandler().proveADSRoot(request.toByteArray())).getProof();
+			if(proof.getCurrentCommitmentNumber() != asOfCommitment) {
+				logger.log(Level.WARNING, "historical proof for the wrong commitment");
+				return false;
+			}
+			// the path must be in the witnessed commitment 
+			// (it is only read, so it is decoded into an arena)
+			MPTDictionaryPartialArena path = MPTDictionaryPartialArena.deserialize(
+					proof.getCurrentProof().toByteArray());
+			byte[] witnessedCommitment = this.getCommitment(asOfCommitment);
+			if(!Arrays.equals(witnessedCommitment, path.commitment())) {
+				logger.log(Level.WARNING, "witnessed commitment: "+Utils.byteArrayAsHexString(witnessedCommitment)+
+						"\n historical proof commitment: "+Utils.byteArrayAsHexString(path.commitment()));
+				return false;
+			}
+			// and have the value of the last update as of the commitment
+			PerformUpdateRequest lastUpdate = null;
+			for(PerformUpdateRequest update : this.adsIdToUpdates.get(ByteBuffer.wrap(adsId))) {
+				if(update.getUpdate().getValidAtCommitmentNumber() <= asOfCommitment) {
+					lastUpdate = update;
+				}
+			}
+			if(!Arrays.equals(MockTester.getValue(lastUpdate, adsId), path.get(adsId))) {
+				logger.log(Level.WARNING, "historical proof value not correct for: "+
+						Utils.byteArrayAsHexString(adsId));
+				return false;
+			}
+		} catch (RemoteException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		} catch (InvalidSerializationException | InsufficientAuthenticationDataException e) {
+			e.printStackTrace();
+			return false;
+		}
+		return true;
+	}
+	
+	public boolean getAndCheckProofs(List<byte[]> adsIds) {
+		logger.log(Level.FINE, "asking for a single proof for "+adsIds.size()+" ADS IDs");
+		try {
+			ADSRootsProof proof = Request.parseProveADSRootsResponse(this.server.getRequestHandler()
+					.proveADSRoots(Request.createProveADSRootsRequest(adsIds).toByteArray())).getProof();
+			return this.checkProofs(adsIds, proof);
+		} catch (RemoteException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	public boolean getAndCheckProofs(Account account) {
+		logger.log(Level.FINE, "asking for a single proof for the ADSes of account: "+account.getIdAsString());
+		try {
+			ADSRootsProof proof = Request.parseProveADSRootsResponse(this.server.getRequestHandler()
+					.proveADSRoots(Request.createProveADSRootsRequest(account.getIdAsString()).toByteArray()))
+					.getProof();
+			return this.checkProofs(new ArrayList<>(account.getADSKeys()), proof);
+		} catch (RemoteException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	private boolean checkProofs(List<byte[]> adsIds, ADSRootsProof proof) {
+		if(proof.getAdsIdsCount() != adsIds.size() || !proof.getAdsIdsList().stream()
+				.map(x -> ByteBuffer.wrap(x.toByteArray()))
+				.collect(Collectors.toSet())
+				.equals(adsIds.stream().map(x -> ByteBuffer.wrap(x)).collect(Collectors.toSet()))) {
+			logger.log(Level.WARNING, "proof is not for the requested ADS IDs");
+			return false;
+		}
+		try {
+			// (1) check the last update (or checkpoint) of each ADS, 
+			// grouping the paths by the commitment they are at
+			Map<Integer, List<MPTDictionaryPartial>> pathsByCommitment = new HashMap<>();
+			Map<Integer, List<byte[]>> adsIdsByCommitment = new HashMap<>();
+			for(int i = 0; i < proof.getAdsIdsCount(); i++) {
+				byte[] adsId = proof.getAdsIds(i).toByteArray();
+				ADSRootProof lastUpdateProof = proof.getLastUpdateProof(proof.getLastUpdateProofIndex(i));
+				PerformUpdateRequest lastUpdate = this.adsIdToLastUpdate.get(ByteBuffer.wrap(adsId));
+				if(!MockTester.isLastUpdate(adsId, lastUpdate, lastUpdateProof)) {
+					logger.log(Level.WARNING, "last update is not correct for: "+Utils.byteArrayAsHexString(adsId));
+					return false;
+				}
+				int updateCommitmentNumber = lastUpdate.getUpdate().getValidAtCommitmentNumber();
+				MPTDictionaryPartial path = MPTDictionaryPartial.deserialize(lastUpdateProof.getLastUpdatedProof());
+				if(!Arrays.equals(this.getCommitment(updateCommitmentNumber), path.commitment()) || 
+						!Arrays.equals(MockTester.getValue(lastUpdate, adsId), path.get(adsId))) {
+					logger.log(Level.WARNING, "last update not performed for: "+Utils.byteArrayAsHexString(adsId));
+					return false;
+				}
+				int startCommitmentNumber = updateCommitmentNumber;
+				if(lastUpdateProof.hasCurrentProof()) {
+					startCommitmentNumber = lastUpdateProof.getCurrentCommitmentNumber();
+					path = MPTDictionaryPartial.deserialize(lastUpdateProof.getCurrentProof());
+					byte[] witnessedCommitment = this.getCommitment(startCommitmentNumber);
+					byte[] checkpointWitness = CryptographicUtils.witnessCheckpoint(adsId, updateCommitmentNumber, 
+							startCommitmentNumber, witnessedCommitment);
+					if(!Arrays.equals(witnessedCommitment, path.commitment()) || 
+							!Arrays.equals(MockTester.getValue(lastUpdate, adsId), path.get(adsId)) ||
+							!CryptographicSignature.verify(checkpointWitness, 
+									lastUpdateProof.getCheckpointSignature().toByteArray(), 
+									this.server.getRequestHandler().serverPublicKey())) {
+						logger.log(Level.WARNING, "checkpoint is not correct for: "+Utils.byteArrayAsHexString(adsId));
+						return false;
+					}
+				}
+				pathsByCommitment.computeIfAbsent(startCommitmentNumber, x -> new ArrayList<>()).add(path);
+				adsIdsByCommitment.computeIfAbsent(startCommitmentNumber, x -> new ArrayList<>()).add(adsId);
+			}
+			int currentCommitmentNumber = this.getCurrentCommitmentNumber();
+			
+			// (2a) with versioned leaves the current paths show 
+			// the values have not changed since the last update
+			if(proof.hasCurrentProof()) {
+				MPTDictionaryPartialArena currentPaths = MPTDictionaryPartialArena.deserialize(
+						proof.getCurrentProof().toByteArray());
+				if(proof.getCurrentCommitmentNumber() != currentCommitmentNumber || 
+						!Arrays.equals(this.getCommitment(currentCommitmentNumber), currentPaths.commitment())) {
+					logger.log(Level.WARNING, "current proof commitment is not correct");
+					return false;
+				}
+				for(byte[] adsId : adsIds) {
+					PerformUpdateRequest lastUpdate = this.adsIdToLastUpdate.get(ByteBuffer.wrap(adsId));
+					if(!Arrays.equals(MockTester.getValue(lastUpdate, adsId), currentPaths.get(adsId)) || 
+							currentPaths.getVersion(adsId) != lastUpdate.getUpdate().getValidAtCommitmentNumber()) {
+						logger.log(Level.WARNING, "current proof is not correct for: "+Utils.byteArrayAsHexString(adsId));
+						return false;
+					}
+				}
+				return true;
+			}
+			
+			// (2b) otherwise bring a single merged partial MPT up to 
+			// the current commitment, merging in the paths for each 
+			// ADS at the commitment its proof starts at
+			int firstCommitmentNumber = pathsByCommitment.keySet().stream().mapToInt(x -> x).min().getAsInt();
+			if(proof.getFreshnessFromCommitmentNumber() != firstCommitmentNumber+1 || 
+					proof.getFreshnessProofCount() != currentCommitmentNumber-firstCommitmentNumber) {
+				logger.log(Level.WARNING, "incomplete freshness proof");
+				return false;
+			}
+			MPTDictionaryPartial merged = null;
+			List<byte[]> adsIdsChecked = new ArrayList<>();
+			for(int commitment = firstCommitmentNumber; commitment <= currentCommitmentNumber; commitment++) {
+				if(merged != null) {
+					merged.processUpdates(proof.getFreshnessProof(commitment-firstCommitmentNumber-1));
+				}
+				for(MPTDictionaryPartial path : pathsByCommitment.getOrDefault(commitment, new ArrayList<>())) {
+					if(merged == null) {
+						merged = path;
+					}else {
+						merged.merge(path);
+					}
+				}
+				adsIdsChecked.addAll(adsIdsByCommitment.getOrDefault(commitment, new ArrayList<>()));
+				if(!Arrays.equals(this.getCommitment(commitment), merged.commitment())) {
+					logger.log(Level.WARNING, "freshness proof commitment is not correct at: "+commitment);
+					return false;
+				}
+				for(byte[] adsId : adsIdsChecked) {
+					PerformUpdateRequest lastUpdate = this.adsIdToLastUpdate.get(ByteBuffer.wrap(adsId));
+					if(!Arrays.equals(MockTester.getValue(lastUpdate, adsId), merged.get(adsId))) {
+						logger.log(Level.WARNING, "freshness proof value is not correct for: "+
+								Utils.byteArrayAsHexString(adsId));
+						return false;
+					}
+				}
+			}
+		} catch (InvalidSerializationException | InsufficientAuthenticationDataException | RemoteException e) {
+			e.printStackTrace();
+			return false;
+		}
+		return true;
+	}
+	
+	public boolean syncAndCheckCommitmentHistory() {
+		logger.log(Level.FINE, "asking for the commitment history from commitment #"+this.commitmentHistorySize);
+		try {
+			GetCommitmentHistoryResponse history = Request.parseGetCommitmentHistoryResponse(
+					this.server.getRequestHandler().getCommitmentHistory(
+							Request.createGetCommitmentHistoryRequest(this.commitmentHistorySize).toByteArray()));
+			List<byte[]> peaks = history.getPeaksList().stream()
+					.map(x -> x.toByteArray())
+					.collect(Collectors.toList());
+			List<byte[]> commitments = history.getCommitmentsList().stream()
+					.map(x -> x.toByteArray())
+					.collect(Collectors.toList());
+			// the peaks must match the root we have
+			if(this.commitmentHistorySize > 0 && 
+					!Arrays.equals(this.commitmentHistoryRoot, MerkleMountainRange.root(peaks))) {
+				logger.log(Level.WARNING, "commitment history peaks do not match the root");
+				return false;
+			}
+			if(this.commitmentHistorySize+commitments.size() != this.commitments.size()) {
+				logger.log(Level.WARNING, "incomplete commitment history");
+				return false;
+			}
+			for(int i = 0; i < commitments.size(); i++) {
+				if(!Arrays.equals(this.getCommitment(this.commitmentHistorySize+i), commitments.get(i))) {
+					logger.log(Level.WARNING, "commitment history is not correct");
+					return false;
+				}
+			}
+			List<byte[]> newPeaks = MerkleMountainRange.append(peaks, this.commitmentHistorySize, commitments);
+			if(newPeaks == null) {
+				logger.log(Level.WARNING, "commitment history peaks are not correct");
+				return false;
+			}
+			this.commitmentHistoryRoot = MerkleMountainRange.root(newPeaks);
+			this.commitmentHistorySize += commitments.size();
+			return true;
+		} catch (RemoteException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	public boolean getAndCheckCommitmentProof(int commitmentNumber) {
+		logger.log(Level.FINE, "asking for proof of commitment #"+commitmentNumber);
+		try {
+			CommitmentProof proof = Request.parseProveCommitmentResponse(
+					this.server.getRequestHandler().proveCommitment(Request.createProveCommitmentRequest(
+							commitmentNumber, this.commitmentHistorySize).toByteArray())).getProof();
+			if(proof.getCommitmentNumber() != commitmentNumber || 
+					proof.getNumberOfCommitments() != this.commitmentHistorySize ||
+					!Arrays.equals(this.getCommitment(commitmentNumber), proof.getCommitment().toByteArray())) {
+				logger.log(Level.WARNING, "commitment proof is for the wrong commitment");
+				return false;
+			}
+			byte[] root = MerkleMountainRange.calculateRoot(proof.getCommitment().toByteArray(), 
+					proof.getCommitmentNumber(), proof.getNumberOfCommitments(), 
+					proof.getPathList().stream().map(x -> x.toByteArray()).collect(Collectors.toList()), 
+					proof.getOtherPeaksList().stream().map(x -> x.toByteArray()).collect(Collectors.toList()));
+			if(!Arrays.equals(this.commitmentHistoryRoot, root)) {
+				logger.log(Level.WARNING, "commitment proof does not match the root");
+				return false;
+			}
+			return true;
+		} catch (RemoteException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	public boolean getAndCheckMergedProof(List<byte[]> adsIds) {
+		logger.log(Level.FINE, "asking for proofs to merge for "+adsIds.size()+" ADS IDs");
+		try {
+			List<MPTDictionaryPartial> proofs = new ArrayList<>();
+			for(byte[] adsId : adsIds) {
+				ProveADSRootRequest request = Request.createProveADSRootRequest(adsId);
+				ADSRootProof proof = Request.parseProveADSResponse(
+						this.server.getRequestHandler().proveADSRoot(request.toByteArray())).getProof();
+				// bring each proof up to the current commitment
+				MPTDictionaryPartial path = MPTDictionaryPartial.deserialize(proof.getLastUpdatedProof());
+				for(MerklePrefixTrie freshnessProof : proof.getFreshnessProofList()) {
+					path.processUpdates(freshnessProof);
+				}
+				proofs.add(path);
+			}
+			this.mergedProofAdsIds = adsIds;
+			this.mergedProof = MPTDictionaryPartial.merge(proofs);
+			this.mergedProofCommitmentNumber = this.getCurrentCommitmentNumber();
+			return this.checkMergedProof();
+		} catch (RemoteException | InvalidSerializationException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	public boolean updateAndCheckMergedProof() {
+		logger.log(Level.FINE, "asking for updates to the merged proof");
+		GetADSProofUpdatesRequest request = Request.createGetProofUpdatesRequest(this.mergedProofAdsIds, 
+				this.mergedProofCommitmentNumber+1);
+		try {
+			ADSProofUpdates updates = Request.parseGetProofUpdatesResponse(
+					this.server.getRequestHandler().getADSProofUpdates(request.toByteArray())).getUpdates();
+			if(updates.getUpdatesCount() != this.getCurrentCommitmentNumber()-this.mergedProofCommitmentNumber) {
+				logger.log(Level.WARNING, "incomplete merged proof updates");
+				return false;
+			}
+			// a single update for all of the ADSes per commitment
+			for(MerklePrefixTrie update : updates.getUpdatesList()) {
+				this.mergedProof.processUpdates(update);
+			}
+			this.mergedProofCommitmentNumber = this.getCurrentCommitmentNumber();
+			return this.checkMergedProof();
+		} catch (RemoteException | InvalidSerializationException e) {
+			e.printStackTrace();
+			throw new RuntimeException(e.getMessage());
+		}
+	}
+	
+	private boolean checkMergedProof() {
+		byte[] witnessedCommitment = this.getCommitment(this.mergedProofCommitmentNumber);
+		if(!Arrays.equals(witnessedCommitment, this.mergedProof.commitment())) {
+			logger.log(Level.WARNING, "witnessed commitment: "+Utils.byteArrayAsHexString(witnessedCommitment)+
+					"\n merged proof commitment: "+Utils.byteArrayAsHexString(this.mergedProof.commitment()));
+			return false;
+		}
+		try {
+			List<byte[]> values = this.mergedProof.get(this.mergedProofAdsIds);
+			for(int i = 0; i < this.mergedProofAdsIds.size(); i++) {
+				byte[] adsId = this.mergedProofAdsIds.get(i);
+				if(!Arrays.equals(this.getLastUpdateValue(adsId), values.get(i))) {
+					logger.log(Level.WARNING, "merged proof value not correct for: "+
+							Utils.byteArrayAsHexString(adsId));
+					return false;
+				}
+			}
+		} catch (InsufficientAuthenticationDataException e) {
+			e.printStackTrace();
+			return false;
+		}
+		return true;
+	}
+	
+	private byte[] getLastUpdateValue(byte[] adsId) {
+		return MockTester.getValue(this.adsIdToLastUpdate.get(ByteBuffer.wrap(adsId)), adsId);
+	}
+	
+	private static byte[] getValue(PerformUpdateRequest update, byte[] adsId) {
+		for(ADSModification adsModification : update.getUpdate().getModificationsList()) {
+			if(Arrays.equals(adsId, adsModification.getAdsId().toByteArray())) {
+				return adsModification.getNewValue().toByteArray();
+			}
+		}
+		return null;
+	}
+		
 	private int getNextCommitmentNumber() {
 		return this.commitments.size();
 	}
@@ -214,20 +610,53 @@ public class MockTester {
 		}
 	}
 	
+	/**
+	 * The proof contains the last update or, for an update with 
+	 * Merkle-ized modifications, just the modification of the ADS
+	 */
+	private static boolean isLastUpdate(byte[] adsId, PerformUpdateRequest lastUpdate, ADSRootProof proof) {
+		if(!lastUpdate.getUpdate().getMerkleModifications()) {
+			return proof.getLastUpdate().equals(lastUpdate);
+		}
+		ModificationProof modificationProof = proof.getLastUpdateModification();
+		return !proof.hasLastUpdate() && 
+				Arrays.equals(adsId, modificationProof.getModification().getAdsId().toByteArray()) &&
+				Arrays.equals(Request.witnessUpdate(lastUpdate.getUpdate()), 
+						Request.witnessUpdate(modificationProof)) &&
+				modificationProof.getSignaturesList().equals(lastUpdate.getSignaturesList());
+	}
+	
 	private boolean checkProof(byte[] adsId, PerformUpdateRequest correctLastUpdateRequest, 
 			ADSRootProof proof) {
 		byte[] adsValue = null;
 		logger.log(Level.FINE, "checking proof for ADS ID: "+Utils.byteArrayAsHexString(adsId));
 		// first check the last update is correct 
 		logger.log(Level.FINE, "...checking that last update is correct");
-		if(!proof.getLastUpdate().equals(correctLastUpdateRequest)) {
+		Update lastUpdate = correctLastUpdateRequest.getUpdate();
+		List<ADSModification> modifications = lastUpdate.getModificationsList();
+		if(lastUpdate.getMerkleModifications()) {
+			// only the modification of this ADS is in the proof, 
+			// the witness (and signatures) must match the update
+			ModificationProof modificationProof = proof.getLastUpdateModification();
+			if(proof.hasLastUpdate() || 
+					!Arrays.equals(adsId, modificationProof.getModification().getAdsId().toByteArray())) {
+				logger.log(Level.WARNING, "proof should only contain the modification for this ADS");
+				return false;
+			}
+			if(!Arrays.equals(Request.witnessUpdate(lastUpdate), Request.witnessUpdate(modificationProof)) || 
+					!modificationProof.getSignaturesList().equals(correctLastUpdateRequest.getSignaturesList())) {
+				logger.log(Level.WARNING, "last update modification is not correct got: "+modificationProof+
+						"\nexepcted: "+correctLastUpdateRequest);
+				return false;
+			}
+			modifications = Arrays.asList(modificationProof.getModification());
+		}else if(!proof.getLastUpdate().equals(correctLastUpdateRequest)) {
 			logger.log(Level.WARNING, "last update is not correct got: "+proof.getLastUpdate()+"\nexepcted: "+
 					correctLastUpdateRequest);
 			return false;
 		}
 		logger.log(Level.FINE, "...checking that last update was performed");
 		// then check that the update was performed 
-		Update lastUpdate = correctLastUpdateRequest.getUpdate();
 		try {
 			MPTDictionaryPartial updateProof = MPTDictionaryPartial.deserialize(proof.getLastUpdatedProof());
 			final int updateCommitmentNumber = lastUpdate.getValidAtCommitmentNumber();
@@ -238,7 +667,7 @@ public class MockTester {
 										"\n witnessed update commitment: "+Utils.byteArrayAsHexString(witnessedUpdateCommitment));
 				return false;
 			}
-			for(ADSModification adsModification : lastUpdate.getModificationsList()) {
+			for(ADSModification adsModification : modifications) {
 				byte[] id = adsModification.getAdsId().toByteArray();
 				byte[] value = updateProof.get(adsModification.getAdsId().toByteArray());
 				if(!Arrays.equals(value, adsModification.getNewValue().toByteArray())) {
@@ -256,15 +685,64 @@ public class MockTester {
 				return false;
 			}
 			
+			// with versioned leaves a single path in the current 
+			// commitment is the freshness proof
+			if(proof.hasCurrentProof() && proof.getCheckpointSignature().isEmpty()) {
+				MPTDictionaryPartial currentProof = MPTDictionaryPartial.deserialize(proof.getCurrentProof());
+				byte[] witnessedCommitment = this.getCommitment(proof.getCurrentCommitmentNumber());
+				byte[] currentProofCommitment = currentProof.commitment();
+				if(!Arrays.equals(witnessedCommitment, currentProofCommitment)) {
+					logger.log(Level.WARNING, "witnessed commitment: "+Utils.byteArrayAsHexString(witnessedCommitment)+
+							"\n current proof commitment: "+Utils.byteArrayAsHexString(currentProofCommitment));
+					return false;
+				}
+				if(!Arrays.equals(adsValue, currentProof.get(adsId))) {
+					logger.log(Level.WARNING, "ads value: "+Utils.byteArrayAsHexString(adsValue)+
+							"\n current proof value: "+Utils.byteArrayAsHexString(currentProof.get(adsId)));
+					return false;
+				}
+				if(currentProof.getVersion(adsId) != updateCommitmentNumber) {
+					logger.log(Level.WARNING, "ads value changed at commitment: "+currentProof.getVersion(adsId));
+					return false;
+				}
+				return true;
+			}
+			
+			// a checkpoint proof shows (signed by the server) that the value 
+			// has not changed between the update and the checkpoint, 
+			// the freshness proof starts at the checkpoint
+			int freshnessFrom = updateCommitmentNumber;
+			if(proof.hasCurrentProof()) {
+				freshnessFrom = proof.getCurrentCommitmentNumber();
+				MPTDictionaryPartial checkpointProof = MPTDictionaryPartial.deserialize(proof.getCurrentProof());
+				byte[] witnessedCommitment = this.getCommitment(freshnessFrom);
+				if(!Arrays.equals(witnessedCommitment, checkpointProof.commitment())) {
+					logger.log(Level.WARNING, "checkpoint commitment does not match");
+					return false;
+				}
+				if(!Arrays.equals(adsValue, checkpointProof.get(adsId))) {
+					logger.log(Level.WARNING, "checkpoint value does not match");
+					return false;
+				}
+				byte[] checkpointWitness = CryptographicUtils.witnessCheckpoint(adsId, updateCommitmentNumber, 
+						freshnessFrom, witnessedCommitment);
+				if(!CryptographicSignature.verify(checkpointWitness, proof.getCheckpointSignature().toByteArray(), 
+						this.server.getRequestHandler().serverPublicKey())) {
+					logger.log(Level.WARNING, "checkpoint signature is not correct");
+					return false;
+				}
+				updateProof = checkpointProof;
+			}
+			
 			// now check the freshness proof 
-			int sizeOfFreshnessProof = this.getCurrentCommitmentNumber()-updateCommitmentNumber;
+			int sizeOfFreshnessProof = this.getCurrentCommitmentNumber()-freshnessFrom;
 			if(proof.getFreshnessProofCount() != sizeOfFreshnessProof) {
 				logger.log(Level.WARNING, "incomplete freshness proof");
 				return false;
 			}
 			// check freshness proof
 			for(int i = 0; i < sizeOfFreshnessProof; i++) {
-				int commitmentNumber = updateCommitmentNumber+1+i;
+				int commitmentNumber = freshnessFrom+1+i;
 				byte[] witnessedCommitment = this.getCommitment(commitmentNumber);
 				updateProof.processUpdates(proof.getFreshnessProof(i));
 				byte[] freshnessProofValue = updateProof.get(adsId);
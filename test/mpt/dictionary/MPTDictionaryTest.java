@@ -0,0 +1,547 @@
+package mpt.dictionary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import crpyto.CryptographicDigest;
+import mpt.core.DictionaryLeafNode;
+import mpt.core.InsufficientAuthenticationDataException;
+import mpt.core.InvalidSerializationException;
+import mpt.core.Utils;
+import mpt.core.VersionedDictionaryLeafNode;
+import serialization.generated.MptSerialization;
+
+public class MPTDictionaryTest {
+
+	@Test
+	public void testDeltaBetweenSnapshots() throws InvalidSerializationException,
+		InsufficientAuthenticationDataException {
+		Random random = new Random(30);
+		for(int trial = 0; trial < 50; trial++) {
+			int nKeys = trial == 0 ? 0 : random.nextInt(1000);
+			MPTDictionaryFull from = new MPTDictionaryFull();
+			Map<ByteBuffer, byte[]> mappings = new HashMap<>();
+			List<byte[]> keys = new ArrayList<>();
+			for(int i = 0; i < nKeys; i++) {
+				byte[] key = CryptographicDigest.hash(("trial"+trial+"key"+i).getBytes());
+				byte[] value = CryptographicDigest.hash(("value"+i).getBytes());
+				from.insert(key, value);
+				mappings.put(ByteBuffer.wrap(key), value);
+				keys.add(key);
+			}
+			from.commitment();
+
+			// the newer snapshot
+			MPTDictionaryFull to = MPTDictionaryFull.deserialize(from.serialize());
+			Map<ByteBuffer, byte[]> newMappings = new HashMap<>(mappings);
+			int nChanges = random.nextInt(100);
+			for(int i = 0; i < nChanges; i++) {
+				int change = random.nextInt(3);
+				if(change == 0 || keys.isEmpty()) {
+					byte[] key = CryptographicDigest.hash(("trial"+trial+"new key"+i).getBytes());
+					byte[] value = CryptographicDigest.hash(("new value"+i).getBytes());
+					to.insert(key, value);
+					newMappings.put(ByteBuffer.wrap(key), value);
+					keys.add(key);
+				}else if(change == 1) {
+					byte[] key = keys.get(random.nextInt(keys.size()));
+					byte[] value = CryptographicDigest.hash(("updated value"+i).getBytes());
+					to.insert(key, value);
+					newMappings.put(ByteBuffer.wrap(key), value);
+				}else {
+					byte[] key = keys.remove(random.nextInt(keys.size()));
+					to.delete(key);
+					newMappings.remove(ByteBuffer.wrap(key));
+				}
+			}
+			if(random.nextBoolean()) {
+				// delete all but one of the keys starting with some
+				// prefix, which collapses the entire subtree into a leaf
+				int prefix = random.nextInt(16);
+				boolean kept = false;
+				for(byte[] key : new ArrayList<>(keys)) {
+					if(((key[0] & 0xff) >>> 4) == prefix) {
+						if(!kept) {
+							kept = true;
+							continue;
+						}
+						to.delete(key);
+						newMappings.remove(ByteBuffer.wrap(key));
+						keys.remove(key);
+					}
+				}
+			}
+			byte[] commitment = to.commitment();
+
+			// the changed keys
+			Set<ByteBuffer> expectedChangedKeys = new HashSet<>();
+			for(ByteBuffer key : mappings.keySet()) {
+				if(!newMappings.containsKey(key) ||
+						!ByteBuffer.wrap(mappings.get(key)).equals(ByteBuffer.wrap(newMappings.get(key)))) {
+					expectedChangedKeys.add(key);
+				}
+			}
+			for(ByteBuffer key : newMappings.keySet()) {
+				if(!mappings.containsKey(key)) {
+					expectedChangedKeys.add(key);
+				}
+			}
+			Set<ByteBuffer> changedKeys = new HashSet<>();
+			for(byte[] key : MPTDictionaryFull.changedKeys(from, to)) {
+				changedKeys.add(ByteBuffer.wrap(key));
+			}
+			Assert.assertEquals("Changed keys should match", expectedChangedKeys, changedKeys);
+
+			// a client with a view of the older snapshot
+			// updated using the delta
+			List<byte[]> watched = new ArrayList<>();
+			for(ByteBuffer key : expectedChangedKeys) {
+				if(watched.size() < 10) {
+					watched.add(key.array());
+				}
+			}
+			for(int i = 0; i < 10 && i < keys.size(); i++) {
+				watched.add(keys.get(random.nextInt(keys.size())));
+			}
+			watched.add(CryptographicDigest.hash(("trial"+trial+"missing key").getBytes()));
+			MPTDictionaryPartial partial = new MPTDictionaryPartial(from, watched);
+			MPTDictionaryDelta delta = new MPTDictionaryDelta(from, to);
+			partial.processUpdates(delta.getUpdates(watched));
+			Assert.assertArrayEquals("Partial MPT should have the new commitment", commitment,
+					partial.commitment());
+			for(byte[] key : watched) {
+				Assert.assertArrayEquals("Partial MPT should have the new value",
+						newMappings.get(ByteBuffer.wrap(key)), partial.get(key));
+			}
+		}
+	}
+
+
+	@Test
+	public void testVersionedLeaves() throws InvalidSerializationException,
+		InsufficientAuthenticationDataException {
+		byte[] key = CryptographicDigest.hash("versioned key".getBytes());
+		byte[] value = CryptographicDigest.hash("versioned value".getBytes());
+		// the leaf commits to the version: H(key||value||version)
+		byte[] versionBytes = ByteBuffer.allocate(4).putInt(7).array();
+		byte[] preImage = new byte[key.length+value.length+versionBytes.length];
+		System.arraycopy(key, 0, preImage, 0, key.length);
+		System.arraycopy(value, 0, preImage, key.length, value.length);
+		System.arraycopy(versionBytes, 0, preImage, key.length+value.length, versionBytes.length);
+		Assert.assertArrayEquals("Leaf hash should commit to the version", CryptographicDigest.hash(preImage), 
+				new VersionedDictionaryLeafNode(key, value, 7).getHash());
+		Assert.assertFalse("Leaf hash should change with the version", Arrays.equals(
+				new VersionedDictionaryLeafNode(key, value, 7).getHash(), 
+				new VersionedDictionaryLeafNode(key, value, 8).getHash()));
+		Assert.assertFalse("Leaf hash should differ from an unversioned leaf", Arrays.equals(
+				new VersionedDictionaryLeafNode(key, value, 7).getHash(), 
+				new DictionaryLeafNode(key, value).getHash()));
+
+		MPTDictionaryFull mpt = new MPTDictionaryFull();
+		List<byte[]> keys = new ArrayList<>();
+		for(int i = 0; i < 100; i++) {
+			byte[] otherKey = CryptographicDigest.hash(("key"+i).getBytes());
+			mpt.insert(otherKey, CryptographicDigest.hash(("value"+i).getBytes()), 0);
+			keys.add(otherKey);
+		}
+		mpt.insert(key, value, 0);
+		byte[] commitment = mpt.commitment();
+		mpt.reset();
+		byte[] missingKey = CryptographicDigest.hash("missing key".getBytes());
+		MPTDictionaryProofVerifier verifier = new MPTDictionaryProofVerifier();
+		int lastVersion = 0;
+		for(int version = 1; version <= 5; version++) {
+			// the same value at a later version changes the commitment
+			byte[] newValue = version % 2 == 0 ? value : CryptographicDigest.hash(("new value"+version).getBytes());
+			mpt.insert(key, newValue, version);
+			mpt.insert(keys.get(version), CryptographicDigest.hash("other value".getBytes()), version);
+			byte[] newCommitment = mpt.commitment();
+			Assert.assertFalse("Commitment should change with the version", 
+					Arrays.equals(commitment, newCommitment));
+			// the versions survive serialization of the full and partial MPT
+			MPTDictionaryFull copy = MPTDictionaryFull.deserialize(mpt.serialize());
+			Assert.assertArrayEquals("Copy should have the same commitment", newCommitment, copy.commitment());
+			MPTDictionaryPartial partial = MPTDictionaryPartial.deserialize(
+					new MPTDictionaryPartial(copy, Arrays.asList(key, keys.get(0), missingKey)).serialize());
+			Assert.assertArrayEquals("Partial MPT should have the same commitment", newCommitment, 
+					partial.commitment());
+			Assert.assertArrayEquals(newValue, partial.get(key));
+			Assert.assertEquals("Updated leaf should have the new version", version, partial.getVersion(key));
+			Assert.assertTrue("Version should increase on update", partial.getVersion(key) > lastVersion);
+			Assert.assertEquals("Unchanged leaf should keep its version", 0, partial.getVersion(keys.get(0)));
+			Assert.assertEquals("Absent key should have no version", VersionedDictionaryLeafNode.NO_VERSION, 
+					partial.getVersion(missingKey));
+			Assert.assertArrayEquals(newCommitment, verifier.verify(partial.serialize(), key));
+			Assert.assertEquals("Verifier should have the new version", version, verifier.getVersion());
+			mpt.reset();
+			commitment = newCommitment;
+			lastVersion = version;
+		}
+	}
+
+	@Test
+	public void testBatchedLookupsMatchSingleLookups() throws InvalidSerializationException,
+		InsufficientAuthenticationDataException {
+		Random random = new Random(26);
+		MPTDictionaryFull mpt = new MPTDictionaryFull();
+		List<byte[]> keys = new ArrayList<>();
+		for(int i = 0; i < 1000; i++) {
+			byte[] key = CryptographicDigest.hash(("key"+i).getBytes());
+			mpt.insert(key, CryptographicDigest.hash(("value"+i).getBytes()));
+			keys.add(key);
+		}
+		byte[] commitment = mpt.commitment();
+		List<byte[]> lookups = new ArrayList<>();
+		for(int i = 0; i < 100; i++) {
+			byte[] key = keys.get(random.nextInt(keys.size()));
+			lookups.add(key);
+			// absent keys that share all but the last bit with a key,
+			// so the witness is the (divergent) leaf of that key
+			byte[] sharedPrefix = key.clone();
+			sharedPrefix[sharedPrefix.length-1] ^= 1;
+			lookups.add(sharedPrefix);
+			lookups.add(CryptographicDigest.hash(("missing key"+i).getBytes()));
+		}
+		// (and repeated keys)
+		lookups.add(lookups.get(0));
+		lookups.add(lookups.get(1));
+		MPTDictionaryPartial partial = MPTDictionaryPartial.deserialize(
+				new MPTDictionaryPartial(mpt, lookups).serialize());
+		Assert.assertArrayEquals("Multiproof should have the commitment", commitment, partial.commitment());
+		List<byte[]> values = partial.get(lookups);
+		Assert.assertEquals(lookups.size(), values.size());
+		for(int i = 0; i < lookups.size(); i++) {
+			Assert.assertArrayEquals("Batched lookup should match the single lookup",
+					partial.get(lookups.get(i)), values.get(i));
+			Assert.assertArrayEquals("Batched lookup should match the full MPT",
+					mpt.get(lookups.get(i)), values.get(i));
+		}
+
+		// a multiproof without the path for one of the keys
+		byte[] key = keys.get(0);
+		MPTDictionaryPartial path = new MPTDictionaryPartial(mpt, key);
+		byte[] otherHalf = null;
+		for(byte[] otherKey : keys) {
+			if(Utils.getBit(otherKey, 0) != Utils.getBit(key, 0)) {
+				otherHalf = otherKey;
+				break;
+			}
+		}
+		try {
+			path.get(Arrays.asList(key, otherHalf));
+			Assert.fail("Batched lookup without the path for a key should fail");
+		}catch(InsufficientAuthenticationDataException e) {
+		}
+	}
+
+	@Test
+	public void testPrecomputedUpdatesMatchUpdates() {
+		Random random = new Random(39);
+		MPTDictionaryFull mpt = new MPTDictionaryFull();
+		List<byte[]> keys = new ArrayList<>();
+		for(int round = 0; round < 20; round++) {
+			// the first delta has the entire trie
+			int nChanges = round == 0 ? 2000 : random.nextInt(200);
+			for(int i = 0; i < nChanges; i++) {
+				int change = random.nextInt(4);
+				if(change < 2 || keys.isEmpty()) {
+					byte[] key = CryptographicDigest.hash(("round"+round+"key"+i).getBytes());
+					mpt.insert(key, CryptographicDigest.hash(("value"+i).getBytes()));
+					keys.add(key);
+				}else if(change == 2) {
+					byte[] key = keys.get(random.nextInt(keys.size()));
+					mpt.insert(key, CryptographicDigest.hash(("round"+round+"updated value"+i).getBytes()));
+				}else {
+					mpt.delete(keys.remove(random.nextInt(keys.size())));
+				}
+			}
+			mpt.commitment();
+			MPTDictionaryDelta delta = new MPTDictionaryDelta(mpt);
+			MPTDictionaryDelta precomputed = new MPTDictionaryDelta(mpt);
+			precomputed.precomputeUpdates();
+			mpt.reset();
+			// keys in the trie and keys that are not
+			List<byte[]> lookups = new ArrayList<>();
+			for(int i = 0; i < 200 && !keys.isEmpty(); i++) {
+				lookups.add(keys.get(random.nextInt(keys.size())));
+			}
+			for(int i = 0; i < 200; i++) {
+				lookups.add(CryptographicDigest.hash(("round"+round+"missing key"+i).getBytes()));
+			}
+			for(byte[] key : lookups) {
+				Assert.assertEquals("Precomputed update should match the update", 
+						delta.getUpdates(key).toByteString(), precomputed.getSerializedUpdates(key));
+				Assert.assertEquals("Precomputed update should match the update", 
+						delta.getUpdates(key), precomputed.getUpdates(key));
+			}
+		}
+	}
+
+	@Test
+	public void testShardedMatchesFull() throws InvalidSerializationException,
+		InsufficientAuthenticationDataException {
+		Random random = new Random(27);
+		for(int prefixBits : new int[] {1, 4, 8}) {
+			MPTDictionaryFull full = new MPTDictionaryFull();
+			MPTDictionarySharded sharded = new MPTDictionarySharded(prefixBits);
+			List<byte[]> keys = new ArrayList<>();
+			for(int round = 0; round < 40; round++) {
+				// a client watching some keys in the trie, 
+				// keys that are inserted and keys that are not
+				List<byte[]> watched = new ArrayList<>();
+				for(int i = 0; i < 20 && !keys.isEmpty(); i++) {
+					watched.add(keys.get(random.nextInt(keys.size())));
+				}
+				for(int i = 0; i < 2; i++) {
+					watched.add(CryptographicDigest.hash(("round"+round+"key"+i).getBytes()));
+					watched.add(CryptographicDigest.hash(("round"+round+"missing key"+i).getBytes()));
+				}
+				MPTDictionaryPartial client = new MPTDictionaryPartial(sharded, watched);
+				Assert.assertEquals("Sharded MPT should have the same paths",
+						new MPTDictionaryPartial(full, watched).serialize(), client.serialize());
+
+				// start with only a few keys, so that most shards
+				// are empty or have a single entry
+				int nChanges = round < 10 ? random.nextInt(3) : random.nextInt(300);
+				if(round == 20) {
+					// delete everything
+					nChanges = 0;
+					for(byte[] key : keys) {
+						full.delete(key);
+						sharded.delete(key);
+					}
+					keys.clear();
+				}
+				for(int i = 0; i < nChanges; i++) {
+					int change = random.nextInt(5);
+					if(change < 2 || keys.isEmpty()) {
+						byte[] key = CryptographicDigest.hash(("round"+round+"key"+i).getBytes());
+						byte[] value = CryptographicDigest.hash(("value"+i).getBytes());
+						full.insert(key, value);
+						sharded.insert(key, value);
+						keys.add(key);
+					}else if(change == 2) {
+						byte[] key = keys.get(random.nextInt(keys.size()));
+						byte[] value = CryptographicDigest.hash(("round"+round+"updated value"+i).getBytes());
+						full.insert(key, value);
+						sharded.insert(key, value);
+					}else if(change == 3) {
+						byte[] key = keys.get(random.nextInt(keys.size()));
+						byte[] value = CryptographicDigest.hash(("round"+round+"versioned value"+i).getBytes());
+						full.insert(key, value, round);
+						sharded.insert(key, value, round);
+					}else {
+						byte[] key = keys.remove(random.nextInt(keys.size()));
+						full.delete(key);
+						sharded.delete(key);
+					}
+				}
+				byte[] commitment = full.commitment();
+				Assert.assertArrayEquals("Sharded MPT should have the same commitment",
+						commitment, sharded.commitment());
+				Assert.assertEquals("Sharded MPT should have the same serialization",
+						full.serialize(), sharded.serialize());
+				Assert.assertEquals("Sharded MPT should have the same size", full.size(), sharded.size());
+
+				// the changes tracked by the sharded MPT update the client
+				client.processUpdates(new MPTDictionaryDelta(sharded).getUpdates(watched));
+				full.reset();
+				sharded.reset();
+				Assert.assertEquals("Nothing should be changed after a reset",
+						0, sharded.countHashesRequiredToCommit());
+				Assert.assertArrayEquals("Client should have the new commitment", commitment,
+						client.commitment());
+				for(byte[] key : watched) {
+					Assert.assertArrayEquals("Client should have the new value", full.get(key), client.get(key));
+					Assert.assertArrayEquals("Sharded MPT should have the same value", full.get(key), 
+							sharded.get(key));
+				}
+			}
+			sharded.shutdown();
+		}
+	}
+
+	@Test
+	public void testPartialArenaMatchesPartial() throws InvalidSerializationException,
+		InsufficientAuthenticationDataException {
+		Random random = new Random(33);
+		MPTDictionaryFull mpt = new MPTDictionaryFull();
+		List<byte[]> keys = new ArrayList<>();
+		for(int i = 0; i < 1000; i++) {
+			byte[] key = CryptographicDigest.hash(("key"+i).getBytes());
+			byte[] value = CryptographicDigest.hash(("value"+i).getBytes());
+			if(i % 2 == 0) {
+				mpt.insert(key, value);
+			}else {
+				mpt.insert(key, value, i);
+			}
+			keys.add(key);
+		}
+		byte[] commitment = mpt.commitment();
+		for(int trial = 0; trial < 50; trial++) {
+			// keys in the trie and keys that are not
+			List<byte[]> watched = new ArrayList<>();
+			int nKeys = 1+random.nextInt(trial < 25 ? 5 : 200);
+			for(int i = 0; i < nKeys; i++) {
+				watched.add(keys.get(random.nextInt(keys.size())));
+				watched.add(CryptographicDigest.hash(("trial"+trial+"missing key"+i).getBytes()));
+			}
+			MPTDictionaryPartial partial = new MPTDictionaryPartial(mpt, watched);
+			MPTDictionaryPartialArena arena = MPTDictionaryPartialArena.deserialize(
+					partial.serialize().toByteArray());
+			Assert.assertArrayEquals("Arena should have the same commitment", commitment, arena.commitment());
+			for(byte[] key : watched) {
+				Assert.assertArrayEquals("Arena should have the same value", partial.get(key), arena.get(key));
+				Assert.assertEquals("Arena should have the same version", partial.getVersion(key),
+						arena.getVersion(key));
+			}
+			// keys whose path is not included
+			for(int i = 0; i < 10; i++) {
+				byte[] key = keys.get(random.nextInt(keys.size()));
+				boolean included = true;
+				byte[] expected = null;
+				try {
+					expected = partial.get(key);
+				}catch(InsufficientAuthenticationDataException e) {
+					included = false;
+				}
+				if(included) {
+					Assert.assertArrayEquals("Arena should have the same value", expected, arena.get(key));
+					continue;
+				}
+				try {
+					arena.get(key);
+					Assert.fail("Arena should not have the value");
+				}catch(InsufficientAuthenticationDataException e) {
+					// expected
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testProofVerifierRejectsRepeatedFields()throws InvalidSerializationException,
+		InsufficientAuthenticationDataException, IOException {
+		MPTDictionaryFull mpt = new MPTDictionaryFull();
+		List<byte[]> keys = new ArrayList<>();
+		for(int i = 0; i < 100; i++) {
+			byte[] key = CryptographicDigest.hash(("key"+i).getBytes());
+			mpt.insert(key, CryptographicDigest.hash(("value"+i).getBytes()));
+			keys.add(key);
+		}
+		byte[] commitment = mpt.commitment();
+		byte[] key = keys.get(0);
+		byte[] forgedValue = CryptographicDigest.hash("forged value".getBytes());
+		MptSerialization.MerklePrefixTrie proof = new MPTDictionaryPartial(mpt, key).serialize();
+		MPTDictionaryProofVerifier verifier = new MPTDictionaryProofVerifier();
+		Assert.assertArrayEquals("Proof should be valid", commitment, verifier.verify(proof, key));
+		Assert.assertArrayEquals("Proof should have the value", mpt.get(key), verifier.getValue());
+
+		// a leaf with a forged value for the key followed by the
+		// real child on the path, so only the real child is hashed
+		MptSerialization.Node forgedLeaf = MptSerialization.Node.newBuilder()
+				.setLeaf(MptSerialization.Leaf.newBuilder()
+						.setKey(ByteString.copyFrom(key))
+						.setValue(ByteString.copyFrom(forgedValue)))
+				.build();
+		MptSerialization.InteriorNode root = proof.getRoot().getInteriorNode();
+		int onPathField = Utils.getBit(key, 0) ? MptSerialization.InteriorNode.RIGHT_FIELD_NUMBER : 
+			MptSerialization.InteriorNode.LEFT_FIELD_NUMBER;
+		byte[] forgedRoot = MPTDictionaryTest.concat(
+				MPTDictionaryTest.field(onPathField, forgedLeaf.toByteArray()), root.toByteArray());
+		MPTDictionaryTest.assertRejected(verifier, MPTDictionaryTest.trie(MPTDictionaryTest.field(
+				MptSerialization.Node.INTERIOR_NODE_FIELD_NUMBER, forgedRoot)), key);
+
+		// a repeated root
+		MPTDictionaryTest.assertRejected(verifier, 
+				MPTDictionaryTest.concat(proof.toByteArray(), proof.toByteArray()), key);
+
+		// a leaf with a repeated key or value
+		byte[] otherKey = keys.get(1);
+		MptSerialization.Leaf leaf = MptSerialization.Leaf.newBuilder()
+				.setKey(ByteString.copyFrom(otherKey))
+				.setValue(ByteString.copyFrom(mpt.get(otherKey)))
+				.build();
+		MptSerialization.Leaf repeated = MptSerialization.Leaf.newBuilder()
+				.setKey(ByteString.copyFrom(key))
+				.setValue(ByteString.copyFrom(forgedValue))
+				.build();
+		MPTDictionaryTest.assertRejected(verifier, MPTDictionaryTest.trieWithLeftChild(
+				MptSerialization.Node.LEAF_FIELD_NUMBER, 
+				MPTDictionaryTest.concat(leaf.toByteArray(), repeated.toByteArray())), key);
+
+		// a stub with a repeated hash
+		MptSerialization.Stub stub = MptSerialization.Stub.newBuilder()
+				.setHash(ByteString.copyFrom(commitment))
+				.build();
+		MPTDictionaryTest.assertRejected(verifier, MPTDictionaryTest.trieWithLeftChild(
+				MptSerialization.Node.STUB_FIELD_NUMBER, 
+				MPTDictionaryTest.concat(stub.toByteArray(), stub.toByteArray())), null);
+	}
+
+	private static void assertRejected(MPTDictionaryProofVerifier verifier, byte[] proof, byte[] key) 
+			throws InsufficientAuthenticationDataException {
+		try {
+			verifier.verify(proof, key);
+			Assert.fail("Proof with repeated fields should be rejected");
+		}catch(InvalidSerializationException e) {
+		}
+		try {
+			MPTDictionaryPartialArena.deserialize(proof);
+			Assert.fail("Proof with repeated fields should be rejected");
+		}catch(InvalidSerializationException e) {
+		}
+	}
+
+	// root {interior_node {left: {<field>: child} right: {emptyleaf}}}
+	private static byte[] trieWithLeftChild(int field, byte[] child) throws IOException {
+		byte[] emptyLeaf = MptSerialization.Node.newBuilder()
+				.setEmptyleaf(MptSerialization.EmptyLeaf.newBuilder())
+				.build().toByteArray();
+		byte[] interiorNode = MPTDictionaryTest.concat(
+				MPTDictionaryTest.field(MptSerialization.InteriorNode.LEFT_FIELD_NUMBER, 
+						MPTDictionaryTest.field(field, child)),
+				MPTDictionaryTest.field(MptSerialization.InteriorNode.RIGHT_FIELD_NUMBER, emptyLeaf));
+		return MPTDictionaryTest.trie(MPTDictionaryTest.field(
+				MptSerialization.Node.INTERIOR_NODE_FIELD_NUMBER, interiorNode));
+	}
+
+	private static byte[] trie(byte[] root) throws IOException {
+		return MPTDictionaryTest.field(MptSerialization.MerklePrefixTrie.ROOT_FIELD_NUMBER, root);
+	}
+
+	// a length delimited field: [tag || length || message]
+	private static byte[] field(int fieldNumber, byte[] message) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+		out.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+		out.writeUInt32NoTag(message.length);
+		out.writeRawBytes(message);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static byte[] concat(byte[] a, byte[] b) {
+		byte[] result = new byte[a.length+b.length];
+		System.arraycopy(a, 0, result, 0, a.length);
+		System.arraycopy(b, 0, result, a.length, b.length);
+		return result;
+	}
+
+}
@@ -0,0 +1,130 @@
+package mpt.set;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import crpyto.CryptographicDigest;
+import mpt.core.InsufficientAuthenticationDataException;
+import mpt.core.InvalidSerializationException;
+import mpt.core.Utils;
+
+public class MPTSetTest {
+
+	@Test
+	public void testPartialSetStaysInSyncUsingDeltas() throws InvalidSerializationException,
+		InsufficientAuthenticationDataException {
+		Random random = new Random(29);
+		int nValues = 500;
+		MPTSetFull set = new MPTSetFull();
+		List<byte[]> inSet = new ArrayList<>();
+		for(int i = 0; i < nValues; i++) {
+			byte[] value = CryptographicDigest.hash(("value"+i).getBytes());
+			set.insert(value);
+			inSet.add(value);
+		}
+		set.commitment();
+		set.reset();
+
+		// the client watches some values in the set and some that
+		// are not (yet) in the set
+		List<byte[]> watched = new ArrayList<>();
+		for(int i = 0; i < 20; i++) {
+			watched.add(inSet.get(random.nextInt(inSet.size())));
+			watched.add(CryptographicDigest.hash(("watched"+i).getBytes()));
+		}
+		MPTSetPartial partial = new MPTSetPartial(set, watched);
+
+		for(int round = 0; round < 50; round++) {
+			int nChanges = 1+random.nextInt(30);
+			for(int i = 0; i < nChanges; i++) {
+				if(random.nextBoolean() && inSet.size() > 0) {
+					// deletes can collapse entire subtrees
+					set.delete(inSet.remove(random.nextInt(inSet.size())));
+				}else if(random.nextInt(4) == 0) {
+					// insert (or delete) a watched value
+					byte[] value = watched.get(random.nextInt(watched.size()));
+					if(set.inSet(value)) {
+						set.delete(value);
+					}else {
+						set.insert(value);
+					}
+				}else {
+					byte[] value = CryptographicDigest.hash(("round"+round+"value"+i).getBytes());
+					set.insert(value);
+					inSet.add(value);
+				}
+			}
+			byte[] commitment = set.commitment();
+			MPTSetDelta delta = new MPTSetDelta(set);
+			set.reset();
+
+			partial.processUpdates(delta.getUpdates(watched));
+			Assert.assertArrayEquals("Partial set should have the same commitment", commitment,
+					partial.commitment());
+			for(byte[] value : watched) {
+				Assert.assertEquals("Partial set should have the same values", set.inSet(value),
+						partial.inSet(value));
+			}
+		}
+	}
+
+	@Test
+	public void testBatchedLookupsMatchSingleLookups() throws InvalidSerializationException,
+		InsufficientAuthenticationDataException {
+		Random random = new Random(26);
+		MPTSetFull set = new MPTSetFull();
+		List<byte[]> inSet = new ArrayList<>();
+		for(int i = 0; i < 1000; i++) {
+			byte[] value = CryptographicDigest.hash(("value"+i).getBytes());
+			set.insert(value);
+			inSet.add(value);
+		}
+		byte[] commitment = set.commitment();
+		List<byte[]> lookups = new ArrayList<>();
+		for(int i = 0; i < 100; i++) {
+			byte[] value = inSet.get(random.nextInt(inSet.size()));
+			lookups.add(value);
+			// absent values that share all but the last bit with a value,
+			// so the witness is the (divergent) leaf of that value
+			byte[] sharedPrefix = value.clone();
+			sharedPrefix[sharedPrefix.length-1] ^= 1;
+			lookups.add(sharedPrefix);
+			lookups.add(CryptographicDigest.hash(("missing value"+i).getBytes()));
+		}
+		// (and repeated values)
+		lookups.add(lookups.get(0));
+		lookups.add(lookups.get(1));
+		MPTSetPartial partial = MPTSetPartial.deserialize(new MPTSetPartial(set, lookups).serialize());
+		Assert.assertArrayEquals("Multiproof should have the commitment", commitment, partial.commitment());
+		List<Boolean> results = partial.inSet(lookups);
+		Assert.assertEquals(lookups.size(), results.size());
+		for(int i = 0; i < lookups.size(); i++) {
+			Assert.assertEquals("Batched lookup should match the single lookup",
+					partial.inSet(lookups.get(i)), results.get(i));
+			Assert.assertEquals("Batched lookup should match the full set",
+					set.inSet(lookups.get(i)), results.get(i));
+		}
+
+		// a multiproof without the path for one of the values
+		byte[] value = inSet.get(0);
+		MPTSetPartial path = new MPTSetPartial(set, value);
+		byte[] otherHalf = null;
+		for(byte[] otherValue : inSet) {
+			if(Utils.getBit(otherValue, 0) != Utils.getBit(value, 0)) {
+				otherHalf = otherValue;
+				break;
+			}
+		}
+		try {
+			path.inSet(Arrays.asList(value, otherHalf));
+			Assert.fail("Batched lookup without the path for a value should fail");
+		}catch(InsufficientAuthenticationDataException e) {
+		}
+	}
+
+}